@@ -1,12 +1,10 @@
 package tech.tablesaw.aggregate;
 
+import com.google.common.base.Preconditions;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import org.apache.commons.math3.stat.StatUtils;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
-import org.apache.commons.math3.stat.descriptive.moment.Kurtosis;
-import org.apache.commons.math3.stat.descriptive.moment.Skewness;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.DateTimeColumn;
@@ -14,6 +12,7 @@ import tech.tablesaw.api.InstantColumn;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.numbers.Moments;
 
 public class AggregateFunctions {
 
@@ -212,13 +211,27 @@ public class AggregateFunctions {
         }
       };
 
+  /**
+   * A function that estimates the number of non-missing unique values in the column param with a
+   * {@link HyperLogLog} sketch, using bounded memory. Counts up to 1024 are exact; larger counts
+   * have a relative standard error of about 0.8%.
+   */
+  public static final CountFunction approxCountUnique =
+      new CountFunction("Approx Count Unique") {
+
+        @Override
+        public Integer summarize(Column<?> column) {
+          return Math.toIntExact(new HyperLogLog().addAll(column).estimate());
+        }
+      };
+
   /** A function that calculates the mean of the values in the column param */
   public static final NumericAggregateFunction mean =
-      new NumericAggregateFunction("Mean") {
+      new MomentFunction("Mean") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.mean(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.mean();
         }
       };
 
@@ -227,22 +240,21 @@ public class AggregateFunctions {
    * column
    */
   public static final NumericAggregateFunction cv =
-      new NumericAggregateFunction("CV") {
+      new MomentFunction("CV") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          double[] col = removeMissing(column);
-          return Math.sqrt(StatUtils.variance(col)) / StatUtils.mean(col);
+        public double summarize(Moments moments) {
+          return moments.standardDeviation() / moments.mean();
         }
       };
 
   /** A function that calculates the sum of the values in the column param */
   public static final NumericAggregateFunction sum =
-      new NumericAggregateFunction("Sum") {
+      new MomentFunction("Sum") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.sum(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.sum();
         }
       };
 
@@ -309,31 +321,82 @@ public class AggregateFunctions {
         }
       };
 
+  /**
+   * A function that estimates the median of the values in the column param with a {@link TDigest},
+   * using bounded memory
+   */
+  public static final NumericAggregateFunction approxMedian = approxPercentile("Approx Median", 50);
+
+  /**
+   * Returns a function that estimates the given percentile of the values in the column param with a
+   * {@link TDigest}, using bounded memory
+   *
+   * @param percentile the percentile to estimate, greater than 0 and at most 100
+   */
+  public static NumericAggregateFunction approxPercentile(double percentile) {
+    String name =
+        percentile == Math.rint(percentile)
+            ? "Approx " + ordinal((long) percentile) + " Percentile"
+            : "Approx Percentile (p=" + percentile + ")";
+    return approxPercentile(name, percentile);
+  }
+
+  /** Returns the given number followed by its English ordinal suffix, e.g. 1st, 12th or 22nd */
+  private static String ordinal(long n) {
+    long lastTwoDigits = n % 100;
+    if (lastTwoDigits >= 11 && lastTwoDigits <= 13) {
+      return n + "th";
+    }
+    switch ((int) (n % 10)) {
+      case 1:
+        return n + "st";
+      case 2:
+        return n + "nd";
+      case 3:
+        return n + "rd";
+      default:
+        return n + "th";
+    }
+  }
+
+  private static NumericAggregateFunction approxPercentile(String name, double percentile) {
+    Preconditions.checkArgument(
+        percentile > 0 && percentile <= 100,
+        "Percentile must be greater than 0 and at most 100, but was %s",
+        percentile);
+    return new NumericAggregateFunction(name) {
+
+      @Override
+      public Double summarize(NumericColumn<?> column) {
+        return new TDigest().addAll(column).quantile(percentile / 100);
+      }
+    };
+  }
+
   public static final NumericAggregateFunction range =
-      new NumericAggregateFunction("Range") {
+      new MomentFunction("Range") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          double[] data = removeMissing(column);
-          return StatUtils.max(data) - StatUtils.min(data);
+        public double summarize(Moments moments) {
+          return moments.range();
         }
       };
 
   public static final NumericAggregateFunction min =
-      new NumericAggregateFunction("Min") {
+      new MomentFunction("Min") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.min(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.min();
         }
       };
 
   public static final NumericAggregateFunction max =
-      new NumericAggregateFunction("Max") {
+      new MomentFunction("Max") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.max(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.max();
         }
       };
 
@@ -347,55 +410,53 @@ public class AggregateFunctions {
       };
 
   public static final NumericAggregateFunction geometricMean =
-      new NumericAggregateFunction("Geometric Mean") {
+      new MomentFunction("Geometric Mean") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.geometricMean(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.geometricMean();
         }
       };
 
   public static final NumericAggregateFunction populationVariance =
-      new NumericAggregateFunction("Population Variance") {
+      new MomentFunction("Population Variance") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.populationVariance(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.populationVariance();
         }
       };
 
   /** Returns the quadratic mean, aka, the root-mean-square */
   public static final NumericAggregateFunction quadraticMean =
-      new NumericAggregateFunction("Quadratic Mean") {
+      new MomentFunction("Quadratic Mean") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return new DescriptiveStatistics(removeMissing(column)).getQuadraticMean();
+        public double summarize(Moments moments) {
+          return moments.quadraticMean();
         }
       };
 
   public static final NumericAggregateFunction kurtosis =
-      new NumericAggregateFunction("Kurtosis") {
+      new MomentFunction("Kurtosis") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          double[] data = removeMissing(column);
-          return new Kurtosis().evaluate(data, 0, data.length);
+        public double summarize(Moments moments) {
+          return moments.kurtosis();
         }
       };
 
   public static final NumericAggregateFunction skewness =
-      new NumericAggregateFunction("Skewness") {
+      new MomentFunction("Skewness") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          double[] data = removeMissing(column);
-          return new Skewness().evaluate(data, 0, data.length);
+        public double summarize(Moments moments) {
+          return moments.skewness();
         }
       };
 
   public static final NumericAggregateFunction sumOfSquares =
-      new NumericAggregateFunction("Sum of Squares") {
+      new MomentFunction("Sum of Squares") {
 
         @Override
         public String functionName() {
@@ -403,36 +464,35 @@ public class AggregateFunctions {
         }
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.sumSq(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.sumOfSquares();
         }
       };
 
   public static final NumericAggregateFunction sumOfLogs =
-      new NumericAggregateFunction("Sum of Logs") {
+      new MomentFunction("Sum of Logs") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return StatUtils.sumLog(removeMissing(column));
+        public double summarize(Moments moments) {
+          return moments.sumOfLogs();
         }
       };
 
   public static final NumericAggregateFunction variance =
-      new NumericAggregateFunction("Variance") {
+      new MomentFunction("Variance") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          double[] values = removeMissing(column);
-          return StatUtils.variance(values);
+        public double summarize(Moments moments) {
+          return moments.variance();
         }
       };
 
   public static final NumericAggregateFunction stdDev =
-      new NumericAggregateFunction("Std. Deviation") {
+      new MomentFunction("Std. Deviation") {
 
         @Override
-        public Double summarize(NumericColumn<?> column) {
-          return Math.sqrt(StatUtils.variance(removeMissing(column)));
+        public double summarize(Moments moments) {
+          return moments.standardDeviation();
         }
       };
 
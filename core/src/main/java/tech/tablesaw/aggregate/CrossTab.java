@@ -14,7 +14,14 @@
 
 package tech.tablesaw.aggregate;
 
-import com.google.common.collect.TreeBasedTable;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DoubleColumn;
@@ -22,6 +29,7 @@ import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.DictionaryMap;
 
 /** Utilities for creating frequency and proportion cross tabs */
 public final class CrossTab {
@@ -43,70 +51,21 @@ public final class CrossTab {
    */
   public static Table counts(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
+    CountMatrix matrix = new CountMatrix(table, column1, column2);
 
     Table t = Table.create("Crosstab Counts: " + column1.name() + " x " + column2.name());
-    t.addColumns(column1.type().create(LABEL_COLUMN_NAME));
-
-    Table temp = table.sortOn(column1.name(), column2.name());
-
-    int colIndex1 = table.columnIndex(column1.name());
-    int colIndex2 = table.columnIndex(column2.name());
-
-    com.google.common.collect.Table<String, String, Integer> gTable = TreeBasedTable.create();
-    String a;
-    String b;
-
-    for (int row = 0; row < table.rowCount(); row++) {
-      a = temp.column(colIndex1).getString(row);
-      b = temp.column(colIndex2).getString(row);
-      Integer cellValue = gTable.get(a, b);
-      Integer value;
-      if (cellValue != null) {
-        value = cellValue + 1;
-      } else {
-        value = 1;
-      }
-      gTable.put(a, b, value);
+    Column<?> labels = column1.type().create(LABEL_COLUMN_NAME);
+    for (int i = 0; i < matrix.rowCount(); i++) {
+      labels.appendCell(matrix.rowLabel(i));
     }
-
-    for (String colName : gTable.columnKeySet()) {
-      t.addColumns(IntColumn.create(colName));
-    }
-
-    t.addColumns(IntColumn.create("total"));
-
-    int[] columnTotals = new int[t.columnCount()];
-
-    for (String rowKey : gTable.rowKeySet()) {
-      t.column(0).appendCell(rowKey);
-
-      int rowSum = 0;
-
-      for (String colKey : gTable.columnKeySet()) {
-        Integer cellValue = gTable.get(rowKey, colKey);
-        if (cellValue != null) {
-          int colIdx = t.columnIndex(colKey);
-          t.intColumn(colIdx).append(cellValue);
-          rowSum += cellValue;
-          columnTotals[colIdx] = columnTotals[colIdx] + cellValue;
-
-        } else {
-          t.intColumn(colKey).append(0);
-        }
+    t.addColumns(labels);
+    for (int j = 0; j < matrix.columnCount(); j++) {
+      int[] counts = new int[matrix.rowCount()];
+      for (int i = 0; i < counts.length; i++) {
+        counts[i] = matrix.count(i, j);
       }
-      t.intColumn(t.columnCount() - 1).append(rowSum);
-    }
-    if (t.column(0).type().equals(ColumnType.STRING)) {
-      t.column(0).appendCell("Total");
-    } else {
-      t.column(0).appendCell("");
-    }
-    int grandTotal = 0;
-    for (int i = 1; i < t.columnCount() - 1; i++) {
-      t.intColumn(i).append(columnTotals[i]);
-      grandTotal = grandTotal + columnTotals[i];
+      t.addColumns(IntColumn.create(matrix.columnLabel(j), counts));
     }
-    t.intColumn(t.columnCount() - 1).append(grandTotal);
     return t;
   }
 
@@ -129,113 +88,43 @@ public final class CrossTab {
     return percentTable;
   }
 
-  private static Table rowPercents(Table xTabCounts) {
-
+  private static Table rowPercents(CountMatrix matrix) {
     Table pctTable = Table.create("Crosstab Row Proportions: ");
-    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
-
-    pctTable.addColumns(labels);
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      labels.append(xTabCounts.column(0).getString(i));
-    }
-
-    // create the new cols
-    DoubleColumn[] newColumns = new DoubleColumn[xTabCounts.columnCount() - 1];
-
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      Column<?> column = xTabCounts.column(i);
-      newColumns[i - 1] = DoubleColumn.create(column.name());
-    }
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      double rowTotal = xTabCounts.numberColumn(xTabCounts.columnCount() - 1).getDouble(i);
-
-      for (int c = 0; c < newColumns.length; c++) {
-        if (rowTotal == 0) {
-          newColumns[c].append(Double.NaN);
-        } else {
-          newColumns[c].append(xTabCounts.numberColumn(c + 1).getDouble(i) / rowTotal);
-        }
-      }
-    }
-    pctTable.addColumns(newColumns);
-    return pctTable;
+    int totalColumn = matrix.columnCount() - 1;
+    return proportions(pctTable, matrix, (i, j) -> matrix.count(i, totalColumn));
   }
 
-  private static Table tablePercents(Table xTabCounts) {
-
+  private static Table tablePercents(CountMatrix matrix) {
     Table pctTable = Table.create("Crosstab Table Proportions: ");
-    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
-
-    pctTable.addColumns(labels);
-
-    double grandTotal =
-        xTabCounts.numberColumn(xTabCounts.columnCount() - 1).getDouble(xTabCounts.rowCount() - 1);
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      labels.append(xTabCounts.column(0).getString(i));
-    }
-
-    // create the new cols
-    DoubleColumn[] newColumns = new DoubleColumn[xTabCounts.columnCount() - 1];
-
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      Column<?> column = xTabCounts.column(i);
-      newColumns[i - 1] = DoubleColumn.create(column.name());
-    }
-
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      for (int c = 0; c < newColumns.length; c++) {
-        if (grandTotal == 0) {
-          newColumns[c].append(Double.NaN);
-        } else {
-          newColumns[c].append(xTabCounts.numberColumn(c + 1).getDouble(i) / grandTotal);
-        }
-      }
-    }
-    pctTable.addColumns(newColumns);
-    return pctTable;
+    int grandTotal = matrix.count(matrix.rowCount() - 1, matrix.columnCount() - 1);
+    return proportions(pctTable, matrix, (i, j) -> grandTotal);
   }
 
-  private static Table columnPercents(Table xTabCounts) {
-
+  private static Table columnPercents(CountMatrix matrix) {
     Table pctTable = Table.create("Crosstab Column Proportions: ");
-    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
-
-    pctTable.addColumns(labels);
-
-    // setup the labels
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      labels.append(xTabCounts.column(0).getString(i));
-    }
-
-    // create the new cols
-    DoubleColumn[] newColumns = new DoubleColumn[xTabCounts.columnCount() - 1];
-
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      Column<?> column = xTabCounts.column(i);
-      newColumns[i - 1] = DoubleColumn.create(column.name());
-    }
+    int totalRow = matrix.rowCount() - 1;
+    return proportions(pctTable, matrix, (i, j) -> matrix.count(totalRow, j));
+  }
 
-    // get the column totals
-    double[] columnTotals = new double[newColumns.length];
-    int totalRow = xTabCounts.rowCount() - 1;
-    for (int i = 1; i < xTabCounts.columnCount(); i++) {
-      columnTotals[i - 1] = xTabCounts.numberColumn(i).getDouble(totalRow);
+  /**
+   * Adds a label column and a column of proportions for every column of the count matrix, including
+   * the totals, to pctTable. Cells whose total is zero are missing.
+   */
+  private static Table proportions(Table pctTable, CountMatrix matrix, IntBinaryOperator total) {
+    StringColumn labels = StringColumn.create(LABEL_COLUMN_NAME);
+    for (int i = 0; i < matrix.rowCount(); i++) {
+      labels.append(matrix.rowLabel(i));
     }
+    pctTable.addColumns(labels);
 
-    // calculate the column pcts and update the new table
-    for (int i = 0; i < xTabCounts.rowCount(); i++) {
-      for (int c = 0; c < newColumns.length; c++) {
-        if (columnTotals[c] == 0) {
-          newColumns[c].append(Double.NaN);
-        } else {
-          newColumns[c].append(xTabCounts.numberColumn(c + 1).getDouble(i) / columnTotals[c]);
-        }
+    for (int j = 0; j < matrix.columnCount(); j++) {
+      double[] proportions = new double[matrix.rowCount()];
+      for (int i = 0; i < proportions.length; i++) {
+        int denominator = total.applyAsInt(i, j);
+        proportions[i] = denominator == 0 ? Double.NaN : (double) matrix.count(i, j) / denominator;
       }
+      pctTable.addColumns(DoubleColumn.create(matrix.columnLabel(j), proportions));
     }
-    pctTable.addColumns(newColumns);
     return pctTable;
   }
 
@@ -245,8 +134,7 @@ public final class CrossTab {
    */
   public static Table columnPercents(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-    Table xTabs = counts(table, column1, column2);
-    return columnPercents(xTabs);
+    return columnPercents(new CountMatrix(table, column1, column2));
   }
 
   /**
@@ -264,8 +152,7 @@ public final class CrossTab {
    */
   public static Table rowPercents(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-    Table xTabs = counts(table, column1, column2);
-    return rowPercents(xTabs);
+    return rowPercents(new CountMatrix(table, column1, column2));
   }
 
   /**
@@ -282,8 +169,7 @@ public final class CrossTab {
    */
   public static Table tablePercents(
       Table table, CategoricalColumn<?> column1, CategoricalColumn<?> column2) {
-    Table xTabs = counts(table, column1, column2);
-    return tablePercents(xTabs);
+    return tablePercents(new CountMatrix(table, column1, column2));
   }
 
   /**
@@ -293,4 +179,182 @@ public final class CrossTab {
   public static Table tablePercents(Table table, String column1, String column2) {
     return tablePercents(table, table.categoricalColumn(column1), table.categoricalColumn(column2));
   }
+
+  /**
+   * Counts of every combination of values in two columns, computed in one pass over the table.
+   *
+   * <p>The distinct values of each column are given dense ids: dictionary keys for string columns,
+   * and the formatted value for other columns. Counts are accumulated into a dense {@code int}
+   * matrix indexed by the two ids, so nothing is sorted or boxed per row. Large tables are counted
+   * in parallel by row chunks, each chunk being at least as long as the matrix. When the matrix
+   * would have more cells than the table has rows, most of them would be empty, and the counts are
+   * kept in a hash map keyed by cell instead. Rows and columns of the matrix are then read in the
+   * order of their labels, followed by a row and a column of totals.
+   */
+  private static final class CountMatrix {
+
+    /** The minimum number of rows counted by each parallel chunk */
+    private static final int MIN_ROWS_PER_CHUNK = 1 << 16;
+
+    private final String totalRowLabel;
+    private final Categories rows;
+    private final Categories columns;
+    // Counts indexed by row id * the number of columns + column id, one of which is null
+    private final int[] counts;
+    private final Long2IntOpenHashMap sparseCounts;
+    private final int[] rowTotals;
+    private final int[] columnTotals;
+
+    private CountMatrix(Table table, Column<?> column1, Column<?> column2) {
+      totalRowLabel = column1.type().equals(ColumnType.STRING) ? "Total" : "";
+      rows = new Categories(table.column(column1.name()));
+      columns = new Categories(table.column(column2.name()));
+      long cells = (long) rows.size() * columns.size();
+      if (cells <= Math.max(MIN_ROWS_PER_CHUNK, rows.ids.length)) {
+        counts = count(rows.ids, columns.ids, columns.size(), (int) cells);
+        sparseCounts = null;
+      } else {
+        counts = null;
+        sparseCounts = countSparse(rows.ids, columns.ids, columns.size());
+      }
+      rowTotals = new int[rows.size()];
+      columnTotals = new int[columns.size()];
+      for (int row = 0; row < rows.ids.length; row++) {
+        rowTotals[rows.ids[row]]++;
+        columnTotals[columns.ids[row]]++;
+      }
+    }
+
+    private static int[] count(int[] rowIds, int[] columnIds, int columnCount, int cells) {
+      int chunks =
+          Math.min(
+              Runtime.getRuntime().availableProcessors(),
+              rowIds.length / Math.max(MIN_ROWS_PER_CHUNK, cells));
+      if (chunks <= 1) {
+        return countRange(rowIds, columnIds, columnCount, cells, 0, rowIds.length);
+      }
+      int chunkSize = (rowIds.length + chunks - 1) / chunks;
+      return IntStream.range(0, chunks)
+          .parallel()
+          .mapToObj(
+              chunk ->
+                  countRange(
+                      rowIds,
+                      columnIds,
+                      columnCount,
+                      cells,
+                      chunk * chunkSize,
+                      Math.min(rowIds.length, (chunk + 1) * chunkSize)))
+          .reduce(
+              (a, b) -> {
+                for (int i = 0; i < a.length; i++) {
+                  a[i] += b[i];
+                }
+                return a;
+              })
+          .get();
+    }
+
+    private static int[] countRange(
+        int[] rowIds, int[] columnIds, int columnCount, int cells, int from, int to) {
+      int[] counts = new int[cells];
+      for (int row = from; row < to; row++) {
+        counts[rowIds[row] * columnCount + columnIds[row]]++;
+      }
+      return counts;
+    }
+
+    private static Long2IntOpenHashMap countSparse(int[] rowIds, int[] columnIds, int columnCount) {
+      Long2IntOpenHashMap counts = new Long2IntOpenHashMap();
+      for (int row = 0; row < rowIds.length; row++) {
+        counts.addTo((long) rowIds[row] * columnCount + columnIds[row], 1);
+      }
+      return counts;
+    }
+
+    /** Returns the number of rows, including the totals */
+    private int rowCount() {
+      return rows.size() + 1;
+    }
+
+    /** Returns the number of columns, including the totals */
+    private int columnCount() {
+      return columns.size() + 1;
+    }
+
+    private String rowLabel(int i) {
+      return i < rows.size() ? rows.label(i) : totalRowLabel;
+    }
+
+    private String columnLabel(int j) {
+      return j < columns.size() ? columns.label(j) : "total";
+    }
+
+    /** Returns the count in the i-th row and j-th column, in label order */
+    private int count(int i, int j) {
+      if (i == rows.size()) {
+        return j == columns.size() ? rows.ids.length : columnTotals[columns.sortedIds[j]];
+      }
+      int rowId = rows.sortedIds[i];
+      if (j == columns.size()) {
+        return rowTotals[rowId];
+      }
+      int columnId = columns.sortedIds[j];
+      if (counts != null) {
+        return counts[rowId * columns.size() + columnId];
+      }
+      return sparseCounts.get((long) rowId * columns.size() + columnId);
+    }
+  }
+
+  /** The distinct values of a column, numbered in order of first appearance */
+  private static final class Categories {
+    private final int[] ids;
+    private final List<String> labels = new ArrayList<>();
+    // The ids in order of their labels
+    private final int[] sortedIds;
+
+    private Categories(Column<?> column) {
+      ids = new int[column.size()];
+      if (column instanceof StringColumn) {
+        DictionaryMap dictionary = ((StringColumn) column).getDictionary();
+        Int2IntOpenHashMap keyIds = new Int2IntOpenHashMap();
+        keyIds.defaultReturnValue(-1);
+        for (int row = 0; row < ids.length; row++) {
+          int key = dictionary.getKeyForIndex(row);
+          int id = keyIds.get(key);
+          if (id < 0) {
+            id = labels.size();
+            keyIds.put(key, id);
+            labels.add(dictionary.getValueForKey(key));
+          }
+          ids[row] = id;
+        }
+      } else {
+        Object2IntOpenHashMap<String> valueIds = new Object2IntOpenHashMap<>();
+        valueIds.defaultReturnValue(-1);
+        for (int row = 0; row < ids.length; row++) {
+          String value = column.getString(row);
+          int id = valueIds.getInt(value);
+          if (id < 0) {
+            id = labels.size();
+            valueIds.put(value, id);
+            labels.add(value);
+          }
+          ids[row] = id;
+        }
+      }
+      sortedIds = IntStream.range(0, labels.size()).toArray();
+      IntArrays.quickSort(sortedIds, (a, b) -> labels.get(a).compareTo(labels.get(b)));
+    }
+
+    private int size() {
+      return labels.size();
+    }
+
+    /** Returns the label of the i-th value in label order */
+    private String label(int i) {
+      return labels.get(sortedIds[i]);
+    }
+  }
 }
@@ -0,0 +1,219 @@
+package tech.tablesaw.aggregate;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+/**
+ * A HyperLogLog sketch that estimates the number of distinct values added to it in bounded memory.
+ *
+ * <p>Values are added as 64 bit hashes. Until a sketch has seen {@code 2^precision / 16} distinct
+ * hashes it keeps them in a set and the estimate is exact; after that it keeps {@code 2^precision}
+ * one byte registers and the relative standard error of the estimate is about {@code 1.04 /
+ * sqrt(2^precision)}, 0.8% for the default precision of 14. The estimate uses Ertl's improved
+ * estimator, which needs no empirical bias correction.
+ *
+ * <p>Sketches with the same precision can be merged, so distinct values can be counted over
+ * partitions of the data and combined afterwards.
+ */
+public final class HyperLogLog {
+
+  public static final int DEFAULT_PRECISION = 14;
+
+  private static final HashFunction STRING_HASH = Hashing.murmur3_128();
+
+  private final int precision;
+  // The distinct hashes seen so far, until there are too many and the registers are used instead
+  private LongOpenHashSet hashes = new LongOpenHashSet();
+  private byte[] registers;
+
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a sketch with {@code 2^precision} registers
+   *
+   * @param precision between 4 and 18
+   */
+  public HyperLogLog(int precision) {
+    Preconditions.checkArgument(
+        precision >= 4 && precision <= 18,
+        "Precision must be between 4 and 18, but was %s",
+        precision);
+    this.precision = precision;
+  }
+
+  public int precision() {
+    return precision;
+  }
+
+  /** Adds a 64 bit hash of a value to the sketch. Hashes should be uniformly distributed. */
+  public HyperLogLog add(long hash) {
+    if (registers != null) {
+      addToRegisters(hash);
+    } else {
+      hashes.add(hash);
+      if (hashes.size() > (1 << precision) / 16) {
+        toRegisters();
+      }
+    }
+    return this;
+  }
+
+  /** Adds every non-missing value in the column to the sketch */
+  public HyperLogLog addAll(Column<?> column) {
+    for (int row = 0; row < column.size(); row++) {
+      if (!column.isMissing(row)) {
+        add(hash(column, row));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds the values counted by the other sketch to this one
+   *
+   * @throws IllegalArgumentException if the sketches have a different precision
+   */
+  public HyperLogLog merge(HyperLogLog other) {
+    Preconditions.checkArgument(
+        precision == other.precision,
+        "Cannot merge sketches with precision %s and %s",
+        precision,
+        other.precision);
+    if (other.registers == null) {
+      LongIterator iterator = other.hashes.iterator();
+      while (iterator.hasNext()) {
+        add(iterator.nextLong());
+      }
+      return this;
+    }
+    if (registers == null) {
+      toRegisters();
+    }
+    for (int i = 0; i < registers.length; i++) {
+      registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+    }
+    return this;
+  }
+
+  /** Returns the estimated number of distinct values added to the sketch */
+  public long estimate() {
+    if (registers == null) {
+      return hashes.size();
+    }
+    int m = registers.length;
+    int q = 64 - precision;
+    int[] histogram = new int[q + 2];
+    for (byte register : registers) {
+      histogram[register]++;
+    }
+    double z = m * tau(1 - (double) histogram[q + 1] / m);
+    for (int k = q; k >= 1; k--) {
+      z = 0.5 * (z + histogram[k]);
+    }
+    z += m * sigma((double) histogram[0] / m);
+    return Math.round(m / (2 * Math.log(2)) * m / z);
+  }
+
+  private void toRegisters() {
+    registers = new byte[1 << precision];
+    LongIterator iterator = hashes.iterator();
+    while (iterator.hasNext()) {
+      addToRegisters(iterator.nextLong());
+    }
+    hashes = null;
+  }
+
+  private void addToRegisters(long hash) {
+    int index = (int) (hash >>> (64 - precision));
+    // The position of the first one bit in the remaining bits, or 65 - precision if there is none
+    int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    if (rank > registers[index]) {
+      registers[index] = (byte) rank;
+    }
+  }
+
+  private static double sigma(double x) {
+    if (x == 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double y = 1;
+    double z = x;
+    double previous;
+    do {
+      x *= x;
+      previous = z;
+      z += x * y;
+      y += y;
+    } while (previous != z);
+    return z;
+  }
+
+  private static double tau(double x) {
+    if (x == 0 || x == 1) {
+      return 0;
+    }
+    double y = 1;
+    double z = 1 - x;
+    double previous;
+    do {
+      x = Math.sqrt(x);
+      previous = z;
+      y *= 0.5;
+      z -= (1 - x) * (1 - x) * y;
+    } while (previous != z);
+    return z / 3;
+  }
+
+  /** Returns a 64 bit hash of the value in the given row, which must not be missing */
+  static long hash(Column<?> column, int row) {
+    if (column instanceof StringColumn) {
+      return STRING_HASH.hashUnencodedChars(((StringColumn) column).get(row)).asLong();
+    }
+    if (column instanceof TextColumn) {
+      return STRING_HASH.hashUnencodedChars(((TextColumn) column).get(row)).asLong();
+    }
+    if (column instanceof LongColumn) {
+      return mix(((LongColumn) column).getLong(row));
+    }
+    if (column instanceof NumericColumn) {
+      return mix(Double.doubleToLongBits(((NumericColumn<?>) column).getDouble(row)));
+    }
+    if (column instanceof DateColumn) {
+      return mix(((DateColumn) column).getIntInternal(row));
+    }
+    if (column instanceof TimeColumn) {
+      return mix(((TimeColumn) column).getIntInternal(row));
+    }
+    if (column instanceof DateTimeColumn) {
+      return mix(((DateTimeColumn) column).getLongInternal(row));
+    }
+    if (column instanceof InstantColumn) {
+      return mix(((InstantColumn) column).getLongInternal(row));
+    }
+    if (column instanceof BooleanColumn) {
+      return mix(((BooleanColumn) column).getByte(row));
+    }
+    return STRING_HASH.hashUnencodedChars(column.getUnformattedString(row)).asLong();
+  }
+
+  /** Mixes the bits of a primitive value, offset so that zero doesn't hash to zero */
+  private static long mix(long value) {
+    return HashCommon.murmurHash3(value + 0x9E3779B97F4A7C15L);
+  }
+}
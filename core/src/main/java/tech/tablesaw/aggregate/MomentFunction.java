@@ -0,0 +1,24 @@
+package tech.tablesaw.aggregate;
+
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.numbers.Moments;
+
+/**
+ * A numeric aggregate function whose result is derived from the {@link Moments} of a column. When
+ * several of these functions summarize the same column, the moments are accumulated once and shared
+ * between them.
+ */
+public abstract class MomentFunction extends NumericAggregateFunction {
+
+  public MomentFunction(String name) {
+    super(name);
+  }
+
+  @Override
+  public Double summarize(NumericColumn<?> column) {
+    return summarize(Moments.of(column));
+  }
+
+  /** Returns the result of the function for the values with the given moments */
+  public abstract double summarize(Moments moments);
+}
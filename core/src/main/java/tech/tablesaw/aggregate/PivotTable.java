@@ -1,15 +1,20 @@
 package tech.tablesaw.aggregate;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.IntStream;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
-import tech.tablesaw.table.TableSlice;
-import tech.tablesaw.table.TableSliceGroup;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
+import tech.tablesaw.columns.strings.DictionaryMap;
 
 /**
  * PivotTable is used to 'rotate' a source table such that it is summarized on the values of some
@@ -18,6 +23,11 @@ import tech.tablesaw.table.TableSliceGroup;
  * for which a subtotal is created; this produces n columns on each row of the result - one column
  * for each unique value - a numeric column that provides the values to be summarized - an
  * aggregation function that defines what operation is performed on the values in the subgroups
+ *
+ * <p>The distinct values of both key columns are given dense ids, so every cell of the result is
+ * addressed by a pair of ints. Counts, sums, means, minimums and maximums are accumulated into the
+ * result columns in a single pass over the source table. Other functions are applied to the values
+ * of each cell, after the rows are grouped by cell with two counting sorts.
  */
 public class PivotTable {
 
@@ -28,69 +38,202 @@ public class PivotTable {
       NumericColumn<?> values,
       AggregateFunction<?, ?> aggregateFunction) {
 
-    TableSliceGroup tsg = table.splitOn(column1);
+    KeyIds rowKeys = new KeyIds(table.column(column1.name()));
+    KeyIds columnKeys = new KeyIds(table.column(column2.name()));
+    double[][] cells =
+        aggregate(rowKeys, columnKeys, table.numberColumn(values.name()), aggregateFunction);
 
     Table pivotTable = Table.create("Pivot: " + column1.name() + " x " + column2.name());
-    pivotTable.addColumns(column1.type().create(column1.name()));
+    Column<?> keyColumn = column1.type().create(column1.name());
+    for (int i = 0; i < rowKeys.size(); i++) {
+      keyColumn.appendCell(rowKeys.label(i));
+    }
+    pivotTable.addColumns(keyColumn);
 
-    List<String> valueColumnNames = getValueColumnNames(table, column2);
+    int[] columnIds = IntStream.range(0, columnKeys.size()).toArray();
+    IntArrays.quickSort(columnIds, (a, b) -> columnKeys.label(a).compareTo(columnKeys.label(b)));
+    for (int id : columnIds) {
+      pivotTable.addColumns(DoubleColumn.create(columnKeys.label(id), cells[id]));
+    }
+    return pivotTable;
+  }
 
-    for (String colName : valueColumnNames) {
-      pivotTable.addColumns(DoubleColumn.create(colName));
+  /**
+   * Returns the aggregated values indexed by column key id and then row key id. Cells without any
+   * source rows are missing.
+   */
+  private static double[][] aggregate(
+      KeyIds rowKeys,
+      KeyIds columnKeys,
+      NumericColumn<?> values,
+      AggregateFunction<?, ?> function) {
+    double[][] cells = new double[columnKeys.size()][rowKeys.size()];
+    for (double[] column : cells) {
+      Arrays.fill(column, DoubleColumnType.missingValueIndicator());
     }
 
-    int valueIndex = table.columnIndex(column2);
-    int keyIndex = table.columnIndex(column1);
+    if (function == AggregateFunctions.mean) {
+      int[][] counts = new int[columnKeys.size()][rowKeys.size()];
+      for (int row = 0; row < values.size(); row++) {
+        double value = values.getDouble(row);
+        if (!Double.isNaN(value)) {
+          int c = columnKeys.ids[row];
+          int r = rowKeys.ids[row];
+          cells[c][r] = counts[c][r] == 0 ? value : cells[c][r] + value;
+          counts[c][r]++;
+        }
+      }
+      for (int c = 0; c < cells.length; c++) {
+        for (int r = 0; r < cells[c].length; r++) {
+          if (counts[c][r] > 0) {
+            cells[c][r] /= counts[c][r];
+          }
+        }
+      }
+      return cells;
+    }
 
-    String key;
+    CellAccumulator accumulator = accumulator(function);
+    if (accumulator != null) {
+      for (int row = 0; row < values.size(); row++) {
+        double[] column = cells[columnKeys.ids[row]];
+        int r = rowKeys.ids[row];
+        column[r] = accumulator.add(column[r], values.getDouble(row));
+      }
+      return cells;
+    }
 
-    for (TableSlice slice : tsg.getSlices()) {
-      key = String.valueOf(slice.get(0, keyIndex));
-      pivotTable.column(0).appendCell(key);
+    summarizeCells(cells, rowKeys, columnKeys, values, function);
+    return cells;
+  }
 
-      Map<String, Double> valueMap =
-          getValueMap(column1, column2, values, valueIndex, slice, aggregateFunction);
+  /** Returns an accumulator for the function, or null if the function can't be accumulated */
+  private static CellAccumulator accumulator(AggregateFunction<?, ?> function) {
+    if (function == AggregateFunctions.sum) {
+      return (cell, value) -> {
+        double sum = Double.isNaN(cell) ? 0 : cell;
+        return Double.isNaN(value) ? sum : sum + value;
+      };
+    }
+    if (function == AggregateFunctions.countNonMissing) {
+      return (cell, value) -> (Double.isNaN(cell) ? 0 : cell) + (Double.isNaN(value) ? 0 : 1);
+    }
+    if (function == AggregateFunctions.countMissing) {
+      return (cell, value) -> (Double.isNaN(cell) ? 0 : cell) + (Double.isNaN(value) ? 1 : 0);
+    }
+    if (function == AggregateFunctions.min) {
+      return (cell, value) -> Double.isNaN(cell) || value < cell ? value : cell;
+    }
+    if (function == AggregateFunctions.max) {
+      return (cell, value) -> Double.isNaN(cell) || value > cell ? value : cell;
+    }
+    return null;
+  }
 
-      for (String columnName : valueColumnNames) {
-        Double aDouble = valueMap.get(columnName);
-        NumericColumn<?> pivotValueColumn = pivotTable.numberColumn(columnName);
-        if (aDouble == null) {
-          pivotValueColumn.appendMissing();
-        } else {
-          pivotValueColumn.appendObj(aDouble);
-        }
+  /**
+   * Applies the function to the values of each cell. The rows are grouped by cell with a stable
+   * counting sort on the column key followed by one on the row key, so the values of a cell keep
+   * their order in the source table.
+   */
+  @SuppressWarnings("unchecked")
+  private static void summarizeCells(
+      double[][] cells,
+      KeyIds rowKeys,
+      KeyIds columnKeys,
+      NumericColumn<?> values,
+      AggregateFunction<?, ?> function) {
+    AggregateFunction<Column<?>, ?> columnFunction = (AggregateFunction<Column<?>, ?>) function;
+    int[] rows = IntStream.range(0, values.size()).toArray();
+    rows = sortByKey(rows, columnKeys);
+    rows = sortByKey(rows, rowKeys);
+
+    int start = 0;
+    while (start < rows.length) {
+      int r = rowKeys.ids[rows[start]];
+      int c = columnKeys.ids[rows[start]];
+      int end = start + 1;
+      while (end < rows.length && rowKeys.ids[rows[end]] == r && columnKeys.ids[rows[end]] == c) {
+        end++;
       }
+      Object result = columnFunction.summarize(values.subset(Arrays.copyOfRange(rows, start, end)));
+      cells[c][r] =
+          result == null
+              ? DoubleColumnType.missingValueIndicator()
+              : ((Number) result).doubleValue();
+      start = end;
     }
+  }
 
-    return pivotTable;
+  /** Returns the rows stably sorted on their id in the given key */
+  private static int[] sortByKey(int[] rows, KeyIds keys) {
+    int[] starts = new int[keys.size() + 1];
+    for (int row : rows) {
+      starts[keys.ids[row] + 1]++;
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      starts[i + 1] += starts[i];
+    }
+    int[] sorted = new int[rows.length];
+    for (int row : rows) {
+      sorted[starts[keys.ids[row]]++] = row;
+    }
+    return sorted;
   }
 
-  private static Map<String, Double> getValueMap(
-      CategoricalColumn<?> column1,
-      CategoricalColumn<?> column2,
-      NumericColumn<?> values,
-      int valueIndex,
-      TableSlice slice,
-      AggregateFunction<?, ?> function) {
+  /** Folds the values of the source rows of a cell into the cell, which starts out missing */
+  @FunctionalInterface
+  private interface CellAccumulator {
 
-    Table temp = slice.asTable();
-    Table summary = temp.summarize(values.name(), function).by(column1.name(), column2.name());
+    /** Returns the new value of the cell. Missing source values are passed as NaN. */
+    double add(double cell, double value);
+  }
 
-    Map<String, Double> valueMap = new HashMap<>();
-    NumericColumn<?> nc = summary.numberColumn(summary.columnCount() - 1);
-    for (int i = 0; i < summary.rowCount(); i++) {
-      valueMap.put(String.valueOf(summary.get(i, 1)), nc.getDouble(i));
+  /**
+   * The distinct values of a key column, numbered in order of first appearance. String columns are
+   * numbered by their dictionary keys, other columns by their values.
+   */
+  private static final class KeyIds {
+    private final int[] ids;
+    private final List<String> labels = new ArrayList<>();
+
+    private KeyIds(Column<?> column) {
+      ids = new int[column.size()];
+      if (column instanceof StringColumn) {
+        DictionaryMap dictionary = ((StringColumn) column).getDictionary();
+        Int2IntOpenHashMap keyIds = new Int2IntOpenHashMap();
+        keyIds.defaultReturnValue(-1);
+        for (int row = 0; row < ids.length; row++) {
+          int key = dictionary.getKeyForIndex(row);
+          int id = keyIds.get(key);
+          if (id < 0) {
+            id = labels.size();
+            keyIds.put(key, id);
+            labels.add(dictionary.getValueForKey(key));
+          }
+          ids[row] = id;
+        }
+      } else {
+        Object2IntOpenHashMap<Object> valueIds = new Object2IntOpenHashMap<>();
+        valueIds.defaultReturnValue(-1);
+        for (int row = 0; row < ids.length; row++) {
+          Object value = column.get(row);
+          int id = valueIds.getInt(value);
+          if (id < 0) {
+            id = labels.size();
+            valueIds.put(value, id);
+            labels.add(String.valueOf(value));
+          }
+          ids[row] = id;
+        }
+      }
     }
-    return valueMap;
-  }
 
-  private static List<String> getValueColumnNames(Table table, CategoricalColumn<?> column2) {
-    List<String> valueColumnNames = new ArrayList<>();
+    private int size() {
+      return labels.size();
+    }
 
-    for (Object colName : table.column(column2.name()).unique()) {
-      valueColumnNames.add(String.valueOf(colName));
+    private String label(int id) {
+      return labels.get(id);
     }
-    valueColumnNames.sort(String::compareTo);
-    return valueColumnNames;
   }
 }
@@ -14,21 +14,33 @@
 
 package tech.tablesaw.aggregate;
 
-import static tech.tablesaw.api.QuerySupport.numberColumn;
-
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ArrayListMultimap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.IntToLongFunction;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.InstantColumn;
 import tech.tablesaw.api.IntColumn;
-import tech.tablesaw.api.Row;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.numbers.Moments;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.table.SelectionTableSliceGroup;
 import tech.tablesaw.table.StandardTableSliceGroup;
 import tech.tablesaw.table.TableSliceGroup;
 
@@ -44,11 +56,13 @@ import tech.tablesaw.table.TableSliceGroup;
 public class Summarizer {
 
   private String[] groupColumnNames = new String[0];
+  // The number of rows in each group set by groupBy(int), or 0 if the rows are not grouped by step
+  private int groupStep;
   private final Table original;
   private Table temp;
   private final List<String> summarizedColumns = new ArrayList<>();
   private final AggregateFunction<?, ?>[] reductions;
-  private static final String GROUP_COL_TEMP_NAME = "_temp_group_col_";
+  private static final long MISSING_BUCKET = Long.MIN_VALUE;
 
   /**
    * Returns an object capable of summarizing the given column in the given sourceTable, by applying
@@ -166,11 +180,6 @@ public class Summarizer {
     return summarize(group);
   }
 
-  private Table getSummaryTable(IntColumn groupColumn) {
-    TableSliceGroup group = StandardTableSliceGroup.create(temp, groupColumn);
-    return summarize(group);
-  }
-
   /**
    * Returns a summary of the records grouped into subsets of the same size, in the order they
    * appear
@@ -181,34 +190,78 @@ public class Summarizer {
    * @param step the number or records to include in each group
    */
   public Table by(int step) {
+    return summarize(stepGroup(step), stepGroupKeys(step));
+  }
 
-    IntColumn groupColumn = assignToGroupsByStep(step);
-    Table t = getSummaryTable(groupColumn);
-    t.column(GROUP_COL_TEMP_NAME).setName("Group");
-    return t;
+  /**
+   * Returns a summary of the records grouped by the interval of the given length that the value in
+   * the given column falls in. Intervals are aligned to 1970-01-01T00:00Z, so five minute intervals
+   * start on multiples of five minutes past the hour.
+   *
+   * <p>The first column of the result holds the start of each interval and has the name of the
+   * given column. Only intervals that contain records are included, in chronological order. Records
+   * with a missing value in the given column are left out.
+   *
+   * <p>The interval of each record is computed from the packed value, without creating a column of
+   * interval starts to group on. If the column is sorted, each interval is a range of rows.
+   *
+   * @param column a column with a value for every row of the summarized table
+   * @param bucketLength the length of the intervals, at least one millisecond
+   */
+  public Table by(InstantColumn column, Duration bucketLength) {
+    LongArrayList bucketStarts = new LongArrayList();
+    List<Selection> buckets =
+        timeBuckets(column.size(), column::getLongInternal, bucketLength, bucketStarts);
+    return summarize(
+        SelectionTableSliceGroup.create(temp, column.name(), buckets),
+        InstantColumn.createInternal(column.name(), bucketStarts.toLongArray()));
+  }
+
+  /**
+   * Returns a summary of the records grouped by the interval of the given length that the value in
+   * the given column falls in
+   *
+   * @see #by(InstantColumn, Duration)
+   */
+  public Table by(DateTimeColumn column, Duration bucketLength) {
+    LongArrayList bucketStarts = new LongArrayList();
+    List<Selection> buckets =
+        timeBuckets(column.size(), column::getLongInternal, bucketLength, bucketStarts);
+    return summarize(
+        SelectionTableSliceGroup.create(temp, column.name(), buckets),
+        DateTimeColumn.createInternal(column.name(), bucketStarts.toLongArray()));
   }
 
   /**
    * Returns the result of applying to the functions to all the values in the appropriate column
    * TODO add a test that uses a non numeric return type with apply
+   *
+   * <p>The {@link MomentFunction}s applied to a numeric column share a single pass over it, and the
+   * passes over different columns run in parallel.
    */
   @SuppressWarnings({"unchecked", "rawtypes"})
   public Table apply() {
 
-    if (groupColumnNames.length > 0) {
+    if (groupStep > 0) {
+      return by(groupStep);
+    } else if (groupColumnNames.length > 0) {
       TableSliceGroup group = StandardTableSliceGroup.create(temp, groupColumnNames);
       return summarize(group);
     } else {
       List<Table> results = new ArrayList<>();
       ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
           getAggregateFunctionMultimap();
+      Map<String, Moments> moments = columnMoments(reductionMultimap);
 
-      for (String name : reductionMultimap.keys()) {
+      for (String name : reductionMultimap.keySet()) {
         List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
         Table table = TableSliceGroup.summaryTableName(temp);
         for (AggregateFunction function : reductions) {
           Column column = temp.column(name);
-          Object result = function.summarize(column);
+          Object result =
+              moments.containsKey(name) && function instanceof MomentFunction
+                  ? ((MomentFunction) function).summarize(moments.get(name))
+                  : function.summarize(column);
           ColumnType type = function.returnType();
           Column newColumn =
               type.create(TableSliceGroup.aggregateColumnName(name, function.functionName()));
@@ -226,18 +279,33 @@ public class Summarizer {
     }
   }
 
+  /** Returns the moments of each numeric column that has a moment function applied to it */
+  private Map<String, Moments> columnMoments(
+      ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap) {
+    List<String> names = new ArrayList<>();
+    for (String name : reductionMultimap.keySet()) {
+      if (temp.column(name) instanceof NumericColumn
+          && reductionMultimap.get(name).stream().anyMatch(f -> f instanceof MomentFunction)) {
+        names.add(name);
+      }
+    }
+    Map<String, Moments> moments = new ConcurrentHashMap<>();
+    names
+        .parallelStream()
+        .forEach(name -> moments.put(name, Moments.of((NumericColumn<?>) temp.column(name))));
+    return moments;
+  }
+
   public Table having(Function<Table, Selection> selection) {
     Preconditions.checkState(
-        groupColumnNames.length > 0,
+        groupStep > 0 || groupColumnNames.length > 0,
         "Cannot perform having() on summary that has not been grouped first");
 
-    if (groupColumnNames[0].equals(GROUP_COL_TEMP_NAME)) {
-      IntColumn groupColumn = temp.intColumn(GROUP_COL_TEMP_NAME);
-      TableSliceGroup group = StandardTableSliceGroup.create(temp, groupColumn);
-      return summarizeForHaving(group, selection);
+    if (groupStep > 0) {
+      return summarizeForHaving(stepGroup(groupStep), stepGroupKeys(groupStep), selection);
     } else {
       TableSliceGroup group = StandardTableSliceGroup.create(temp, groupColumnNames);
-      return summarizeForHaving(group, selection);
+      return summarizeForHaving(group, null, selection);
     }
   }
 
@@ -264,12 +332,8 @@ public class Summarizer {
   }
 
   public Summarizer groupBy(int step) {
-    IntColumn groupColumn = assignToGroupsByStep(step);
-    if (tableDoesNotContain(groupColumn.name(), temp)) {
-      temp.addColumns(groupColumn);
-    }
-    groupColumnNames = new String[] {GROUP_COL_TEMP_NAME};
-
+    Preconditions.checkArgument(step > 0, "The step must be positive, but was %s", step);
+    groupStep = step;
     return this;
   }
 
@@ -278,19 +342,22 @@ public class Summarizer {
    * combinations are used
    *
    * @param group A table slice group
+   * @param groupKeys The keys to label the slices of the group with, or null to use their names
    * @param selectionFunction Function that provides the filter for the having clause
    * @return A table containing a row of summarized data for each group in the table slice group
    */
   private Table summarizeForHaving(
-      TableSliceGroup group, Function<Table, Selection> selectionFunction) {
+      TableSliceGroup group,
+      @Nullable Column<?> groupKeys,
+      Function<Table, Selection> selectionFunction) {
     List<Table> results = new ArrayList<>();
 
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         getAggregateFunctionMultimap();
 
-    for (String name : reductionMultimap.keys()) {
+    for (String name : reductionMultimap.keySet()) {
       List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
-      Table groupTable = group.aggregate(name, reductions.toArray(new AggregateFunction<?, ?>[0]));
+      Table groupTable = aggregate(group, groupKeys, name, reductions);
       groupTable = groupTable.where(selectionFunction);
       if (!groupTable.isEmpty()) {
         results.add(groupTable);
@@ -299,31 +366,99 @@ public class Summarizer {
     return combineTables(results);
   }
 
-  private IntColumn assignToGroupsByStep(int step) {
-    IntColumn groupColumn = IntColumn.create(GROUP_COL_TEMP_NAME, temp.rowCount());
-    temp.addColumns(groupColumn);
+  /** Returns a group of the consecutive runs of step rows, leaving out a final shorter run */
+  private TableSliceGroup stepGroup(int step) {
+    Preconditions.checkArgument(step > 0, "The step must be positive, but was %s", step);
+    List<Selection> runs = new ArrayList<>();
+    for (int start = 0; start + step <= temp.rowCount(); start += step) {
+      runs.add(Selection.withRange(start, start + step));
+    }
+    return SelectionTableSliceGroup.create(temp, "Group", runs);
+  }
 
-    int groupId = 1;
-    int withinGroupCount = 0;
-    Row row = new Row(temp);
+  /** Returns the numbers of the groups made by {@link #stepGroup(int)}, starting from 1 */
+  private IntColumn stepGroupKeys(int step) {
+    return IntColumn.indexColumn("Group", temp.rowCount() / step, 1);
+  }
 
-    while (row.hasNext()) {
-      row.next();
-      if (withinGroupCount < step) {
-        withinGroupCount++;
-        groupColumn.set(row.getRowNumber(), groupId);
+  /**
+   * Returns the rows of the table grouped by the interval of the given length that their packed
+   * date-time falls in, and adds the packed start of each interval to bucketStarts. Rows with a
+   * missing date-time are left out.
+   */
+  private List<Selection> timeBuckets(
+      int rowCount,
+      IntToLongFunction packedDateTimes,
+      Duration bucketLength,
+      LongArrayList bucketStarts) {
+    Preconditions.checkArgument(
+        rowCount == temp.rowCount(),
+        "The column to group by has %s rows, but the table has %s",
+        rowCount,
+        temp.rowCount());
+    long length = bucketLength.toMillis();
+    Preconditions.checkArgument(
+        length > 0, "The bucket length must be at least a millisecond, but was %s", bucketLength);
+
+    long[] buckets = new long[rowCount];
+    boolean sorted = true;
+    for (int row = 0; row < rowCount; row++) {
+      long packed = packedDateTimes.applyAsLong(row);
+      if (packed == DateTimeColumnType.missingValueIndicator()) {
+        buckets[row] = MISSING_BUCKET;
+        sorted = false;
       } else {
-        groupId++;
-        groupColumn.set(row.getRowNumber(), groupId);
-        withinGroupCount = 1;
+        buckets[row] = Math.floorDiv(PackedInstant.toEpochMilli(packed), length);
+        sorted &= row == 0 || buckets[row] >= buckets[row - 1];
+      }
+    }
+
+    List<Selection> selections = new ArrayList<>();
+    if (sorted) {
+      int start = 0;
+      for (int row = 1; row <= rowCount; row++) {
+        if (row == rowCount || buckets[row] != buckets[start]) {
+          selections.add(Selection.withRange(start, row));
+          bucketStarts.add(PackedInstant.ofEpochMilli(buckets[start] * length));
+          start = row;
+        }
+      }
+      return selections;
+    }
+
+    // Numbers the buckets in chronological order, then groups the rows with a counting sort
+    Long2IntOpenHashMap bucketIds = new Long2IntOpenHashMap();
+    for (long bucket : buckets) {
+      if (bucket != MISSING_BUCKET) {
+        bucketIds.put(bucket, 0);
+      }
+    }
+    long[] distinct = bucketIds.keySet().toLongArray();
+    Arrays.sort(distinct);
+    for (int id = 0; id < distinct.length; id++) {
+      bucketIds.put(distinct[id], id);
+      bucketStarts.add(PackedInstant.ofEpochMilli(distinct[id] * length));
+    }
+    int[] starts = new int[distinct.length + 1];
+    for (long bucket : buckets) {
+      if (bucket != MISSING_BUCKET) {
+        starts[bucketIds.get(bucket) + 1]++;
+      }
+    }
+    for (int id = 0; id < distinct.length; id++) {
+      starts[id + 1] += starts[id];
+    }
+    int[] next = Arrays.copyOf(starts, distinct.length);
+    int[] rows = new int[starts[distinct.length]];
+    for (int row = 0; row < rowCount; row++) {
+      if (buckets[row] != MISSING_BUCKET) {
+        rows[next[bucketIds.get(buckets[row])]++] = row;
       }
     }
-    int lastGroupSize = temp.where(numberColumn(GROUP_COL_TEMP_NAME).isEqualTo(groupId)).rowCount();
-    if (lastGroupSize < step) {
-      temp = temp.dropWhere(numberColumn(GROUP_COL_TEMP_NAME).isEqualTo(groupId));
+    for (int id = 0; id < distinct.length; id++) {
+      selections.add(Selection.with(Arrays.copyOfRange(rows, starts[id], starts[id + 1])));
     }
-    temp.addColumns(IntColumn.indexColumn("index", temp.rowCount(), 1));
-    return groupColumn;
+    return selections;
   }
 
   /**
@@ -334,18 +469,46 @@ public class Summarizer {
    * @return A table containing a row of summarized data for each group in the table slice group
    */
   private Table summarize(TableSliceGroup group) {
+    return summarize(group, null);
+  }
+
+  /**
+   * Associates the columns to be summarized with the functions that match their type, and labels
+   * the slices of the group with the given keys
+   *
+   * @param group A table slice group
+   * @param groupKeys The keys to label the slices of the group with, or null to use their names
+   * @return A table containing a row of summarized data for each group in the table slice group
+   */
+  private Table summarize(TableSliceGroup group, @Nullable Column<?> groupKeys) {
     List<Table> results = new ArrayList<>();
 
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         getAggregateFunctionMultimap();
 
-    for (String name : reductionMultimap.keys()) {
+    for (String name : reductionMultimap.keySet()) {
       List<AggregateFunction<?, ?>> reductions = reductionMultimap.get(name);
-      results.add(group.aggregate(name, reductions.toArray(new AggregateFunction<?, ?>[0])));
+      results.add(aggregate(group, groupKeys, name, reductions));
     }
     return combineTables(results);
   }
 
+  /**
+   * Applies the functions to the named column in each slice of the group. If there are group keys
+   * they replace the column of slice names in the result.
+   */
+  private Table aggregate(
+      TableSliceGroup group,
+      @Nullable Column<?> groupKeys,
+      String name,
+      List<AggregateFunction<?, ?>> reductions) {
+    Table groupTable = group.aggregate(name, reductions.toArray(new AggregateFunction<?, ?>[0]));
+    if (groupKeys != null) {
+      groupTable.replaceColumn("Group", groupKeys.copy());
+    }
+    return groupTable;
+  }
+
   private ArrayListMultimap<String, AggregateFunction<?, ?>> getAggregateFunctionMultimap() {
     ArrayListMultimap<String, AggregateFunction<?, ?>> reductionMultimap =
         ArrayListMultimap.create();
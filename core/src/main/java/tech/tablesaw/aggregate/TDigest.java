@@ -0,0 +1,208 @@
+package tech.tablesaw.aggregate;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import tech.tablesaw.api.NumericColumn;
+
+/**
+ * A merging t-digest that estimates quantiles of the values added to it in bounded memory.
+ *
+ * <p>Values are summarized by weighted centroids that are small near the extremes and larger in the
+ * middle of the distribution, so tail quantiles such as the 99th percentile stay accurate. New
+ * values are buffered and merged into the centroids in sorted batches. The digest keeps at most
+ * about {@code compression} centroids plus a buffer of five times as many values, regardless of how
+ * many values are added.
+ *
+ * <p>Digests can be merged, so quantiles can be estimated over partitions of the data and combined
+ * afterwards.
+ */
+public final class TDigest {
+
+  public static final double DEFAULT_COMPRESSION = 100;
+
+  private final double compression;
+
+  // Centroids ordered by mean
+  private final double[] means;
+  private final double[] weights;
+  private int centroidCount;
+
+  // Values added since the centroids were last merged
+  private final double[] bufferValues;
+  private final double[] bufferWeights;
+  private int bufferCount;
+
+  // Scratch space for merging the centroids with the buffer
+  private final double[] mergeValues;
+  private final double[] mergeWeights;
+  private final int[] mergeOrder;
+
+  private double totalWeight;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  public TDigest() {
+    this(DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Creates a digest with the given compression. Higher values keep more centroids and give more
+   * accurate estimates.
+   *
+   * @param compression at least 10
+   */
+  public TDigest(double compression) {
+    Preconditions.checkArgument(
+        compression >= 10, "Compression must be at least 10, but was %s", compression);
+    this.compression = compression;
+    int capacity = (int) Math.ceil(compression) + 2;
+    means = new double[capacity];
+    weights = new double[capacity];
+    bufferValues = new double[5 * capacity];
+    bufferWeights = new double[5 * capacity];
+    mergeValues = new double[6 * capacity];
+    mergeWeights = new double[6 * capacity];
+    mergeOrder = new int[6 * capacity];
+  }
+
+  public double compression() {
+    return compression;
+  }
+
+  /** Returns the number of values added to the digest */
+  public long size() {
+    return Math.round(totalWeight);
+  }
+
+  /** Adds a value to the digest. NaN values are ignored. */
+  public TDigest add(double value) {
+    if (!Double.isNaN(value)) {
+      add(value, 1);
+    }
+    return this;
+  }
+
+  /** Adds every non-missing value in the column to the digest */
+  public TDigest addAll(NumericColumn<?> column) {
+    for (int row = 0; row < column.size(); row++) {
+      add(column.getDouble(row));
+    }
+    return this;
+  }
+
+  /** Adds the values summarized by the other digest to this one */
+  public TDigest merge(TDigest other) {
+    for (int i = 0; i < other.centroidCount; i++) {
+      add(other.means[i], other.weights[i]);
+    }
+    for (int i = 0; i < other.bufferCount; i++) {
+      add(other.bufferValues[i], other.bufferWeights[i]);
+    }
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /**
+   * Returns the estimated value at the given quantile, or NaN if the digest is empty
+   *
+   * @param quantile between 0 and 1
+   */
+  public double quantile(double quantile) {
+    Preconditions.checkArgument(
+        quantile >= 0 && quantile <= 1, "Quantile must be between 0 and 1, but was %s", quantile);
+    mergeBuffer();
+    if (centroidCount == 0) {
+      return Double.NaN;
+    }
+    if (centroidCount == 1) {
+      return means[0];
+    }
+    // Each centroid's mean is taken to be the value at the middle of its weight, and values in
+    // between are interpolated linearly. The ends are interpolated towards the min and max.
+    double index = quantile * totalWeight;
+    double center = weights[0] / 2;
+    if (index < center) {
+      return min + (means[0] - min) * index / center;
+    }
+    for (int i = 0; i < centroidCount - 1; i++) {
+      double nextCenter = center + (weights[i] + weights[i + 1]) / 2;
+      if (index <= nextCenter) {
+        return means[i] + (means[i + 1] - means[i]) * (index - center) / (nextCenter - center);
+      }
+      center = nextCenter;
+    }
+    int last = centroidCount - 1;
+    return Math.min(
+        max, means[last] + (max - means[last]) * (index - center) / (weights[last] / 2));
+  }
+
+  private void add(double value, double weight) {
+    if (bufferCount == bufferValues.length) {
+      mergeBuffer();
+    }
+    bufferValues[bufferCount] = value;
+    bufferWeights[bufferCount] = weight;
+    bufferCount++;
+    totalWeight += weight;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+  }
+
+  /**
+   * Merges the buffered values into the centroids. The centroids and values are visited in order
+   * and each is added to the current centroid while the centroid spans at most one unit of the
+   * scale function {@code k(q) = compression / (2 * PI) * asin(2 * q - 1)}, which keeps centroids
+   * near q = 0 and q = 1 small.
+   */
+  private void mergeBuffer() {
+    if (bufferCount == 0) {
+      return;
+    }
+    int n = 0;
+    for (int i = 0; i < centroidCount; i++, n++) {
+      mergeValues[n] = means[i];
+      mergeWeights[n] = weights[i];
+    }
+    for (int i = 0; i < bufferCount; i++, n++) {
+      mergeValues[n] = bufferValues[i];
+      mergeWeights[n] = bufferWeights[i];
+    }
+    for (int i = 0; i < n; i++) {
+      mergeOrder[i] = i;
+    }
+    IntArrays.quickSort(mergeOrder, 0, n, (a, b) -> Double.compare(mergeValues[a], mergeValues[b]));
+
+    centroidCount = 0;
+    bufferCount = 0;
+    double weightSoFar = 0;
+    double mean = mergeValues[mergeOrder[0]];
+    double weight = mergeWeights[mergeOrder[0]];
+    double limit = totalWeight * quantileLimit(0);
+    for (int i = 1; i < n; i++) {
+      double value = mergeValues[mergeOrder[i]];
+      double valueWeight = mergeWeights[mergeOrder[i]];
+      if (weightSoFar + weight + valueWeight <= limit) {
+        weight += valueWeight;
+        mean += (value - mean) * valueWeight / weight;
+      } else {
+        weightSoFar += weight;
+        means[centroidCount] = mean;
+        weights[centroidCount] = weight;
+        centroidCount++;
+        limit = totalWeight * quantileLimit(weightSoFar / totalWeight);
+        mean = value;
+        weight = valueWeight;
+      }
+    }
+    means[centroidCount] = mean;
+    weights[centroidCount] = weight;
+    centroidCount++;
+  }
+
+  /** Returns the largest quantile that a centroid starting at quantile q may extend to */
+  private double quantileLimit(double q) {
+    double k = Math.asin(2 * q - 1) + 2 * Math.PI / compression;
+    return k >= Math.PI / 2 ? 1 : (Math.sin(k) + 1) / 2;
+  }
+}
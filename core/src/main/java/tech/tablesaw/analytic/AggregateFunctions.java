@@ -1,5 +1,7 @@
 package tech.tablesaw.analytic;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import java.util.ArrayDeque;
 import java.util.function.Function;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
@@ -57,6 +59,22 @@ enum AggregateFunctions implements FunctionMetaData {
     return this.implementation.functionFor(growthType);
   }
 
+  /**
+   * Get the right primitive implementation for that window definition. Only valid for functions
+   * that return a DOUBLE column.
+   */
+  DoubleAggregateFunction getDoubleImplementation(WindowGrowthType growthType) {
+    return this.implementation.doubleFunctionFor(growthType);
+  }
+
+  /**
+   * Get the right primitive implementation for that window definition. Only valid for functions
+   * that return an INTEGER column.
+   */
+  LongAggregateFunction getLongImplementation(WindowGrowthType growthType) {
+    return this.implementation.longFunctionFor(growthType);
+  }
+
   @Override
   public String functionName() {
     return name();
@@ -91,31 +109,122 @@ enum AggregateFunctions implements FunctionMetaData {
       }
     }
 
-    abstract AppendAggregateFunction<T, ? extends Number> functionForAppendWindows();
+    /** Sub classes of append windows should never call removeLeft. */
+    abstract static class AppendDoubleAggregateFunction implements DoubleAggregateFunction {
+      @Override
+      public final void removeLeftMost() {
+        throw new UnsupportedOperationException(
+            "Implementers of append aggregate functions should never call removeLeftMost");
+      }
+    }
+
+    /** Sub classes of append windows should never call removeLeft. */
+    abstract static class AppendLongAggregateFunction implements LongAggregateFunction {
+      @Override
+      public final void removeLeftMost() {
+        throw new UnsupportedOperationException(
+            "Implementers of append aggregate functions should never call removeLeftMost");
+      }
+    }
+
+    abstract AggregateFunction<T, ? extends Number> functionForAppendWindows();
 
     abstract AggregateFunction<T, ? extends Number> functionForSlidingWindows();
 
     AggregateFunction<T, ? extends Number> functionFor(WindowGrowthType growthType) {
+      return isAppendWindow(growthType) ? functionForAppendWindows() : functionForSlidingWindows();
+    }
+
+    DoubleAggregateFunction doubleFunctionFor(WindowGrowthType growthType) {
+      throw new UnsupportedOperationException(
+          getClass().getSimpleName() + " does not have a double implementation");
+    }
+
+    LongAggregateFunction longFunctionFor(WindowGrowthType growthType) {
+      throw new UnsupportedOperationException(
+          getClass().getSimpleName() + " does not have a long implementation");
+    }
+
+    static boolean isAppendWindow(WindowGrowthType growthType) {
       switch (growthType) {
         case FIXED:
         case FIXED_LEFT:
         case FIXED_RIGHT:
-          return functionForAppendWindows();
+          return true;
         case SLIDING:
-          return functionForSlidingWindows();
+          return false;
       }
       throw new IllegalArgumentException("Unexpected growthType: " + growthType);
     }
   }
 
-  static class Sum<T extends Number> extends WindowDependentAggregateFunction<T> {
+  /**
+   * Base class for functions that return doubles. Implementers only provide the primitive
+   * implementations, the boxed ones are adapted from them.
+   */
+  private abstract static class DoubleWindowDependentAggregateFunction<T extends Number>
+      extends WindowDependentAggregateFunction<T> {
+
+    abstract DoubleAggregateFunction doubleFunctionForAppendWindows();
+
+    abstract DoubleAggregateFunction doubleFunctionForSlidingWindows();
+
+    @Override
+    DoubleAggregateFunction doubleFunctionFor(WindowGrowthType growthType) {
+      return isAppendWindow(growthType)
+          ? doubleFunctionForAppendWindows()
+          : doubleFunctionForSlidingWindows();
+    }
+
+    @Override
+    AggregateFunction<T, Double> functionForAppendWindows() {
+      return new BoxedDoubleAggregateFunction<>(doubleFunctionForAppendWindows());
+    }
+
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
+    AggregateFunction<T, Double> functionForSlidingWindows() {
+      return new BoxedDoubleAggregateFunction<>(doubleFunctionForSlidingWindows());
+    }
+  }
+
+  /** Adapts a {@link DoubleAggregateFunction} to the boxed {@link AggregateFunction} interface. */
+  private static final class BoxedDoubleAggregateFunction<T extends Number>
+      implements AggregateFunction<T, Double> {
+    private final DoubleAggregateFunction function;
+
+    private BoxedDoubleAggregateFunction(DoubleAggregateFunction function) {
+      this.function = function;
+    }
+
+    @Override
+    public void removeLeftMost() {
+      function.removeLeftMost();
+    }
+
+    @Override
+    public void addRightMost(T value) {
+      function.addRightMost(value.doubleValue());
+    }
+
+    @Override
+    public void addRightMostMissing() {
+      function.addRightMostMissing();
+    }
+
+    @Override
+    public Double getValue() {
+      return function.getValue();
+    }
+  }
+
+  static class Sum<T extends Number> extends DoubleWindowDependentAggregateFunction<T> {
+    @Override
+    DoubleAggregateFunction doubleFunctionForAppendWindows() {
+      return new AppendDoubleAggregateFunction() {
         private double sum = DoubleColumnType.missingValueIndicator();
 
         @Override
-        public Double getValue() {
+        public double getValue() {
           return sum;
         }
 
@@ -123,25 +232,25 @@ enum AggregateFunctions implements FunctionMetaData {
         public void addRightMostMissing() {}
 
         @Override
-        public void addRightMost(T newValue) {
+        public void addRightMost(double newValue) {
           if (DoubleColumnType.valueIsMissing(sum)) {
             this.sum = 0.0;
           }
-          this.sum += newValue.doubleValue();
+          this.sum += newValue;
         }
       };
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
+    DoubleAggregateFunction doubleFunctionForSlidingWindows() {
+      return new DoubleAggregateFunction() {
+        private final DoubleArrayFIFOQueue queue = new DoubleArrayFIFOQueue();
+        private double sum = 0.0;
         private int missingCount = 0;
 
         @Override
         public void removeLeftMost() {
-          Double removed = queue.remove();
+          double removed = queue.dequeueDouble();
           if (DoubleColumnType.valueIsMissing(removed)) {
             missingCount--;
           } else {
@@ -150,20 +259,19 @@ enum AggregateFunctions implements FunctionMetaData {
         }
 
         @Override
-        public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
-          this.sum += doubleValue;
-          queue.add(doubleValue);
+        public void addRightMost(double newValue) {
+          this.sum += newValue;
+          queue.enqueue(newValue);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+          queue.enqueue(DoubleColumnType.missingValueIndicator());
           missingCount++;
         }
 
         @Override
-        public Double getValue() {
+        public double getValue() {
           if (queue.isEmpty() || missingCount == queue.size()) {
             return DoubleColumnType.missingValueIndicator();
           }
@@ -173,135 +281,143 @@ enum AggregateFunctions implements FunctionMetaData {
     }
   }
 
-  static class Max<T extends Number> extends WindowDependentAggregateFunction<T> {
+  static class Max<T extends Number> extends DoubleWindowDependentAggregateFunction<T> {
 
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private Double max = DoubleColumnType.missingValueIndicator();
+    DoubleAggregateFunction doubleFunctionForAppendWindows() {
+      return new AppendDoubleAggregateFunction() {
+        private double max = DoubleColumnType.missingValueIndicator();
 
         @Override
-        public void addRightMost(T newValue) {
+        public void addRightMost(double newValue) {
           if (DoubleColumnType.valueIsMissing(max)) {
-            max = newValue.doubleValue();
+            max = newValue;
             return;
           }
-          this.max = Math.max(max, newValue.doubleValue());
+          this.max = Math.max(max, newValue);
         }
 
         @Override
         public void addRightMostMissing() {}
 
         @Override
-        public Double getValue() {
+        public double getValue() {
           return max;
         }
       };
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-
-        @Override
-        public void removeLeftMost() {
-          queue.remove();
-        }
-
-        @Override
-        public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
-        }
-
-        @Override
-        public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-        }
-
-        @Override
-        public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .max()
-              .orElse(DoubleColumnType.missingValueIndicator());
-        }
-      };
+    DoubleAggregateFunction doubleFunctionForSlidingWindows() {
+      return new MonotonicDeque(true);
     }
   }
 
-  static class Min<T extends Number> extends WindowDependentAggregateFunction<T> {
+  static class Min<T extends Number> extends DoubleWindowDependentAggregateFunction<T> {
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
-        private Double min = DoubleColumnType.missingValueIndicator();
+    DoubleAggregateFunction doubleFunctionForAppendWindows() {
+      return new AppendDoubleAggregateFunction() {
+        private double min = DoubleColumnType.missingValueIndicator();
 
         @Override
-        public void addRightMost(T newValue) {
+        public void addRightMost(double newValue) {
           if (DoubleColumnType.valueIsMissing(min)) {
-            min = newValue.doubleValue();
+            min = newValue;
             return;
           }
-          this.min = Math.min(min, newValue.doubleValue());
+          this.min = Math.min(min, newValue);
         }
 
         @Override
         public void addRightMostMissing() {}
 
         @Override
-        public Double getValue() {
+        public double getValue() {
           return min;
         }
       };
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
+    DoubleAggregateFunction doubleFunctionForSlidingWindows() {
+      return new MonotonicDeque(false);
+    }
+  }
 
-        @Override
-        public void removeLeftMost() {
-          queue.remove();
-        }
+  /**
+   * Keeps track of the max (or min) of a sliding window of doubles.
+   *
+   * <p>Values are kept in a deque that is monotonically decreasing (increasing for min) from left
+   * to right, so the extremum of the window is always the left most element. A new value evicts
+   * every value on the right that it dominates since those can never be the extremum again. Every
+   * value is added and removed at most once, so sliding the window is O(1) amortized no matter how
+   * large the window is.
+   *
+   * <p>Values are stored in primitive queues along with their position in the window to avoid
+   * boxing.
+   */
+  static final class MonotonicDeque implements DoubleAggregateFunction {
+    private final boolean max;
+    private final DoubleArrayFIFOQueue values = new DoubleArrayFIFOQueue();
+    private final LongArrayFIFOQueue positions = new LongArrayFIFOQueue();
+    // Position that will be given to the next value added on the right.
+    private long nextPosition = 0;
+    // Position of the left most value in the window.
+    private long leftPosition = 0;
+
+    /** Creates a deque tracking the max of the window if max is true, otherwise the min. */
+    MonotonicDeque(boolean max) {
+      this.max = max;
+    }
 
-        @Override
-        public void addRightMost(T newValue) {
-          queue.add(newValue.doubleValue());
-        }
+    @Override
+    public void addRightMost(double value) {
+      while (!values.isEmpty() && isDominatedBy(values.lastDouble(), value)) {
+        values.dequeueLastDouble();
+        positions.dequeueLastLong();
+      }
+      values.enqueue(value);
+      positions.enqueue(nextPosition++);
+    }
 
-        @Override
-        public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
-        }
+    @Override
+    public void addRightMostMissing() {
+      // Missing values occupy a position in the window but can never be the extremum.
+      nextPosition++;
+    }
 
-        @Override
-        public Double getValue() {
-          // This could be faster, but probably does not matter in practice because sliding windows
-          // will be small.
-          return queue.stream()
-              .filter(d -> !DoubleColumnType.valueIsMissing(d))
-              .mapToDouble(Number::doubleValue)
-              .min()
-              .orElse(DoubleColumnType.missingValueIndicator());
-        }
-      };
+    @Override
+    public void removeLeftMost() {
+      if (!positions.isEmpty() && positions.firstLong() == leftPosition) {
+        values.dequeueDouble();
+        positions.dequeueLong();
+      }
+      leftPosition++;
+    }
+
+    @Override
+    public double getValue() {
+      if (values.isEmpty()) {
+        return DoubleColumnType.missingValueIndicator();
+      }
+      return values.firstDouble();
+    }
+
+    private boolean isDominatedBy(double existing, double value) {
+      return max ? existing <= value : existing >= value;
     }
   }
 
-  static class Mean<T extends Number> extends WindowDependentAggregateFunction<T> {
+  static class Mean<T extends Number> extends DoubleWindowDependentAggregateFunction<T> {
 
     @Override
-    AppendAggregateFunction<T, Double> functionForAppendWindows() {
-      return new AppendAggregateFunction<T, Double>() {
+    DoubleAggregateFunction doubleFunctionForAppendWindows() {
+      return new AppendDoubleAggregateFunction() {
         private double sum = DoubleColumnType.missingValueIndicator();
         private double count = 0;
 
         @Override
-        public Double getValue() {
+        public double getValue() {
           if (count == 0) {
             return DoubleColumnType.missingValueIndicator();
           }
@@ -312,26 +428,26 @@ enum AggregateFunctions implements FunctionMetaData {
         public void addRightMostMissing() {}
 
         @Override
-        public void addRightMost(T newValue) {
+        public void addRightMost(double newValue) {
           if (DoubleColumnType.valueIsMissing(sum)) {
             this.sum = 0.0;
           }
-          this.sum += newValue.doubleValue();
+          this.sum += newValue;
           count++;
         }
       };
     }
 
     @Override
-    AggregateFunction<T, Double> functionForSlidingWindows() {
-      return new AggregateFunction<T, Double>() {
-        private final ArrayDeque<Double> queue = new ArrayDeque<>();
-        private Double sum = 0.0;
+    DoubleAggregateFunction doubleFunctionForSlidingWindows() {
+      return new DoubleAggregateFunction() {
+        private final DoubleArrayFIFOQueue queue = new DoubleArrayFIFOQueue();
+        private double sum = 0.0;
         private int missingCount = 0;
 
         @Override
         public void removeLeftMost() {
-          Double removed = queue.remove();
+          double removed = queue.dequeueDouble();
           if (DoubleColumnType.valueIsMissing(removed)) {
             missingCount--;
           } else {
@@ -340,20 +456,19 @@ enum AggregateFunctions implements FunctionMetaData {
         }
 
         @Override
-        public void addRightMost(T newValue) {
-          Double doubleValue = newValue.doubleValue();
-          this.sum += doubleValue;
-          queue.add(doubleValue);
+        public void addRightMost(double newValue) {
+          this.sum += newValue;
+          queue.enqueue(newValue);
         }
 
         @Override
         public void addRightMostMissing() {
-          queue.add(DoubleColumnType.missingValueIndicator());
+          queue.enqueue(DoubleColumnType.missingValueIndicator());
           missingCount++;
         }
 
         @Override
-        public Double getValue() {
+        public double getValue() {
           if (queue.size() - missingCount == 0) {
             return DoubleColumnType.missingValueIndicator();
           }
@@ -363,6 +478,10 @@ enum AggregateFunctions implements FunctionMetaData {
     }
   }
 
+  /**
+   * Count works on columns of any type. The boxed implementations are used for non numeric columns
+   * and the primitive ones for numeric columns.
+   */
   static class Count<T> extends WindowDependentAggregateFunction<T> {
 
     @Override
@@ -418,5 +537,54 @@ enum AggregateFunctions implements FunctionMetaData {
         }
       };
     }
+
+    @Override
+    LongAggregateFunction longFunctionFor(WindowGrowthType growthType) {
+      if (isAppendWindow(growthType)) {
+        return new AppendLongAggregateFunction() {
+          private long count = 0;
+
+          @Override
+          public long getValue() {
+            return count;
+          }
+
+          @Override
+          public void addRightMostMissing() {}
+
+          @Override
+          public void addRightMost(double newValue) {
+            count++;
+          }
+        };
+      }
+      return new LongAggregateFunction() {
+        private final DoubleArrayFIFOQueue queue = new DoubleArrayFIFOQueue();
+        private long missingCount = 0;
+
+        @Override
+        public void removeLeftMost() {
+          if (DoubleColumnType.valueIsMissing(queue.dequeueDouble())) {
+            missingCount--;
+          }
+        }
+
+        @Override
+        public void addRightMost(double newValue) {
+          queue.enqueue(newValue);
+        }
+
+        @Override
+        public void addRightMostMissing() {
+          queue.enqueue(DoubleColumnType.missingValueIndicator());
+          missingCount++;
+        }
+
+        @Override
+        public long getValue() {
+          return queue.size() - missingCount;
+        }
+      };
+    }
   }
 }
@@ -2,7 +2,9 @@ package tech.tablesaw.analytic;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import tech.tablesaw.analytic.AnalyticQuerySteps.AddAggregateFunctions;
@@ -18,6 +20,9 @@ import tech.tablesaw.analytic.AnalyticQuerySteps.NumberingQuerySteps;
 import tech.tablesaw.analytic.AnalyticQuerySteps.NumberingQuerySteps.OrderByRequiredStep;
 import tech.tablesaw.analytic.AnalyticQuerySteps.NumberingQuerySteps.PartitionByStep;
 import tech.tablesaw.analytic.AnalyticQuerySteps.QuickQuerySteps;
+import tech.tablesaw.analytic.AnalyticQuerySteps.SetRangeEndOptionOne;
+import tech.tablesaw.analytic.AnalyticQuerySteps.SetRangeEndOptionTwo;
+import tech.tablesaw.analytic.AnalyticQuerySteps.SetRangeStart;
 import tech.tablesaw.analytic.AnalyticQuerySteps.SetWindowEndOptionOne;
 import tech.tablesaw.analytic.AnalyticQuerySteps.SetWindowEndOptionTwo;
 import tech.tablesaw.analytic.AnalyticQuerySteps.SetWindowStart;
@@ -182,6 +187,16 @@ public final class AnalyticQuery {
     return AnalyticQueryEngine.create(this).execute();
   }
 
+  /**
+   * Same as {@link #execute()} but the partitions are sorted and processed concurrently. Use for
+   * queries with many partitions.
+   *
+   * @return a new table containing only the result columns.
+   */
+  public Table executeInParallel() {
+    return AnalyticQueryEngine.create(this).executeInParallel();
+  }
+
   /**
    * Executes the query and adds all the calculated columns directly to the source table.
    *
@@ -264,6 +279,11 @@ public final class AnalyticQuery {
       return this.build().execute();
     }
 
+    @Override
+    public Table executeInParallel() {
+      return this.build().executeInParallel();
+    }
+
     @Override
     public void executeInPlace() {
       this.build().executeInPlace();
@@ -277,6 +297,9 @@ public final class AnalyticQuery {
           SetWindowStart,
           SetWindowEndOptionOne,
           SetWindowEndOptionTwo,
+          SetRangeStart,
+          SetRangeEndOptionOne,
+          SetRangeEndOptionTwo,
           NameStepAggregate,
           AddAggregateFunctions,
           AddAggregateFunctionsWithExecute {
@@ -334,7 +357,13 @@ public final class AnalyticQuery {
     }
 
     @Override
-    public SetWindowEndOptionOne unboundedPreceding() {
+    public SetRangeStart rangeBetween() {
+      this.frameBuilder.setRange();
+      return this;
+    }
+
+    @Override
+    public AnalyticBuilder unboundedPreceding() {
       // default is unbounded preceding.
       return this;
     }
@@ -346,7 +375,19 @@ public final class AnalyticQuery {
     }
 
     @Override
-    public SetWindowEndOptionTwo currentRow() {
+    public SetRangeEndOptionOne preceding(double amount) {
+      this.frameBuilder.setLeftRangePreceding(amount);
+      return this;
+    }
+
+    @Override
+    public SetRangeEndOptionOne preceding(Duration interval) {
+      this.frameBuilder.setLeftRangePreceding(interval);
+      return this;
+    }
+
+    @Override
+    public AnalyticBuilder currentRow() {
       this.frameBuilder.setLeftCurrentRow();
       return this;
     }
@@ -357,12 +398,36 @@ public final class AnalyticQuery {
       return this;
     }
 
+    @Override
+    public SetRangeEndOptionTwo following(double amount) {
+      this.frameBuilder.setLeftRangeFollowing(amount);
+      return this;
+    }
+
+    @Override
+    public SetRangeEndOptionTwo following(Duration interval) {
+      this.frameBuilder.setLeftRangeFollowing(interval);
+      return this;
+    }
+
     @Override
     public AddAggregateFunctions andPreceding(int nRows) {
       this.frameBuilder.setRightPreceding(nRows);
       return this;
     }
 
+    @Override
+    public AddAggregateFunctions andPreceding(double amount) {
+      this.frameBuilder.setRightRangePreceding(amount);
+      return this;
+    }
+
+    @Override
+    public AddAggregateFunctions andPreceding(Duration interval) {
+      this.frameBuilder.setRightRangePreceding(interval);
+      return this;
+    }
+
     @Override
     public AddAggregateFunctions andCurrentRow() {
       this.frameBuilder.setRightCurrentRow();
@@ -375,6 +440,18 @@ public final class AnalyticQuery {
       return this;
     }
 
+    @Override
+    public AddAggregateFunctions andFollowing(double amount) {
+      this.frameBuilder.setRightRangeFollowing(amount);
+      return this;
+    }
+
+    @Override
+    public AddAggregateFunctions andFollowing(Duration interval) {
+      this.frameBuilder.setRightRangeFollowing(interval);
+      return this;
+    }
+
     @Override
     public AddAggregateFunctions andUnBoundedFollowing() {
       // Default is unboundedFollowing
@@ -390,11 +467,24 @@ public final class AnalyticQuery {
     @Override
     public AnalyticQuery build() {
       Preconditions.checkNotNull(table);
+      WindowSpecification windowSpecification = this.windowSpecificationBuilder.build();
+      WindowFrame windowFrame = this.frameBuilder.build();
+      if (windowFrame.isRange()) {
+        validateRangeFrame(windowSpecification, windowFrame);
+      }
       return new AnalyticQuery(
-          this.table,
-          this.windowSpecificationBuilder.build(),
-          this.frameBuilder.build(),
-          this.argumentsListBuilder.build());
+          this.table, windowSpecification, windowFrame, this.argumentsListBuilder.build());
+    }
+
+    /** RANGE frames need exactly one numeric or temporal ORDER BY column to measure offsets on. */
+    private void validateRangeFrame(
+        WindowSpecification windowSpecification, WindowFrame windowFrame) {
+      Preconditions.checkArgument(
+          windowSpecification.getSort().isPresent()
+              && windowSpecification.getSort().get().size() == 1,
+          "RANGE frames require exactly one ORDER BY column");
+      Map.Entry<String, Sort.Order> orderBy = windowSpecification.getSort().get().iterator().next();
+      RangeWindowSlider.validateOrderColumn(windowFrame, table.column(orderBy.getKey()));
     }
 
     @Override
@@ -402,6 +492,11 @@ public final class AnalyticQuery {
       return this.build().execute();
     }
 
+    @Override
+    public Table executeInParallel() {
+      return this.build().executeInParallel();
+    }
+
     @Override
     public void executeInPlace() {
       this.build().executeInPlace();
@@ -1,6 +1,8 @@
 package tech.tablesaw.analytic;
 
 import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import tech.tablesaw.analytic.ArgumentList.FunctionCall;
 import tech.tablesaw.api.Row;
@@ -45,6 +47,22 @@ final class AnalyticQueryEngine {
     return destination;
   }
 
+  /**
+   * Execute the given analytic Query sorting and processing the partitions concurrently.
+   *
+   * <p>Every partition writes to a disjoint set of rows in the destination columns, which are sized
+   * to the row count of the source table before any partition is processed, so no synchronization
+   * is needed between partitions.
+   *
+   * @return a table with the result of the query. Rows in the result table match the order of rows
+   *     in the source table.
+   */
+  public Table executeInParallel() {
+    addColumns();
+    partition().parallelStream().forEach(this::processSlice);
+    return destination;
+  }
+
   private void processSlice(TableSlice slice) {
     orderBy(slice);
     processAggregateFunctions(slice);
@@ -65,9 +83,23 @@ final class AnalyticQueryEngine {
       validateColumn(aggregateFunction, sourceColumn);
 
       Column<?> destinationColumn = destination.column(functionCall.getDestinationColumnName());
-      new WindowSlider(
-              query.getWindowFrame(), aggregateFunction, slice, sourceColumn, destinationColumn)
-          .execute();
+      if (query.getWindowFrame().isRange()) {
+        // RANGE frames are validated to have exactly one ORDER BY column when the query is built.
+        Map.Entry<String, Sort.Order> orderBy = query.getSort().get().iterator().next();
+        new RangeWindowSlider(
+                query.getWindowFrame(),
+                aggregateFunction,
+                slice,
+                sourceColumn,
+                destinationColumn,
+                query.getTable().column(orderBy.getKey()),
+                orderBy.getValue())
+            .execute();
+      } else {
+        new WindowSlider(
+                query.getWindowFrame(), aggregateFunction, slice, sourceColumn, destinationColumn)
+            .execute();
+      }
     }
   }
 
@@ -140,11 +172,11 @@ final class AnalyticQueryEngine {
   /**
    * Partition the source table into a series of table slices. Does not modify the underlying table.
    */
-  private Iterable<TableSlice> partition() {
+  private List<TableSlice> partition() {
     if (query.getPartitionColumns().isEmpty()) {
       return ImmutableList.of(new TableSlice(query.getTable()));
     }
-    return query.getTable().splitOn(query.getPartitionColumns().toArray(new String[0]));
+    return query.getTable().splitOn(query.getPartitionColumns().toArray(new String[0])).getSlices();
   }
 
   /** Order the tableSlice in place. Does not modify the underlying table. */
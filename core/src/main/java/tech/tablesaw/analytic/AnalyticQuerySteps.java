@@ -1,5 +1,6 @@
 package tech.tablesaw.analytic;
 
+import java.time.Duration;
 import tech.tablesaw.api.Table;
 
 public interface AnalyticQuerySteps {
@@ -156,7 +157,7 @@ public interface AnalyticQuerySteps {
    * <p>SQL Grammar for the window frame clause:
    *
    * <pre>
-   * { ROWS }
+   * { ROWS | RANGE }
    * {
    *   { UNBOUNDED PRECEDING | numeric_expression PRECEDING | CURRENT ROW }
    *   |
@@ -164,10 +165,13 @@ public interface AnalyticQuerySteps {
    * }
    *
    * window_frame_boundary_start:
-   * { UNBOUNDED PRECEDING | numeric_expression { PRECEDING | FOLLOWING } | CURRENT ROW }
+   * { UNBOUNDED PRECEDING | offset { PRECEDING | FOLLOWING } | CURRENT ROW }
    *
    * window_frame_boundary_end:
-   * { UNBOUNDED FOLLOWING | numeric_expression { PRECEDING | FOLLOWING } | CURRENT ROW }
+   * { UNBOUNDED FOLLOWING | offset { PRECEDING | FOLLOWING } | CURRENT ROW }
+   *
+   * offset:
+   * { numeric_expression (ROWS or RANGE) | interval (RANGE only) }
    * </pre>
    */
   interface DefineWindowFame {
@@ -177,6 +181,16 @@ public interface AnalyticQuerySteps {
      * @return the set window start step in the fluent query builder.
      */
     SetWindowStart rowsBetween();
+
+    /**
+     * The first step in defining a RANGE window frame. The bounds of a RANGE frame are offsets from
+     * the value of the ORDER BY column in the current row, E.G. RANGE BETWEEN INTERVAL 5 MINUTES
+     * PRECEDING AND CURRENT ROW. Requires exactly one numeric or temporal ORDER BY column. Use
+     * numeric offsets for numeric columns and {@link Duration} offsets for temporal columns.
+     *
+     * @return the set range start step in the fluent query builder.
+     */
+    SetRangeStart rangeBetween();
   }
 
   /** Set the window frame boundary start. */
@@ -252,6 +266,113 @@ public interface AnalyticQuerySteps {
     AddAggregateFunctions andUnBoundedFollowing();
   }
 
+  /** Set the RANGE window frame boundary start. */
+  interface SetRangeStart {
+    /**
+     * Set the bound to the first partition row.
+     *
+     * @return the set range end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionOne unboundedPreceding();
+
+    /**
+     * Set the bound to the rows whose order by value is at least the current value minus amount.
+     *
+     * @param amount to subtract from the order by value of the current row.
+     * @return the set range end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionOne preceding(double amount);
+
+    /**
+     * Set the bound to the rows whose order by value is at least the current value minus interval.
+     *
+     * @param interval to subtract from the order by value of the current row.
+     * @return the set range end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionOne preceding(Duration interval);
+
+    /**
+     * Set the bound to the first row with the same order by value as the current row.
+     *
+     * @return the set range end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionTwo currentRow();
+
+    /**
+     * Set the bound to the rows whose order by value is at least the current value plus amount.
+     *
+     * @param amount to add to the order by value of the current row.
+     * @return the set range end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionTwo following(double amount);
+
+    /**
+     * Set the bound to the rows whose order by value is at least the current value plus interval.
+     *
+     * @param interval to add to the order by value of the current row.
+     * @return the set range end step in the fluent analytic query builder.
+     */
+    SetRangeEndOptionTwo following(Duration interval);
+  }
+
+  /** Set the RANGE window frame boundary end. */
+  interface SetRangeEndOptionOne {
+    /**
+     * Set the bound to the rows whose order by value is at most the current value minus amount.
+     *
+     * @param amount to subtract from the order by value of the current row.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andPreceding(double amount);
+
+    /**
+     * Set the bound to the rows whose order by value is at most the current value minus interval.
+     *
+     * @param interval to subtract from the order by value of the current row.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andPreceding(Duration interval);
+
+    /**
+     * Set the bound to the last row with the same order by value as the current row.
+     *
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andCurrentRow();
+
+    /**
+     * Set the bound to the rows whose order by value is at most the current value plus amount.
+     *
+     * @param amount to add to the order by value of the current row.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andFollowing(double amount);
+
+    /**
+     * Set the bound to the rows whose order by value is at most the current value plus interval.
+     *
+     * @param interval to add to the order by value of the current row.
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andFollowing(Duration interval);
+
+    /**
+     * Set the bound to the last partition row.
+     *
+     * @return the add aggregate functions step in the fluent analytic query builder.
+     */
+    AddAggregateFunctions andUnBoundedFollowing();
+  }
+
+  /** Set the RANGE window frame boundary end. */
+  interface SetRangeEndOptionTwo {
+    AddAggregateFunctions andFollowing(double amount);
+
+    AddAggregateFunctions andFollowing(Duration interval);
+
+    AddAggregateFunctions andUnBoundedFollowing();
+  }
+
   interface NameStepAggregate {
 
     /**
@@ -290,6 +411,13 @@ public interface AnalyticQuerySteps {
      */
     Table execute();
 
+    /**
+     * Same as {@link #execute()} but the partitions are sorted and processed concurrently.
+     *
+     * @return a new table containing only the result columns.
+     */
+    Table executeInParallel();
+
     /**
      * Executes the query and adds all the calculated columns directly to the source table.
      *
@@ -0,0 +1,36 @@
+package tech.tablesaw.analytic;
+
+/**
+ * Analytic Aggregate function specialized for numeric input and double output.
+ *
+ * <p>Same contract as {@link AggregateFunction} but takes and returns primitive doubles so values
+ * can be moved between numeric columns without boxing. Missing values are passed through {@link
+ * #addRightMostMissing()}, never as NaN.
+ */
+interface DoubleAggregateFunction {
+
+  /**
+   * Slides the left side (aka start) of the window window to the right (aka end) by removing the
+   * first element in the window. E.G. [(1, 2, 3, 4, 5)] -> [1, (2, 3, 4, 5)]
+   */
+  void removeLeftMost();
+
+  /**
+   * Slides the right side (aka end) of the window to the right (aka end) by appending a new
+   * non-missing element. E.G. [(1, 2, 3), 4, 5] -> [(1, 2, 3, 4), 5)]
+   */
+  void addRightMost(double value);
+
+  /**
+   * Slides the right side (aka end) of the window to the right (aka end) by appending a new missing
+   * element. E.G. [(1, 2, 3), NULL, 5] -> [(1, 2, 3, NULL), 5)]
+   */
+  void addRightMostMissing();
+
+  /**
+   * Get the aggregate value for the current window.
+   *
+   * @return the aggregate value for the current window or NaN if the value is missing.
+   */
+  double getValue();
+}
@@ -0,0 +1,189 @@
+package tech.tablesaw.analytic;
+
+import java.util.function.IntToDoubleFunction;
+import tech.tablesaw.analytic.WindowFrame.WindowBoundTypes;
+import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
+import tech.tablesaw.analytic.WindowSlider.WindowFunction;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.table.TableSlice;
+
+/**
+ * Execute the aggregate function once for every row in the slice for a RANGE window frame.
+ *
+ * <p>The bounds of a RANGE window are offsets from the value of the ORDER BY column in the current
+ * row rather than a number of rows. Because the slice is sorted on the ORDER BY column both bounds
+ * only ever move forward, so the window is computed with a two pointer sweep: the right pointer
+ * adds rows whose key is at most the current key plus the right offset and the left pointer removes
+ * rows whose key is less than the current key plus the left offset. Every row is added and removed
+ * at most once, so the sweep is O(n) per slice.
+ *
+ * <p>Temporal ORDER BY columns are converted to epoch milliseconds. Rows where the ORDER BY value
+ * is missing are not part of any window and get a missing result.
+ */
+class RangeWindowSlider {
+  private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+  private final WindowFrame windowFrame;
+  private final WindowFunction function;
+  private final TableSlice slice;
+  private final Column<?> orderColumn;
+  private final boolean descending;
+
+  RangeWindowSlider(
+      WindowFrame windowFrame,
+      AggregateFunctions func,
+      TableSlice slice,
+      Column<?> sourceColumn,
+      Column<?> destinationColumn,
+      Column<?> orderColumn,
+      Sort.Order order) {
+    this.windowFrame = windowFrame;
+    this.slice = slice;
+    this.orderColumn = orderColumn;
+    this.descending = order == Sort.Order.DESCEND;
+    // Only windows that start at the beginning of the partition never remove rows.
+    WindowGrowthType growthType =
+        windowFrame.getLeftBoundType() == WindowBoundTypes.UNBOUNDED_PRECEDING
+            ? WindowGrowthType.FIXED_LEFT
+            : WindowGrowthType.SLIDING;
+    this.function =
+        WindowSlider.createWindowFunction(func, growthType, sourceColumn, destinationColumn);
+  }
+
+  /**
+   * Checks that the ORDER BY column can be used with the given RANGE frame.
+   *
+   * @throws IllegalArgumentException if the column is neither numeric nor temporal or if the type
+   *     of the offsets does not match the type of the column.
+   */
+  static void validateOrderColumn(WindowFrame windowFrame, Column<?> orderColumn) {
+    boolean temporal = isTemporal(orderColumn);
+    if (!temporal && !(orderColumn instanceof NumericColumn)) {
+      throw new IllegalArgumentException(
+          "RANGE frames require a numeric or temporal ORDER BY column. Column "
+              + orderColumn.name()
+              + " has type "
+              + orderColumn.type());
+    }
+    if (windowFrame.hasRangeOffset() && windowFrame.isTemporalRange() != temporal) {
+      throw new IllegalArgumentException(
+          "RANGE frame "
+              + windowFrame
+              + (temporal ? " requires interval" : " requires numeric")
+              + " offsets for ORDER BY column "
+              + orderColumn.name()
+              + " of type "
+              + orderColumn.type());
+    }
+  }
+
+  /** Slide the window over the slice calculating an aggregate value for every row in the slice. */
+  void execute() {
+    // Rows with a non missing order key, in slice order, and their keys in ascending order.
+    int[] rows = new int[slice.rowCount()];
+    double[] keys = new double[slice.rowCount()];
+    int count = 0;
+    IntToDoubleFunction orderKey = orderKeyFunction(orderColumn);
+    for (int i = 0; i < slice.rowCount(); i++) {
+      int rowNumber = slice.mappedRowNumber(i);
+      double key = orderKey.applyAsDouble(rowNumber);
+      if (!Double.isNaN(key)) {
+        rows[count] = rowNumber;
+        keys[count] = descending ? -key : key;
+        count++;
+      }
+    }
+
+    boolean leftUnbounded = windowFrame.getLeftBoundType() == WindowBoundTypes.UNBOUNDED_PRECEDING;
+    boolean rightUnbounded =
+        windowFrame.getRightBoundType() == WindowBoundTypes.UNBOUNDED_FOLLOWING;
+    double leftOffset = windowFrame.getLeftRangeOffset();
+    double rightOffset = windowFrame.getRightRangeOffset();
+
+    // The window holds the rows in [left, right).
+    int left = 0;
+    int right = 0;
+    for (int i = 0; i < count; i++) {
+      double key = keys[i];
+      while (right < count && (rightUnbounded || keys[right] <= key + rightOffset)) {
+        function.addRightMost(rows[right]);
+        right++;
+      }
+      if (!leftUnbounded) {
+        while (left < right && keys[left] < key + leftOffset) {
+          function.removeLeftMost();
+          left++;
+        }
+      }
+      function.setValue(rows[i]);
+    }
+  }
+
+  private static boolean isTemporal(Column<?> column) {
+    return column instanceof DateColumn
+        || column instanceof DateTimeColumn
+        || column instanceof InstantColumn
+        || column instanceof TimeColumn;
+  }
+
+  /**
+   * Returns a function that maps a row number to the order key of that row as a double, or NaN if
+   * the value is missing. Temporal values are mapped to milliseconds.
+   */
+  private static IntToDoubleFunction orderKeyFunction(Column<?> column) {
+    if (column instanceof NumericColumn) {
+      NumericColumn<?> numericColumn = (NumericColumn<?>) column;
+      return numericColumn::getDouble;
+    }
+    if (column instanceof DateColumn) {
+      DateColumn dateColumn = (DateColumn) column;
+      return row ->
+          dateColumn.isMissing(row)
+              ? Double.NaN
+              : PackedLocalDate.toEpochDay(dateColumn.getIntInternal(row)) * MILLIS_PER_DAY;
+    }
+    if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimeColumn = (DateTimeColumn) column;
+      return row -> {
+        if (dateTimeColumn.isMissing(row)) {
+          return Double.NaN;
+        }
+        long packed = dateTimeColumn.getLongInternal(row);
+        return toMillis(PackedLocalDateTime.date(packed), PackedLocalDateTime.time(packed));
+      };
+    }
+    if (column instanceof InstantColumn) {
+      InstantColumn instantColumn = (InstantColumn) column;
+      return row -> {
+        if (instantColumn.isMissing(row)) {
+          return Double.NaN;
+        }
+        long packed = instantColumn.getLongInternal(row);
+        return toMillis(PackedInstant.date(packed), PackedInstant.time(packed));
+      };
+    }
+    if (column instanceof TimeColumn) {
+      TimeColumn timeColumn = (TimeColumn) column;
+      return row ->
+          timeColumn.isMissing(row)
+              ? Double.NaN
+              : PackedLocalTime.getMillisecondOfDay(timeColumn.getIntInternal(row));
+    }
+    throw new IllegalArgumentException("Unsupported ORDER BY column type: " + column.type());
+  }
+
+  private static double toMillis(int packedDate, int packedTime) {
+    return PackedLocalDate.toEpochDay(packedDate) * MILLIS_PER_DAY
+        + PackedLocalTime.getMillisecondOfDay(packedTime);
+  }
+}
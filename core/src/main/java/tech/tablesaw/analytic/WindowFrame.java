@@ -2,6 +2,7 @@ package tech.tablesaw.analytic;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import java.time.Duration;
 
 /**
  * This class holds data on the WindowFrame clause of an analytic query.
@@ -11,11 +12,20 @@ import com.google.common.base.Preconditions;
  * <p>For example in the window [1, 2, (3, 4, 5), 6, 7] The left most element in the window is 3 and
  * the rightmost element is 5.
  *
+ * <p>ROWS frames define the bounds as a number of rows from the current row. RANGE frames define
+ * the bounds as an offset from the value of the ORDER BY column in the current row. Numeric ORDER
+ * BY columns take numeric offsets and temporal ORDER BY columns take {@link Duration} offsets.
+ *
  * <p>For more information on the window frame clause in SQL see {@link
  * AnalyticQuerySteps.DefineWindowFame}
  */
 final class WindowFrame {
 
+  enum WindowFrameUnit {
+    ROWS,
+    RANGE
+  }
+
   enum WindowBoundTypes {
     UNBOUNDED_PRECEDING(0),
     PRECEDING(1),
@@ -41,21 +51,35 @@ final class WindowFrame {
     SLIDING;
   }
 
+  private final WindowFrameUnit unit;
   private final WindowBoundTypes leftBoundType;
   private final int initialLeftBound;
   private final WindowBoundTypes rightBoundType;
   // Set to zero for UNBOUNDED FOLLOWING windows.
   private final int initialRightBound;
+  // RANGE frames only. Offsets from the ORDER BY value of the current row. Negative is preceding.
+  private final double leftRangeOffset;
+  private final double rightRangeOffset;
+  // RANGE frames only. True if the offsets are Durations, stored in milliseconds.
+  private final boolean temporalRange;
 
   private WindowFrame(
+      WindowFrameUnit unit,
       WindowBoundTypes leftBoundType,
       int initialLeftBound,
       WindowBoundTypes rightBoundType,
-      int initialRightBound) {
+      int initialRightBound,
+      double leftRangeOffset,
+      double rightRangeOffset,
+      boolean temporalRange) {
+    this.unit = unit;
     this.leftBoundType = leftBoundType;
     this.initialLeftBound = initialLeftBound;
     this.rightBoundType = rightBoundType;
     this.initialRightBound = initialRightBound;
+    this.leftRangeOffset = leftRangeOffset;
+    this.rightRangeOffset = rightRangeOffset;
+    this.temporalRange = temporalRange;
     validateWindow();
   }
 
@@ -79,6 +103,44 @@ final class WindowFrame {
     return initialRightBound;
   }
 
+  WindowFrameUnit getUnit() {
+    return unit;
+  }
+
+  boolean isRange() {
+    return unit == WindowFrameUnit.RANGE;
+  }
+
+  double getLeftRangeOffset() {
+    return leftRangeOffset;
+  }
+
+  double getRightRangeOffset() {
+    return rightRangeOffset;
+  }
+
+  /** Returns true if the RANGE offsets are Durations in milliseconds rather than numbers. */
+  boolean isTemporalRange() {
+    return temporalRange;
+  }
+
+  /** Returns true if either side of the RANGE frame is an offset (PRECEDING or FOLLOWING). */
+  boolean hasRangeOffset() {
+    return isRange() && (hasOffset(leftBoundType) || hasOffset(rightBoundType));
+  }
+
+  private static boolean hasOffset(WindowBoundTypes boundType) {
+    return boundType == WindowBoundTypes.PRECEDING || boundType == WindowBoundTypes.FOLLOWING;
+  }
+
+  private double leftOffset() {
+    return isRange() ? leftRangeOffset : initialLeftBound;
+  }
+
+  private double rightOffset() {
+    return isRange() ? rightRangeOffset : initialRightBound;
+  }
+
   /**
    * Throw if invalid window frame. For example ROWS BETWEEN FOLLOWING AND UNBOUNDED PRECEDING is
    * invalid.
@@ -94,21 +156,21 @@ final class WindowFrame {
       // When the bounds are both preceding the lef bound should be greater than
       if (this.leftBoundType == WindowBoundTypes.PRECEDING) {
         Preconditions.checkArgument(
-            initialLeftBound < initialRightBound,
+            leftOffset() < rightOffset(),
             errorMsg
                 + " The number preceding at start of the window '"
-                + Math.abs(initialLeftBound)
+                + formatOffset(leftOffset())
                 + "' must be greater than the number preceding at the end of the window '"
-                + Math.abs(initialRightBound)
+                + formatOffset(rightOffset())
                 + "'");
       } else {
         Preconditions.checkArgument(
-            initialRightBound > initialLeftBound,
+            rightOffset() > leftOffset(),
             errorMsg
                 + " The number following at start of the window '"
-                + initialLeftBound
+                + formatOffset(leftOffset())
                 + "' must be less than the number following at the end of the window '"
-                + initialRightBound
+                + formatOffset(rightOffset())
                 + "'");
       }
     }
@@ -143,31 +205,52 @@ final class WindowFrame {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     WindowFrame that = (WindowFrame) o;
-    return initialLeftBound == that.initialLeftBound
+    return unit == that.unit
+        && initialLeftBound == that.initialLeftBound
         && initialRightBound == that.initialRightBound
         && leftBoundType == that.leftBoundType
-        && rightBoundType == that.rightBoundType;
+        && rightBoundType == that.rightBoundType
+        && Double.compare(leftRangeOffset, that.leftRangeOffset) == 0
+        && Double.compare(rightRangeOffset, that.rightRangeOffset) == 0
+        && temporalRange == that.temporalRange;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(leftBoundType, initialLeftBound, rightBoundType, initialRightBound);
+    return Objects.hashCode(
+        unit,
+        leftBoundType,
+        initialLeftBound,
+        rightBoundType,
+        initialRightBound,
+        leftRangeOffset,
+        rightRangeOffset,
+        temporalRange);
   }
 
   String toSqlString() {
     String formatedStart = leftBoundType.toString();
-    if (leftBoundType == WindowBoundTypes.PRECEDING
-        || leftBoundType == WindowBoundTypes.FOLLOWING) {
-      formatedStart = Math.abs(initialLeftBound) + " " + formatedStart;
+    if (hasOffset(leftBoundType)) {
+      formatedStart = formatOffset(leftOffset()) + " " + formatedStart;
     }
 
     String formattedRightBound = rightBoundType.toString();
-    if (rightBoundType == WindowBoundTypes.PRECEDING
-        || rightBoundType == WindowBoundTypes.FOLLOWING) {
-      formattedRightBound = Math.abs(initialRightBound) + " " + formattedRightBound;
+    if (hasOffset(rightBoundType)) {
+      formattedRightBound = formatOffset(rightOffset()) + " " + formattedRightBound;
     }
 
-    return "ROWS BETWEEN " + formatedStart + " AND " + formattedRightBound;
+    return unit + " BETWEEN " + formatedStart + " AND " + formattedRightBound;
+  }
+
+  private String formatOffset(double offset) {
+    double amount = Math.abs(offset);
+    if (temporalRange) {
+      return "INTERVAL '" + Duration.ofMillis((long) amount) + "'";
+    }
+    if (amount == Math.rint(amount)) {
+      return String.valueOf((long) amount);
+    }
+    return String.valueOf(amount);
   }
 
   @Override
@@ -183,14 +266,88 @@ final class WindowFrame {
    */
   static final class Builder {
 
+    private WindowFrameUnit unit = WindowFrameUnit.ROWS;
     private WindowBoundTypes leftBoundType = WindowBoundTypes.UNBOUNDED_PRECEDING;
     private int initialLeftBound = 0;
     private WindowBoundTypes rightBoundType = WindowBoundTypes.UNBOUNDED_FOLLOWING;
     // Set to zero for UNBOUNDED FOLLOWING windows
     private int initialRightBound = 0;
+    private double leftRangeOffset = 0;
+    private double rightRangeOffset = 0;
+    // Null until a RANGE offset is set.
+    private Boolean temporalRange = null;
 
     private Builder() {}
 
+    /** Makes this a RANGE frame. Frames are ROWS frames by default. */
+    Builder setRange() {
+      this.unit = WindowFrameUnit.RANGE;
+      return this;
+    }
+
+    Builder setLeftRangePreceding(double amount) {
+      this.leftBoundType = WindowBoundTypes.PRECEDING;
+      this.leftRangeOffset = rangeOffset(amount, false) * -1;
+      return this;
+    }
+
+    Builder setLeftRangePreceding(Duration interval) {
+      this.leftBoundType = WindowBoundTypes.PRECEDING;
+      this.leftRangeOffset = rangeOffset(interval) * -1;
+      return this;
+    }
+
+    Builder setLeftRangeFollowing(double amount) {
+      this.leftBoundType = WindowBoundTypes.FOLLOWING;
+      this.leftRangeOffset = rangeOffset(amount, false);
+      return this;
+    }
+
+    Builder setLeftRangeFollowing(Duration interval) {
+      this.leftBoundType = WindowBoundTypes.FOLLOWING;
+      this.leftRangeOffset = rangeOffset(interval);
+      return this;
+    }
+
+    Builder setRightRangePreceding(double amount) {
+      this.rightBoundType = WindowBoundTypes.PRECEDING;
+      this.rightRangeOffset = rangeOffset(amount, false) * -1;
+      return this;
+    }
+
+    Builder setRightRangePreceding(Duration interval) {
+      this.rightBoundType = WindowBoundTypes.PRECEDING;
+      this.rightRangeOffset = rangeOffset(interval) * -1;
+      return this;
+    }
+
+    Builder setRightRangeFollowing(double amount) {
+      this.rightBoundType = WindowBoundTypes.FOLLOWING;
+      this.rightRangeOffset = rangeOffset(amount, false);
+      return this;
+    }
+
+    Builder setRightRangeFollowing(Duration interval) {
+      this.rightBoundType = WindowBoundTypes.FOLLOWING;
+      this.rightRangeOffset = rangeOffset(interval);
+      return this;
+    }
+
+    private double rangeOffset(Duration interval) {
+      Preconditions.checkNotNull(interval);
+      return rangeOffset(interval.toMillis(), true);
+    }
+
+    private double rangeOffset(double amount, boolean temporal) {
+      Preconditions.checkArgument(amount > 0);
+      Preconditions.checkArgument(
+          temporalRange == null || temporalRange == temporal,
+          "Cannot mix numeric and interval offsets in a RANGE frame");
+      this.unit = WindowFrameUnit.RANGE;
+      this.temporalRange = temporal;
+      return amount;
+    }
+
     Builder setLeftPreceding(int nRows) {
       Preconditions.checkArgument(nRows > 0);
       this.leftBoundType = WindowBoundTypes.PRECEDING;
@@ -230,7 +387,15 @@ final class WindowFrame {
     }
 
     public WindowFrame build() {
-      return new WindowFrame(leftBoundType, initialLeftBound, rightBoundType, initialRightBound);
+      return new WindowFrame(
+          unit,
+          leftBoundType,
+          initialLeftBound,
+          rightBoundType,
+          initialRightBound,
+          leftRangeOffset,
+          rightRangeOffset,
+          temporalRange != null && temporalRange);
     }
   }
 }
@@ -1,7 +1,11 @@
 package tech.tablesaw.analytic;
 
-import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.TableSlice;
 
@@ -11,6 +15,11 @@ import tech.tablesaw.table.TableSlice;
  * <p>Any window with a Fixed end (UNBOUNDED FOLLOWING) is converted ("mirrored") into the
  * equivalent UNBOUNDED PRECEDING widow so that it is an append window and a faster algorithm can be
  * used.
+ *
+ * <p>Numeric source columns are read and written through the primitive {@link
+ * DoubleAggregateFunction} and {@link LongAggregateFunction} implementations so no values are
+ * boxed. Other source columns (E.G. COUNT over a StringColumn) fall back to the boxed {@link
+ * AggregateFunction}.
  */
 class WindowSlider {
   private final boolean mirrored;
@@ -18,14 +27,8 @@ class WindowSlider {
   private final int initialLeftBound;
   private final int initialRightBound;
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private final AggregateFunction function;
-
+  private final WindowFunction function;
   private final TableSlice slice;
-  private final Column<?> sourceColumn;
-
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private final Column destinationColumn;
 
   WindowSlider(
       WindowFrame windowFrame,
@@ -34,9 +37,8 @@ class WindowSlider {
       Column<?> sourceColumn,
       Column<?> destinationColumn) {
     this.slice = slice;
-    this.destinationColumn = destinationColumn;
-    this.sourceColumn = sourceColumn;
-    this.function = func.getImplementation(windowFrame.windowGrowthType());
+    this.function =
+        createWindowFunction(func, windowFrame.windowGrowthType(), sourceColumn, destinationColumn);
 
     // Convert UNBOUNDED FOLLOWING to an equivalent UNBOUNDED PRECEDING window.
     if (windowFrame.windowGrowthType() == WindowGrowthType.FIXED_RIGHT) {
@@ -52,8 +54,34 @@ class WindowSlider {
     }
   }
 
-  /** Slide the window over the slice calculating an aggregate value for every row in the slice. */
+  /**
+   * Picks a primitive implementation of the function for numeric source columns and the boxed one
+   * for everything else.
+   */
   @SuppressWarnings({"unchecked", "rawtypes"})
+  static WindowFunction createWindowFunction(
+      AggregateFunctions func,
+      WindowGrowthType growthType,
+      Column<?> sourceColumn,
+      Column<?> destinationColumn) {
+    if (sourceColumn instanceof NumericColumn) {
+      NumericColumn<?> numericSource = (NumericColumn<?>) sourceColumn;
+      if (func.returnType().equals(ColumnType.DOUBLE)) {
+        return new DoubleWindowFunction(
+            func.getDoubleImplementation(growthType),
+            numericSource,
+            (DoubleColumn) destinationColumn);
+      }
+      if (func.returnType().equals(ColumnType.INTEGER)) {
+        return new LongWindowFunction(
+            func.getLongImplementation(growthType), numericSource, (IntColumn) destinationColumn);
+      }
+    }
+    return new BoxedWindowFunction(
+        func.getImplementation(growthType), sourceColumn, (Column) destinationColumn);
+  }
+
+  /** Slide the window over the slice calculating an aggregate value for every row in the slice. */
   void execute() {
     initWindow();
     // Initial window bounds can be outside the current slice. This allows for windows like 20
@@ -62,10 +90,10 @@ class WindowSlider {
     int leftBound = getInitialLeftBound() - 1;
     int rightBound = getInitialRightBound();
     for (int i = 0; i < slice.rowCount(); i++) {
-      this.set(i, function.getValue());
+      function.setValue(mappedRowNumber(i));
 
       // Slide the left side of the window if applicable for the window definition.
-      int newLeftBound = slideLeftStrategy().apply(leftBound);
+      int newLeftBound = slideLeftStrategy().applyAsInt(leftBound);
       if (newLeftBound > leftBound && isRowNumberInSlice(newLeftBound)) {
         // If the left side of the window changed remove the left most value from the aggregate
         // function.
@@ -74,14 +102,10 @@ class WindowSlider {
       leftBound = newLeftBound;
 
       // Slide the right side of the window if applicable for the window definition.
-      int newRightBound = slideRightStrategy().apply(rightBound);
+      int newRightBound = slideRightStrategy().applyAsInt(rightBound);
       if (newRightBound > rightBound && isRowNumberInSlice(newRightBound)) {
         // If the right side of the window changed add the next value to the aggregate function.
-        if (isMissing(newRightBound)) {
-          function.addRightMostMissing();
-        } else {
-          function.addRightMost(get(newRightBound));
-        }
+        function.addRightMost(mappedRowNumber(newRightBound));
       }
       rightBound = newRightBound;
     }
@@ -102,35 +126,20 @@ class WindowSlider {
    * Adds initial values to the aggregate function for the first window. E.G. ROWS BETWEEN CURRENT
    * ROW AND 3 FOLLOWING would add the first four rows in the slice to the function.
    */
-  @SuppressWarnings({"unchecked", "rawtypes"})
   private void initWindow() {
     int leftBound = Math.max(getInitialLeftBound(), 0);
     int rightBound = Math.min(getInitialRightBound(), slice.rowCount() - 1);
     for (int i = leftBound; i <= rightBound; i++) {
-      if (isMissing(i)) {
-        function.addRightMostMissing();
-      } else {
-        function.addRightMost(get(i));
-      }
+      function.addRightMost(mappedRowNumber(i));
     }
   }
 
-  /** Set the value in the destination column that corresponds to the row in the view. */
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  private void set(int rowNumberInSlice, Object value) {
-    destinationColumn.set(slice.mappedRowNumber(mirror(rowNumberInSlice)), value);
-  }
-
-  /** Get a value from the source column that corresponds to the row in the view. */
-  private Object get(int rowNumberInSlice) {
-    return sourceColumn.get(slice.mappedRowNumber(mirror(rowNumberInSlice)));
-  }
-
   /**
-   * Determine if the value in the source column that corresponds to the row in the view is missing.
+   * Get the row number in the source and destination columns that corresponds to the row in the
+   * view.
    */
-  private boolean isMissing(int rowNumberInSlice) {
-    return sourceColumn.isMissing(slice.mappedRowNumber(mirror(rowNumberInSlice)));
+  private int mappedRowNumber(int rowNumberInSlice) {
+    return slice.mappedRowNumber(mirror(rowNumberInSlice));
   }
 
   /** Returns true of the rowNumber exists in the slice. */
@@ -138,7 +147,7 @@ class WindowSlider {
     return rowNumber >= 0 && rowNumber < slice.rowCount();
   }
 
-  private Function<Integer, Integer> slideLeftStrategy() {
+  private IntUnaryOperator slideLeftStrategy() {
     switch (this.windowGrowthType) {
       case FIXED:
       case FIXED_LEFT:
@@ -149,7 +158,7 @@ class WindowSlider {
     throw new IllegalArgumentException("Unexpected growthType: " + this.windowGrowthType);
   }
 
-  private Function<Integer, Integer> slideRightStrategy() {
+  private IntUnaryOperator slideRightStrategy() {
     switch (this.windowGrowthType) {
       case FIXED:
         return i -> i;
@@ -175,4 +184,125 @@ class WindowSlider {
     }
     throw new IllegalArgumentException("Unexpected growthType: " + this.windowGrowthType);
   }
+
+  /**
+   * Moves values from the source column into the aggregate function and from the aggregate function
+   * into the destination column. Row numbers are row numbers in the underlying table.
+   */
+  interface WindowFunction {
+
+    /** Appends the value in the given row of the source column to the window. */
+    void addRightMost(int rowNumber);
+
+    void removeLeftMost();
+
+    /** Sets the aggregate value for the current window in the given row of the destination. */
+    void setValue(int rowNumber);
+  }
+
+  /** Reads and writes numeric columns as primitive doubles. */
+  private static final class DoubleWindowFunction implements WindowFunction {
+    private final DoubleAggregateFunction function;
+    private final NumericColumn<?> sourceColumn;
+    private final DoubleColumn destinationColumn;
+
+    private DoubleWindowFunction(
+        DoubleAggregateFunction function,
+        NumericColumn<?> sourceColumn,
+        DoubleColumn destinationColumn) {
+      this.function = function;
+      this.sourceColumn = sourceColumn;
+      this.destinationColumn = destinationColumn;
+    }
+
+    @Override
+    public void addRightMost(int rowNumber) {
+      // getDouble returns NaN for missing values in every numeric column type.
+      double value = sourceColumn.getDouble(rowNumber);
+      if (Double.isNaN(value)) {
+        function.addRightMostMissing();
+      } else {
+        function.addRightMost(value);
+      }
+    }
+
+    @Override
+    public void removeLeftMost() {
+      function.removeLeftMost();
+    }
+
+    @Override
+    public void setValue(int rowNumber) {
+      destinationColumn.set(rowNumber, function.getValue());
+    }
+  }
+
+  /** Reads numeric columns as primitive doubles and writes an IntColumn. */
+  private static final class LongWindowFunction implements WindowFunction {
+    private final LongAggregateFunction function;
+    private final NumericColumn<?> sourceColumn;
+    private final IntColumn destinationColumn;
+
+    private LongWindowFunction(
+        LongAggregateFunction function,
+        NumericColumn<?> sourceColumn,
+        IntColumn destinationColumn) {
+      this.function = function;
+      this.sourceColumn = sourceColumn;
+      this.destinationColumn = destinationColumn;
+    }
+
+    @Override
+    public void addRightMost(int rowNumber) {
+      double value = sourceColumn.getDouble(rowNumber);
+      if (Double.isNaN(value)) {
+        function.addRightMostMissing();
+      } else {
+        function.addRightMost(value);
+      }
+    }
+
+    @Override
+    public void removeLeftMost() {
+      function.removeLeftMost();
+    }
+
+    @Override
+    public void setValue(int rowNumber) {
+      destinationColumn.set(rowNumber, (int) function.getValue());
+    }
+  }
+
+  /** Reads and writes values as objects. Used for non numeric source columns. */
+  private static final class BoxedWindowFunction<T, R> implements WindowFunction {
+    private final AggregateFunction<T, R> function;
+    private final Column<T> sourceColumn;
+    private final Column<R> destinationColumn;
+
+    private BoxedWindowFunction(
+        AggregateFunction<T, R> function, Column<T> sourceColumn, Column<R> destinationColumn) {
+      this.function = function;
+      this.sourceColumn = sourceColumn;
+      this.destinationColumn = destinationColumn;
+    }
+
+    @Override
+    public void addRightMost(int rowNumber) {
+      if (sourceColumn.isMissing(rowNumber)) {
+        function.addRightMostMissing();
+      } else {
+        function.addRightMost(sourceColumn.get(rowNumber));
+      }
+    }
+
+    @Override
+    public void removeLeftMost() {
+      function.removeLeftMost();
+    }
+
+    @Override
+    public void setValue(int rowNumber) {
+      destinationColumn.set(rowNumber, function.getValue());
+    }
+  }
 }
@@ -602,6 +602,15 @@ public class BooleanColumn extends AbstractColumn<BooleanColumn, Boolean>
     return subset(selection.toArray());
   }
 
+  @Override
+  public BooleanColumn subset(final int[] rows) {
+    final byte[] values = new byte[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getByte(rows[i]);
+    }
+    return new BooleanColumn(name(), ByteArrayList.wrap(values));
+  }
+
   @Override
   public BooleanColumn removeMissing() {
     BooleanColumn noMissing = emptyCopy();
@@ -42,6 +42,7 @@ import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.dates.DateFillers;
 import tech.tablesaw.columns.dates.DateFilters;
 import tech.tablesaw.columns.dates.DateMapFunctions;
+import tech.tablesaw.columns.dates.DateParser;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.selection.Selection;
 
@@ -113,10 +114,12 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
 
   @Override
   public DateColumn subset(final int[] rows) {
-    final DateColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getIntInternal(row));
+    final int[] values = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getInt(rows[i]);
     }
+    final DateColumn c = this.emptyCopy();
+    c.data = IntArrayList.wrap(values);
     return c;
   }
 
@@ -365,11 +368,14 @@ public class DateColumn extends AbstractColumn<DateColumn, LocalDate>
 
   @Override
   public DateColumn appendCell(String string) {
-    return appendInternal(PackedLocalDate.pack(DateColumnType.DEFAULT_PARSER.parse(string)));
+    return appendInternal(DateColumnType.DEFAULT_PARSER.parsePacked(string));
   }
 
   @Override
   public DateColumn appendCell(String string, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateParser) {
+      return appendInternal(((DateParser) parser).parsePacked(string));
+    }
     return appendObj(parser.parse(string));
   }
 
@@ -46,6 +46,7 @@ import tech.tablesaw.columns.datetimes.DateTimeColumnFormatter;
 import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeFilters;
 import tech.tablesaw.columns.datetimes.DateTimeMapFunctions;
+import tech.tablesaw.columns.datetimes.DateTimeParser;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.selection.Selection;
@@ -145,10 +146,12 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
 
   @Override
   public DateTimeColumn subset(final int[] rows) {
-    final DateTimeColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getLongInternal(row));
+    final long[] values = new long[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getLong(rows[i]);
     }
+    final DateTimeColumn c = this.emptyCopy();
+    c.data = LongArrayList.wrap(values);
     return c;
   }
 
@@ -217,12 +220,14 @@ public class DateTimeColumn extends AbstractColumn<DateTimeColumn, LocalDateTime
 
   @Override
   public DateTimeColumn appendCell(String stringValue) {
-    return appendInternal(
-        PackedLocalDateTime.pack(DateTimeColumnType.DEFAULT_PARSER.parse(stringValue)));
+    return appendInternal(DateTimeColumnType.DEFAULT_PARSER.parsePacked(stringValue));
   }
 
   @Override
   public DateTimeColumn appendCell(String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof DateTimeParser) {
+      return appendInternal(((DateTimeParser) parser).parsePacked(stringValue));
+    }
     return appendObj(parser.parse(stringValue));
   }
 
@@ -154,11 +154,14 @@ public class DoubleColumn extends NumberColumn<DoubleColumn, Double>
   }
 
   @Override
-  public DoubleColumn subset(int[] rows) {
-    final DoubleColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getDouble(row));
-    }
+  public DoubleColumn subset(final int[] rows) {
+    final double[] values = new double[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getDouble(rows[i]);
+    }
+    final DoubleColumn c = new DoubleColumn(name(), DoubleArrayList.wrap(values));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
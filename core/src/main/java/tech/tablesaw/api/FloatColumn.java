@@ -85,11 +85,14 @@ public class FloatColumn extends NumberColumn<FloatColumn, Float> {
   }
 
   @Override
-  public FloatColumn subset(int[] rows) {
-    final FloatColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getFloat(row));
+  public FloatColumn subset(final int[] rows) {
+    final float[] values = new float[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getFloat(rows[i]);
     }
+    final FloatColumn c = new FloatColumn(name(), FloatArrayList.wrap(values));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
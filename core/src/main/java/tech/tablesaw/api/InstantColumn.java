@@ -47,6 +47,7 @@ import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.instant.InstantColumnFormatter;
 import tech.tablesaw.columns.instant.InstantColumnType;
 import tech.tablesaw.columns.instant.InstantMapFunctions;
+import tech.tablesaw.columns.instant.InstantParser;
 import tech.tablesaw.columns.instant.PackedInstant;
 import tech.tablesaw.columns.temporal.TemporalFillers;
 import tech.tablesaw.columns.temporal.TemporalFilters;
@@ -147,10 +148,12 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   @Override
   public InstantColumn subset(final int[] rows) {
-    final InstantColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getLongInternal(row));
+    final long[] values = new long[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getLong(rows[i]);
     }
+    final InstantColumn c = this.emptyCopy();
+    c.data = LongArrayList.wrap(values);
     return c;
   }
 
@@ -208,11 +211,14 @@ public class InstantColumn extends AbstractColumn<InstantColumn, Instant>
 
   @Override
   public InstantColumn appendCell(String stringValue) {
-    return appendInternal(PackedInstant.pack(InstantColumnType.DEFAULT_PARSER.parse(stringValue)));
+    return appendInternal(InstantColumnType.DEFAULT_PARSER.parsePacked(stringValue));
   }
 
   @Override
   public InstantColumn appendCell(String stringValue, AbstractColumnParser<?> parser) {
+    if (parser instanceof InstantParser) {
+      return appendInternal(((InstantParser) parser).parsePacked(stringValue));
+    }
     return appendObj(parser.parse(stringValue));
   }
 
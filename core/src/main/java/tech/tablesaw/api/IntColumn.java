@@ -105,10 +105,13 @@ public class IntColumn extends NumberColumn<IntColumn, Integer>
 
   @Override
   public IntColumn subset(final int[] rows) {
-    final IntColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getInt(row));
+    final int[] values = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getInt(rows[i]);
     }
+    final IntColumn c = new IntColumn(name(), IntArrayList.wrap(values));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
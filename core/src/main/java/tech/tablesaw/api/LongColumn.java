@@ -107,10 +107,13 @@ public class LongColumn extends NumberColumn<LongColumn, Long> implements Catego
 
   @Override
   public LongColumn subset(final int[] rows) {
-    final LongColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getLong(row));
+    final long[] values = new long[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getLong(rows[i]);
     }
+    final LongColumn c = new LongColumn(name(), LongArrayList.wrap(values));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
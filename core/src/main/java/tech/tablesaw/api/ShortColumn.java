@@ -81,10 +81,13 @@ public class ShortColumn extends NumberColumn<ShortColumn, Short>
 
   @Override
   public ShortColumn subset(final int[] rows) {
-    final ShortColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.append(getShort(row));
+    final short[] values = new short[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getShort(rows[i]);
     }
+    final ShortColumn c = new ShortColumn(name(), ShortArrayList.wrap(values));
+    c.setPrintFormatter(getPrintFormatter());
+    c.locale = locale;
     return c;
   }
 
@@ -376,6 +376,15 @@ public class StringColumn extends AbstractStringColumn<StringColumn> {
     return subset(selection.toArray());
   }
 
+  /**
+   * Returns a new column holding the values at the given rows. The key codes of the rows are copied
+   * into a dictionary that keeps only the values in use, so no strings are hashed or copied.
+   */
+  @Override
+  public StringColumn subset(final int[] rows) {
+    return new StringColumn(name(), lookupTable.selectRows(rows));
+  }
+
   @Override
   public StringColumn copy() {
     StringColumn newCol = create(name(), size());
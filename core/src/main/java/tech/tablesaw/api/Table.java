@@ -38,6 +38,7 @@ import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.CrossTab;
@@ -52,8 +53,10 @@ import tech.tablesaw.io.ReaderRegistry;
 import tech.tablesaw.io.WriterRegistry;
 import tech.tablesaw.joining.DataFrameJoiner;
 import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Sampler;
 import tech.tablesaw.selection.Selection;
 import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.sorting.SortKeys;
 import tech.tablesaw.sorting.SortUtils;
 import tech.tablesaw.sorting.comparators.IntComparatorChain;
 import tech.tablesaw.table.Relation;
@@ -73,6 +76,9 @@ public class Table extends Relation implements Iterable<Row> {
   public static final ReaderRegistry defaultReaderRegistry = new ReaderRegistry();
   public static final WriterRegistry defaultWriterRegistry = new WriterRegistry();
 
+  /** The number of values to copy before the columns are gathered in parallel */
+  private static final long PARALLEL_GATHER_THRESHOLD = 1_000_000;
+
   static {
     autoRegisterReadersAndWriters();
   }
@@ -439,17 +445,22 @@ public class Table extends Relation implements Iterable<Row> {
 
   /** Returns a table with the same columns as this table */
   public Table copy() {
-    Table copy = new Table(name);
-    for (Column<?> column : columnList) {
-      copy.addColumns(column.emptyCopy(rowCount()));
-    }
+    return gather(rows());
+  }
 
-    int[] rows = new int[rowCount()];
-    for (int i = 0; i < rowCount(); i++) {
-      rows[i] = i;
+  /**
+   * Returns a new table with the given rows of this table, in the given order. Each column is
+   * gathered in a single pass with {@link Column#subset(int[])}, and the columns of large tables
+   * are gathered in parallel.
+   */
+  private Table gather(int[] rows) {
+    Column<?>[] gathered = new Column<?>[columnCount()];
+    IntStream columnIndexes = IntStream.range(0, gathered.length);
+    if (gathered.length > 1 && (long) rows.length * gathered.length >= PARALLEL_GATHER_THRESHOLD) {
+      columnIndexes = columnIndexes.parallel();
     }
-    Rows.copyRowsToTable(rows, this, copy);
-    return copy;
+    columnIndexes.forEach(i -> gathered[i] = column(i).subset(rows));
+    return new Table(name, gathered);
   }
 
   /** Returns a table with the same columns as this table, but no data */
@@ -482,29 +493,14 @@ public class Table extends Relation implements Iterable<Row> {
    *     parameter, and the second table having the balance of the rows
    */
   public Table[] sampleSplit(double table1Proportion) {
-    Table[] tables = new Table[2];
     int table1Count = (int) Math.round(rowCount() * table1Proportion);
-
-    Selection table2Selection = new BitmapBackedSelection();
-    for (int i = 0; i < rowCount(); i++) {
-      table2Selection.add(i);
-    }
-    Selection table1Selection = new BitmapBackedSelection();
-
-    Selection table1Records = selectNRowsAtRandom(table1Count, rowCount());
-    for (int table1Record : table1Records) {
-      table1Selection.add(table1Record);
-    }
-    table2Selection.andNot(table1Selection);
-    tables[0] = where(table1Selection);
-    tables[1] = where(table2Selection);
-    return tables;
+    return split(new Sampler().sample(table1Count, rowCount()));
   }
 
   /**
    * Splits the table into two stratified samples, this uses the specified column to divide the
    * table into groups, randomly assigning records to each according to the proportion given in
-   * trainingProportion.
+   * trainingProportion. The rows in each table are in the same order as in this table.
    *
    * @param column the column to be used for the stratified sampling
    * @param table1Proportion The proportion to go in the first table
@@ -515,19 +511,30 @@ public class Table extends Relation implements Iterable<Row> {
     Preconditions.checkArgument(
         containsColumn(column),
         "The categorical column must be part of the table, you can create a string column and add it to this table before sampling.");
-    final Table first = emptyCopy();
-    final Table second = emptyCopy();
-
-    splitOn(column)
-        .asTableList()
-        .forEach(
-            tab -> {
-              Table[] splits = tab.sampleSplit(table1Proportion);
-              first.append(splits[0]);
-              second.append(splits[1]);
-            });
+    return split(new Sampler().stratified(column, table1Proportion));
+  }
 
-    return new Table[] {first, second};
+  /**
+   * Randomly splits the table into k folds of nearly equal size for k-fold cross validation. Each
+   * row is in the test table of exactly one fold.
+   *
+   * @param k The number of folds, between 2 and the number of rows
+   * @return A list of k arrays, each holding a training table and then a test table, where the test
+   *     table holds the rows of one fold and the training table holds the rest
+   */
+  public List<Table[]> kFoldSplit(int k) {
+    List<Table[]> splits = new ArrayList<>(k);
+    for (Selection fold : new Sampler().folds(k, rowCount())) {
+      Table[] split = split(fold);
+      splits.add(new Table[] {split[1], split[0]});
+    }
+    return splits;
+  }
+
+  /** Returns the rows in the selection and the rows not in it, as an array of two tables */
+  private Table[] split(Selection table1Selection) {
+    Selection table2Selection = Selection.withRange(0, rowCount()).andNot(table1Selection);
+    return new Table[] {where(table1Selection), where(table2Selection)};
   }
 
   /**
@@ -565,13 +572,13 @@ public class Table extends Relation implements Iterable<Row> {
   /** Returns a new table containing the first {@code nrows} of data in this table */
   public Table first(int nRows) {
     int newRowCount = Math.min(nRows, rowCount());
-    return inRange(0, newRowCount);
+    return gather(IntStream.range(0, newRowCount).toArray());
   }
 
   /** Returns a new table containing the last {@code nrows} of data in this table */
   public Table last(int nRows) {
     int newRowCount = Math.min(nRows, rowCount());
-    return inRange(rowCount() - newRowCount, rowCount());
+    return gather(IntStream.range(rowCount() - newRowCount, rowCount()).toArray());
   }
 
   /**
@@ -624,6 +631,9 @@ public class Table extends Relation implements Iterable<Row> {
    */
   public Table sortOn(Sort key) {
     Preconditions.checkArgument(!key.isEmpty());
+    if (SortKeys.canSort(this, key)) {
+      return gather(SortKeys.sortedRows(this, key));
+    }
     if (key.size() == 1) {
       IntComparator comparator = SortUtils.getComparator(this, key);
       return sortOn(comparator);
@@ -632,15 +642,42 @@ public class Table extends Relation implements Iterable<Row> {
     return sortOn(chain);
   }
 
+  /**
+   * Returns a new table with the first n rows of this table in the order given by the sort key,
+   * i.e. the same rows as sortOn(key).first(n), without sorting the whole table. Only the selected
+   * rows are copied.
+   *
+   * @param n the maximum number of rows to return
+   * @param key to sort on.
+   */
+  public Table topN(int n, Sort key) {
+    Preconditions.checkArgument(!key.isEmpty());
+    IntComparator comparator;
+    if (SortKeys.canSort(this, key)) {
+      comparator = SortKeys.comparator(this, key);
+    } else if (key.size() == 1) {
+      comparator = SortUtils.getComparator(this, key);
+    } else {
+      comparator = SortUtils.getChain(this, key);
+    }
+    return gather(SortUtils.topRows(rowCount(), comparator, n));
+  }
+
+  /**
+   * Returns a new table with the first n rows of this table sorted on the given column names,
+   * without sorting the whole table
+   *
+   * <p>if column name starts with - then sort that column descending otherwise sort ascending
+   */
+  public Table topN(int n, String... columnNames) {
+    return topN(n, Sort.create(this, columnNames));
+  }
+
   /** Returns a copy of this table sorted using the given comparator */
   private Table sortOn(IntComparator rowComparator) {
-    Table newTable = emptyCopy(rowCount());
-
     int[] newRows = rows();
     IntArrays.parallelQuickSort(newRows, rowComparator);
-
-    Rows.copyRowsToTable(newRows, this, newTable);
-    return newTable;
+    return gather(newRows);
   }
 
   /** Returns a copy of this table sorted using the given comparator */
@@ -708,12 +745,12 @@ public class Table extends Relation implements Iterable<Row> {
     Preconditions.checkArgument(rowCount <= rowCount());
     int rowStart = rowCount >= 0 ? 0 : rowCount() + rowCount;
     int rowEnd = rowCount >= 0 ? rowCount : rowCount();
-    return where(Selection.withRange(rowStart, rowEnd));
+    return gather(IntStream.range(rowStart, rowEnd).toArray());
   }
 
   public Table inRange(int rowStart, int rowEnd) {
     Preconditions.checkArgument(rowEnd <= rowCount());
-    return where(Selection.withRange(rowStart, rowEnd));
+    return gather(IntStream.range(rowStart, rowEnd).toArray());
   }
 
   /**
@@ -733,16 +770,11 @@ public class Table extends Relation implements Iterable<Row> {
   }
 
   public Table where(Selection selection) {
-    Table newTable = this.emptyCopy(selection.size());
-    Rows.copyRowsToTable(selection, this, newTable);
-    return newTable;
+    return gather(selection.toArray());
   }
 
   public Table where(Function<Table, Selection> selection) {
-    Table tempTable = where(selection.apply(this));
-    Table newTable = tempTable.emptyCopy(tempTable.rowCount());
-    Rows.copyRowsToTable(selection.apply(this), this, newTable);
-    return newTable;
+    return where(selection.apply(this));
   }
 
   public Table dropWhere(Function<Table, Selection> selection) {
@@ -753,9 +785,7 @@ public class Table extends Relation implements Iterable<Row> {
     Selection opposite = new BitmapBackedSelection();
     opposite.addRange(0, rowCount());
     opposite.andNot(selection);
-    Table newTable = this.emptyCopy(opposite.size());
-    Rows.copyRowsToTable(opposite, this, newTable);
-    return newTable;
+    return gather(opposite.toArray());
   }
 
   /**
@@ -838,18 +868,27 @@ public class Table extends Relation implements Iterable<Row> {
     return t;
   }
 
-  /** Returns the unique records in this table Note: Uses a lot of memory for a sort */
+  /**
+   * Returns the unique records in this table. The first occurrence of each record is kept and the
+   * records stay in their original order
+   */
   public Table dropDuplicateRows() {
+    return dropDuplicateRows(columnList.toArray(new Column<?>[0]));
+  }
 
-    Table sorted = this.sortOn(columnNames().toArray(new String[columns().size()]));
-    Table temp = emptyCopy();
+  /**
+   * Returns a table with one record for each distinct combination of values in the given columns.
+   * All columns are kept; for duplicates, the first record in this table is kept. The records stay
+   * in their original order
+   *
+   * @param columnNames the columns whose values identify a duplicate
+   */
+  public Table dropDuplicateRows(String... columnNames) {
+    return dropDuplicateRows(columns(columnNames).toArray(new Column<?>[0]));
+  }
 
-    for (int row = 0; row < rowCount(); row++) {
-      if (temp.isEmpty() || !Rows.compareRows(row, sorted, temp)) {
-        Rows.appendRowToTable(row, sorted, temp);
-      }
-    }
-    return temp;
+  private Table dropDuplicateRows(Column<?>[] keyColumns) {
+    return gather(Rows.firstOccurrences(this, keyColumns));
   }
 
   /** Returns only those records in this table that have no columns with missing values */
@@ -868,9 +907,7 @@ public class Table extends Relation implements Iterable<Row> {
     }
     Selection notMissing = Selection.withRange(0, rowCount());
     notMissing.andNot(missing);
-    Table temp = emptyCopy(notMissing.size());
-    Rows.copyRowsToTable(notMissing, this, temp);
-    return temp;
+    return gather(notMissing.toArray());
   }
 
   public Table select(Column<?>... columns) {
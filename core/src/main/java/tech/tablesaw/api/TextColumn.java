@@ -317,7 +317,18 @@ public class TextColumn extends AbstractStringColumn<TextColumn> {
   }
 
   public TextColumn where(Selection selection) {
-    return (TextColumn) subset(selection.toArray());
+    return subset(selection.toArray());
+  }
+
+  @Override
+  public TextColumn subset(final int[] rows) {
+    final List<String> strings = new ArrayList<>(rows.length);
+    for (final int row : rows) {
+      strings.add(values.get(row));
+    }
+    final TextColumn c = this.emptyCopy();
+    c.values = strings;
+    return c;
   }
 
   // TODO (lwhite): This could avoid the append and do a list copy
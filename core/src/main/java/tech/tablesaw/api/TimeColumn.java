@@ -45,6 +45,7 @@ import tech.tablesaw.columns.times.TimeColumnType;
 import tech.tablesaw.columns.times.TimeFillers;
 import tech.tablesaw.columns.times.TimeFilters;
 import tech.tablesaw.columns.times.TimeMapFunctions;
+import tech.tablesaw.columns.times.TimeParser;
 import tech.tablesaw.selection.Selection;
 
 /** A column in a base table that contains float values */
@@ -124,11 +125,13 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
   }
 
   @Override
-  public TimeColumn subset(int[] rows) {
-    final TimeColumn c = this.emptyCopy();
-    for (final int row : rows) {
-      c.appendInternal(getIntInternal(row));
+  public TimeColumn subset(final int[] rows) {
+    final int[] values = new int[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      values[i] = data.getInt(rows[i]);
     }
+    final TimeColumn c = this.emptyCopy();
+    c.data = IntArrayList.wrap(values);
     return c;
   }
 
@@ -366,12 +369,15 @@ public class TimeColumn extends AbstractColumn<TimeColumn, LocalTime>
 
   @Override
   public TimeColumn appendCell(String object) {
-    appendInternal(PackedLocalTime.pack(TimeColumnType.DEFAULT_PARSER.parse(object)));
+    appendInternal(TimeColumnType.DEFAULT_PARSER.parsePacked(object));
     return this;
   }
 
   @Override
   public TimeColumn appendCell(String object, AbstractColumnParser<?> parser) {
+    if (parser instanceof TimeParser) {
+      return appendInternal(((TimeParser) parser).parsePacked(object));
+    }
     return appendObj(parser.parse(object));
   }
 
@@ -4,10 +4,10 @@ import com.google.common.collect.Lists;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.temporal.TemporalScanner;
 import tech.tablesaw.io.ReadOptions;
 
 public class DateParser extends AbstractColumnParser<LocalDate> {
@@ -83,13 +83,11 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
     if (isMissing(s)) {
       return true;
     }
-    try {
-      LocalDate.parse(s, formatter.withLocale(locale));
+    if (formatter == DEFAULT_FORMATTER
+        && TemporalScanner.parseDate(s) != DateColumnType.missingValueIndicator()) {
       return true;
-    } catch (DateTimeParseException e) {
-      // it's all part of the plan
-      return false;
     }
+    return TemporalScanner.canParse(formatter.withLocale(locale), s, LocalDate::from);
   }
 
   public void setCustomFormatter(DateTimeFormatter f) {
@@ -102,9 +100,23 @@ public class DateParser extends AbstractColumnParser<LocalDate> {
 
   @Override
   public LocalDate parse(String s) {
+    return PackedLocalDate.asLocalDate(parsePacked(s));
+  }
+
+  /**
+   * Returns the packed date for the string. Dates in the common numeric layouts of the default
+   * formatter are read without creating any objects.
+   */
+  public int parsePacked(String s) {
     if (isMissing(s)) {
-      return null;
+      return DateColumnType.missingValueIndicator();
+    }
+    if (formatter == DEFAULT_FORMATTER) {
+      int date = TemporalScanner.parseDate(s);
+      if (date != DateColumnType.missingValueIndicator()) {
+        return date;
+      }
     }
-    return LocalDate.parse(s, formatter);
+    return PackedLocalDate.pack(LocalDate.parse(s, formatter));
   }
 }
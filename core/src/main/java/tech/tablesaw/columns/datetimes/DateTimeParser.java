@@ -5,10 +5,10 @@ import com.google.common.collect.Lists;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.temporal.TemporalScanner;
 import tech.tablesaw.io.ReadOptions;
 
 public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
@@ -76,13 +76,11 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     if (isMissing(s)) {
       return true;
     }
-    try {
-      LocalDateTime.parse(s, formatter.withLocale(locale));
+    if (formatter == DEFAULT_FORMATTER
+        && TemporalScanner.parseDateTime(s) != DateTimeColumnType.missingValueIndicator()) {
       return true;
-    } catch (DateTimeParseException e) {
-      // it's all part of the plan
-      return false;
     }
+    return TemporalScanner.canParse(formatter.withLocale(locale), s, LocalDateTime::from);
   }
 
   @Override
@@ -93,4 +91,22 @@ public class DateTimeParser extends AbstractColumnParser<LocalDateTime> {
     String paddedValue = Strings.padStart(value, 4, '0');
     return LocalDateTime.parse(paddedValue, formatter);
   }
+
+  /**
+   * Returns the packed date-time for the string. Date-times in the common numeric layouts of the
+   * default formatter are read without creating any objects.
+   */
+  public long parsePacked(String value) {
+    if (isMissing(value)) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    if (formatter == DEFAULT_FORMATTER) {
+      long dateTime = TemporalScanner.parseDateTime(value);
+      if (dateTime != DateTimeColumnType.missingValueIndicator()) {
+        return dateTime;
+      }
+    }
+    String paddedValue = Strings.padStart(value, 4, '0');
+    return PackedLocalDateTime.pack(LocalDateTime.parse(paddedValue, formatter));
+  }
 }
@@ -1,8 +1,10 @@
 package tech.tablesaw.columns.instant;
 
 import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.temporal.TemporalScanner;
 
 public class InstantParser extends AbstractColumnParser<Instant> {
 
@@ -15,16 +17,29 @@ public class InstantParser extends AbstractColumnParser<Instant> {
     if (isMissing(s)) {
       return true;
     }
-    try {
-      parse(s);
+    if (TemporalScanner.parseInstant(s) != InstantColumnType.missingValueIndicator()) {
       return true;
-    } catch (RuntimeException e) {
-      return false;
     }
+    return TemporalScanner.canParse(DateTimeFormatter.ISO_INSTANT, s, Instant::from);
   }
 
   @Override
   public Instant parse(String value) {
     return Instant.parse(value);
   }
+
+  /**
+   * Returns the packed instant for the string. Instants in the ISO layout with a Z offset are read
+   * without creating any objects.
+   */
+  public long parsePacked(String value) {
+    if (isMissing(value)) {
+      return InstantColumnType.missingValueIndicator();
+    }
+    long instant = TemporalScanner.parseInstant(value);
+    if (instant != InstantColumnType.missingValueIndicator()) {
+      return instant;
+    }
+    return PackedInstant.pack(Instant.parse(value));
+  }
 }
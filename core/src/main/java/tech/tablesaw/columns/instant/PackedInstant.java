@@ -131,6 +131,22 @@ public class PackedInstant {
     return pack(dateTime.plus(amountToAdd, unit));
   }
 
+  /** Returns the number of milliseconds from 1970-01-01T00:00 to the given packed date-time */
+  public static long toEpochMilli(long packedDateTime) {
+    int time = time(packedDateTime);
+    return PackedLocalDate.toEpochDay(date(packedDateTime)) * 86_400_000L
+        + PackedLocalTime.getHour(time) * 3_600_000L
+        + PackedLocalTime.getMinute(time) * 60_000L
+        + PackedLocalTime.getMillisecondOfMinute(time);
+  }
+
+  /**
+   * Returns the packed date-time that is the given number of milliseconds after 1970-01-01T00:00
+   */
+  public static long ofEpochMilli(long epochMilli) {
+    return pack(Instant.ofEpochMilli(epochMilli));
+  }
+
   public static boolean isAfter(long packedDateTime, long value) {
     return (packedDateTime != missingValueIndicator()) && packedDateTime > value;
   }
@@ -23,13 +23,7 @@ public class DoubleParser extends AbstractColumnParser<Double> {
     if (isMissing(s)) {
       return true;
     }
-    try {
-      Double.parseDouble(AbstractColumnParser.remove(s, ','));
-      return true;
-    } catch (NumberFormatException e) {
-      // it's all part of the plan
-      return false;
-    }
+    return NumberScanner.isDouble(s);
   }
 
   @Override
@@ -42,6 +36,6 @@ public class DoubleParser extends AbstractColumnParser<Double> {
     if (isMissing(s)) {
       return DoubleColumnType.missingValueIndicator();
     }
-    return Double.parseDouble(AbstractColumnParser.remove(s, ','));
+    return NumberScanner.parseDouble(s);
   }
 }
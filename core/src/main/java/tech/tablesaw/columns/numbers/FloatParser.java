@@ -23,13 +23,7 @@ public class FloatParser extends AbstractColumnParser<Float> {
     if (isMissing(s)) {
       return true;
     }
-    try {
-      Float.parseFloat(AbstractColumnParser.remove(s, ','));
-      return true;
-    } catch (NumberFormatException e) {
-      // it's all part of the plan
-      return false;
-    }
+    return NumberScanner.isDouble(s);
   }
 
   @Override
@@ -42,6 +36,6 @@ public class FloatParser extends AbstractColumnParser<Float> {
     if (isMissing(s)) {
       return FloatColumnType.missingValueIndicator();
     }
-    return Float.parseFloat(AbstractColumnParser.remove(s, ','));
+    return NumberScanner.parseFloat(s);
   }
 }
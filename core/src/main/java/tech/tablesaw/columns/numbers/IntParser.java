@@ -4,7 +4,6 @@ import com.google.common.collect.Lists;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.io.ReadOptions;
-import tech.tablesaw.util.StringUtils;
 
 public class IntParser extends AbstractColumnParser<Integer> {
 
@@ -28,17 +27,7 @@ public class IntParser extends AbstractColumnParser<Integer> {
     if (isMissing(str)) {
       return true;
     }
-    String s = str;
-    try {
-      if (ignoreZeroDecimal) {
-        s = StringUtils.removeZeroDecimal(s);
-      }
-      Integer.parseInt(AbstractColumnParser.remove(s, ','));
-      return true;
-    } catch (NumberFormatException e) {
-      // it's all part of the plan
-      return false;
-    }
+    return NumberScanner.isInt(str, ignoreZeroDecimal);
   }
 
   @Override
@@ -56,10 +45,6 @@ public class IntParser extends AbstractColumnParser<Integer> {
     if (isMissing(str)) {
       return IntColumnType.missingValueIndicator();
     }
-    String s = str;
-    if (ignoreZeroDecimal) {
-      s = StringUtils.removeZeroDecimal(s);
-    }
-    return Integer.parseInt(AbstractColumnParser.remove(s, ','));
+    return NumberScanner.parseInt(str, ignoreZeroDecimal);
   }
 }
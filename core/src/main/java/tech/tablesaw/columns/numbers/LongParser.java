@@ -4,7 +4,6 @@ import com.google.common.collect.Lists;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.io.ReadOptions;
-import tech.tablesaw.util.StringUtils;
 
 public class LongParser extends AbstractColumnParser<Long> {
 
@@ -28,17 +27,7 @@ public class LongParser extends AbstractColumnParser<Long> {
     if (isMissing(str)) {
       return true;
     }
-    String s = str;
-    try {
-      if (ignoreZeroDecimal) {
-        s = StringUtils.removeZeroDecimal(s);
-      }
-      Long.parseLong(AbstractColumnParser.remove(s, ','));
-      return true;
-    } catch (NumberFormatException e) {
-      // it's all part of the plan
-      return false;
-    }
+    return NumberScanner.isLong(str, ignoreZeroDecimal);
   }
 
   @Override
@@ -56,10 +45,6 @@ public class LongParser extends AbstractColumnParser<Long> {
     if (isMissing(str)) {
       return LongColumnType.missingValueIndicator();
     }
-    String s = str;
-    if (ignoreZeroDecimal) {
-      s = StringUtils.removeZeroDecimal(s);
-    }
-    return Long.parseLong(AbstractColumnParser.remove(s, ','));
+    return NumberScanner.parseLong(str, ignoreZeroDecimal);
   }
 }
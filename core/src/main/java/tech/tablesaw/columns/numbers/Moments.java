@@ -0,0 +1,337 @@
+package tech.tablesaw.columns.numbers;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import tech.tablesaw.api.NumericColumn;
+
+/**
+ * The count, sum, extremes and central moments of a set of values, accumulated in a single pass.
+ *
+ * <p>The mean and the sums of squared, cubed and fourth-power deviations from the mean are updated
+ * incrementally as each value is added, so the mean, variances, skewness and kurtosis are all
+ * available without a second pass over the values. Missing values are counted but otherwise
+ * ignored. Moments accumulated over separate parts of the data can be combined.
+ */
+public final class Moments {
+
+  /** The number of values in a column before its moments are accumulated in parallel */
+  private static final int PARALLEL_THRESHOLD = 1_000_000;
+
+  private static final int ROWS_PER_CHUNK = 1 << 16;
+
+  private static final double MIN_PRODUCT = 0x1p-256;
+  private static final double MAX_PRODUCT = 0x1p256;
+  private static final double LN_2 = Math.log(2);
+  private static final double SPLITTER = 0x1p27 + 1;
+
+  private long count;
+  private long missing;
+  private double sum;
+  // The rounding error of the sum, which makes the mean accurate
+  private double sumError;
+  private double sumOfSquares;
+  // The sum of the logs is kept as the log of the product of the values, which is held as a
+  // fraction and a power of two so it can't overflow. Multiplying is much faster than taking logs.
+  private double product = 1;
+  private long productExponent;
+  private boolean anyNegative;
+  private boolean anyZero;
+  private boolean anyInfinite;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+  private double mean;
+  // The sums of the second, third and fourth powers of the deviations from the mean
+  private double m2;
+  private double m3;
+  private double m4;
+
+  /** Returns the moments of all the values in the column. Large columns are read in parallel. */
+  public static Moments of(NumericColumn<?> column) {
+    int size = column.size();
+    if (size < PARALLEL_THRESHOLD) {
+      return new Moments().addAll(column, 0, size);
+    }
+    int chunks = (size + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK;
+    Moments[] parts = new Moments[chunks];
+    IntStream.range(0, chunks)
+        .parallel()
+        .forEach(
+            i ->
+                parts[i] =
+                    new Moments()
+                        .addAll(
+                            column, i * ROWS_PER_CHUNK, Math.min(size, (i + 1) * ROWS_PER_CHUNK)));
+    Moments moments = new Moments();
+    for (Moments part : parts) {
+      moments.combine(part);
+    }
+    return moments;
+  }
+
+  /** Returns the moments of the values in the given rows of the column */
+  public static Moments of(NumericColumn<?> column, PrimitiveIterator.OfInt rows) {
+    Moments moments = new Moments();
+    while (rows.hasNext()) {
+      moments.add(column.getDouble(rows.nextInt()));
+    }
+    return moments;
+  }
+
+  private Moments addAll(NumericColumn<?> column, int from, int to) {
+    for (int row = from; row < to; row++) {
+      add(column.getDouble(row));
+    }
+    return this;
+  }
+
+  /** Adds a value. NaN values are counted as missing. */
+  public Moments add(double value) {
+    if (Double.isNaN(value)) {
+      missing++;
+      return this;
+    }
+    long n0 = count;
+    count++;
+    double n = count;
+    double delta = value - mean;
+    double deltaN = delta / n;
+    double deltaN2 = deltaN * deltaN;
+    double term = delta * deltaN * n0;
+    mean += deltaN;
+    m4 += term * deltaN2 * (n * n - 3 * n + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+    m3 += term * deltaN * (n - 2) - 3 * deltaN * m2;
+    m2 += term;
+
+    double nextSum = sum + value;
+    sumError +=
+        Math.abs(sum) >= Math.abs(value) ? (sum - nextSum) + value : (value - nextSum) + sum;
+    sum = nextSum;
+    sumOfSquares += value * value;
+    double nextProduct = product * value;
+    if (nextProduct >= MIN_PRODUCT && nextProduct <= MAX_PRODUCT) {
+      product = nextProduct;
+    } else {
+      multiplyProduct(value);
+    }
+    if (value < min) {
+      min = value;
+    }
+    if (value > max) {
+      max = value;
+    }
+    return this;
+  }
+
+  /** Multiplies the product by a value that takes it out of range, or that is zero or negative */
+  private void multiplyProduct(double value) {
+    if (value < 0) {
+      anyNegative = true;
+    } else if (value == 0) {
+      anyZero = true;
+    } else if (value == Double.POSITIVE_INFINITY) {
+      anyInfinite = true;
+    } else {
+      int exponent = Math.getExponent(value);
+      product *= Math.scalb(value, -exponent);
+      productExponent += exponent;
+      normalizeProduct();
+    }
+  }
+
+  private void normalizeProduct() {
+    int exponent = Math.getExponent(product);
+    product = Math.scalb(product, -exponent);
+    productExponent += exponent;
+  }
+
+  /** Adds the values accumulated by the other moments to these */
+  public Moments combine(Moments other) {
+    missing += other.missing;
+    product *= other.product;
+    productExponent += other.productExponent;
+    normalizeProduct();
+    anyNegative |= other.anyNegative;
+    anyZero |= other.anyZero;
+    anyInfinite |= other.anyInfinite;
+    if (other.count == 0) {
+      return this;
+    }
+    if (count == 0) {
+      count = other.count;
+      sum = other.sum;
+      sumError = other.sumError;
+      sumOfSquares = other.sumOfSquares;
+      min = other.min;
+      max = other.max;
+      mean = other.mean;
+      m2 = other.m2;
+      m3 = other.m3;
+      m4 = other.m4;
+      return this;
+    }
+    double na = count;
+    double nb = other.count;
+    double n = na + nb;
+    double delta = other.mean - mean;
+    double delta2 = delta * delta;
+    double combinedM4 =
+        m4
+            + other.m4
+            + delta2 * delta2 * na * nb * (na * na - na * nb + nb * nb) / (n * n * n)
+            + 6 * delta2 * (na * na * other.m2 + nb * nb * m2) / (n * n)
+            + 4 * delta * (na * other.m3 - nb * m3) / n;
+    double combinedM3 =
+        m3
+            + other.m3
+            + delta2 * delta * na * nb * (na - nb) / (n * n)
+            + 3 * delta * (na * other.m2 - nb * m2) / n;
+    m2 += other.m2 + delta2 * na * nb / n;
+    m3 = combinedM3;
+    m4 = combinedM4;
+    mean += delta * nb / n;
+
+    count += other.count;
+    double nextSum = sum + other.sum;
+    sumError +=
+        other.sumError
+            + (Math.abs(sum) >= Math.abs(other.sum)
+                ? (sum - nextSum) + other.sum
+                : (other.sum - nextSum) + sum);
+    sum = nextSum;
+    sumOfSquares += other.sumOfSquares;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /** Returns the number of non-missing values */
+  public long count() {
+    return count;
+  }
+
+  public long missing() {
+    return missing;
+  }
+
+  /** Returns the sum of the values, or 0 if there are none */
+  public double sum() {
+    return sum;
+  }
+
+  public double sumOfSquares() {
+    return sumOfSquares;
+  }
+
+  /** Returns the sum of the natural logs of the values, which is NaN if any value is negative */
+  public double sumOfLogs() {
+    if (anyNegative || (anyZero && anyInfinite)) {
+      return Double.NaN;
+    }
+    if (anyZero) {
+      return Double.NEGATIVE_INFINITY;
+    }
+    if (anyInfinite) {
+      return Double.POSITIVE_INFINITY;
+    }
+    return Math.log(product) + productExponent * LN_2;
+  }
+
+  /** Returns the smallest value, or NaN if there are none */
+  public double min() {
+    return count == 0 ? Double.NaN : min;
+  }
+
+  /** Returns the largest value, or NaN if there are none */
+  public double max() {
+    return count == 0 ? Double.NaN : max;
+  }
+
+  public double range() {
+    return max() - min();
+  }
+
+  /**
+   * Returns the mean of the values, or NaN if there are none. This is the compensated sum divided
+   * by the count, which is more accurate than the running mean used to update the other moments.
+   */
+  public double mean() {
+    if (count == 0) {
+      return Double.NaN;
+    }
+    double n = count;
+    double quotient = sum / n;
+    if (!(Math.abs(quotient) < 0x1p995)) {
+      // Too large to split without overflowing, or not finite
+      return quotient;
+    }
+    // The division's remainder, computed exactly by splitting the quotient and count into halves
+    double product = quotient * n;
+    double quotientHigh = split(quotient);
+    double quotientLow = quotient - quotientHigh;
+    double countHigh = split(n);
+    double countLow = n - countHigh;
+    double productError =
+        ((quotientHigh * countHigh - product) + quotientHigh * countLow + quotientLow * countHigh)
+            + quotientLow * countLow;
+    double remainder = (sum - product) - productError;
+    return quotient + (remainder + sumError) / n;
+  }
+
+  /** Returns the high half of the bits of the value's significand */
+  private static double split(double value) {
+    double scaled = value * SPLITTER;
+    return scaled - (scaled - value);
+  }
+
+  /** Returns the sum of the squared deviations from the mean */
+  public double secondMoment() {
+    return count == 0 ? Double.NaN : m2;
+  }
+
+  /** Returns the bias-corrected sample variance, which is 0 for a single value */
+  public double variance() {
+    if (count == 0) {
+      return Double.NaN;
+    }
+    return count == 1 ? 0 : m2 / (count - 1);
+  }
+
+  public double populationVariance() {
+    return count == 0 ? Double.NaN : m2 / count;
+  }
+
+  public double standardDeviation() {
+    return Math.sqrt(variance());
+  }
+
+  /** Returns the bias-corrected sample skewness, or NaN if there are fewer than 3 values */
+  public double skewness() {
+    if (count < 3) {
+      return Double.NaN;
+    }
+    double n = count;
+    double variance = m2 / (n - 1);
+    return n / ((n - 1) * (n - 2)) * m3 / (variance * Math.sqrt(variance));
+  }
+
+  /** Returns the bias-corrected sample excess kurtosis, or NaN if there are fewer than 4 values */
+  public double kurtosis() {
+    if (count < 4) {
+      return Double.NaN;
+    }
+    double n = count;
+    double variance = m2 / (n - 1);
+    return n * (n + 1) / ((n - 1) * (n - 2) * (n - 3)) * m4 / (variance * variance)
+        - 3 * (n - 1) * (n - 1) / ((n - 2) * (n - 3));
+  }
+
+  /** Returns the geometric mean, which is NaN if there are no values or any is negative */
+  public double geometricMean() {
+    return count == 0 ? Double.NaN : Math.exp(sumOfLogs() / count);
+  }
+
+  /** Returns the root mean square of the values */
+  public double quadraticMean() {
+    return count == 0 ? Double.NaN : Math.sqrt(sumOfSquares / count);
+  }
+}
@@ -1,11 +1,22 @@
 package tech.tablesaw.columns.numbers;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayFIFOQueue;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.RollingColumn;
 
-/** Does a calculation on a rolling basis (e.g. mean for last 20 days) */
+/**
+ * Does a calculation on a rolling basis (e.g. mean for last 20 days)
+ *
+ * <p>The mean, sum, min, max, variance, standard deviation, missing value counts, median and
+ * percentiles are updated incrementally as the window slides, instead of summarizing a copy of
+ * every window. Other functions are evaluated window by window by {@link RollingColumn}.
+ */
 public class NumberRollingColumn extends RollingColumn {
 
   public NumberRollingColumn(NumericColumn<?> column, int window) {
@@ -20,6 +31,25 @@ public class NumberRollingColumn extends RollingColumn {
     return (DoubleColumn) calc(AggregateFunctions.median);
   }
 
+  /**
+   * Returns the given percentile of each window, using the same estimation as {@link
+   * AggregateFunctions#percentile(NumericColumn, Double)}.
+   *
+   * @param percentile the percentile to calculate, greater than 0 and at most 100
+   */
+  public DoubleColumn percentile(double percentile) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException(
+          "Percentile must be greater than 0 and at most 100, but was " + percentile);
+    }
+    String functionName =
+        (percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile))
+            + "th Percentile";
+    return slide(generateNewColumnName(functionName), () -> new SortedWindow(percentile));
+  }
+
   public DoubleColumn geometricMean() {
     return (DoubleColumn) calc(AggregateFunctions.geometricMean);
   }
@@ -59,4 +89,336 @@ public class NumberRollingColumn extends RollingColumn {
   public DoubleColumn kurtosis() {
     return (DoubleColumn) calc(AggregateFunctions.kurtosis);
   }
+
+  /**
+   * Applies the function to every window of the column. Functions that can be updated as the window
+   * slides are calculated in a single pass over the column; any other function is applied to each
+   * window in turn.
+   */
+  @Override
+  public <INCOL extends Column<?>, OUT> Column<?> calc(AggregateFunction<INCOL, OUT> function) {
+    Supplier<WindowAccumulator> accumulator = incrementalAccumulator(function);
+    if (accumulator == null) {
+      return super.calc(function);
+    }
+    return slide(generateNewColumnName(function), accumulator);
+  }
+
+  /** Returns a supplier of an accumulator for the function, or null if there is none. */
+  private static Supplier<WindowAccumulator> incrementalAccumulator(
+      AggregateFunction<?, ?> function) {
+    if (function == AggregateFunctions.mean) {
+      return () -> new SumAccumulator(true);
+    }
+    if (function == AggregateFunctions.sum) {
+      return () -> new SumAccumulator(false);
+    }
+    if (function == AggregateFunctions.min) {
+      return () -> new ExtremeAccumulator(false);
+    }
+    if (function == AggregateFunctions.max) {
+      return () -> new ExtremeAccumulator(true);
+    }
+    if (function == AggregateFunctions.variance) {
+      return () -> new VarianceAccumulator(false);
+    }
+    if (function == AggregateFunctions.stdDev) {
+      return () -> new VarianceAccumulator(true);
+    }
+    if (function == AggregateFunctions.countMissing) {
+      return () -> new CountAccumulator(true);
+    }
+    if (function == AggregateFunctions.countNonMissing) {
+      return () -> new CountAccumulator(false);
+    }
+    if (function == AggregateFunctions.median) {
+      return () -> new SortedWindow(50.0);
+    }
+    if (function == AggregateFunctions.quartile1) {
+      return () -> new SortedWindow(25.0);
+    }
+    if (function == AggregateFunctions.quartile3) {
+      return () -> new SortedWindow(75.0);
+    }
+    if (function == AggregateFunctions.percentile90) {
+      return () -> new SortedWindow(90.0);
+    }
+    if (function == AggregateFunctions.percentile95) {
+      return () -> new SortedWindow(95.0);
+    }
+    if (function == AggregateFunctions.percentile99) {
+      return () -> new SortedWindow(99.0);
+    }
+    return null;
+  }
+
+  /**
+   * Slides the window over the column adding the value entering the window and removing the value
+   * leaving it, so each value is visited twice regardless of the window size.
+   */
+  private DoubleColumn slide(String name, Supplier<WindowAccumulator> accumulatorSupplier) {
+    NumericColumn<?> numericColumn = (NumericColumn<?>) column;
+    int size = numericColumn.size();
+    DoubleColumn result = DoubleColumn.create(name, Math.max(size, window - 1));
+    WindowAccumulator accumulator = accumulatorSupplier.get();
+    for (int i = 0; i < size; i++) {
+      accumulator.add(numericColumn.getDouble(i));
+      if (i >= window) {
+        accumulator.remove(numericColumn.getDouble(i - window));
+      }
+      if (i >= window - 1) {
+        result.set(i, accumulator.value());
+      }
+    }
+    return result;
+  }
+
+  /** A summary of the values in a window that can be updated as values enter and leave it. */
+  private interface WindowAccumulator {
+
+    /** Adds a value that entered the window. Missing values are passed as NaN. */
+    void add(double value);
+
+    /** Removes a value that left the window, in the order the values were added. */
+    void remove(double value);
+
+    double value();
+  }
+
+  /**
+   * Sum or mean of the non missing values, using compensated summation to limit drift. The sum of
+   * an empty window is zero and the mean is missing.
+   */
+  private static final class SumAccumulator implements WindowAccumulator {
+    private final boolean mean;
+    private double sum;
+    private double compensation;
+    private int count;
+
+    private SumAccumulator(boolean mean) {
+      this.mean = mean;
+    }
+
+    @Override
+    public void add(double value) {
+      if (!Double.isNaN(value)) {
+        accumulate(value);
+        count++;
+      }
+    }
+
+    @Override
+    public void remove(double value) {
+      if (!Double.isNaN(value)) {
+        accumulate(-value);
+        count--;
+        if (count == 0) {
+          sum = 0;
+          compensation = 0;
+        }
+      }
+    }
+
+    private void accumulate(double value) {
+      double y = value - compensation;
+      double t = sum + y;
+      compensation = (t - sum) - y;
+      sum = t;
+    }
+
+    @Override
+    public double value() {
+      if (!mean) {
+        return sum;
+      }
+      return count == 0 ? DoubleColumnType.missingValueIndicator() : sum / count;
+    }
+  }
+
+  /**
+   * Min or max of the non missing values. Keeps a deque of the values that can still become the
+   * extreme of a later window, so each value is enqueued and dequeued at most once.
+   */
+  private static final class ExtremeAccumulator implements WindowAccumulator {
+    private final boolean max;
+    private final DoubleArrayFIFOQueue candidates = new DoubleArrayFIFOQueue();
+
+    private ExtremeAccumulator(boolean max) {
+      this.max = max;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      while (!candidates.isEmpty() && dominates(value, candidates.lastDouble())) {
+        candidates.dequeueLastDouble();
+      }
+      candidates.enqueue(value);
+    }
+
+    private boolean dominates(double value, double candidate) {
+      return max ? value > candidate : value < candidate;
+    }
+
+    @Override
+    public void remove(double value) {
+      if (!candidates.isEmpty() && candidates.firstDouble() == value) {
+        candidates.dequeueDouble();
+      }
+    }
+
+    @Override
+    public double value() {
+      return candidates.isEmpty()
+          ? DoubleColumnType.missingValueIndicator()
+          : candidates.firstDouble();
+    }
+  }
+
+  /** Sample variance or standard deviation of the non missing values using Welford's method. */
+  private static final class VarianceAccumulator implements WindowAccumulator {
+    private final boolean stdDev;
+    private int count;
+    private double mean;
+    private double sumOfSquaredDeviations;
+
+    private VarianceAccumulator(boolean stdDev) {
+      this.stdDev = stdDev;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      count++;
+      double delta = value - mean;
+      mean += delta / count;
+      sumOfSquaredDeviations += delta * (value - mean);
+    }
+
+    @Override
+    public void remove(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      if (count == 1) {
+        count = 0;
+        mean = 0;
+        sumOfSquaredDeviations = 0;
+        return;
+      }
+      double oldMean = mean;
+      count--;
+      mean = (oldMean * (count + 1) - value) / count;
+      sumOfSquaredDeviations -= (value - oldMean) * (value - mean);
+    }
+
+    @Override
+    public double value() {
+      if (count == 0) {
+        return DoubleColumnType.missingValueIndicator();
+      }
+      if (count == 1) {
+        return 0;
+      }
+      double variance = Math.max(sumOfSquaredDeviations, 0) / (count - 1);
+      return stdDev ? Math.sqrt(variance) : variance;
+    }
+  }
+
+  /** Number of missing or non missing values. */
+  private static final class CountAccumulator implements WindowAccumulator {
+    private final boolean missing;
+    private int count;
+
+    private CountAccumulator(boolean missing) {
+      this.missing = missing;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value) == missing) {
+        count++;
+      }
+    }
+
+    @Override
+    public void remove(double value) {
+      if (Double.isNaN(value) == missing) {
+        count--;
+      }
+    }
+
+    @Override
+    public double value() {
+      return count;
+    }
+  }
+
+  /**
+   * Percentile of the non missing values. The values are kept in a sorted array, so inserting and
+   * removing a value is a binary search and a shift of the values after it, and the percentile is
+   * read directly from the array.
+   */
+  private static final class SortedWindow implements WindowAccumulator {
+    private final double percentile;
+    private double[] sorted = new double[16];
+    private int count;
+
+    private SortedWindow(double percentile) {
+      this.percentile = percentile;
+    }
+
+    @Override
+    public void add(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      if (count == sorted.length) {
+        sorted = Arrays.copyOf(sorted, count * 2);
+      }
+      int index = Arrays.binarySearch(sorted, 0, count, value);
+      if (index < 0) {
+        index = -index - 1;
+      }
+      System.arraycopy(sorted, index, sorted, index + 1, count - index);
+      sorted[index] = value;
+      count++;
+    }
+
+    @Override
+    public void remove(double value) {
+      if (Double.isNaN(value)) {
+        return;
+      }
+      int index = Arrays.binarySearch(sorted, 0, count, value);
+      System.arraycopy(sorted, index + 1, sorted, index, count - index - 1);
+      count--;
+    }
+
+    /** Same estimate as {@link org.apache.commons.math3.stat.StatUtils#percentile}. */
+    @Override
+    public double value() {
+      if (count == 0) {
+        return DoubleColumnType.missingValueIndicator();
+      }
+      if (count == 1) {
+        return sorted[0];
+      }
+      double position = percentile * (count + 1) / 100;
+      if (position < 1) {
+        return sorted[0];
+      }
+      if (position >= count) {
+        return sorted[count - 1];
+      }
+      int floor = (int) Math.floor(position);
+      double lower = sorted[floor - 1];
+      double upper = sorted[floor];
+      return lower + (position - floor) * (upper - lower);
+    }
+  }
 }
@@ -0,0 +1,461 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.numbers;
+
+/**
+ * Validates and reads integers and floating point numbers straight from characters, without
+ * creating Strings or throwing exceptions for text that isn't a number.
+ *
+ * <p>The scanner accepts exactly the text that the number parsers accepted when they removed the
+ * commas and called {@link Long#parseLong(String)} or {@link Double#parseDouble(String)}: commas
+ * are ignored wherever they appear, integers may end in a decimal point followed by zeros if {@code
+ * ignoreZeroDecimal} is set, and floating point numbers may be surrounded by whitespace. Only ASCII
+ * digits are accepted.
+ *
+ * <p>Decimal numbers whose digits fit in the mantissa of a double and whose exponent is small,
+ * which covers most of what is found in data files, are converted exactly with a single
+ * multiplication or division by a power of ten. Other numbers are handed to the JDK, which rounds
+ * them correctly.
+ */
+public final class NumberScanner {
+
+  /** Powers of ten that are exactly representable as doubles */
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /** Powers of ten that are exactly representable as floats */
+  private static final float[] FLOAT_POWERS_OF_TEN = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  /** The largest mantissa that doubles represent exactly */
+  private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+  /** The largest mantissa that floats represent exactly */
+  private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+
+  /** The number of significant digits that always fit in a long */
+  private static final int MAX_MANTISSA_DIGITS = 18;
+
+  private static final int INVALID = 0;
+  private static final int DECIMAL = 1;
+  /** NaN, Infinity and hexadecimal numbers, which are left to the JDK */
+  private static final int OTHER = 2;
+
+  private NumberScanner() {}
+
+  /** Returns true if the text is a short, as read by {@link #parseShort(CharSequence, boolean)} */
+  public static boolean isShort(CharSequence s, boolean ignoreZeroDecimal) {
+    return isInteger(s, 0, s.length(), ignoreZeroDecimal, Short.MIN_VALUE, Short.MAX_VALUE);
+  }
+
+  /** Returns true if the text is an int, as read by {@link #parseInt(CharSequence, boolean)} */
+  public static boolean isInt(CharSequence s, boolean ignoreZeroDecimal) {
+    return isInteger(s, 0, s.length(), ignoreZeroDecimal, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /** Returns true if the text is a long, as read by {@link #parseLong(CharSequence, boolean)} */
+  public static boolean isLong(CharSequence s, boolean ignoreZeroDecimal) {
+    return isInteger(s, 0, s.length(), ignoreZeroDecimal, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns true if the text from {@code start} to {@code end} is an integer between {@code min}
+   * and {@code max}
+   */
+  public static boolean isInteger(
+      CharSequence s, int start, int end, boolean ignoreZeroDecimal, long min, long max) {
+    int integerEnd = integerEnd(s, start, end, ignoreZeroDecimal);
+    return integerEnd >= 0 && negatedMagnitude(s, start, integerEnd, min, max) <= 0;
+  }
+
+  /**
+   * Returns the short value of the text
+   *
+   * @throws NumberFormatException if the text isn't a short
+   */
+  public static short parseShort(CharSequence s, boolean ignoreZeroDecimal) {
+    return (short)
+        parseInteger(s, 0, s.length(), ignoreZeroDecimal, Short.MIN_VALUE, Short.MAX_VALUE);
+  }
+
+  /**
+   * Returns the int value of the text
+   *
+   * @throws NumberFormatException if the text isn't an int
+   */
+  public static int parseInt(CharSequence s, boolean ignoreZeroDecimal) {
+    return (int)
+        parseInteger(s, 0, s.length(), ignoreZeroDecimal, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the long value of the text
+   *
+   * @throws NumberFormatException if the text isn't a long
+   */
+  public static long parseLong(CharSequence s, boolean ignoreZeroDecimal) {
+    return parseInteger(s, 0, s.length(), ignoreZeroDecimal, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns the value of the integer from {@code start} to {@code end}
+   *
+   * @throws NumberFormatException if the text isn't an integer between {@code min} and {@code max}
+   */
+  public static long parseInteger(
+      CharSequence s, int start, int end, boolean ignoreZeroDecimal, long min, long max) {
+    int integerEnd = integerEnd(s, start, end, ignoreZeroDecimal);
+    if (integerEnd < 0) {
+      throw notANumber(s, start, end);
+    }
+    long negated = negatedMagnitude(s, start, integerEnd, min, max);
+    if (negated > 0) {
+      throw notANumber(s, start, end);
+    }
+    return isNegative(s, start, end) ? negated : -negated;
+  }
+
+  private static boolean isNegative(CharSequence s, int start, int end) {
+    int i = skipCommas(s, start, end);
+    return i < end && s.charAt(i) == '-';
+  }
+
+  /**
+   * Returns the end of the digits of the integer from {@code start} to {@code end}, leaving out a
+   * trailing decimal point and zeros if {@code ignoreZeroDecimal} is set, or -1 if the text isn't
+   * an optional sign followed by digits and commas, with at least one digit
+   */
+  private static int integerEnd(CharSequence s, int start, int end, boolean ignoreZeroDecimal) {
+    if (ignoreZeroDecimal) {
+      int i = end;
+      while (i > start && s.charAt(i - 1) == '0') {
+        i--;
+      }
+      if (i < end && i > start && s.charAt(i - 1) == '.') {
+        end = i - 1;
+      }
+    }
+    int i = skipCommas(s, start, end);
+    if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      i++;
+    }
+    boolean digits = false;
+    for (; i < end; i++) {
+      char c = s.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits = true;
+      } else if (c != ',') {
+        return -1;
+      }
+    }
+    return digits ? end : -1;
+  }
+
+  /**
+   * Returns the negated magnitude of a validated integer, accumulated in negative numbers so the
+   * magnitude of {@code min} fits, or 1 if the integer is out of range
+   */
+  private static long negatedMagnitude(CharSequence s, int start, int end, long min, long max) {
+    long limit = isNegative(s, start, end) ? min : -max;
+    long multiplicationLimit = limit / 10;
+    long result = 0;
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      if (c == ',' || c == '-' || c == '+') {
+        continue;
+      }
+      int digit = c - '0';
+      if (result < multiplicationLimit) {
+        return 1;
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return 1;
+      }
+      result -= digit;
+    }
+    return result;
+  }
+
+  /** Returns true if the text is a double or a float */
+  public static boolean isDouble(CharSequence s) {
+    return isDouble(s, 0, s.length());
+  }
+
+  /** Returns true if the text from {@code start} to {@code end} is a double or a float */
+  public static boolean isDouble(CharSequence s, int start, int end) {
+    switch (scan(s, start, end, null)) {
+      case DECIMAL:
+        return true;
+      case OTHER:
+        try {
+          Double.parseDouble(withoutCommas(s, start, end));
+          return true;
+        } catch (NumberFormatException e) {
+          // A malformed hexadecimal number
+          return false;
+        }
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Returns the double value of the text
+   *
+   * @throws NumberFormatException if the text isn't a number
+   */
+  public static double parseDouble(CharSequence s) {
+    return parseDouble(s, 0, s.length());
+  }
+
+  /**
+   * Returns the double value of the text from {@code start} to {@code end}
+   *
+   * @throws NumberFormatException if the text isn't a number
+   */
+  public static double parseDouble(CharSequence s, int start, int end) {
+    Decimal decimal = new Decimal();
+    int kind = scan(s, start, end, decimal);
+    if (kind == INVALID) {
+      throw notANumber(s, start, end);
+    }
+    if (kind == DECIMAL && !decimal.truncated && decimal.mantissa <= MAX_EXACT_DOUBLE_MANTISSA) {
+      int exponent = decimal.exponent;
+      if (decimal.mantissa == 0 || exponent >= -22 && exponent <= 22) {
+        double value = decimal.mantissa;
+        if (exponent < 0) {
+          value /= DOUBLE_POWERS_OF_TEN[-exponent];
+        } else if (exponent > 0) {
+          value *= DOUBLE_POWERS_OF_TEN[exponent];
+        }
+        return decimal.negative ? -value : value;
+      }
+    }
+    return Double.parseDouble(withoutCommas(s, start, end));
+  }
+
+  /**
+   * Returns the float value of the text
+   *
+   * @throws NumberFormatException if the text isn't a number
+   */
+  public static float parseFloat(CharSequence s) {
+    return parseFloat(s, 0, s.length());
+  }
+
+  /**
+   * Returns the float value of the text from {@code start} to {@code end}
+   *
+   * @throws NumberFormatException if the text isn't a number
+   */
+  public static float parseFloat(CharSequence s, int start, int end) {
+    Decimal decimal = new Decimal();
+    int kind = scan(s, start, end, decimal);
+    if (kind == INVALID) {
+      throw notANumber(s, start, end);
+    }
+    if (kind == DECIMAL && !decimal.truncated && decimal.mantissa <= MAX_EXACT_FLOAT_MANTISSA) {
+      int exponent = decimal.exponent;
+      if (decimal.mantissa == 0 || exponent >= -10 && exponent <= 10) {
+        float value = decimal.mantissa;
+        if (exponent < 0) {
+          value /= FLOAT_POWERS_OF_TEN[-exponent];
+        } else if (exponent > 0) {
+          value *= FLOAT_POWERS_OF_TEN[exponent];
+        }
+        return decimal.negative ? -value : value;
+      }
+    }
+    return Float.parseFloat(withoutCommas(s, start, end));
+  }
+
+  /** The parts of a decimal number: the value is the mantissa times ten to the exponent */
+  private static final class Decimal {
+    boolean negative;
+    long mantissa;
+    int exponent;
+    /** True if significant digits were left out of the mantissa */
+    boolean truncated;
+  }
+
+  /**
+   * Checks the text against the syntax of {@link Double#parseDouble(String)}, ignoring commas, and
+   * fills in the parts of a decimal number if {@code decimal} isn't null
+   */
+  private static int scan(CharSequence s, int start, int end, Decimal decimal) {
+    // Double.parseDouble trims the text, and the commas were removed before
+    while (start < end && isBlankOrComma(s.charAt(start))) {
+      start++;
+    }
+    while (end > start && isBlankOrComma(s.charAt(end - 1))) {
+      end--;
+    }
+    int i = start;
+    if (i == end) {
+      return INVALID;
+    }
+    boolean negative = s.charAt(i) == '-';
+    if (negative || s.charAt(i) == '+') {
+      i = skipCommas(s, i + 1, end);
+      if (i == end) {
+        return INVALID;
+      }
+    }
+    char c = s.charAt(i);
+    if (c == 'N') {
+      return matches(s, i, end, "NaN") ? OTHER : INVALID;
+    }
+    if (c == 'I') {
+      return matches(s, i, end, "Infinity") ? OTHER : INVALID;
+    }
+    if (c == '0') {
+      int next = skipCommas(s, i + 1, end);
+      if (next < end && (s.charAt(next) == 'x' || s.charAt(next) == 'X')) {
+        return OTHER;
+      }
+    }
+
+    long mantissa = 0;
+    int significantDigits = 0;
+    int exponent = 0;
+    boolean truncated = false;
+    boolean digits = false;
+    boolean fraction = false;
+    for (; i < end; i++) {
+      c = s.charAt(i);
+      if (c == ',') {
+        continue;
+      }
+      if (c == '.' && !fraction) {
+        fraction = true;
+        continue;
+      }
+      int digit = c - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      digits = true;
+      if (significantDigits < MAX_MANTISSA_DIGITS) {
+        if (mantissa != 0 || digit != 0) {
+          mantissa = mantissa * 10 + digit;
+          significantDigits++;
+        }
+        if (fraction) {
+          exponent--;
+        }
+      } else {
+        truncated |= digit != 0;
+        if (!fraction) {
+          exponent++;
+        }
+      }
+    }
+    if (!digits) {
+      return INVALID;
+    }
+
+    i = skipCommas(s, i, end);
+    if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+      i = skipCommas(s, i + 1, end);
+      boolean negativeExponent = false;
+      if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+        negativeExponent = s.charAt(i) == '-';
+        i = skipCommas(s, i + 1, end);
+      }
+      int explicitExponent = 0;
+      boolean exponentDigits = false;
+      for (; i < end; i++) {
+        c = s.charAt(i);
+        if (c == ',') {
+          continue;
+        }
+        int digit = c - '0';
+        if (digit < 0 || digit > 9) {
+          break;
+        }
+        exponentDigits = true;
+        // Larger exponents overflow or underflow anyway
+        if (explicitExponent < 100_000) {
+          explicitExponent = explicitExponent * 10 + digit;
+        }
+      }
+      if (!exponentDigits) {
+        return INVALID;
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+    if (i < end && isTypeSuffix(s.charAt(i))) {
+      i = skipCommas(s, i + 1, end);
+    }
+    if (i != end) {
+      return INVALID;
+    }
+    if (decimal != null) {
+      decimal.negative = negative;
+      decimal.mantissa = mantissa;
+      decimal.exponent = exponent;
+      decimal.truncated = truncated;
+    }
+    return DECIMAL;
+  }
+
+  private static boolean isBlankOrComma(char c) {
+    return c <= ' ' || c == ',';
+  }
+
+  private static boolean isTypeSuffix(char c) {
+    return c == 'd' || c == 'D' || c == 'f' || c == 'F';
+  }
+
+  private static int skipCommas(CharSequence s, int i, int end) {
+    while (i < end && s.charAt(i) == ',') {
+      i++;
+    }
+    return i;
+  }
+
+  /** Returns true if the text from {@code start} to {@code end} is the word, ignoring commas */
+  private static boolean matches(CharSequence s, int start, int end, String word) {
+    int i = start;
+    for (int j = 0; j < word.length(); j++) {
+      i = skipCommas(s, i, end);
+      if (i == end || s.charAt(i) != word.charAt(j)) {
+        return false;
+      }
+      i++;
+    }
+    return skipCommas(s, i, end) == end;
+  }
+
+  private static String withoutCommas(CharSequence s, int start, int end) {
+    StringBuilder builder = new StringBuilder(end - start);
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
+      if (c != ',') {
+        builder.append(c);
+      }
+    }
+    return builder.toString();
+  }
+
+  private static NumberFormatException notANumber(CharSequence s, int start, int end) {
+    return new NumberFormatException(
+        "For input string: \"" + s.subSequence(start, end).toString() + "\"");
+  }
+}
@@ -3,7 +3,6 @@ package tech.tablesaw.columns.numbers;
 import com.google.common.collect.Lists;
 import tech.tablesaw.columns.AbstractColumnParser;
 import tech.tablesaw.io.ReadOptions;
-import tech.tablesaw.util.StringUtils;
 
 public class ShortParser extends AbstractColumnParser<Short> {
 
@@ -27,17 +26,7 @@ public class ShortParser extends AbstractColumnParser<Short> {
     if (isMissing(str)) {
       return true;
     }
-    String s = str;
-    try {
-      if (ignoreZeroDecimal) {
-        s = StringUtils.removeZeroDecimal(s);
-      }
-      Short.parseShort(AbstractColumnParser.remove(s, ','));
-      return true;
-    } catch (NumberFormatException e) {
-      // it's all part of the plan
-      return false;
-    }
+    return NumberScanner.isShort(str, ignoreZeroDecimal);
   }
 
   @Override
@@ -47,7 +36,7 @@ public class ShortParser extends AbstractColumnParser<Short> {
 
   @Override
   public double parseDouble(String s) {
-    return parseInt(s);
+    return parseShort(s);
   }
 
   @Override
@@ -55,10 +44,6 @@ public class ShortParser extends AbstractColumnParser<Short> {
     if (isMissing(str)) {
       return ShortColumnType.missingValueIndicator();
     }
-    String s = str;
-    if (ignoreZeroDecimal) {
-      s = StringUtils.removeZeroDecimal(s);
-    }
-    return Short.parseShort(AbstractColumnParser.remove(s, ','));
+    return NumberScanner.parseShort(str, ignoreZeroDecimal);
   }
 }
@@ -14,7 +14,6 @@
 
 package tech.tablesaw.columns.numbers;
 
-import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.StringColumn;
@@ -23,6 +22,7 @@ import tech.tablesaw.api.Table;
 public class Stats {
 
   private long n;
+  private long missing;
   private double sum;
   private double mean;
   private double min;
@@ -35,35 +35,37 @@ public class Stats {
   private double populationVariance;
   private double sumOfLogs;
   private double sumOfSquares;
+  private double skewness;
+  private double kurtosis;
   private final String name;
 
   private Stats(String name) {
     this.name = name;
   }
 
+  /**
+   * Returns the statistics of the non-missing values in the column, which are all computed in a
+   * single pass
+   */
   public static Stats create(final NumericColumn<?> values) {
-    SummaryStatistics summaryStatistics = new SummaryStatistics();
-    for (int i = 0; i < values.size(); i++) {
-      summaryStatistics.addValue(values.getDouble(i));
-    }
-    return getStats(values, summaryStatistics);
-  }
-
-  private static Stats getStats(NumericColumn<?> values, SummaryStatistics summaryStatistics) {
+    Moments moments = Moments.of(values);
     Stats stats = new Stats("Column: " + values.name());
-    stats.min = summaryStatistics.getMin();
-    stats.max = summaryStatistics.getMax();
-    stats.n = summaryStatistics.getN();
-    stats.sum = summaryStatistics.getSum();
-    stats.variance = summaryStatistics.getVariance();
-    stats.populationVariance = summaryStatistics.getPopulationVariance();
-    stats.quadraticMean = summaryStatistics.getQuadraticMean();
-    stats.geometricMean = summaryStatistics.getGeometricMean();
-    stats.mean = summaryStatistics.getMean();
-    stats.standardDeviation = summaryStatistics.getStandardDeviation();
-    stats.sumOfLogs = summaryStatistics.getSumOfLogs();
-    stats.sumOfSquares = summaryStatistics.getSumsq();
-    stats.secondMoment = summaryStatistics.getSecondMoment();
+    stats.min = moments.min();
+    stats.max = moments.max();
+    stats.n = moments.count();
+    stats.missing = moments.missing();
+    stats.sum = moments.sum();
+    stats.variance = moments.variance();
+    stats.populationVariance = moments.populationVariance();
+    stats.quadraticMean = moments.quadraticMean();
+    stats.geometricMean = moments.geometricMean();
+    stats.mean = moments.mean();
+    stats.standardDeviation = moments.standardDeviation();
+    stats.skewness = moments.skewness();
+    stats.kurtosis = moments.kurtosis();
+    stats.sumOfLogs = moments.sumOfLogs();
+    stats.sumOfSquares = moments.sumOfSquares();
+    stats.secondMoment = moments.secondMoment();
     return stats;
   }
 
@@ -79,6 +81,11 @@ public class Stats {
     return n;
   }
 
+  /** Returns the number of missing values, which are excluded from all the other statistics */
+  public long missing() {
+    return missing;
+  }
+
   public double mean() {
     return mean;
   }
@@ -123,6 +130,14 @@ public class Stats {
     return secondMoment;
   }
 
+  public double skewness() {
+    return skewness;
+  }
+
+  public double kurtosis() {
+    return kurtosis;
+  }
+
   public Table asTable() {
     Table t = Table.create(name);
     StringColumn measure = StringColumn.create("Measure");
@@ -433,6 +433,33 @@ public class ByteDictionaryMap implements DictionaryMap {
     return dictionaryMap;
   }
 
+  @Override
+  public ByteDictionaryMap selectRows(int[] rows) {
+    byte[] keys = new byte[rows.length];
+    Byte2IntOpenHashMap selectedKeyToCount = new Byte2IntOpenHashMap();
+    selectedKeyToCount.defaultReturnValue(0);
+    for (int i = 0; i < rows.length; i++) {
+      byte key = values.getByte(rows[i]);
+      keys[i] = key;
+      selectedKeyToCount.addTo(key, 1);
+    }
+    Byte2ObjectMap<String> selectedKeyToValue = new Byte2ObjectOpenHashMap<>();
+    Object2ByteOpenHashMap<String> selectedValueToKey = new Object2ByteOpenHashMap<>();
+    selectedValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    for (byte key : selectedKeyToCount.keySet()) {
+      String value = keyToValue.get(key);
+      selectedKeyToValue.put(key, value);
+      selectedValueToKey.put(value, key);
+    }
+    return new ByteDictionaryBuilder()
+        .setNextIndex(nextIndex.get())
+        .setKeyToCount(selectedKeyToCount)
+        .setKeyToValue(selectedKeyToValue)
+        .setValueToKey(selectedValueToKey)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public int nextKeyWithoutIncrementing() {
     return nextIndex.get();
@@ -101,5 +101,11 @@ public interface DictionaryMap {
 
   DictionaryMap promoteYourself();
 
+  /**
+   * Returns a new map with the values at the given rows, in the order given. The new map uses the
+   * same keys as this one but only holds the keys of the selected rows.
+   */
+  DictionaryMap selectRows(int[] rows);
+
   int nextKeyWithoutIncrementing();
 }
@@ -419,6 +419,33 @@ public class IntDictionaryMap implements DictionaryMap {
     return this;
   }
 
+  @Override
+  public IntDictionaryMap selectRows(int[] rows) {
+    int[] keys = new int[rows.length];
+    Int2IntOpenHashMap selectedKeyToCount = new Int2IntOpenHashMap();
+    selectedKeyToCount.defaultReturnValue(0);
+    for (int i = 0; i < rows.length; i++) {
+      int key = values.getInt(rows[i]);
+      keys[i] = key;
+      selectedKeyToCount.addTo(key, 1);
+    }
+    Int2ObjectMap<String> selectedKeyToValue = new Int2ObjectOpenHashMap<>();
+    Object2IntOpenHashMap<String> selectedValueToKey = new Object2IntOpenHashMap<>();
+    selectedValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    for (int key : selectedKeyToCount.keySet()) {
+      String value = keyToValue.get(key);
+      selectedKeyToValue.put(key, value);
+      selectedValueToKey.put(value, key);
+    }
+    return new IntDictionaryBuilder()
+        .setNextIndex(nextIndex.get())
+        .setKeyToCount(selectedKeyToCount)
+        .setKeyToValue(selectedKeyToValue)
+        .setValueToKey(selectedValueToKey)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public int nextKeyWithoutIncrementing() {
     return nextIndex.get();
@@ -441,6 +441,33 @@ public class ShortDictionaryMap implements DictionaryMap {
     return dictionaryMap;
   }
 
+  @Override
+  public ShortDictionaryMap selectRows(int[] rows) {
+    short[] keys = new short[rows.length];
+    Short2IntOpenHashMap selectedKeyToCount = new Short2IntOpenHashMap();
+    selectedKeyToCount.defaultReturnValue(0);
+    for (int i = 0; i < rows.length; i++) {
+      short key = values.getShort(rows[i]);
+      keys[i] = key;
+      selectedKeyToCount.addTo(key, 1);
+    }
+    Short2ObjectMap<String> selectedKeyToValue = new Short2ObjectOpenHashMap<>();
+    Object2ShortOpenHashMap<String> selectedValueToKey = new Object2ShortOpenHashMap<>();
+    selectedValueToKey.defaultReturnValue(DEFAULT_RETURN_VALUE);
+    for (short key : selectedKeyToCount.keySet()) {
+      String value = keyToValue.get(key);
+      selectedKeyToValue.put(key, value);
+      selectedValueToKey.put(value, key);
+    }
+    return new ShortDictionaryBuilder()
+        .setNextIndex(nextIndex.get())
+        .setKeyToCount(selectedKeyToCount)
+        .setKeyToValue(selectedKeyToValue)
+        .setValueToKey(selectedValueToKey)
+        .setValues(keys)
+        .build();
+  }
+
   @Override
   public int nextKeyWithoutIncrementing() {
     return nextIndex.get();
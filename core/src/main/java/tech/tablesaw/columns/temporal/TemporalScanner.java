@@ -0,0 +1,283 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.columns.temporal;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import tech.tablesaw.columns.dates.DateColumnType;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.InstantColumnType;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.columns.times.TimeColumnType;
+
+/**
+ * Reads dates, times, date-times and instants in the common numeric layouts of the default parsers
+ * straight from the characters into their packed representations, without creating java.time
+ * objects or throwing exceptions.
+ *
+ * <p>Each method returns the missing value indicator of the column type if the text isn't in one of
+ * its layouts or isn't a valid value. It only accepts text that the default formatter of the type
+ * parses to the same value, so the parsers can fall back on the formatter for everything else,
+ * including month names, AM/PM markers and values the formatter adjusts, like the 30th of February.
+ */
+public final class TemporalScanner {
+
+  private TemporalScanner() {}
+
+  /**
+   * Returns the packed date for text in one of the layouts yyyy-MM-dd, yyyy/MM/dd, yyyyMMdd,
+   * MM-dd-yyyy, MM.dd.yyyy, M/d/yyyy and M/d/yy
+   */
+  public static int parseDate(CharSequence s) {
+    int length = s.length();
+    if (length == 10 && s.charAt(4) == s.charAt(7) && (s.charAt(4) == '-' || s.charAt(4) == '/')) {
+      return date(digits(s, 0, 4), digits(s, 5, 2), digits(s, 8, 2));
+    }
+    if (length == 8 && digits(s, 0, 8) >= 0) {
+      return date(digits(s, 0, 4), digits(s, 4, 2), digits(s, 6, 2));
+    }
+    if (length == 10 && s.charAt(2) == s.charAt(5) && (s.charAt(2) == '-' || s.charAt(2) == '.')) {
+      return date(digits(s, 6, 4), digits(s, 0, 2), digits(s, 3, 2));
+    }
+    return usDate(s, 0, length);
+  }
+
+  /**
+   * Returns the packed date for the text from {@code start} to {@code end} in the layout M/d/yyyy
+   * or M/d/yy. Two digit years are in the 2000s.
+   */
+  private static int usDate(CharSequence s, int start, int end) {
+    int firstSlash = indexOf(s, '/', start + 1, Math.min(end, start + 3));
+    if (firstSlash < 0) {
+      return DateColumnType.missingValueIndicator();
+    }
+    int secondSlash = indexOf(s, '/', firstSlash + 2, Math.min(end, firstSlash + 4));
+    if (secondSlash < 0) {
+      return DateColumnType.missingValueIndicator();
+    }
+    int month = digits(s, start, firstSlash - start);
+    int day = digits(s, firstSlash + 1, secondSlash - firstSlash - 1);
+    int yearLength = end - secondSlash - 1;
+    if (yearLength == 2) {
+      int year = digits(s, secondSlash + 1, 2);
+      return date(year < 0 ? -1 : 2000 + year, month, day);
+    }
+    if (yearLength == 4) {
+      return date(digits(s, secondSlash + 1, 4), month, day);
+    }
+    return DateColumnType.missingValueIndicator();
+  }
+
+  /**
+   * Returns the packed time for text in one of the layouts HH:mm, HH:mm:ss and HH:mm:ss followed by
+   * one to three digits of fractional seconds
+   */
+  public static int parseTime(CharSequence s) {
+    int length = s.length();
+    if (length == 5 || length == 8 || (length >= 10 && length <= 12)) {
+      return time(s, 0, length, 3);
+    }
+    return TimeColumnType.missingValueIndicator();
+  }
+
+  /**
+   * Returns the packed date-time for text in one of the layouts yyyy-MM-dd'T'HH:mm[:ss[.S...]],
+   * yyyy-MM-dd HH:mm:ss[.S] and M/d/yy H:mm. Digits after the milliseconds are ignored, as packed
+   * date-times hold milliseconds.
+   */
+  public static long parseDateTime(CharSequence s) {
+    int length = s.length();
+    if (length >= 16 && s.charAt(4) == '-' && s.charAt(7) == '-') {
+      char separator = s.charAt(10);
+      if (separator == 'T') {
+        return dateTime(date(s), time(s, 11, length, 9));
+      }
+      if (separator == ' ' && (length == 19 || length == 21)) {
+        return dateTime(date(s), time(s, 11, length, 1));
+      }
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    // M/d/yy H:mm
+    int space = indexOf(s, ' ', 5, Math.min(length, 9));
+    if (space < 0
+        || space != length - 5 && space != length - 6
+        || s.charAt(space - 3) != '/'
+        || s.charAt(length - 3) != ':') {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    int date = usDate(s, 0, space);
+    int hour = digits(s, space + 1, length - space - 4);
+    int minute = digits(s, length - 2, 2);
+    if (date == DateColumnType.missingValueIndicator() || !validTime(hour, minute, 0)) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    return dateTime(date, PackedLocalTime.of(hour, minute));
+  }
+
+  /** Returns the packed date-time, or the missing value indicator if the date or time is missing */
+  private static long dateTime(int date, int time) {
+    if (date == DateColumnType.missingValueIndicator()
+        || time == TimeColumnType.missingValueIndicator()) {
+      return DateTimeColumnType.missingValueIndicator();
+    }
+    return PackedLocalDateTime.create(date, time);
+  }
+
+  /**
+   * Returns the packed instant for text in the layout yyyy-MM-dd'T'HH:mm:ss[.S...]Z, in which
+   * digits after the milliseconds are ignored
+   */
+  public static long parseInstant(CharSequence s) {
+    int length = s.length();
+    if (length < 20
+        || s.charAt(length - 1) != 'Z'
+        || s.charAt(4) != '-'
+        || s.charAt(7) != '-'
+        || s.charAt(10) != 'T'
+        || length > 20 && length < 22) {
+      return InstantColumnType.missingValueIndicator();
+    }
+    int date = date(s);
+    int time = time(s, 11, length - 1, 9);
+    if (date == DateColumnType.missingValueIndicator()
+        || time == TimeColumnType.missingValueIndicator()) {
+      return InstantColumnType.missingValueIndicator();
+    }
+    return PackedInstant.create(date, time);
+  }
+
+  /** Returns the packed date for the yyyy-MM-dd date at the start of the text */
+  private static int date(CharSequence s) {
+    return date(digits(s, 0, 4), digits(s, 5, 2), digits(s, 8, 2));
+  }
+
+  /**
+   * Returns the packed time for HH:mm, HH:mm:ss or HH:mm:ss followed by one to {@code maxFraction}
+   * fractional digits, from {@code start} to {@code end}
+   */
+  private static int time(CharSequence s, int start, int end, int maxFraction) {
+    int length = end - start;
+    if (length < 5 || s.charAt(start + 2) != ':') {
+      return TimeColumnType.missingValueIndicator();
+    }
+    int hour = digits(s, start, 2);
+    int minute = digits(s, start + 3, 2);
+    int second = 0;
+    int millis = 0;
+    if (length > 5) {
+      if (length < 8 || s.charAt(start + 5) != ':') {
+        return TimeColumnType.missingValueIndicator();
+      }
+      second = digits(s, start + 6, 2);
+      if (length > 8) {
+        int fraction = length - 9;
+        if (s.charAt(start + 8) != '.' || fraction < 1 || fraction > maxFraction) {
+          return TimeColumnType.missingValueIndicator();
+        }
+        if (digits(s, start + 9, fraction) < 0) {
+          return TimeColumnType.missingValueIndicator();
+        }
+        millis = digits(s, start + 9, Math.min(fraction, 3));
+        for (int i = fraction; i < 3; i++) {
+          millis *= 10;
+        }
+      }
+    }
+    if (!validTime(hour, minute, second)) {
+      return TimeColumnType.missingValueIndicator();
+    }
+    return PackedLocalTime.of(hour, minute, second, millis);
+  }
+
+  private static boolean validTime(int hour, int minute, int second) {
+    return hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60;
+  }
+
+  /** Returns the packed date, or the missing value indicator if it isn't a valid date */
+  private static int date(int year, int month, int day) {
+    if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+      return DateColumnType.missingValueIndicator();
+    }
+    return PackedLocalDate.pack(year, month, day);
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+        return leap ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  /**
+   * Returns the value of the given number of decimal digits from {@code start}, or -1 if any of
+   * them isn't a digit
+   */
+  private static int digits(CharSequence s, int start, int count) {
+    if (count < 1) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = s.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Returns true if the formatter parses the whole text to a valid value. Text that doesn't match
+   * the formatter's layout is rejected without an exception being thrown, which matters for type
+   * detection, where most of the values tried aren't of the type.
+   */
+  public static boolean canParse(
+      DateTimeFormatter formatter, CharSequence text, TemporalQuery<?> query) {
+    ParsePosition position = new ParsePosition(0);
+    if (formatter.parseUnresolved(text, position) == null || position.getIndex() != text.length()) {
+      return false;
+    }
+    try {
+      formatter.parse(text, query);
+      return true;
+    } catch (DateTimeException e) {
+      // The fields are out of range
+      return false;
+    }
+  }
+
+  private static int indexOf(CharSequence s, char c, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
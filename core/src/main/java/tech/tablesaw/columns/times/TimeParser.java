@@ -5,10 +5,10 @@ import com.google.common.collect.Lists;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.temporal.TemporalScanner;
 import tech.tablesaw.io.ReadOptions;
 
 public class TimeParser extends AbstractColumnParser<LocalTime> {
@@ -82,13 +82,11 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
     if (isMissing(s)) {
       return true;
     }
-    try {
-      LocalTime.parse(s, formatter.withLocale(locale));
+    if (formatter == DEFAULT_FORMATTER
+        && TemporalScanner.parseTime(s) != TimeColumnType.missingValueIndicator()) {
       return true;
-    } catch (DateTimeParseException e) {
-      // it's all part of the plan
-      return false;
     }
+    return TemporalScanner.canParse(formatter.withLocale(locale), s, LocalTime::from);
   }
 
   @Override
@@ -99,4 +97,22 @@ public class TimeParser extends AbstractColumnParser<LocalTime> {
     String paddedValue = Strings.padStart(value, 4, '0');
     return LocalTime.parse(paddedValue, parserFormatter);
   }
+
+  /**
+   * Returns the packed time for the string. Times in the common numeric layouts of the default
+   * formatter are read without creating any objects.
+   */
+  public int parsePacked(String value) {
+    if (isMissing(value)) {
+      return TimeColumnType.missingValueIndicator();
+    }
+    if (parserFormatter == TIME_CONVERSION_FORMATTER) {
+      int time = TemporalScanner.parseTime(value);
+      if (time != TimeColumnType.missingValueIndicator()) {
+        return time;
+      }
+    }
+    String paddedValue = Strings.padStart(value, 4, '0');
+    return PackedLocalTime.pack(LocalTime.parse(paddedValue, parserFormatter));
+  }
 }
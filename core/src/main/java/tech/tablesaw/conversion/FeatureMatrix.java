@@ -0,0 +1,434 @@
+package tech.tablesaw.conversion;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.conversion.MatrixOptions.Layout;
+import tech.tablesaw.conversion.MatrixOptions.MissingValuePolicy;
+
+/**
+ * Columns of a table laid out as a matrix of doubles, ready to be copied into arrays or buffers.
+ *
+ * <p>The columns, one-hot categories and rows to export are worked out when the matrix is created,
+ * so it can fill caller-supplied buffers again and again without allocating. Each table column is
+ * read sequentially: column-major matrices are filled a column at a time, and row-major ones a
+ * block of rows at a time, with the block small enough to stay in cache while each column writes to
+ * it.
+ */
+public class FeatureMatrix {
+
+  /** The number of rows read from a column at a time */
+  private static final int BLOCK_SIZE = 1024;
+
+  private final List<Feature> features = new ArrayList<>();
+  private final int[] firstColumns;
+  private final List<String> columnNames = new ArrayList<>();
+  /** The table rows to export, or null to export them all */
+  private final int[] rows;
+
+  private final int rowCount;
+  private final Layout layout;
+  private final boolean parallel;
+
+  FeatureMatrix(List<Column<?>> columns, MatrixOptions options) {
+    Preconditions.checkArgument(!columns.isEmpty(), "There are no columns to export");
+    this.layout = options.layout();
+    this.parallel = options.parallel();
+    MissingValuePolicy policy = options.missingValuePolicy();
+    if (policy == MissingValuePolicy.FAIL) {
+      for (Column<?> column : columns) {
+        if (column.countMissing() > 0) {
+          throw new IllegalStateException("Column " + column.name() + " has missing values");
+        }
+      }
+    }
+    this.rows = policy == MissingValuePolicy.DROP_ROWS ? completeRows(columns) : null;
+    this.rowCount = rows == null ? columns.get(0).size() : rows.length;
+
+    firstColumns = new int[columns.size()];
+    int columnCount = 0;
+    for (int i = 0; i < columns.size(); i++) {
+      Feature feature = feature(columns.get(i), options);
+      features.add(feature);
+      firstColumns[i] = columnCount;
+      for (int j = 0; j < feature.width(); j++) {
+        columnNames.add(feature.name(j));
+      }
+      columnCount += feature.width();
+    }
+  }
+
+  private static Feature feature(Column<?> column, MatrixOptions options) {
+    if (column instanceof NumericColumn) {
+      return new NumericFeature(column, ((NumericColumn<?>) column)::getDouble, options);
+    } else if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return new NumericFeature(
+          column, row -> booleans.isMissing(row) ? Double.NaN : booleans.getDouble(row), options);
+    } else if (column instanceof StringColumn) {
+      return new OneHotFeature((StringColumn) column, options);
+    }
+    throw new IllegalArgumentException(
+        "Column " + column.name() + " of type " + column.type() + " can't be exported to a matrix");
+  }
+
+  /** Returns the rows in which none of the columns has a missing value */
+  private static int[] completeRows(List<Column<?>> columns) {
+    int size = columns.get(0).size();
+    int[] complete = new int[size];
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      boolean missing = false;
+      for (int i = 0; i < columns.size() && !missing; i++) {
+        missing = columns.get(i).isMissing(row);
+      }
+      if (!missing) {
+        complete[count++] = row;
+      }
+    }
+    return count == size ? null : Arrays.copyOf(complete, count);
+  }
+
+  public int rowCount() {
+    return rowCount;
+  }
+
+  public int columnCount() {
+    return columnNames.size();
+  }
+
+  /** The names of the matrix columns. One-hot columns are named column=category. */
+  public List<String> columnNames() {
+    return Collections.unmodifiableList(columnNames);
+  }
+
+  public Layout layout() {
+    return layout;
+  }
+
+  /**
+   * Returns a new matrix of the values, indexed by row and then column if the layout is row-major,
+   * and by column and then row if it's column-major
+   */
+  public double[][] toDoubleMatrix() {
+    double[][] matrix =
+        layout == Layout.ROW_MAJOR
+            ? new double[rowCount][columnCount()]
+            : new double[columnCount()][rowCount];
+    fill(matrix);
+    return matrix;
+  }
+
+  /** Fills the given matrix, which must have the shape of the one returned by toDoubleMatrix() */
+  public void fill(double[][] matrix) {
+    int outer = layout == Layout.ROW_MAJOR ? rowCount : columnCount();
+    int inner = layout == Layout.ROW_MAJOR ? columnCount() : rowCount;
+    Preconditions.checkArgument(
+        matrix.length == outer, "The matrix has %s arrays instead of %s", matrix.length, outer);
+    for (double[] array : matrix) {
+      Preconditions.checkArgument(
+          array.length == inner, "An array has length %s instead of %s", array.length, inner);
+    }
+    if (layout == Layout.ROW_MAJOR) {
+      fill(
+          (column, firstRow, values, count) -> {
+            for (int i = 0; i < count; i++) {
+              matrix[firstRow + i][column] = values[i];
+            }
+          });
+    } else {
+      fill(
+          (column, firstRow, values, count) ->
+              System.arraycopy(values, 0, matrix[column], firstRow, count));
+    }
+  }
+
+  /** Returns a new array of the values in the order of the layout */
+  public double[] toDoubleArray() {
+    double[] array = new double[size()];
+    fill(array);
+    return array;
+  }
+
+  /**
+   * Writes the values in the order of the layout to the start of the given array, which must hold
+   * at least rowCount() * columnCount() values
+   */
+  public void fill(double[] array) {
+    checkCapacity(array.length);
+    int columnCount = columnCount();
+    if (layout == Layout.ROW_MAJOR) {
+      fill(
+          (column, firstRow, values, count) -> {
+            for (int i = 0, index = firstRow * columnCount + column; i < count; i++) {
+              array[index] = values[i];
+              index += columnCount;
+            }
+          });
+    } else {
+      fill(
+          (column, firstRow, values, count) ->
+              System.arraycopy(values, 0, array, column * rowCount + firstRow, count));
+    }
+  }
+
+  /** Returns a new array of the values, rounded to floats, in the order of the layout */
+  public float[] toFloatArray() {
+    float[] array = new float[size()];
+    fill(array);
+    return array;
+  }
+
+  /**
+   * Writes the values, rounded to floats, in the order of the layout to the start of the given
+   * array, which must hold at least rowCount() * columnCount() values
+   */
+  public void fill(float[] array) {
+    checkCapacity(array.length);
+    int rowStride = layout == Layout.ROW_MAJOR ? columnCount() : 1;
+    int columnStride = layout == Layout.ROW_MAJOR ? 1 : rowCount;
+    fill(
+        (column, firstRow, values, count) -> {
+          int index = firstRow * rowStride + column * columnStride;
+          for (int i = 0; i < count; i++) {
+            array[index] = (float) values[i];
+            index += rowStride;
+          }
+        });
+  }
+
+  /**
+   * Writes the values as doubles in the order of the layout and the byte order of the buffer,
+   * starting at its position, and moves the position past them. Direct buffers can be handed to
+   * native libraries without copying.
+   */
+  public void fill(ByteBuffer buffer) {
+    checkCapacity(buffer.remaining() / Double.BYTES);
+    DoubleBuffer doubles = buffer.asDoubleBuffer();
+    int rowStride = layout == Layout.ROW_MAJOR ? columnCount() : 1;
+    int columnStride = layout == Layout.ROW_MAJOR ? 1 : rowCount;
+    fill(
+        (column, firstRow, values, count) -> {
+          int index = firstRow * rowStride + column * columnStride;
+          for (int i = 0; i < count; i++) {
+            doubles.put(index, values[i]);
+            index += rowStride;
+          }
+        });
+    buffer.position(buffer.position() + size() * Double.BYTES);
+  }
+
+  private int size() {
+    long size = (long) rowCount * columnCount();
+    Preconditions.checkState(
+        size <= Integer.MAX_VALUE, "The matrix has too many values for an array: %s", size);
+    return (int) size;
+  }
+
+  private void checkCapacity(int capacity) {
+    Preconditions.checkArgument(
+        capacity >= size(), "The buffer holds %s values, but the matrix has %s", capacity, size());
+  }
+
+  /** Receives the values of the matrix, a block of rows of one column at a time */
+  @FunctionalInterface
+  interface Target {
+    /** Receives the first {@code count} values, which belong in the column from firstRow on */
+    void put(int column, int firstRow, double[] values, int count);
+  }
+
+  void fill(Target target) {
+    if (layout == Layout.COLUMN_MAJOR) {
+      IntStream featureIndexes = IntStream.range(0, features.size());
+      if (parallel) {
+        featureIndexes = featureIndexes.parallel();
+      }
+      featureIndexes.forEach(
+          i -> {
+            double[] block = new double[BLOCK_SIZE];
+            for (int from = 0; from < rowCount; from += BLOCK_SIZE) {
+              fill(target, i, from, Math.min(rowCount, from + BLOCK_SIZE), block);
+            }
+          });
+    } else {
+      IntStream blocks = IntStream.range(0, (rowCount + BLOCK_SIZE - 1) / BLOCK_SIZE);
+      if (parallel) {
+        blocks = blocks.parallel();
+      }
+      blocks.forEach(
+          b -> {
+            double[] block = new double[BLOCK_SIZE];
+            int from = b * BLOCK_SIZE;
+            int to = Math.min(rowCount, from + BLOCK_SIZE);
+            for (int i = 0; i < features.size(); i++) {
+              fill(target, i, from, to, block);
+            }
+          });
+    }
+  }
+
+  /** Writes the values of a feature for the matrix rows from {@code from} to {@code to} */
+  private void fill(Target target, int featureIndex, int from, int to, double[] block) {
+    features.get(featureIndex).write(rows, from, to, block, firstColumns[featureIndex], target);
+  }
+
+  /** A table column, which becomes one or more matrix columns */
+  private abstract static class Feature {
+
+    abstract int width();
+
+    abstract String name(int i);
+
+    /**
+     * Hands the target the values of the matrix rows from {@code from} to {@code to}, whose table
+     * rows are given by {@code rows}, or are the same if it's null. The values are put in the
+     * block, which holds BLOCK_SIZE values, before they are handed over.
+     */
+    abstract void write(
+        int[] rows, int from, int to, double[] block, int firstColumn, Target target);
+  }
+
+  private static final class NumericFeature extends Feature {
+
+    private final Column<?> column;
+    private final IntToDoubleFunction values;
+    /** Whether missing values are replaced; if not, they are NaN, as returned by getDouble */
+    private final boolean replace;
+
+    private final double replacement;
+
+    private NumericFeature(Column<?> column, IntToDoubleFunction values, MatrixOptions options) {
+      this.column = column;
+      this.values = values;
+      MissingValuePolicy policy = options.missingValuePolicy();
+      this.replace = policy == MissingValuePolicy.REPLACE || policy == MissingValuePolicy.MEAN;
+      this.replacement =
+          policy == MissingValuePolicy.MEAN ? mean() : options.missingValueReplacement();
+    }
+
+    private double mean() {
+      double sum = 0;
+      int count = 0;
+      for (int row = 0; row < column.size(); row++) {
+        if (!column.isMissing(row)) {
+          sum += values.applyAsDouble(row);
+          count++;
+        }
+      }
+      return sum / count;
+    }
+
+    @Override
+    int width() {
+      return 1;
+    }
+
+    @Override
+    String name(int i) {
+      return column.name();
+    }
+
+    @Override
+    void write(int[] rows, int from, int to, double[] block, int firstColumn, Target target) {
+      for (int row = from; row < to; row++) {
+        int tableRow = rows == null ? row : rows[row];
+        block[row - from] =
+            replace && column.isMissing(tableRow) ? replacement : values.applyAsDouble(tableRow);
+      }
+      target.put(firstColumn, from, block, to - from);
+    }
+  }
+
+  private static final class OneHotFeature extends Feature {
+
+    private final StringColumn column;
+    private final DictionaryMap dictionary;
+    private final String[] categories;
+    /** The index of the category of each dictionary key */
+    private final Int2IntOpenHashMap keyToCategory = new Int2IntOpenHashMap();
+    /** The values of the matrix columns in rows where the category is missing */
+    private final double[] missingValues;
+
+    private OneHotFeature(StringColumn column, MatrixOptions options) {
+      this.column = column;
+      this.dictionary = column.getDictionary();
+      for (int row = 0; row < column.size(); row++) {
+        if (!column.isMissing(row)) {
+          keyToCategory.put(dictionary.getKeyForIndex(row), 0);
+        }
+      }
+      int[] keys = keyToCategory.keySet().toIntArray();
+      categories = new String[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+        categories[i] = dictionary.getValueForKey(keys[i]);
+      }
+      Arrays.sort(categories);
+      for (int key : keys) {
+        keyToCategory.put(key, Arrays.binarySearch(categories, dictionary.getValueForKey(key)));
+      }
+
+      missingValues = new double[categories.length];
+      switch (options.missingValuePolicy()) {
+        case REPLACE:
+          Arrays.fill(missingValues, options.missingValueReplacement());
+          break;
+        case MEAN:
+          int present = 0;
+          for (int row = 0; row < column.size(); row++) {
+            if (!column.isMissing(row)) {
+              missingValues[keyToCategory.get(dictionary.getKeyForIndex(row))]++;
+              present++;
+            }
+          }
+          for (int i = 0; i < missingValues.length; i++) {
+            missingValues[i] /= present;
+          }
+          break;
+        default:
+          Arrays.fill(missingValues, Double.NaN);
+      }
+    }
+
+    @Override
+    int width() {
+      return categories.length;
+    }
+
+    @Override
+    String name(int i) {
+      return column.name() + "=" + categories[i];
+    }
+
+    @Override
+    void write(int[] rows, int from, int to, double[] block, int firstColumn, Target target) {
+      // The category of each row, or -1 if it's missing
+      int[] rowCategories = new int[to - from];
+      for (int row = from; row < to; row++) {
+        int tableRow = rows == null ? row : rows[row];
+        rowCategories[row - from] =
+            column.isMissing(tableRow)
+                ? -1
+                : keyToCategory.get(dictionary.getKeyForIndex(tableRow));
+      }
+      for (int category = 0; category < categories.length; category++) {
+        for (int i = 0; i < rowCategories.length; i++) {
+          int rowCategory = rowCategories[i];
+          block[i] = rowCategory < 0 ? missingValues[category] : rowCategory == category ? 1 : 0;
+        }
+        target.put(firstColumn + category, from, block, to - from);
+      }
+    }
+  }
+}
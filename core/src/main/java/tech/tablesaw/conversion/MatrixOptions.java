@@ -0,0 +1,124 @@
+package tech.tablesaw.conversion;
+
+import com.google.common.base.Preconditions;
+
+/** Options for exporting the columns of a table as a {@link FeatureMatrix} */
+public class MatrixOptions {
+
+  /** The order in which the values of a matrix are laid out */
+  public enum Layout {
+    /** The values of each row are next to each other */
+    ROW_MAJOR,
+    /** The values of each column are next to each other */
+    COLUMN_MAJOR
+  }
+
+  /** What to do with missing values */
+  public enum MissingValuePolicy {
+    /** Missing values are NaN */
+    KEEP,
+    /** Missing values are replaced by {@link MatrixOptions#missingValueReplacement()} */
+    REPLACE,
+    /**
+     * Missing values are replaced by the mean of their matrix column over the rows in which the
+     * value isn't missing. For a one-hot column, that's the share of those rows with its category.
+     */
+    MEAN,
+    /** Rows with a missing value in any of the columns are left out */
+    DROP_ROWS,
+    /** An IllegalStateException is thrown if any of the columns has a missing value */
+    FAIL
+  }
+
+  private final String[] columnNames;
+  private final Layout layout;
+  private final MissingValuePolicy missingValuePolicy;
+  private final double missingValueReplacement;
+  private final boolean parallel;
+
+  protected MatrixOptions(Builder builder) {
+    this.columnNames = builder.columnNames;
+    this.layout = builder.layout;
+    this.missingValuePolicy = builder.missingValuePolicy;
+    this.missingValueReplacement = builder.missingValueReplacement;
+    this.parallel = builder.parallel;
+  }
+
+  /** The names of the columns to export, or an empty array to export all the numeric columns */
+  public String[] columnNames() {
+    return columnNames;
+  }
+
+  public Layout layout() {
+    return layout;
+  }
+
+  public MissingValuePolicy missingValuePolicy() {
+    return missingValuePolicy;
+  }
+
+  public double missingValueReplacement() {
+    return missingValueReplacement;
+  }
+
+  public boolean parallel() {
+    return parallel;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+
+    private String[] columnNames = new String[0];
+    private Layout layout = Layout.ROW_MAJOR;
+    private MissingValuePolicy missingValuePolicy = MissingValuePolicy.KEEP;
+    private double missingValueReplacement = Double.NaN;
+    private boolean parallel;
+
+    protected Builder() {}
+
+    /**
+     * The columns to export, in order. Numeric and boolean columns each become one matrix column.
+     * String columns are one-hot encoded: they become a matrix column per category, in sorted
+     * order, holding 1 in the rows with that category and 0 in the others. By default all the
+     * numeric columns are exported.
+     */
+    public Builder columns(String... columnNames) {
+      this.columnNames = columnNames;
+      return this;
+    }
+
+    public Builder layout(Layout layout) {
+      this.layout = Preconditions.checkNotNull(layout);
+      return this;
+    }
+
+    public Builder missingValues(MissingValuePolicy missingValuePolicy) {
+      this.missingValuePolicy = Preconditions.checkNotNull(missingValuePolicy);
+      return this;
+    }
+
+    /** Replaces missing values with the given value */
+    public Builder replaceMissingValuesWith(double replacement) {
+      this.missingValuePolicy = MissingValuePolicy.REPLACE;
+      this.missingValueReplacement = replacement;
+      return this;
+    }
+
+    /**
+     * Whether to fill matrices using several threads. Column-major matrices are filled a column per
+     * task, and row-major ones a block of rows per task, so that threads don't write to the same
+     * cache lines.
+     */
+    public Builder parallel(boolean parallel) {
+      this.parallel = parallel;
+      return this;
+    }
+
+    public MatrixOptions build() {
+      return new MatrixOptions(this);
+    }
+  }
+}
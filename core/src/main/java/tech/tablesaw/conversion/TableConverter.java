@@ -1,8 +1,9 @@
 package tech.tablesaw.conversion;
 
-import com.google.common.base.Preconditions;
+import java.util.ArrayList;
 import java.util.List;
 import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.Relation;
 
 public class TableConverter {
@@ -49,42 +50,51 @@ public class TableConverter {
     return intMatrix(table.numericColumns(columnNames));
   }
 
-  private static double[][] doubleMatrix(List<NumericColumn<?>> numberColumns) {
-    Preconditions.checkArgument(!numberColumns.isEmpty());
-    int obs = numberColumns.get(0).size();
-    double[][] allVals = new double[obs][numberColumns.size()];
-
-    for (int r = 0; r < obs; r++) {
-      for (int c = 0; c < numberColumns.size(); c++) {
-        allVals[r][c] = numberColumns.get(c).getDouble(r);
+  /**
+   * Returns the columns named in the options, or all the numeric columns if none are named, as a
+   * matrix that can be copied into arrays and buffers
+   */
+  public FeatureMatrix featureMatrix(MatrixOptions options) {
+    List<Column<?>> columns = new ArrayList<>();
+    if (options.columnNames().length == 0) {
+      columns.addAll(table.numericColumns());
+    } else {
+      for (String name : options.columnNames()) {
+        columns.add(table.column(name));
       }
     }
-    return allVals;
+    return new FeatureMatrix(columns, options);
   }
 
-  private static float[][] floatMatrix(List<NumericColumn<?>> numberColumns) {
-    Preconditions.checkArgument(!numberColumns.isEmpty());
-    int obs = numberColumns.get(0).size();
-    float[][] allVals = new float[obs][numberColumns.size()];
+  private static FeatureMatrix featureMatrix(List<NumericColumn<?>> numberColumns) {
+    return new FeatureMatrix(new ArrayList<>(numberColumns), MatrixOptions.builder().build());
+  }
 
-    for (int r = 0; r < obs; r++) {
-      for (int c = 0; c < numberColumns.size(); c++) {
-        allVals[r][c] = (float) numberColumns.get(c).getDouble(r);
-      }
-    }
+  private static double[][] doubleMatrix(List<NumericColumn<?>> numberColumns) {
+    return featureMatrix(numberColumns).toDoubleMatrix();
+  }
+
+  private static float[][] floatMatrix(List<NumericColumn<?>> numberColumns) {
+    FeatureMatrix matrix = featureMatrix(numberColumns);
+    float[][] allVals = new float[matrix.rowCount()][matrix.columnCount()];
+    matrix.fill(
+        (column, firstRow, values, count) -> {
+          for (int i = 0; i < count; i++) {
+            allVals[firstRow + i][column] = (float) values[i];
+          }
+        });
     return allVals;
   }
 
   private static int[][] intMatrix(List<NumericColumn<?>> numberColumns) {
-    Preconditions.checkArgument(!numberColumns.isEmpty());
-    int obs = numberColumns.get(0).size();
-    int[][] allVals = new int[obs][numberColumns.size()];
-
-    for (int r = 0; r < obs; r++) {
-      for (int c = 0; c < numberColumns.size(); c++) {
-        allVals[r][c] = (int) numberColumns.get(c).getDouble(r);
-      }
-    }
+    FeatureMatrix matrix = featureMatrix(numberColumns);
+    int[][] allVals = new int[matrix.rowCount()][matrix.columnCount()];
+    matrix.fill(
+        (column, firstRow, values, count) -> {
+          for (int i = 0; i < count; i++) {
+            allVals[firstRow + i][column] = (int) values[i];
+          }
+        });
     return allVals;
   }
 }
@@ -1,21 +1,48 @@
 package tech.tablesaw.conversion.smile;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import smile.data.DataFrame;
-import smile.data.Tuple;
+import smile.data.measure.Measure;
+import smile.data.measure.NominalScale;
 import smile.data.type.DataType;
 import smile.data.type.DataTypes;
 import smile.data.type.StructField;
 import smile.data.type.StructType;
+import smile.data.vector.BaseVector;
+import smile.data.vector.BooleanVector;
+import smile.data.vector.DoubleVector;
+import smile.data.vector.FloatVector;
+import smile.data.vector.IntVector;
+import smile.data.vector.LongVector;
+import smile.data.vector.ShortVector;
+import smile.data.vector.StringVector;
+import smile.data.vector.Vector;
+import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
 import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.strings.DictionaryMap;
 import tech.tablesaw.table.Relation;
 
+/**
+ * Converts a table to a Smile DataFrame one column at a time. Numeric and boolean columns without
+ * missing values become primitive vectors filled straight from the column data, so no object is
+ * created per value. Columns with missing values become vectors of the boxed type holding nulls, as
+ * Smile's primitive vectors can't represent them.
+ */
 public class SmileConverter {
 
   private final Relation table;
@@ -25,32 +52,170 @@ public class SmileConverter {
   }
 
   public DataFrame toDataFrame() {
-    StructType schema =
-        DataTypes.struct(
-            table.columns().stream()
-                .map(col -> new StructField(col.name(), toSmileType(col.type())))
-                .collect(Collectors.toList()));
-    return toDataFrame(schema);
+    return toDataFrame(schema(false));
   }
 
+  /**
+   * Returns a DataFrame in which string columns are nominal: each value is replaced by the code of
+   * its level, and the levels are kept in the field's {@link NominalScale}. The codes are worked
+   * out from the column's dictionary, so the strings are neither hashed nor compared per row.
+   */
+  public DataFrame toNominalDataFrame() {
+    return toDataFrame(schema(true));
+  }
+
+  /**
+   * Returns a DataFrame with the given schema, which has a field for each column of the table. A
+   * string column is made nominal if its field has an integral type or a {@link NominalScale}. If
+   * the scale is given, its levels must include every value of the column; otherwise the levels are
+   * the column's values in sorted order.
+   */
   public DataFrame toDataFrame(StructType schema) {
-    List<Tuple> rows = new ArrayList<>();
-    int colCount = table.columnCount();
-    for (int rowIndex = 0; rowIndex < table.rowCount(); rowIndex++) {
-      Object[] row = new Object[colCount];
-      for (int colIndex = 0; colIndex < colCount; colIndex++) {
-        Column<?> col = table.column(colIndex);
-        if (!col.isMissing(rowIndex)) {
-          row[colIndex] =
-              col.type().equals(ColumnType.INSTANT)
-                  ? LocalDateTime.ofInstant(((InstantColumn) col).get(rowIndex), ZoneOffset.UTC)
-                  : col.get(rowIndex);
+    List<BaseVector<?, ?, ?>> vectors = new ArrayList<>();
+    for (int colIndex = 0; colIndex < table.columnCount(); colIndex++) {
+      vectors.add(vector(table.column(colIndex), schema.field(colIndex)));
+    }
+    return DataFrame.of(vectors.toArray(new BaseVector<?, ?, ?>[0]));
+  }
+
+  private StructType schema(boolean nominalStrings) {
+    return DataTypes.struct(
+        table.columns().stream()
+            .map(
+                col ->
+                    new StructField(
+                        col.name(),
+                        nominalStrings && col.type().equals(ColumnType.STRING)
+                            ? DataTypes.IntegerType
+                            : toSmileType(col.type())))
+            .collect(Collectors.toList()));
+  }
+
+  private BaseVector<?, ?, ?> vector(Column<?> col, StructField field) {
+    int rowCount = table.rowCount();
+    if (col.type().equals(ColumnType.STRING) && isNominal(field)) {
+      return nominal((StringColumn) col, field);
+    }
+    if (field.type.isPrimitive() && col.countMissing() > 0) {
+      return boxed(col, new StructField(field.name, field.type.boxed(), field.measure));
+    }
+    ColumnType type = col.type();
+    if (type.equals(ColumnType.DOUBLE)) {
+      DoubleColumn column = (DoubleColumn) col;
+      double[] values = new double[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = column.getDouble(i);
+      }
+      return DoubleVector.of(field, values);
+    } else if (type.equals(ColumnType.FLOAT)) {
+      FloatColumn column = (FloatColumn) col;
+      float[] values = new float[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = column.getFloat(i);
+      }
+      return FloatVector.of(field, values);
+    } else if (type.equals(ColumnType.INTEGER)) {
+      IntColumn column = (IntColumn) col;
+      int[] values = new int[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = column.getInt(i);
+      }
+      return IntVector.of(field, values);
+    } else if (type.equals(ColumnType.LONG)) {
+      LongColumn column = (LongColumn) col;
+      long[] values = new long[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = column.getLong(i);
+      }
+      return LongVector.of(field, values);
+    } else if (type.equals(ColumnType.SHORT)) {
+      ShortColumn column = (ShortColumn) col;
+      short[] values = new short[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = column.getShort(i);
+      }
+      return ShortVector.of(field, values);
+    } else if (type.equals(ColumnType.BOOLEAN)) {
+      BooleanColumn column = (BooleanColumn) col;
+      boolean[] values = new boolean[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = column.getByte(i) == BooleanColumnType.BYTE_TRUE;
+      }
+      return BooleanVector.of(field, values);
+    } else if (type.equals(ColumnType.STRING) || type.equals(ColumnType.TEXT)) {
+      String[] values = new String[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        values[i] = col.isMissing(i) ? null : col.getString(i);
+      }
+      return StringVector.of(field, values);
+    }
+    return boxed(col, field);
+  }
+
+  /** Returns a vector of the values as objects, with nulls for missing values */
+  private BaseVector<?, ?, ?> boxed(Column<?> col, StructField field) {
+    Object[] values = new Object[table.rowCount()];
+    boolean instant = col.type().equals(ColumnType.INSTANT);
+    for (int i = 0; i < values.length; i++) {
+      if (!col.isMissing(i)) {
+        values[i] =
+            instant
+                ? LocalDateTime.ofInstant(((InstantColumn) col).get(i), ZoneOffset.UTC)
+                : col.get(i);
+      }
+    }
+    return Vector.of(field, values);
+  }
+
+  private static boolean isNominal(StructField field) {
+    return field.type.isIntegral()
+        || field.measure.filter(NominalScale.class::isInstance).isPresent();
+  }
+
+  /**
+   * Returns a vector of the level codes of the column's values. The dictionary key of each row is
+   * mapped to a code, so each distinct value is looked up once however many rows hold it. Missing
+   * values are a level of their own, the column's missing value indicator.
+   */
+  private BaseVector<?, ?, ?> nominal(StringColumn col, StructField field) {
+    DictionaryMap dictionary = col.getDictionary();
+    int rowCount = table.rowCount();
+    Int2IntOpenHashMap keyToCode = new Int2IntOpenHashMap();
+    for (int i = 0; i < rowCount; i++) {
+      keyToCode.putIfAbsent(dictionary.getKeyForIndex(i), 0);
+    }
+
+    NominalScale scale;
+    Measure measure = field.measure.orElse(null);
+    if (measure instanceof NominalScale) {
+      scale = (NominalScale) measure;
+      for (Int2IntOpenHashMap.Entry entry : keyToCode.int2IntEntrySet()) {
+        String level = dictionary.getValueForKey(entry.getIntKey());
+        Number code = scale.valueOf(level);
+        if (code == null) {
+          throw new IllegalArgumentException(
+              "Value " + level + " of column " + col.name() + " isn't a level of " + scale);
         }
+        entry.setValue(code.intValue());
+      }
+    } else {
+      int[] keys = keyToCode.keySet().toIntArray();
+      String[] levels = new String[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+        levels[i] = dictionary.getValueForKey(keys[i]);
       }
-      rows.add(Tuple.of(row, schema));
+      Arrays.sort(levels);
+      for (int key : keys) {
+        keyToCode.put(key, Arrays.binarySearch(levels, dictionary.getValueForKey(key)));
+      }
+      scale = new NominalScale(levels);
     }
 
-    return DataFrame.of(rows, schema.boxed(rows));
+    int[] codes = new int[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      codes[i] = keyToCode.get(dictionary.getKeyForIndex(i));
+    }
+    return IntVector.of(new StructField(field.name, DataTypes.IntegerType, scale), codes);
   }
 
   private DataType toSmileType(ColumnType type) {
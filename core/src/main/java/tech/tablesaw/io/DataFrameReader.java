@@ -134,6 +134,22 @@ public class DataFrameReader {
     throw new IllegalArgumentException("No reader registered for extension " + extension);
   }
 
+  /**
+   * Reads the files in the given directory, or matched by the given glob pattern, into a single
+   * table. See {@link MultiFileReader} for how the files are read and their columns combined.
+   */
+  public Table files(String directoryOrGlob) throws IOException {
+    return files(MultiFileReadOptions.builder(directoryOrGlob));
+  }
+
+  public Table files(MultiFileReadOptions.Builder options) throws IOException {
+    return files(options.build());
+  }
+
+  public Table files(MultiFileReadOptions options) throws IOException {
+    return new MultiFileReader(registry).read(options);
+  }
+
   public <T extends ReadOptions> Table usingOptions(T options) throws IOException {
     DataReader<T> reader = registry.getReaderForOptions(options);
     return reader.read(options);
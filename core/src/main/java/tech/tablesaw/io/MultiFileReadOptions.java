@@ -0,0 +1,97 @@
+package tech.tablesaw.io;
+
+import com.google.common.base.Preconditions;
+import java.io.File;
+import java.util.function.Function;
+
+/** Options for reading many files, like the shards of a dataset, into a single table */
+public class MultiFileReadOptions {
+
+  private static final int DEFAULT_THREAD_POOL_SIZE =
+      Math.min(8, Runtime.getRuntime().availableProcessors());
+
+  private final String location;
+  private final String tableName;
+  private final int threadPoolSize;
+  private final Function<File, ? extends ReadOptions> readOptions;
+
+  protected MultiFileReadOptions(Builder builder) {
+    this.location = builder.location;
+    this.tableName = builder.tableName;
+    this.threadPoolSize = builder.threadPoolSize;
+    this.readOptions = builder.readOptions;
+  }
+
+  /** The directory or glob pattern naming the files to read */
+  public String location() {
+    return location;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public int threadPoolSize() {
+    return threadPoolSize;
+  }
+
+  /**
+   * Returns the options to read the given file with, or null if it's to be read with the defaults
+   * of the reader registered for its extension
+   */
+  public ReadOptions readOptions(File file) {
+    return readOptions == null ? null : readOptions.apply(file);
+  }
+
+  /**
+   * Returns a builder for reading the files matched by the given location. If the location is a
+   * directory, every file in it with an extension that has a registered reader is read. Otherwise
+   * it's a glob pattern like {@code shards/part-*.csv}, which is matched against the paths of the
+   * files relative to the directory before its first wildcard, here {@code shards}.
+   */
+  public static Builder builder(String location) {
+    return new Builder(location);
+  }
+
+  public static Builder builder(File directory) {
+    return new Builder(directory.getPath());
+  }
+
+  public static class Builder {
+
+    private final String location;
+    private String tableName;
+    private int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
+    private Function<File, ? extends ReadOptions> readOptions;
+
+    protected Builder(String location) {
+      this.location = Preconditions.checkNotNull(location);
+      this.tableName = location;
+    }
+
+    public Builder tableName(String tableName) {
+      this.tableName = tableName;
+      return this;
+    }
+
+    /** The number of files read at the same time */
+    public Builder threadPoolSize(int threadPoolSize) {
+      Preconditions.checkArgument(threadPoolSize > 0, "The thread pool size must be positive");
+      this.threadPoolSize = threadPoolSize;
+      return this;
+    }
+
+    /**
+     * Sets a function giving the options to read each file with, for example to set the separator
+     * of CSV files. The reader is the one registered for the type of the options returned.
+     */
+    public Builder readOptions(Function<File, ? extends ReadOptions> readOptions) {
+      this.readOptions = readOptions;
+      return this;
+    }
+
+    public MultiFileReadOptions build() {
+      return new MultiFileReadOptions(this);
+    }
+  }
+}
@@ -0,0 +1,272 @@
+package tech.tablesaw.io;
+
+import static tech.tablesaw.api.ColumnType.DOUBLE;
+import static tech.tablesaw.api.ColumnType.FLOAT;
+import static tech.tablesaw.api.ColumnType.INTEGER;
+import static tech.tablesaw.api.ColumnType.LONG;
+import static tech.tablesaw.api.ColumnType.SHORT;
+import static tech.tablesaw.api.ColumnType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Reads many files, like the shards of a dataset, into a single table. The files are read at the
+ * same time by a fixed size pool of threads, each with the reader registered for its extension.
+ *
+ * <p>As the column types are detected separately for each file, the same column can have different
+ * types in different files. Integral types are widened to the widest of them, a mix of integral and
+ * floating point types becomes double, and any other mix becomes string. Files in which a column is
+ * missing, or has only missing values, don't take part in choosing its type.
+ *
+ * <p>The table is assembled in one step once all the files are read: each column is created with
+ * the total number of rows, and the rows of each file are copied to their place in it, rather than
+ * appending the files one after another.
+ */
+public class MultiFileReader {
+
+  private static final List<ColumnType> INTEGRAL_TYPES = ImmutableList.of(SHORT, INTEGER, LONG);
+
+  private final ReaderRegistry registry;
+
+  public MultiFileReader(ReaderRegistry registry) {
+    this.registry = registry;
+  }
+
+  public Table read(MultiFileReadOptions options) throws IOException {
+    List<File> files = listFiles(options.location());
+    ExecutorService executor = Executors.newFixedThreadPool(options.threadPoolSize());
+    try {
+      List<Callable<Table>> readers = new ArrayList<>();
+      for (File file : files) {
+        readers.add(() -> readFile(file, options.readOptions(file)));
+      }
+      List<Table> shards = getAll(executor.invokeAll(readers));
+
+      Map<String, ColumnType> types = reconcileTypes(shards);
+      int rowCount = shards.stream().mapToInt(Table::rowCount).sum();
+      List<Callable<Column<?>>> builders = new ArrayList<>();
+      for (Map.Entry<String, ColumnType> entry : types.entrySet()) {
+        builders.add(() -> concatenate(entry.getKey(), entry.getValue(), shards, rowCount));
+      }
+      List<Column<?>> columns = getAll(executor.invokeAll(builders));
+      return Table.create(options.tableName(), columns);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Returns the files matched by the given location, in the order of their paths. See {@link
+   * MultiFileReadOptions#builder(String)}.
+   */
+  List<File> listFiles(String location) throws IOException {
+    File directory = new File(location);
+    if (directory.isDirectory()) {
+      File[] files = directory.listFiles();
+      if (files == null) {
+        throw new IOException("Can't list the files in " + location);
+      }
+      return Stream.of(files)
+          .filter(File::isFile)
+          .filter(file -> registry.getReaderForExtension(extension(file)).isPresent())
+          .sorted()
+          .collect(Collectors.toList());
+    }
+
+    int wildcard = indexOfWildcard(location);
+    if (wildcard < 0) {
+      return Collections.singletonList(directory);
+    }
+    int separator =
+        Math.max(
+            location.lastIndexOf('/', wildcard),
+            location.lastIndexOf(File.separatorChar, wildcard));
+    Path base = Paths.get(separator < 0 ? "." : location.substring(0, separator + 1));
+    String pattern = location.substring(separator + 1);
+    PathMatcher matcher = base.getFileSystem().getPathMatcher("glob:" + pattern);
+    int depth = pattern.contains("**") ? Integer.MAX_VALUE : pattern.split("/").length;
+    try (Stream<Path> paths = java.nio.file.Files.walk(base, depth)) {
+      return paths
+          .filter(java.nio.file.Files::isRegularFile)
+          .filter(path -> matcher.matches(base.relativize(path)))
+          .sorted()
+          .map(Path::toFile)
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static int indexOfWildcard(String location) {
+    for (int i = 0; i < location.length(); i++) {
+      if ("*?[{".indexOf(location.charAt(i)) >= 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private Table readFile(File file, ReadOptions options) throws IOException {
+    if (options != null) {
+      return read(options);
+    }
+    String extension = extension(file);
+    Optional<DataReader<?>> reader = registry.getReaderForExtension(extension);
+    if (reader.isPresent()) {
+      return reader.get().read(new Source(file));
+    }
+    throw new IllegalArgumentException("No reader registered for extension " + extension);
+  }
+
+  private <T extends ReadOptions> Table read(T options) throws IOException {
+    return registry.getReaderForOptions(options).read(options);
+  }
+
+  private static String extension(File file) {
+    return Files.getFileExtension(file.getName());
+  }
+
+  private static <T> List<T> getAll(List<Future<T>> futures) throws InterruptedException {
+    List<T> results = new ArrayList<>(futures.size());
+    for (Future<T> future : futures) {
+      try {
+        results.add(future.get());
+      } catch (ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return results;
+  }
+
+  /** Returns the type of each column of the shards, in the order the columns are first seen */
+  private static Map<String, ColumnType> reconcileTypes(List<Table> shards) {
+    Map<String, ColumnType> types = new LinkedHashMap<>();
+    Map<String, ColumnType> typesWithValues = new LinkedHashMap<>();
+    for (Table shard : shards) {
+      for (Column<?> column : shard.columns()) {
+        types.putIfAbsent(column.name(), column.type());
+        if (column.countMissing() < column.size()) {
+          typesWithValues.merge(column.name(), column.type(), MultiFileReader::reconcile);
+        }
+      }
+    }
+    types.putAll(typesWithValues);
+    return types;
+  }
+
+  /** Returns the type that can hold the values of columns of both the given types */
+  static ColumnType reconcile(ColumnType type1, ColumnType type2) {
+    if (type1.equals(type2)) {
+      return type1;
+    }
+    int rank1 = INTEGRAL_TYPES.indexOf(type1);
+    int rank2 = INTEGRAL_TYPES.indexOf(type2);
+    if (rank1 >= 0 && rank2 >= 0) {
+      return INTEGRAL_TYPES.get(Math.max(rank1, rank2));
+    }
+    if ((rank1 >= 0 || type1.equals(FLOAT) || type1.equals(DOUBLE))
+        && (rank2 >= 0 || type2.equals(FLOAT) || type2.equals(DOUBLE))) {
+      return DOUBLE;
+    }
+    return STRING;
+  }
+
+  /**
+   * Returns a column of the given type with the values of the named column in each of the shards,
+   * and missing values in the rows of shards that don't have it
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Column<?> concatenate(
+      String name, ColumnType type, List<Table> shards, int rowCount) {
+    Column target = null;
+    for (Table shard : shards) {
+      if (shard.columnNames().contains(name) && shard.column(name).type().equals(type)) {
+        target = shard.column(name).emptyCopy(rowCount);
+        break;
+      }
+    }
+    if (target == null) {
+      target = create(name, type, rowCount);
+    }
+
+    int offset = 0;
+    for (Table shard : shards) {
+      Column<?> source = shard.columnNames().contains(name) ? shard.column(name) : null;
+      if (source != null && source.countMissing() < source.size()) {
+        int size = source.size();
+        if (source.type().equals(type)) {
+          for (int i = 0; i < size; i++) {
+            target.set(offset + i, source, i);
+          }
+        } else if (type.equals(STRING)) {
+          StringColumn strings = (StringColumn) target;
+          for (int i = 0; i < size; i++) {
+            if (!source.isMissing(i)) {
+              strings.set(offset + i, source.getUnformattedString(i));
+            }
+          }
+        } else {
+          copyNumbers((NumericColumn<?>) source, target, offset);
+        }
+      }
+      offset += shard.rowCount();
+    }
+    return target;
+  }
+
+  private static Column<?> create(String name, ColumnType type, int rowCount) {
+    if (type.equals(INTEGER)) {
+      return IntColumn.create(name, rowCount);
+    } else if (type.equals(LONG)) {
+      return LongColumn.create(name, rowCount);
+    } else if (type.equals(DOUBLE)) {
+      return DoubleColumn.create(name, rowCount);
+    }
+    return StringColumn.create(name, rowCount);
+  }
+
+  /** Copies the non-missing values of the source to a wider numeric column, from the given row */
+  private static void copyNumbers(NumericColumn<?> source, Column<?> target, int offset) {
+    int size = source.size();
+    for (int i = 0; i < size; i++) {
+      if (source.isMissing(i)) {
+        continue;
+      }
+      if (target instanceof DoubleColumn) {
+        ((DoubleColumn) target).set(offset + i, source.getDouble(i));
+      } else if (target instanceof LongColumn) {
+        ((LongColumn) target).set(offset + i, (long) source.getDouble(i));
+      } else {
+        ((IntColumn) target).set(offset + i, (int) source.getDouble(i));
+      }
+    }
+  }
+}
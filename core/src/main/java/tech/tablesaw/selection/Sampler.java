@@ -0,0 +1,346 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.selection;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Random;
+import org.roaringbitmap.RoaringBitmap;
+import tech.tablesaw.api.CategoricalColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.columns.strings.DictionaryMap;
+
+/**
+ * Draws random samples of row numbers as selections.
+ *
+ * <p>Samples of a fixed size are drawn with Vitter's method D, which generates the chosen rows in
+ * increasing order by skipping over the rows in between, so it needs no memory beyond the sample
+ * and no sorting. Bernoulli samples also skip between rows, and fill the bitmap with runs of rows
+ * when most rows are kept. Stratified samples read the strata column once. K-fold splits shuffle a
+ * single array of row numbers and take each fold from a slice of it.
+ *
+ * <p>A sampler with a seeded {@link Random} draws the same samples each time, which makes
+ * experiments repeatable.
+ */
+public class Sampler {
+
+  // Method D uses method A when the sample is at least this fraction of the remaining rows
+  private static final int METHOD_A_RATIO = 13;
+
+  private final Random random;
+
+  public Sampler() {
+    this(new Random());
+  }
+
+  public Sampler(long seed) {
+    this(new Random(seed));
+  }
+
+  public Sampler(Random random) {
+    this.random = random;
+  }
+
+  /**
+   * Returns a selection of {@code n} rows chosen uniformly at random from the rows 0 to {@code size
+   * - 1}
+   */
+  public Selection sample(int n, int size) {
+    Preconditions.checkArgument(
+        n >= 0 && n <= size,
+        "The sample size must be between 0 and the number of rows (%s), but was %s",
+        size,
+        n);
+    RoaringBitmap bitmap = new RoaringBitmap();
+    if (n == size) {
+      bitmap.add(0L, size);
+    } else {
+      int[] rows = new int[n];
+      sortedSample(n, size, rows, 0);
+      bitmap.addN(rows, 0, n);
+    }
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /**
+   * Returns a selection in which each of the rows 0 to {@code size - 1} is included independently
+   * with the given probability. The number of rows selected varies from sample to sample.
+   */
+  public Selection bernoulli(double probability, int size) {
+    Preconditions.checkArgument(
+        probability >= 0 && probability <= 1,
+        "The probability must be between 0 and 1, but was %s",
+        probability);
+    Preconditions.checkArgument(size >= 0, "The size must not be negative, but was %s", size);
+    RoaringBitmap bitmap = new RoaringBitmap();
+    if (probability == 1) {
+      bitmap.add(0L, size);
+    } else if (probability > 0.5) {
+      // Skip between the rows that are left out, and add the runs of rows between them
+      double logKept = Math.log(probability);
+      long start = 0;
+      for (long row = skip(logKept); row < size; row += 1 + skip(logKept)) {
+        if (row > start) {
+          bitmap.add(start, row);
+        }
+        start = row + 1;
+      }
+      if (start < size) {
+        bitmap.add(start, size);
+      }
+      bitmap.runOptimize();
+    } else if (probability > 0) {
+      double logExcluded = Math.log1p(-probability);
+      int[] buffer = new int[4096];
+      int count = 0;
+      for (long row = skip(logExcluded); row < size; row += 1 + skip(logExcluded)) {
+        if (count == buffer.length) {
+          bitmap.addN(buffer, 0, count);
+          count = 0;
+        }
+        buffer[count++] = (int) row;
+      }
+      bitmap.addN(buffer, 0, count);
+    }
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /**
+   * Returns the number of rows to skip before the next one chosen with probability {@code p}, where
+   * {@code logSkipped} is {@code log(1 - p)}. The skips are geometrically distributed, and capped
+   * so that adding them to a row number can't overflow.
+   */
+  private long skip(double logSkipped) {
+    return (long) Math.min(Math.log(nextOpenDouble()) / logSkipped, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns a sample with the given proportion of the rows in each stratum, where the strata are
+   * the distinct values of the column, including missing values. The number of rows chosen from a
+   * stratum is its size times the proportion, rounded to the nearest integer.
+   */
+  public Selection stratified(CategoricalColumn<?> column, double proportion) {
+    Preconditions.checkArgument(
+        proportion >= 0 && proportion <= 1,
+        "The sample proportion must be between 0 and 1, but was %s",
+        proportion);
+    int size = column.size();
+    int[] strata = new int[size];
+    int strataCount = strata(column, strata);
+
+    // Group the row numbers by stratum, keeping them in order within each stratum
+    int[] starts = new int[strataCount + 1];
+    for (int stratum : strata) {
+      starts[stratum + 1]++;
+    }
+    for (int i = 0; i < strataCount; i++) {
+      starts[i + 1] += starts[i];
+    }
+    int[] next = starts.clone();
+    int[] rows = new int[size];
+    for (int row = 0; row < size; row++) {
+      rows[next[strata[row]]++] = row;
+    }
+
+    int[] chosen = new int[size];
+    int count = 0;
+    for (int i = 0; i < strataCount; i++) {
+      int stratumSize = starts[i + 1] - starts[i];
+      int n = (int) Math.round(stratumSize * proportion);
+      sortedSample(n, stratumSize, chosen, count);
+      for (int j = count; j < count + n; j++) {
+        chosen[j] = rows[starts[i] + chosen[j]];
+      }
+      count += n;
+    }
+    IntArrays.radixSort(chosen, 0, count);
+    RoaringBitmap bitmap = new RoaringBitmap();
+    bitmap.addN(chosen, 0, count);
+    return new BitmapBackedSelection(bitmap);
+  }
+
+  /** Fills the array with a number for the stratum of each row, and returns the number of strata */
+  private static int strata(CategoricalColumn<?> column, int[] strata) {
+    int count = 0;
+    if (column instanceof StringColumn) {
+      DictionaryMap dictionary = ((StringColumn) column).getDictionary();
+      Int2IntOpenHashMap keyStrata = new Int2IntOpenHashMap();
+      keyStrata.defaultReturnValue(-1);
+      for (int row = 0; row < strata.length; row++) {
+        int key = dictionary.getKeyForIndex(row);
+        int stratum = keyStrata.get(key);
+        if (stratum < 0) {
+          stratum = count++;
+          keyStrata.put(key, stratum);
+        }
+        strata[row] = stratum;
+      }
+    } else {
+      Object2IntOpenHashMap<String> valueStrata = new Object2IntOpenHashMap<>();
+      valueStrata.defaultReturnValue(-1);
+      for (int row = 0; row < strata.length; row++) {
+        String value = column.getString(row);
+        int stratum = valueStrata.getInt(value);
+        if (stratum < 0) {
+          stratum = count++;
+          valueStrata.put(value, stratum);
+        }
+        strata[row] = stratum;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Splits the rows 0 to {@code size - 1} at random into {@code k} folds of nearly equal size, for
+   * k-fold cross validation. Each row is in exactly one fold.
+   */
+  public Selection[] folds(int k, int size) {
+    Preconditions.checkArgument(
+        k >= 2 && k <= size,
+        "The number of folds must be between 2 and the number of rows (%s), but was %s",
+        size,
+        k);
+    int[] rows = new int[size];
+    for (int i = 0; i < size; i++) {
+      rows[i] = i;
+    }
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int row = rows[i];
+      rows[i] = rows[j];
+      rows[j] = row;
+    }
+    Selection[] folds = new Selection[k];
+    for (int i = 0; i < k; i++) {
+      int from = (int) ((long) size * i / k);
+      int to = (int) ((long) size * (i + 1) / k);
+      IntArrays.radixSort(rows, from, to);
+      RoaringBitmap bitmap = new RoaringBitmap();
+      bitmap.addN(rows, from, to - from);
+      folds[i] = new BitmapBackedSelection(bitmap);
+    }
+    return folds;
+  }
+
+  /**
+   * Writes {@code n} numbers chosen uniformly at random from 0 to {@code size - 1} to the array, in
+   * increasing order, starting at the given offset. This is Vitter's method D, from "An Efficient
+   * Algorithm for Sequential Random Sampling", ACM Transactions on Mathematical Software, 1987. It
+   * generates the number of rows to skip before each chosen row by rejection sampling, and uses the
+   * simpler method A once the sample is a large fraction of the remaining rows.
+   */
+  private void sortedSample(int n, int size, int[] into, int offset) {
+    if (n == 0) {
+      return;
+    }
+    int position = offset;
+    int current = -1;
+    int remaining = size;
+    double nReal = n;
+    double remainingReal = size;
+    double nInverse = 1.0 / nReal;
+    double vPrime = Math.exp(Math.log(nextOpenDouble()) * nInverse);
+    int qu1 = remaining - n + 1;
+    double qu1Real = qu1;
+    long threshold = (long) METHOD_A_RATIO * n;
+    while (n > 1 && threshold < remaining) {
+      double nMinus1Inverse = 1.0 / (nReal - 1);
+      int s;
+      while (true) {
+        double x;
+        while (true) {
+          x = remainingReal * (1 - vPrime);
+          s = (int) x;
+          if (s < qu1) {
+            break;
+          }
+          vPrime = Math.exp(Math.log(nextOpenDouble()) * nInverse);
+        }
+        double u = nextOpenDouble();
+        double y1 = Math.exp(Math.log(u * remainingReal / qu1Real) * nMinus1Inverse);
+        vPrime = y1 * (1 - x / remainingReal) * (qu1Real / (qu1Real - s));
+        if (vPrime <= 1) {
+          break;
+        }
+        double y2 = 1;
+        double top = remainingReal - 1;
+        double bottom;
+        int limit;
+        if (n - 1 > s) {
+          bottom = remainingReal - nReal;
+          limit = remaining - s;
+        } else {
+          bottom = remainingReal - s - 1;
+          limit = qu1;
+        }
+        for (int t = remaining - 1; t >= limit; t--) {
+          y2 = y2 * top / bottom;
+          top--;
+          bottom--;
+        }
+        if (remainingReal / (remainingReal - x) >= y1 * Math.exp(Math.log(y2) * nMinus1Inverse)) {
+          vPrime = Math.exp(Math.log(nextOpenDouble()) * nMinus1Inverse);
+          break;
+        }
+        vPrime = Math.exp(Math.log(nextOpenDouble()) * nInverse);
+      }
+      current += s + 1;
+      into[position++] = current;
+      remaining -= s + 1;
+      remainingReal = remaining;
+      n--;
+      nReal = n;
+      nInverse = nMinus1Inverse;
+      qu1 -= s;
+      qu1Real = qu1;
+      threshold -= METHOD_A_RATIO;
+    }
+    if (n > 1) {
+      sortedSampleA(n, remaining, current, into, position);
+    } else {
+      into[position] = current + 1 + Math.min(remaining - 1, (int) (remaining * vPrime));
+    }
+  }
+
+  /** Vitter's method A, which tests each row in turn and is fast when most rows are chosen */
+  private void sortedSampleA(int n, int size, int current, int[] into, int position) {
+    double top = size - n;
+    double remaining = size;
+    while (n >= 2) {
+      double v = random.nextDouble();
+      int s = 0;
+      double quotient = top / remaining;
+      while (quotient > v) {
+        s++;
+        top--;
+        remaining--;
+        quotient = quotient * top / remaining;
+      }
+      current += s + 1;
+      into[position++] = current;
+      remaining--;
+      n--;
+    }
+    into[position] = current + 1 + (int) (remaining * random.nextDouble());
+  }
+
+  /** Returns a random double greater than 0 and at most 1 */
+  private double nextOpenDouble() {
+    return 1 - random.nextDouble();
+  }
+}
@@ -0,0 +1,353 @@
+package tech.tablesaw.sorting;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.strings.DictionaryMap;
+
+/**
+ * Sorts the rows of a table on precomputed primitive sort keys instead of comparing column values
+ * with a row comparator.
+ *
+ * <p>Each sort column is converted once to a long key per row that orders the rows the same way as
+ * the column's row comparator. Strings are ranked through their dictionary, so each distinct value
+ * is compared only when ranking the dictionary. The rows are then ordered with a stable LSD radix
+ * sort. For sorts on several columns, each column is reduced to dense ranks and as many columns as
+ * fit are packed into a single long key, so most multi-column sorts need a single radix sort.
+ */
+public final class SortKeys {
+
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+
+  private SortKeys() {}
+
+  /** Returns true if every column in the sort key has a primitive sort key. */
+  public static boolean canSort(Table table, Sort key) {
+    for (Map.Entry<String, Sort.Order> entry : key) {
+      if (!hasSortKey(table.column(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the row indexes of the table in sorted order. Rows that are equal on every sort column
+   * stay in their original order.
+   *
+   * @throws IllegalArgumentException if {@link #canSort(Table, Sort)} is false for the key
+   */
+  public static int[] sortedRows(Table table, Sort key) {
+    int rowCount = table.rowCount();
+    int[] rows = new int[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      rows[i] = i;
+    }
+    List<Column<?>> columns = new ArrayList<>(key.size());
+    List<Sort.Order> orders = new ArrayList<>(key.size());
+    for (Map.Entry<String, Sort.Order> entry : key) {
+      columns.add(table.column(entry.getKey()));
+      orders.add(entry.getValue());
+    }
+
+    if (columns.size() == 1) {
+      radixSort(rows, sortKeys(columns.get(0), orders.get(0)));
+      return rows;
+    }
+
+    int[][] ranks = new int[columns.size()][];
+    int[] bits = new int[columns.size()];
+    for (int c = 0; c < columns.size(); c++) {
+      ranks[c] = denseRanks(sortKeys(columns.get(c), orders.get(c)));
+      int maxRank = 0;
+      for (int rank : ranks[c]) {
+        maxRank = Math.max(maxRank, rank);
+      }
+      bits[c] = Integer.SIZE - Integer.numberOfLeadingZeros(maxRank);
+    }
+
+    // Pack the columns into as few keys as possible, starting from the least significant column.
+    // Because the radix sort is stable, sorting on the least significant pack first and the most
+    // significant pack last gives the order of the full key.
+    int last = columns.size() - 1;
+    while (last >= 0) {
+      int first = last;
+      int packedBits = bits[last];
+      while (first > 0 && packedBits + bits[first - 1] < Long.SIZE) {
+        first--;
+        packedBits += bits[first];
+      }
+      long[] packed = new long[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        int row = rows[i];
+        long value = 0;
+        for (int c = first; c <= last; c++) {
+          value = (value << bits[c]) | ranks[c][row];
+        }
+        packed[i] = value;
+      }
+      radixSort(rows, packed);
+      last = first - 1;
+    }
+    return rows;
+  }
+
+  /**
+   * Returns a comparator of row indexes that orders the rows as the comparator chain for the key
+   * does, but compares precomputed keys instead of column values. Computing the keys is a single
+   * pass over each sort column, so this pays off when the comparator is called many times.
+   *
+   * @throws IllegalArgumentException if {@link #canSort(Table, Sort)} is false for the key
+   */
+  public static IntComparator comparator(Table table, Sort key) {
+    List<long[]> columnKeys = new ArrayList<>(key.size());
+    for (Map.Entry<String, Sort.Order> entry : key) {
+      columnKeys.add(sortKeys(table.column(entry.getKey()), entry.getValue()));
+    }
+    if (columnKeys.size() == 1) {
+      long[] keys = columnKeys.get(0);
+      return (row1, row2) -> Long.compare(keys[row1], keys[row2]);
+    }
+    long[][] keys = columnKeys.toArray(new long[0][]);
+    return (row1, row2) -> {
+      for (long[] column : keys) {
+        int result = Long.compare(column[row1], column[row2]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    };
+  }
+
+  private static boolean hasSortKey(Column<?> column) {
+    return column instanceof StringColumn
+        || column instanceof IntColumn
+        || column instanceof ShortColumn
+        || column instanceof LongColumn
+        || column instanceof DoubleColumn
+        || column instanceof FloatColumn
+        || column instanceof BooleanColumn
+        || column instanceof DateColumn
+        || column instanceof TimeColumn
+        || column instanceof DateTimeColumn
+        || column instanceof InstantColumn;
+  }
+
+  /**
+   * Returns a key for every row of the column that orders the rows, by signed comparison, as the
+   * column's row comparator does in the given order.
+   */
+  static long[] sortKeys(Column<?> column, Sort.Order order) {
+    int size = column.size();
+    long[] keys = new long[size];
+    if (column instanceof StringColumn) {
+      int[] ranks = dictionaryRanks((StringColumn) column);
+      for (int i = 0; i < size; i++) {
+        keys[i] = ranks[i];
+      }
+    } else if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      for (int i = 0; i < size; i++) {
+        // Missing numbers sort after all other values, as NaN does.
+        keys[i] = ints.isMissing(i) ? Long.MAX_VALUE : ints.getInt(i);
+      }
+    } else if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = shorts.isMissing(i) ? Long.MAX_VALUE : shorts.getShort(i);
+      }
+    } else if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = longs.isMissing(i) ? Long.MAX_VALUE : longs.getLong(i);
+      }
+    } else if (column instanceof DoubleColumn || column instanceof FloatColumn) {
+      NumericColumn<?> numbers = (NumericColumn<?>) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = sortableBits(numbers.getDouble(i));
+      }
+    } else if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = booleans.getByte(i);
+      }
+    } else if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = dates.getIntInternal(i);
+      }
+    } else if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = times.getIntInternal(i);
+      }
+    } else if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = dateTimes.getLongInternal(i);
+      }
+    } else if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      for (int i = 0; i < size; i++) {
+        keys[i] = instants.getLongInternal(i);
+      }
+    } else {
+      throw new IllegalArgumentException(
+          "Column " + column.name() + " of type " + column.type() + " has no primitive sort key");
+    }
+    if (order == Sort.Order.DESCEND) {
+      for (int i = 0; i < size; i++) {
+        keys[i] = ~keys[i];
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the bits of a double as a long that orders the same way as {@link Double#compare}:
+   * negative values before positive ones, -0.0 before 0.0 and NaN after everything else.
+   */
+  private static long sortableBits(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  /**
+   * Returns the rank of each row's value among the distinct values of the column. Only the distinct
+   * values in the dictionary are compared.
+   */
+  private static int[] dictionaryRanks(StringColumn column) {
+    DictionaryMap dictionary = column.getDictionary();
+    int size = column.size();
+    int[] ranks = new int[size];
+    Int2IntOpenHashMap keyToIndex = new Int2IntOpenHashMap();
+    keyToIndex.defaultReturnValue(-1);
+    List<String> distinct = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      int key = dictionary.getKeyForIndex(i);
+      int index = keyToIndex.get(key);
+      if (index < 0) {
+        index = distinct.size();
+        keyToIndex.put(key, index);
+        distinct.add(dictionary.getValueForKey(key));
+      }
+      ranks[i] = index;
+    }
+
+    int[] order = new int[distinct.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    IntArrays.quickSort(order, (a, b) -> distinct.get(a).compareTo(distinct.get(b)));
+    int[] rankOfIndex = new int[order.length];
+    for (int rank = 0; rank < order.length; rank++) {
+      rankOfIndex[order[rank]] = rank;
+    }
+    for (int i = 0; i < size; i++) {
+      ranks[i] = rankOfIndex[ranks[i]];
+    }
+    return ranks;
+  }
+
+  /** Replaces each key with its rank among the distinct keys, so equal keys share a rank. */
+  private static int[] denseRanks(long[] keys) {
+    int size = keys.length;
+    int[] rows = new int[size];
+    for (int i = 0; i < size; i++) {
+      rows[i] = i;
+    }
+    long[] sorted = Arrays.copyOf(keys, size);
+    radixSort(rows, sorted);
+    int[] ranks = new int[size];
+    int rank = 0;
+    for (int i = 0; i < size; i++) {
+      if (i > 0 && sorted[i] != sorted[i - 1]) {
+        rank++;
+      }
+      ranks[rows[i]] = rank;
+    }
+    return ranks;
+  }
+
+  /**
+   * Stable LSD radix sort of rows and keys, both in place, by signed comparison of the keys. Only
+   * the bytes that differ between the smallest and largest key are sorted on, and passes where
+   * every key has the same digit are skipped.
+   */
+  static void radixSort(int[] rows, long[] keys) {
+    int size = keys.length;
+    if (size < 2) {
+      return;
+    }
+    long min = keys[0];
+    long max = keys[0];
+    for (long key : keys) {
+      min = Math.min(min, key);
+      max = Math.max(max, key);
+    }
+    // Offsets from the minimum are non-negative when read as unsigned, and keep the key order.
+    long range = max - min;
+    if (range == 0) {
+      return;
+    }
+    int passes = (Long.SIZE - Long.numberOfLeadingZeros(range) + RADIX_BITS - 1) / RADIX_BITS;
+
+    long[] keySource = keys;
+    int[] rowSource = rows;
+    long[] keyTarget = new long[size];
+    int[] rowTarget = new int[size];
+    int[] counts = new int[RADIX + 1];
+    for (int pass = 0; pass < passes; pass++) {
+      int shift = pass * RADIX_BITS;
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < size; i++) {
+        counts[digit(keySource[i], min, shift) + 1]++;
+      }
+      if (counts[digit(keySource[0], min, shift) + 1] == size) {
+        continue;
+      }
+      for (int d = 0; d < RADIX; d++) {
+        counts[d + 1] += counts[d];
+      }
+      for (int i = 0; i < size; i++) {
+        int position = counts[digit(keySource[i], min, shift)]++;
+        keyTarget[position] = keySource[i];
+        rowTarget[position] = rowSource[i];
+      }
+      long[] keySwap = keySource;
+      keySource = keyTarget;
+      keyTarget = keySwap;
+      int[] rowSwap = rowSource;
+      rowSource = rowTarget;
+      rowTarget = rowSwap;
+    }
+    if (keySource != keys) {
+      System.arraycopy(keySource, 0, keys, 0, size);
+      System.arraycopy(rowSource, 0, rows, 0, size);
+    }
+  }
+
+  private static int digit(long key, long min, int shift) {
+    return (int) (((key - min) >>> shift) & (RADIX - 1));
+  }
+}
@@ -1,6 +1,8 @@
 package tech.tablesaw.sorting;
 
+import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntComparator;
+import it.unimi.dsi.fastutil.ints.IntHeapPriorityQueue;
 import java.util.Iterator;
 import java.util.Map;
 import tech.tablesaw.api.Table;
@@ -52,4 +54,42 @@ public class SortUtils {
     Column<?> column = table.column(sort.getKey());
     return SortUtils.rowComparator(column, sort.getValue());
   }
+
+  /**
+   * Returns the indexes of the first n rows in the order given by the comparator, in that order,
+   * without sorting all the rows. Keeps the best n rows seen so far in a bounded heap whose head is
+   * the worst of them, so each row costs at most one comparison with the head plus O(log n) work if
+   * it replaces the head. Rows the comparator considers equal are taken in row order.
+   *
+   * @param rowCount the number of rows to select from, numbered from 0
+   * @param comparator orders the row indexes
+   * @param n the maximum number of rows to return
+   */
+  public static int[] topRows(int rowCount, IntComparator comparator, int n) {
+    Preconditions.checkArgument(n >= 0, "The number of rows must not be negative, but was %s", n);
+    int size = Math.min(n, rowCount);
+    if (size == 0) {
+      return new int[0];
+    }
+    IntComparator stable =
+        (row1, row2) -> {
+          int result = comparator.compare(row1, row2);
+          return result != 0 ? result : Integer.compare(row1, row2);
+        };
+    IntHeapPriorityQueue heap =
+        new IntHeapPriorityQueue(size, (row1, row2) -> stable.compare(row2, row1));
+    for (int row = 0; row < rowCount; row++) {
+      if (heap.size() < size) {
+        heap.enqueue(row);
+      } else if (stable.compare(row, heap.firstInt()) < 0) {
+        heap.dequeueInt();
+        heap.enqueue(row);
+      }
+    }
+    int[] rows = new int[size];
+    for (int i = size - 1; i >= 0; i--) {
+      rows[i] = heap.dequeueInt();
+    }
+    return rows;
+  }
 }
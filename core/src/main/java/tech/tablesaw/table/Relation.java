@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.ColumnType;
@@ -246,16 +247,38 @@ public abstract class Relation implements Iterable<Row> {
       return summaryTable;
     }
     summaryTable.addColumns(StringColumn.create("Measure"));
+    // Each column is summarized in a single pass, and the columns are summarized in parallel
+    Table[] columnSummaries = new Table[this.columnCount()];
+    IntStream.range(0, columnSummaries.length)
+        .parallel()
+        .forEach(i -> columnSummaries[i] = this.column(i).summary());
     for (int i = 0; i < this.columnCount(); i++) {
-      Table columnSummary = this.column(i).summary();
+      Table columnSummary = columnSummaries[i];
       columnSummary.column(1).setName(this.column(i).name());
-      summaryTable =
-          summaryTable.joinOn("Measure").fullOuter(columnSummary, columnSummary.column(0).name());
+      if (sameMeasures(summaryTable.column(0), columnSummary.column(0))) {
+        // Columns of the same type have the same measures, so no join is needed
+        summaryTable.addColumns(columnSummary.column(1));
+      } else {
+        summaryTable =
+            summaryTable.joinOn("Measure").fullOuter(columnSummary, columnSummary.column(0).name());
+      }
     }
     summaryTable.column(0).setName("Summary");
     return summaryTable;
   }
 
+  private static boolean sameMeasures(Column<?> measures, Column<?> otherMeasures) {
+    if (measures.isEmpty() || measures.size() != otherMeasures.size()) {
+      return false;
+    }
+    for (int row = 0; row < measures.size(); row++) {
+      if (!measures.getString(row).equals(otherMeasures.getString(row))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public BooleanColumn booleanColumn(int columnIndex) {
     return (BooleanColumn) column(columnIndex);
   }
@@ -3,8 +3,6 @@ package tech.tablesaw.table;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
-import tech.tablesaw.selection.Selection;
 
 /** Does a calculation on a rolling basis (e.g. mean for last 20 days) */
 public class RollingColumn {
@@ -18,27 +16,40 @@ public class RollingColumn {
   }
 
   protected String generateNewColumnName(AggregateFunction<?, ?> function) {
+    return generateNewColumnName(function.functionName());
+  }
+
+  protected String generateNewColumnName(String functionName) {
     return new StringBuilder(column.name())
         .append(" ")
         .append(window)
         .append("-period")
         .append(" ")
-        .append(function.functionName())
+        .append(functionName)
         .toString();
   }
 
+  /**
+   * Applies the function to every window of the column. The first window - 1 values of the result
+   * are missing.
+   *
+   * <p>The windows are passed to the function in a single column that is reused for every window,
+   * so calculating a result copies the values of the window but does not allocate a new column.
+   */
   @SuppressWarnings({"unchecked"})
   public <INCOL extends Column<?>, OUT> Column<?> calc(AggregateFunction<INCOL, OUT> function) {
-    // TODO: the subset operation copies the array. creating a view would likely be more efficient
     Column<?> result = function.returnType().create(generateNewColumnName(function));
     for (int i = 0; i < window - 1; i++) {
       result.appendMissing();
     }
+    Column<Object> source = (Column<Object>) column;
+    Column<Object> windowColumn = source.emptyCopy();
     for (int origColIndex = 0; origColIndex < column.size() - window + 1; origColIndex++) {
-      Selection selection = new BitmapBackedSelection();
-      selection.addRange(origColIndex, origColIndex + window);
-      INCOL subsetCol = (INCOL) column.subset(selection.toArray());
-      OUT answer = function.summarize(subsetCol);
+      windowColumn.clear();
+      for (int row = origColIndex; row < origColIndex + window; row++) {
+        windowColumn.append(source, row);
+      }
+      OUT answer = function.summarize((INCOL) windowColumn);
       if (answer instanceof Number) {
         Number number = (Number) answer;
         ((DoubleColumn) result).append(number.doubleValue());
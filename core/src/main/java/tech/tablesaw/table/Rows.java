@@ -14,11 +14,26 @@
 
 package tech.tablesaw.table;
 
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.Objects;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
 import javax.annotation.concurrent.Immutable;
+import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
 /** A static utility class for row operations */
@@ -85,21 +100,148 @@ public final class Rows {
     return true;
   }
 
-  public static void head(int rowCount, Table oldTable, Table newTable) {
-    Selection rows = new BitmapBackedSelection(rowCount);
-    for (int i = 0; i < rowCount; i++) {
-      rows.add(i);
+  /**
+   * Returns the indexes of the first row with each distinct combination of values in the given
+   * columns, in ascending order. Rows are hashed on primitive encodings of their values, so no sort
+   * is needed and values are only boxed for column types without a primitive encoding.
+   *
+   * @param table the table to deduplicate
+   * @param keyColumns the columns that must all be equal for two rows to be duplicates
+   */
+  public static int[] firstOccurrences(Table table, Column<?>... keyColumns) {
+    int rowCount = table.rowCount();
+    RowKey[] keys = new RowKey[keyColumns.length];
+    for (int i = 0; i < keyColumns.length; i++) {
+      keys[i] = rowKey(keyColumns[i]);
+    }
+
+    long[] hashes = new long[rowCount];
+    for (RowKey key : keys) {
+      for (int row = 0; row < rowCount; row++) {
+        hashes[row] = (hashes[row] ^ key.hash(row)) * 0x9E3779B97F4A7C15L;
+      }
+    }
+
+    // Open addressing table holding the first row seen for each hash slot, plus one.
+    int[] slots = new int[HashCommon.arraySize(Math.max(1, rowCount), 0.75f)];
+    int mask = slots.length - 1;
+    IntArrayList firstRows = new IntArrayList();
+    for (int row = 0; row < rowCount; row++) {
+      long hash = hashes[row];
+      int slot = (int) HashCommon.mix(hash) & mask;
+      while (true) {
+        int candidate = slots[slot] - 1;
+        if (candidate < 0) {
+          slots[slot] = row + 1;
+          firstRows.add(row);
+          break;
+        }
+        if (hashes[candidate] == hash && keysEqual(keys, candidate, row)) {
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+    return firstRows.toIntArray();
+  }
+
+  private static boolean keysEqual(RowKey[] keys, int row1, int row2) {
+    for (RowKey key : keys) {
+      if (!key.equals(row1, row2)) {
+        return false;
+      }
     }
-    copyRowsToTable(rows, oldTable, newTable);
+    return true;
+  }
+
+  /** Hashes and compares the values of a column at two rows. */
+  private interface RowKey {
+    long hash(int row);
+
+    boolean equals(int row1, int row2);
+  }
+
+  /** A key that compares primitive encodings of the values, which are equal iff the values are. */
+  private static RowKey primitiveKey(IntToLongFunction encoding) {
+    return new RowKey() {
+      @Override
+      public long hash(int row) {
+        return encoding.applyAsLong(row);
+      }
+
+      @Override
+      public boolean equals(int row1, int row2) {
+        return encoding.applyAsLong(row1) == encoding.applyAsLong(row2);
+      }
+    };
+  }
+
+  private static RowKey rowKey(Column<?> column) {
+    if (column instanceof StringColumn) {
+      // Equal strings share a dictionary key.
+      StringColumn strings = (StringColumn) column;
+      return primitiveKey(row -> strings.getDictionary().getKeyForIndex(row));
+    }
+    if (column instanceof IntColumn) {
+      IntColumn ints = (IntColumn) column;
+      return primitiveKey(ints::getInt);
+    }
+    if (column instanceof LongColumn) {
+      LongColumn longs = (LongColumn) column;
+      return primitiveKey(longs::getLong);
+    }
+    if (column instanceof ShortColumn) {
+      ShortColumn shorts = (ShortColumn) column;
+      return primitiveKey(shorts::getShort);
+    }
+    if (column instanceof DoubleColumn) {
+      DoubleColumn doubles = (DoubleColumn) column;
+      return primitiveKey(row -> Double.doubleToLongBits(doubles.getDouble(row)));
+    }
+    if (column instanceof FloatColumn) {
+      FloatColumn floats = (FloatColumn) column;
+      return primitiveKey(row -> Float.floatToIntBits(floats.getFloat(row)));
+    }
+    if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return primitiveKey(booleans::getByte);
+    }
+    if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      return primitiveKey(dates::getIntInternal);
+    }
+    if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      return primitiveKey(times::getIntInternal);
+    }
+    if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      return primitiveKey(dateTimes::getLongInternal);
+    }
+    if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      return primitiveKey(instants::getLongInternal);
+    }
+    return new RowKey() {
+      @Override
+      public long hash(int row) {
+        return Objects.hashCode(column.get(row));
+      }
+
+      @Override
+      public boolean equals(int row1, int row2) {
+        return Objects.equals(column.get(row1), column.get(row2));
+      }
+    };
+  }
+
+  public static void head(int rowCount, Table oldTable, Table newTable) {
+    copyRowsToTable(IntStream.range(0, rowCount).toArray(), oldTable, newTable);
   }
 
   public static void tail(int rowsToInclude, Table oldTable, Table newTable) {
     int oldTableSize = oldTable.rowCount();
     int start = oldTableSize - rowsToInclude;
-    Selection rows = new BitmapBackedSelection(rowsToInclude);
-    for (int i = start; i < oldTableSize; i++) {
-      rows.add(i);
-    }
-    copyRowsToTable(rows, oldTable, newTable);
+    copyRowsToTable(IntStream.range(start, oldTableSize).toArray(), oldTable, newTable);
   }
 }
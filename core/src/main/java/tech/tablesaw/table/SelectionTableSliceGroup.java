@@ -28,6 +28,18 @@ public class SelectionTableSliceGroup extends TableSliceGroup {
     return new SelectionTableSliceGroup(original, subTableNameTemplate, step);
   }
 
+  /** Returns a group with one slice for each of the given selections of rows, in the same order */
+  public static SelectionTableSliceGroup create(
+      Table original, String subTableNameTemplate, List<Selection> selections) {
+    return new SelectionTableSliceGroup(original, subTableNameTemplate, selections);
+  }
+
+  private SelectionTableSliceGroup(
+      Table original, String subTableNameTemplate, List<Selection> selections) {
+    super(original);
+    splitOnSelection(subTableNameTemplate, selections);
+  }
+
   private SelectionTableSliceGroup(Table original, String subTableNameTemplate, int step) {
     super(original);
     List<Selection> selections = new ArrayList<>();
@@ -72,23 +72,20 @@ public class StandardTableSliceGroup extends TableSliceGroup {
     int byteSize = getByteSize(splitColumns);
 
     for (int i = 0; i < getSourceTable().rowCount(); i++) {
-      StringBuilder stringKey = new StringBuilder();
       ByteBuffer byteBuffer = ByteBuffer.allocate(byteSize);
-      int count = 0;
       for (Column<?> col : splitColumns) {
-        stringKey.append(col.getString(i));
-        if (count < splitColumns.size() - 1) {
-          stringKey.append(SPLIT_STRING);
-        }
         byteBuffer.put(col.asBytes(i));
-        count++;
       }
-      // Add to the matching selection.
+      // Add to the matching selection. The selection and slice name are only created the first
+      // time a key is seen.
       ByteArray byteArray = new ByteArray(byteBuffer.array());
-      Selection selection = selectionMap.getOrDefault(byteArray, new BitmapBackedSelection());
+      Selection selection = selectionMap.get(byteArray);
+      if (selection == null) {
+        selection = new BitmapBackedSelection();
+        selectionMap.put(byteArray, selection);
+        sliceNameMap.put(byteArray, sliceName(splitColumns, i));
+      }
       selection.add(i);
-      selectionMap.put(byteArray, selection);
-      sliceNameMap.put(byteArray, stringKey.toString());
     }
 
     // Add all slices
@@ -99,6 +96,20 @@ public class StandardTableSliceGroup extends TableSliceGroup {
     }
   }
 
+  /** Returns the name of the slice containing the given row */
+  private static String sliceName(List<Column<?>> splitColumns, int row) {
+    StringBuilder stringKey = new StringBuilder();
+    int count = 0;
+    for (Column<?> col : splitColumns) {
+      stringKey.append(col.getString(row));
+      if (count < splitColumns.size() - 1) {
+        stringKey.append(SPLIT_STRING);
+      }
+      count++;
+    }
+    return stringKey.toString();
+  }
+
   /** Wrapper class for a byte[] that implements equals and hashcode. */
   private static class ByteArray {
     final byte[] bytes;
@@ -23,11 +23,15 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.MomentFunction;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.numbers.Moments;
 
 /** A group of tables formed by performing splitting operations on an original table */
 public class TableSliceGroup implements Iterable<TableSlice> {
@@ -40,6 +44,9 @@ public class TableSliceGroup implements Iterable<TableSlice> {
   // grouping columns
   private static final Splitter SPLITTER = Splitter.on(SPLIT_STRING);
 
+  // The number of rows in the source table before the slices are summarized in parallel
+  private static final int PARALLEL_THRESHOLD = 1_000_000;
+
   // The list of slices or views over the source table that I contain
   private final List<TableSlice> subTables = new ArrayList<>();
 
@@ -182,6 +189,11 @@ public class TableSliceGroup implements Iterable<TableSlice> {
    * Applies the given aggregations to the given columns. The apply and combine steps of a
    * split-apply-combine.
    *
+   * <p>The {@link MomentFunction}s applied to a numeric column share one pass over each slice of
+   * that column, which reads the slice's rows in place instead of copying them. The slices of large
+   * tables are read in parallel. Other functions are applied to a copy of each slice's column, made
+   * once per slice and column.
+   *
    * @param functions map from column name to aggregation to apply on that function
    */
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -189,33 +201,67 @@ public class TableSliceGroup implements Iterable<TableSlice> {
     Table groupTable = summaryTableName(sourceTable);
     StringColumn groupColumn = StringColumn.create("Group");
     groupTable.addColumns(groupColumn);
-    boolean firstFunction = true;
+    if (!functions.isEmpty()) {
+      for (TableSlice subTable : getSlices()) {
+        groupColumn.append(subTable.name());
+      }
+    }
     for (Map.Entry<String, Collection<AggregateFunction<?, ?>>> entry :
         functions.asMap().entrySet()) {
       String columnName = entry.getKey();
-      for (AggregateFunction function : entry.getValue()) {
-        String colName = aggregateColumnName(columnName, function.functionName());
-        ColumnType type = function.returnType();
-        Column resultColumn = type.create(colName);
-        for (TableSlice subTable : getSlices()) {
-          Object result = function.summarize(subTable.column(columnName));
-          if (firstFunction) {
-            groupColumn.append(subTable.name());
+      AggregateFunction[] columnFunctions = entry.getValue().toArray(new AggregateFunction[0]);
+      Column[] resultColumns = new Column[columnFunctions.length];
+      boolean anyMomentFunction = false;
+      for (int i = 0; i < columnFunctions.length; i++) {
+        AggregateFunction function = columnFunctions[i];
+        resultColumns[i] =
+            function.returnType().create(aggregateColumnName(columnName, function.functionName()));
+        anyMomentFunction |= function instanceof MomentFunction;
+      }
+      Column<?> column = sourceTable.column(columnName);
+      Moments[] moments =
+          anyMomentFunction && column instanceof NumericColumn
+              ? sliceMoments((NumericColumn<?>) column)
+              : null;
+
+      for (int slice = 0; slice < subTables.size(); slice++) {
+        Column<?> sliceColumn = null;
+        for (int i = 0; i < columnFunctions.length; i++) {
+          AggregateFunction function = columnFunctions[i];
+          Object result;
+          if (moments != null && function instanceof MomentFunction) {
+            result = ((MomentFunction) function).summarize(moments[slice]);
+          } else {
+            if (sliceColumn == null) {
+              sliceColumn = subTables.get(slice).column(columnName);
+            }
+            result = function.summarize(sliceColumn);
           }
           if (result instanceof Number) {
             Number number = (Number) result;
-            resultColumn.append(number.doubleValue());
+            resultColumns[i].append(number.doubleValue());
           } else {
-            resultColumn.append(result);
+            resultColumns[i].append(result);
           }
         }
-        groupTable.addColumns(resultColumn);
-        firstFunction = false;
       }
+      groupTable.addColumns(resultColumns);
     }
     return splitGroupingColumn(groupTable);
   }
 
+  /** Returns the moments of the given column in each slice */
+  private Moments[] sliceMoments(NumericColumn<?> column) {
+    Moments[] moments = new Moments[subTables.size()];
+    IntStream slices = IntStream.range(0, moments.length);
+    if (moments.length > 1 && column.size() >= PARALLEL_THRESHOLD) {
+      slices = slices.parallel();
+    }
+    slices.forEach(
+        i -> moments[i] = Moments.of(column, subTables.get(i).sourceRowNumberIterator()));
+    return moments;
+  }
+
   public static Table summaryTableName(Table source) {
     return Table.create(source.name() + " summary");
   }
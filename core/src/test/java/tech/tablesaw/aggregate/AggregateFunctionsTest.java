@@ -19,41 +19,57 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.allTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.anyTrue;
+import static tech.tablesaw.aggregate.AggregateFunctions.approxCountUnique;
+import static tech.tablesaw.aggregate.AggregateFunctions.approxMedian;
+import static tech.tablesaw.aggregate.AggregateFunctions.approxPercentile;
 import static tech.tablesaw.aggregate.AggregateFunctions.countFalse;
 import static tech.tablesaw.aggregate.AggregateFunctions.countMissing;
+import static tech.tablesaw.aggregate.AggregateFunctions.countNonMissing;
 import static tech.tablesaw.aggregate.AggregateFunctions.countTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.countUnique;
 import static tech.tablesaw.aggregate.AggregateFunctions.countWithMissing;
 import static tech.tablesaw.aggregate.AggregateFunctions.earliestDate;
+import static tech.tablesaw.aggregate.AggregateFunctions.kurtosis;
 import static tech.tablesaw.aggregate.AggregateFunctions.latestDate;
 import static tech.tablesaw.aggregate.AggregateFunctions.mean;
+import static tech.tablesaw.aggregate.AggregateFunctions.median;
 import static tech.tablesaw.aggregate.AggregateFunctions.noneTrue;
 import static tech.tablesaw.aggregate.AggregateFunctions.percentile90;
 import static tech.tablesaw.aggregate.AggregateFunctions.percentile95;
 import static tech.tablesaw.aggregate.AggregateFunctions.percentile99;
 import static tech.tablesaw.aggregate.AggregateFunctions.proportionFalse;
 import static tech.tablesaw.aggregate.AggregateFunctions.proportionTrue;
+import static tech.tablesaw.aggregate.AggregateFunctions.skewness;
 import static tech.tablesaw.aggregate.AggregateFunctions.standardDeviation;
 import static tech.tablesaw.aggregate.AggregateFunctions.stdDev;
 import static tech.tablesaw.aggregate.AggregateFunctions.sum;
+import static tech.tablesaw.aggregate.AggregateFunctions.variance;
 import static tech.tablesaw.api.QuerySupport.and;
 import static tech.tablesaw.api.QuerySupport.date;
 import static tech.tablesaw.api.QuerySupport.num;
 import static tech.tablesaw.api.QuerySupport.str;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import org.apache.commons.math3.stat.StatUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.NumericColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.selection.Selection;
 import tech.tablesaw.table.SelectionTableSliceGroup;
 import tech.tablesaw.table.StandardTableSliceGroup;
 import tech.tablesaw.table.TableSliceGroup;
@@ -76,7 +92,7 @@ class AggregateFunctionsTest {
     assertEquals("who", result.column(0).name());
     assertEquals(6, result.rowCount());
     assertEquals("65.671875", result.getUnformatted(0, 1));
-    assertEquals("10.648876067826901", result.getUnformatted(0, 2));
+    assertEquals("10.648876067826905", result.getUnformatted(0, 2));
   }
 
   @Test
@@ -229,6 +245,12 @@ class AggregateFunctionsTest {
     Summarizer function = table.summarize("approval", mean, stdDev);
     Table result = function.by(10);
     assertEquals(32, result.rowCount());
+    assertEquals(
+        IntColumn.indexColumn("Group", 32, 1).asList(), result.intColumn("Group").asList());
+    assertEquals(
+        mean.summarize(table.numberColumn("approval").where(Selection.withRange(10, 20))),
+        result.doubleColumn(1).getDouble(1));
+    assertEquals(323, table.rowCount());
   }
 
   @Test
@@ -236,6 +258,7 @@ class AggregateFunctionsTest {
     Summarizer function = table.summarize("approval", mean, stdDev);
     Table result = function.groupBy(10).apply();
     assertEquals(32, result.rowCount());
+    assertEquals("Group", result.column(0).name());
   }
 
   @Test
@@ -259,7 +282,7 @@ class AggregateFunctionsTest {
     Table result = group.aggregate("approval", mean, stdDev);
     assertEquals(3, result.columnCount());
     assertEquals("53.6", result.getUnformatted(0, 1));
-    assertEquals("2.5099800796022267", result.getUnformatted(0, 2));
+    assertEquals("2.5099800796022262", result.getUnformatted(0, 2));
   }
 
   @Test
@@ -362,4 +385,87 @@ class AggregateFunctionsTest {
 
     assertEquals(10, countUnique.summarize(c), 0.0001);
   }
+
+  @Test
+  void testApproximateFunctions() {
+    DoubleColumn c = DoubleColumn.create("test");
+    for (int i = 0; i < 100_000; i++) {
+      c.append(i % 20_000);
+    }
+    c.appendMissing();
+
+    assertEquals(20_000, approxCountUnique.summarize(c), 20_000 * 0.03);
+    assertEquals(9999.5, approxMedian.summarize(c), 20_000 * 0.01);
+    assertEquals(18_000, approxPercentile(90).summarize(c), 20_000 * 0.01);
+    assertEquals("Approx 90th Percentile", approxPercentile(90).functionName());
+    assertEquals("Approx 1st Percentile", approxPercentile(1).functionName());
+    assertEquals("Approx 2nd Percentile", approxPercentile(2).functionName());
+    assertEquals("Approx 3rd Percentile", approxPercentile(3).functionName());
+    assertEquals("Approx 11th Percentile", approxPercentile(11).functionName());
+    assertEquals("Approx 22nd Percentile", approxPercentile(22).functionName());
+    assertEquals("Approx 100th Percentile", approxPercentile(100).functionName());
+    assertEquals("Approx Percentile (p=33.3)", approxPercentile(33.3).functionName());
+    assertEquals(2, approxCountUnique.summarize(StringColumn.create("s", "a", "b", "a", "")));
+  }
+
+  @Test
+  void testApproximateFunctionsInGroups() {
+    Table result = table.summarize("approval", "who", approxMedian, approxCountUnique).by("who");
+    Table exact = table.summarize("approval", "who", median, countUnique).by("who");
+    assertEquals(exact.rowCount(), result.rowCount());
+    for (int row = 0; row < exact.rowCount(); row++) {
+      assertEquals(exact.doubleColumn(1).getDouble(row), result.doubleColumn(1).getDouble(row), 1);
+      assertEquals(exact.doubleColumn(2).getDouble(row), result.doubleColumn(2).getDouble(row));
+      assertEquals(exact.doubleColumn(3).getDouble(row), result.doubleColumn(3).getDouble(row));
+    }
+  }
+
+  @Test
+  void testMomentFunctionsInGroupsMatchEachSlice() {
+    TableSliceGroup group = StandardTableSliceGroup.create(table, "who");
+    Table result = group.aggregate("approval", mean, variance, skewness, kurtosis, median);
+    for (int row = 0; row < group.size(); row++) {
+      NumericColumn<?> slice = group.get(row).numberColumn("approval");
+      assertEquals(mean.summarize(slice), result.doubleColumn(1).getDouble(row), 1e-9);
+      assertEquals(variance.summarize(slice), result.doubleColumn(2).getDouble(row), 1e-9);
+      assertEquals(skewness.summarize(slice), result.doubleColumn(3).getDouble(row), 1e-9);
+      assertEquals(kurtosis.summarize(slice), result.doubleColumn(4).getDouble(row), 1e-9);
+      assertEquals(median.summarize(slice), result.doubleColumn(5).getDouble(row));
+    }
+  }
+
+  @Test
+  void testTimeBuckets() {
+    Instant start = Instant.parse("2020-01-01T10:02:00Z");
+    InstantColumn times = InstantColumn.create("time");
+    DoubleColumn values = DoubleColumn.create("value");
+    // Out of order, with a missing time that is left out
+    int[] minutes = {7, 1, 12, 3, 8, 0, 14};
+    for (int minute : minutes) {
+      times.append(start.plus(Duration.ofMinutes(minute)));
+      values.append(minute);
+    }
+    times.appendMissing();
+    values.append(100);
+    Table t = Table.create("t", times, values);
+
+    Table result = t.summarize(values, sum, countNonMissing).by(times, Duration.ofMinutes(5));
+    assertEquals(
+        InstantColumn.create(
+                "time",
+                Instant.parse("2020-01-01T10:00:00Z"),
+                Instant.parse("2020-01-01T10:05:00Z"),
+                Instant.parse("2020-01-01T10:10:00Z"),
+                Instant.parse("2020-01-01T10:15:00Z"))
+            .asList(),
+        result.instantColumn("time").asList());
+    assertEquals(Arrays.asList(1.0, 10.0, 20.0, 14.0), result.doubleColumn(1).asList());
+    assertEquals(Arrays.asList(2.0, 2.0, 2.0, 1.0), result.doubleColumn(2).asList());
+
+    Table sorted = t.sortAscendingOn("time").dropRowsWithMissingValues();
+    DateTimeColumn dateTimes = sorted.instantColumn("time").asLocalDateTimeColumn(ZoneOffset.UTC);
+    Table sortedResult = sorted.summarize("value", sum).by(dateTimes, Duration.ofMinutes(5));
+    assertEquals(LocalDateTime.of(2020, 1, 1, 10, 5), sortedResult.dateTimeColumn("time").get(1));
+    assertEquals(result.doubleColumn(1).asList(), sortedResult.doubleColumn(1).asList());
+  }
 }
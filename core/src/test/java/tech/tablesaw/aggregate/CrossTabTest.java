@@ -3,10 +3,12 @@ package tech.tablesaw.aggregate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.IntColumn;
 import tech.tablesaw.api.Row;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 
 public class CrossTabTest {
@@ -79,4 +81,66 @@ public class CrossTabTest {
     assertEquals(
         1.0, xtab.doubleColumn(xtab.columnCount() - 1).getDouble(xtab.rowCount() - 1), 0.00001);
   }
+
+  @Test
+  public void testCountsOnLargeTable() {
+    int rowCount = 500_000;
+    StringColumn letters = StringColumn.create("letters");
+    IntColumn numbers = IntColumn.create("numbers");
+    for (int i = 0; i < rowCount; i++) {
+      letters.append(String.valueOf((char) ('a' + i % 7)));
+      numbers.append(i % 3);
+    }
+    letters.setMissing(0);
+    Table table = Table.create("t", letters, numbers);
+
+    Table counts = table.xTabCounts("letters", "numbers");
+    assertEquals(
+        Arrays.asList("", "a", "b", "c", "d", "e", "f", "g", "Total"),
+        counts.stringColumn("[labels]").asList());
+    assertEquals(Arrays.asList("[labels]", "0", "1", "2", "total"), counts.columnNames());
+    for (int letter = 0; letter < 7; letter++) {
+      for (int number = 0; number < 3; number++) {
+        int expected = 0;
+        for (int i = letter; i < rowCount; i += 7) {
+          if (i % 3 == number && i != 0) {
+            expected++;
+          }
+        }
+        assertEquals(expected, counts.intColumn(number + 1).getInt(letter + 1));
+      }
+    }
+    assertEquals(1, counts.intColumn("0").getInt(0));
+    assertEquals(rowCount, counts.intColumn("total").getInt(counts.rowCount() - 1));
+
+    Table rowPercents = table.xTabRowPercents("letters", "numbers");
+    assertEquals(
+        (double) counts.intColumn("2").getInt(3) / counts.intColumn("total").getInt(3),
+        rowPercents.doubleColumn("2").getDouble(3),
+        0.000001);
+  }
+
+  @Test
+  public void testCountsWithMoreCellsThanRows() {
+    int rowCount = 1000;
+    IntColumn first = IntColumn.create("first");
+    IntColumn second = IntColumn.create("second");
+    for (int i = 0; i < rowCount; i++) {
+      first.append(i);
+      second.append((i * 7) % rowCount);
+    }
+    first.set(1, 0);
+    Table table = Table.create("t", first, second);
+
+    Table counts = table.xTabCounts("first", "second");
+    assertEquals(rowCount, counts.rowCount());
+    assertEquals(rowCount + 2, counts.columnCount());
+    assertEquals(1, counts.intColumn("0").getInt(0));
+    assertEquals(1, counts.intColumn("7").getInt(0));
+    assertEquals(0, counts.intColumn("14").getInt(0));
+    assertEquals(2, counts.intColumn("total").getInt(0));
+    assertEquals(1, counts.intColumn("14").getInt(counts.rowCount() - 1));
+    assertEquals(rowCount, counts.intColumn("total").getInt(counts.rowCount() - 1));
+    assertEquals(2 * rowCount, counts.intColumn("total").sum(), 0.0);
+  }
 }
@@ -0,0 +1,47 @@
+package tech.tablesaw.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+
+class HyperLogLogTest {
+
+  @Test
+  void smallCountsAreExact() {
+    StringColumn strings = StringColumn.create("s", "a", "b", "c", "a", "");
+    assertEquals(3, new HyperLogLog().addAll(strings).estimate());
+  }
+
+  @Test
+  void largeCountsAreEstimated() {
+    IntColumn ints = IntColumn.create("i");
+    for (int i = 0; i < 200_000; i++) {
+      ints.append(i % 50_000);
+    }
+    assertEquals(50_000, new HyperLogLog().addAll(ints).estimate(), 50_000 * 0.03);
+  }
+
+  @Test
+  void mergedSketchesCountTheUnion() {
+    IntColumn first = IntColumn.create("first");
+    IntColumn second = IntColumn.create("second");
+    for (int i = 0; i < 30_000; i++) {
+      first.append(i);
+      second.append(i + 10_000);
+    }
+    HyperLogLog union = new HyperLogLog().addAll(first).merge(new HyperLogLog().addAll(second));
+    assertEquals(40_000, union.estimate(), 40_000 * 0.03);
+
+    HyperLogLog small = new HyperLogLog().addAll(IntColumn.create("small", 1, 2, 3));
+    assertEquals(4, small.merge(new HyperLogLog().addAll(IntColumn.create("s", 3, 4))).estimate());
+  }
+
+  @Test
+  void mergeRequiresTheSamePrecision() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new HyperLogLog(12).merge(new HyperLogLog(14)));
+  }
+}
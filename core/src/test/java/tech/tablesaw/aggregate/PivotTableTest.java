@@ -3,7 +3,9 @@ package tech.tablesaw.aggregate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.io.csv.CsvReadOptions;
 
@@ -30,4 +32,55 @@ public class PivotTableTest {
     assertTrue(pivot.columnNames().contains("2004"));
     assertEquals(6, pivot.rowCount());
   }
+
+  @Test
+  public void pivotMatchesSummarize() throws Exception {
+    Table t = Table.read().csv("../data/bush.csv");
+    t.addColumns(t.dateColumn("date").year());
+    DoubleColumn approval = t.numberColumn("approval").asDoubleColumn();
+    approval.setMissing(0);
+    approval.setMissing(7);
+    t.replaceColumn("approval", approval.setName("approval"));
+
+    for (AggregateFunction<?, ?> function :
+        Arrays.asList(
+            AggregateFunctions.mean,
+            AggregateFunctions.sum,
+            AggregateFunctions.min,
+            AggregateFunctions.max,
+            AggregateFunctions.count,
+            AggregateFunctions.countMissing,
+            AggregateFunctions.median,
+            AggregateFunctions.first)) {
+      Table pivot =
+          PivotTable.pivot(
+              t,
+              t.categoricalColumn("who"),
+              t.categoricalColumn("date year"),
+              t.numberColumn("approval"),
+              function);
+      Table summary = t.summarize("approval", function).by("who", "date year");
+      int cells = 0;
+      for (int row = 0; row < pivot.rowCount(); row++) {
+        for (int column = 1; column < pivot.columnCount(); column++) {
+          String who = pivot.stringColumn("who").get(row);
+          int year = Integer.parseInt(pivot.column(column).name());
+          Table matching =
+              summary.where(
+                  summary
+                      .stringColumn("who")
+                      .isEqualTo(who)
+                      .and(summary.numberColumn("date year").isEqualTo(year)));
+          double value = pivot.doubleColumn(column).getDouble(row);
+          if (matching.rowCount() == 0) {
+            assertTrue(Double.isNaN(value));
+          } else {
+            assertEquals(matching.numberColumn(2).getDouble(0), value, 0.000001);
+            cells++;
+          }
+        }
+      }
+      assertEquals(summary.rowCount(), cells);
+    }
+  }
 }
@@ -0,0 +1,53 @@
+package tech.tablesaw.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+
+class TDigestTest {
+
+  @Test
+  void emptyDigest() {
+    assertTrue(Double.isNaN(new TDigest().quantile(0.5)));
+  }
+
+  @Test
+  void smallDigestsInterpolateBetweenValues() {
+    TDigest digest = new TDigest().addAll(DoubleColumn.create("d", 5, 1, 4, 2, 3, Double.NaN));
+    assertEquals(5, digest.size());
+    assertEquals(3, digest.quantile(0.5), 0.000001);
+    assertEquals(1, digest.quantile(0), 0.000001);
+    assertEquals(5, digest.quantile(1), 0.000001);
+  }
+
+  @Test
+  void quantilesOfSkewedData() {
+    Random random = new Random(42);
+    double[] values = new double[200_000];
+    TDigest digest = new TDigest();
+    TDigest left = new TDigest();
+    TDigest right = new TDigest();
+    for (int i = 0; i < values.length; i++) {
+      values[i] = Math.exp(random.nextGaussian());
+      digest.add(values[i]);
+      (i % 2 == 0 ? left : right).add(values[i]);
+    }
+    TDigest merged = left.merge(right);
+    assertEquals(values.length, merged.size());
+
+    Arrays.sort(values);
+    for (double quantile : new double[] {0.01, 0.1, 0.5, 0.9, 0.99}) {
+      assertEquals(quantile, rank(values, digest.quantile(quantile)), 0.005);
+      assertEquals(quantile, rank(values, merged.quantile(quantile)), 0.005);
+    }
+  }
+
+  private static double rank(double[] sorted, double value) {
+    int index = Arrays.binarySearch(sorted, value);
+    return (index < 0 ? -index - 1 : index) / (double) sorted.length;
+  }
+}
@@ -3,9 +3,15 @@ package tech.tablesaw.analytic;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayDeque;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.analytic.AggregateFunctions.Count;
 import tech.tablesaw.analytic.AggregateFunctions.Max;
+import tech.tablesaw.analytic.AggregateFunctions.Min;
+import tech.tablesaw.analytic.AggregateFunctions.MonotonicDeque;
 import tech.tablesaw.analytic.AggregateFunctions.Sum;
+import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
 
 class AnalyticAggregateFunctionsTest {
 
@@ -40,4 +46,89 @@ class AnalyticAggregateFunctionsTest {
     function.addRightMost(3);
     assertEquals(10, function.getValue());
   }
+
+  @Test
+  public void testMaxSlidingWithMissing() {
+    AggregateFunction<Integer, Double> function = new Max<Integer>().functionForSlidingWindows();
+    function.addRightMost(5);
+    function.addRightMostMissing();
+    function.addRightMost(3);
+    assertEquals(5, function.getValue());
+    function.removeLeftMost();
+    assertEquals(3, function.getValue());
+    function.removeLeftMost();
+    function.removeLeftMost();
+    assertTrue(Double.isNaN(function.getValue()));
+  }
+
+  @Test
+  public void testMinSliding() {
+    AggregateFunction<Integer, Double> function = new Min<Integer>().functionForSlidingWindows();
+    function.addAllRightMost(ImmutableList.of(1, 10, 9));
+    function.removeLeftMost();
+    function.addRightMost(30);
+    assertEquals(9, function.getValue());
+  }
+
+  @Test
+  public void testMonotonicDequeMatchesBruteForce() {
+    Random random = new Random(0);
+    MonotonicDeque max = new MonotonicDeque(true);
+    MonotonicDeque min = new MonotonicDeque(false);
+    ArrayDeque<Double> window = new ArrayDeque<>();
+    int windowSize = 50;
+    for (int i = 0; i < 2000; i++) {
+      if (window.size() == windowSize) {
+        max.removeLeftMost();
+        min.removeLeftMost();
+        window.remove();
+      }
+      if (random.nextInt(10) == 0) {
+        max.addRightMostMissing();
+        min.addRightMostMissing();
+        window.add(Double.NaN);
+      } else {
+        double value = random.nextInt(100);
+        max.addRightMost(value);
+        min.addRightMost(value);
+        window.add(value);
+      }
+      assertEquals(
+          window.stream()
+              .filter(d -> !Double.isNaN(d))
+              .mapToDouble(d -> d)
+              .max()
+              .orElse(Double.NaN),
+          max.getValue());
+      assertEquals(
+          window.stream()
+              .filter(d -> !Double.isNaN(d))
+              .mapToDouble(d -> d)
+              .min()
+              .orElse(Double.NaN),
+          min.getValue());
+    }
+  }
+
+  @Test
+  public void testSumSlidingPrimitive() {
+    DoubleAggregateFunction function = new Sum<Integer>().doubleFunctionForSlidingWindows();
+    function.addRightMost(10);
+    function.addRightMostMissing();
+    function.addRightMost(10);
+    function.removeLeftMost();
+    function.addRightMost(100);
+    assertEquals(110, function.getValue());
+  }
+
+  @Test
+  public void testCountSlidingPrimitive() {
+    LongAggregateFunction function = new Count<Double>().longFunctionFor(WindowGrowthType.SLIDING);
+    function.addRightMost(10);
+    function.addRightMostMissing();
+    function.addRightMost(10);
+    assertEquals(2, function.getValue());
+    function.removeLeftMost();
+    assertEquals(1, function.getValue());
+  }
 }
@@ -6,9 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 
@@ -639,6 +647,246 @@ class AnalyticQueryEngineTest {
     assertEquals(ImmutableList.of(1, 2, 2, 3, 4, 5, 6), result.intColumn("count").asList());
   }
 
+  @Test
+  public void missingValuesInIntegralColumns() {
+    Table table =
+        Table.create(
+            "table",
+            LongColumn.create("longs", new long[] {3, 1, 4, 1, 5}),
+            ShortColumn.create("shorts", new short[] {3, 1, 4, 1, 5}));
+    table.longColumn("longs").setMissing(2);
+    table.shortColumn("shorts").setMissing(2);
+
+    Table result =
+        AnalyticQuery.quickQuery()
+            .from(table)
+            .rowsBetween()
+            .preceding(1)
+            .andCurrentRow()
+            .max("longs")
+            .as("maxLongs")
+            .count("longs")
+            .as("countLongs")
+            .mean("shorts")
+            .as("meanShorts")
+            .execute();
+
+    assertArrayEquals(
+        new double[] {3, 3, 1, 1, 5}, result.doubleColumn("maxLongs").asDoubleArray());
+    assertEquals(ImmutableList.of(1, 2, 1, 1, 2), result.intColumn("countLongs").asList());
+    assertArrayEquals(
+        new double[] {3, 2, 1, 1, 3}, result.doubleColumn("meanShorts").asDoubleArray());
+  }
+
+  @Test
+  public void parallelExecutionMatchesSequentialExecution() {
+    Random random = new Random(0);
+    int rowCount = 20_000;
+    String[] customers = new String[rowCount];
+    double[] amounts = new double[rowCount];
+    int[] days = new int[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      customers[i] = "customer" + random.nextInt(1_000);
+      amounts[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(1_000);
+      days[i] = random.nextInt(365);
+    }
+    Table table =
+        Table.create(
+            "table",
+            StringColumn.create("customer", customers),
+            DoubleColumn.create("amount", amounts),
+            IntColumn.create("day", days));
+
+    AnalyticQuery query =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("customer")
+            .orderBy("day")
+            .rowsBetween()
+            .preceding(5)
+            .andFollowing(2)
+            .sum("amount")
+            .as("sum")
+            .max("amount")
+            .as("max")
+            .count("amount")
+            .as("count")
+            .build();
+
+    Table sequential = AnalyticQueryEngine.create(query).execute();
+    Table parallel = AnalyticQueryEngine.create(query).executeInParallel();
+
+    assertArrayEquals(
+        sequential.doubleColumn("sum").asDoubleArray(),
+        parallel.doubleColumn("sum").asDoubleArray());
+    assertArrayEquals(
+        sequential.doubleColumn("max").asDoubleArray(),
+        parallel.doubleColumn("max").asDoubleArray());
+    assertEquals(sequential.intColumn("count").asList(), parallel.intColumn("count").asList());
+
+    AnalyticQuery numberingQuery =
+        AnalyticQuery.numberingQuery()
+            .from(table)
+            .partitionBy("customer")
+            .orderBy("day")
+            .rank()
+            .as("rank")
+            .build();
+
+    assertEquals(
+        AnalyticQueryEngine.create(numberingQuery).execute().intColumn("rank").asList(),
+        AnalyticQueryEngine.create(numberingQuery).executeInParallel().intColumn("rank").asList());
+  }
+
+  @Test
+  public void rangeFrameIncludesPeersAndSkipsMissingOrderKeys() {
+    Table table =
+        Table.create(
+            "table",
+            DoubleColumn.create("x", new double[] {4, 2, 1, Double.NaN, 2, 7}),
+            DoubleColumn.create("v", new double[] {1, 10, 100, 1000, 10000, 100000}));
+
+    Table result =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy()
+            .orderBy("x")
+            .rangeBetween()
+            .preceding(1)
+            .andCurrentRow()
+            .sum("v")
+            .as("sum")
+            .count("v")
+            .as("count")
+            .execute();
+
+    // Results are in the order of the input rows. Rows without an order key are missing.
+    assertArrayEquals(
+        new double[] {1, 10110, 100, Double.NaN, 10110, 100000},
+        result.doubleColumn("sum").asDoubleArray());
+    assertEquals(Arrays.asList(1, 3, 1, null, 3, 1), result.intColumn("count").asList());
+  }
+
+  @Test
+  public void rangeFrameDescending() {
+    Table table =
+        Table.create(
+            "table",
+            IntColumn.create("x", new int[] {1, 2, 3, 5, 6}),
+            DoubleColumn.create("v", new double[] {1, 2, 3, 5, 6}));
+
+    Table result =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy()
+            .orderBy("-x")
+            .rangeBetween()
+            .currentRow()
+            .andFollowing(2)
+            .max("v")
+            .as("max")
+            .min("v")
+            .as("min")
+            .execute();
+
+    // Following rows in a descending window have smaller order values.
+    assertArrayEquals(new double[] {1, 2, 3, 5, 6}, result.doubleColumn("max").asDoubleArray());
+    assertArrayEquals(new double[] {1, 1, 1, 3, 5}, result.doubleColumn("min").asDoubleArray());
+  }
+
+  @Test
+  public void rangeFrameWithInterval() {
+    Instant start = Instant.parse("2020-01-01T00:00:00Z");
+    InstantColumn time =
+        InstantColumn.create(
+            "time",
+            new Instant[] {
+              start,
+              start.plusSeconds(60),
+              start.plusSeconds(4 * 60),
+              start.plusSeconds(6 * 60),
+              start.plusSeconds(20 * 60)
+            });
+    Table table =
+        Table.create(
+            "table",
+            StringColumn.create("sensor", new String[] {"a", "a", "b", "a", "a"}),
+            time,
+            DoubleColumn.create("reading", new double[] {1, 2, 4, 8, 16}));
+
+    Table result =
+        AnalyticQuery.query()
+            .from(table)
+            .partitionBy("sensor")
+            .orderBy("time")
+            .rangeBetween()
+            .preceding(Duration.ofMinutes(5))
+            .andCurrentRow()
+            .sum("reading")
+            .as("sum")
+            .mean("reading")
+            .as("mean")
+            .execute();
+
+    assertArrayEquals(new double[] {1, 3, 4, 10, 16}, result.doubleColumn("sum").asDoubleArray());
+    assertArrayEquals(new double[] {1, 1.5, 4, 5, 16}, result.doubleColumn("mean").asDoubleArray());
+  }
+
+  @Test
+  public void rangeFrameValidation() {
+    Table table =
+        Table.create(
+            "table",
+            IntColumn.create("x", new int[] {1, 2}),
+            StringColumn.create("s", new String[] {"a", "b"}));
+
+    Throwable noOrderBy =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                AnalyticQuery.quickQuery()
+                    .from(table)
+                    .rangeBetween()
+                    .preceding(1)
+                    .andCurrentRow()
+                    .sum("x")
+                    .as("sum")
+                    .build());
+    assertTrue(noOrderBy.getMessage().contains("exactly one ORDER BY column"));
+
+    Throwable stringOrderBy =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                AnalyticQuery.query()
+                    .from(table)
+                    .partitionBy()
+                    .orderBy("s")
+                    .rangeBetween()
+                    .preceding(1)
+                    .andCurrentRow()
+                    .sum("x")
+                    .as("sum")
+                    .build());
+    assertTrue(stringOrderBy.getMessage().contains("numeric or temporal ORDER BY column"));
+
+    Throwable intervalOnNumbers =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                AnalyticQuery.query()
+                    .from(table)
+                    .partitionBy()
+                    .orderBy("x")
+                    .rangeBetween()
+                    .preceding(Duration.ofMinutes(1))
+                    .andCurrentRow()
+                    .sum("x")
+                    .as("sum")
+                    .build());
+    assertTrue(intervalOnNumbers.getMessage().contains("requires numeric offsets"));
+  }
+
   @Test
   public void numberingFunctionReferenceImplementation() {
     AnalyticQuery query =
@@ -0,0 +1,91 @@
+package tech.tablesaw.analytic;
+
+import com.google.common.base.Stopwatch;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+/** Times sliding window analytic queries over a large table. */
+public class AnalyticQueryPerformanceTest {
+
+  private static final int NUMBER_OF_ROWS = 1_000_000;
+  private static final int NUMBER_OF_CUSTOMERS = 100_000;
+
+  public static void main(String[] args) {
+    Table table = createTable();
+
+    for (int windowSize : new int[] {10, 1_000, 10_000}) {
+      for (int i = 0; i < 3; i++) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        AnalyticQuery.quickQuery()
+            .from(table)
+            .rowsBetween()
+            .preceding(windowSize)
+            .andCurrentRow()
+            .max("price")
+            .as("max")
+            .min("price")
+            .as("min")
+            .execute();
+        stopwatch.stop();
+        System.out.println(
+            "MIN/MAX over "
+                + windowSize
+                + " PRECEDING AND CURRENT ROW: "
+                + stopwatch.elapsed(TimeUnit.MILLISECONDS)
+                + " ms");
+      }
+    }
+
+    for (boolean parallel : new boolean[] {false, true}) {
+      for (int i = 0; i < 3; i++) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        AnalyticQuery query =
+            AnalyticQuery.query()
+                .from(table)
+                .partitionBy("customer")
+                .orderBy("time")
+                .rowsBetween()
+                .preceding(10)
+                .andCurrentRow()
+                .mean("price")
+                .as("mean")
+                .build();
+        if (parallel) {
+          query.executeInParallel();
+        } else {
+          query.execute();
+        }
+        stopwatch.stop();
+        System.out.println(
+            (parallel ? "Parallel" : "Sequential")
+                + " MEAN over "
+                + NUMBER_OF_CUSTOMERS
+                + " partitions: "
+                + stopwatch.elapsed(TimeUnit.MILLISECONDS)
+                + " ms");
+      }
+    }
+  }
+
+  private static Table createTable() {
+    Random random = new Random(0);
+    double[] prices = new double[NUMBER_OF_ROWS];
+    int[] customers = new int[NUMBER_OF_ROWS];
+    int[] times = new int[NUMBER_OF_ROWS];
+    double price = 100;
+    for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+      price += random.nextGaussian();
+      prices[i] = price;
+      customers[i] = random.nextInt(NUMBER_OF_CUSTOMERS);
+      times[i] = random.nextInt();
+    }
+    return Table.create(
+        "ticks",
+        DoubleColumn.create("price", prices),
+        IntColumn.create("customer", customers),
+        IntColumn.create("time", times));
+  }
+}
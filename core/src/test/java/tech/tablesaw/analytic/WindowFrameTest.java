@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.analytic.WindowFrame.WindowBoundTypes;
 import tech.tablesaw.analytic.WindowFrame.WindowGrowthType;
@@ -142,4 +143,58 @@ class WindowFrameTest {
         WindowFrame.builder().setLeftPreceding(5).setRightCurrentRow().build().windowGrowthType();
     assertEquals(WindowGrowthType.SLIDING, growthType);
   }
+
+  @Test
+  public void testRangeWithInterval() {
+    WindowFrame frame =
+        WindowFrame.builder()
+            .setRange()
+            .setLeftRangePreceding(Duration.ofMinutes(5))
+            .setRightCurrentRow()
+            .build();
+    String expectedString = "RANGE BETWEEN INTERVAL 'PT5M' PRECEDING AND CURRENT_ROW";
+
+    assertTrue(frame.isRange());
+    assertTrue(frame.isTemporalRange());
+    assertEquals(-300_000, frame.getLeftRangeOffset());
+    assertEquals(expectedString, frame.toSqlString());
+  }
+
+  @Test
+  public void testRangeWithNumericOffsets() {
+    WindowFrame frame =
+        WindowFrame.builder().setLeftRangePreceding(2.5).setRightRangeFollowing(10).build();
+    String expectedString = "RANGE BETWEEN 2.5 PRECEDING AND 10 FOLLOWING";
+
+    assertTrue(frame.isRange());
+    assertEquals(-2.5, frame.getLeftRangeOffset());
+    assertEquals(10, frame.getRightRangeOffset());
+    assertEquals(expectedString, frame.toSqlString());
+    assertEquals(WindowGrowthType.SLIDING, frame.windowGrowthType());
+  }
+
+  @Test
+  public void rangeRightOffsetLargerThanLeftOffset() {
+    Throwable thrown =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> WindowFrame.builder().setLeftRangePreceding(2).setRightRangePreceding(5).build());
+    assertTrue(
+        thrown
+            .getMessage()
+            .contains("must be greater than the number preceding at the end of the window "));
+  }
+
+  @Test
+  public void rangeMixedOffsets() {
+    Throwable thrown =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                WindowFrame.builder()
+                    .setLeftRangePreceding(5)
+                    .setRightRangeFollowing(Duration.ofHours(1))
+                    .build());
+    assertTrue(thrown.getMessage().contains("Cannot mix numeric and interval offsets"));
+  }
 }
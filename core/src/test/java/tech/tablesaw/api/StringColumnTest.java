@@ -731,4 +731,28 @@ class StringColumnTest {
     assertEquals("Top Freq.", summary.getUnformatted(3, 0));
     assertEquals("1", summary.getUnformatted(3, 1));
   }
+
+  @Test
+  void subsetKeepsOnlyTheSelectedValues() {
+    StringColumn strings = StringColumn.create("strings");
+    for (int i = 0; i < 300; i++) {
+      strings.append("v" + (i % 200));
+    }
+    strings.appendMissing();
+    StringColumn subset = strings.subset(new int[] {300, 5, 205, 7, 5});
+
+    assertEquals(Arrays.asList("", "v5", "v5", "v7", "v5"), subset.asList());
+    assertEquals(3, subset.countUnique());
+    assertEquals(1, subset.countMissing());
+    assertEquals(3, subset.countOccurrences("v5"));
+    assertEquals(0, subset.countOccurrences("v6"));
+    assertEquals(3, subset.isEqualTo("v5").size());
+
+    subset.append("v6").append("new");
+    assertEquals("v6", subset.get(5));
+    assertEquals("new", subset.get(6));
+    assertEquals(5, subset.countUnique());
+    assertEquals(301, strings.size());
+    assertEquals(201, strings.countUnique());
+  }
 }
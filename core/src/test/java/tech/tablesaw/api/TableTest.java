@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static tech.tablesaw.TableAssertions.assertTableEquals;
 import static tech.tablesaw.aggregate.AggregateFunctions.mean;
 import static tech.tablesaw.aggregate.AggregateFunctions.stdDev;
 
@@ -29,6 +30,7 @@ import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
@@ -40,7 +42,10 @@ import org.junit.jupiter.api.Test;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.columns.numbers.IntColumnType;
+import tech.tablesaw.columns.numbers.NumberColumnFormatter;
 import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.Sort;
 
 public class TableTest {
 
@@ -65,7 +70,7 @@ public class TableTest {
     assertEquals(49, result.rowCount());
     assertEquals(3, result.columnCount());
     assertEquals(
-        "4.580805569368441",
+        "4.580805569368473",
         result.where(result.stringColumn("state").isEqualTo("AL")).doubleColumn(1).getString(0));
   }
 
@@ -194,6 +199,92 @@ public class TableTest {
     assertEquals(3, t2.rowCount());
   }
 
+  @Test
+  void dropDuplicateRowsKeepsFirstOccurrencesInOrder() {
+    Table t1 =
+        Table.create(
+            "T1",
+            StringColumn.create("Name", "Joe", "Jay", "Joe", "Ann", "Jay"),
+            DoubleColumn.create("Score", 1.5, Double.NaN, 1.5, 2.0, Double.NaN),
+            DateColumn.create(
+                "Date",
+                LocalDate.of(2020, 1, 1),
+                null,
+                LocalDate.of(2020, 1, 1),
+                LocalDate.of(2020, 1, 2),
+                null),
+            BooleanColumn.create("Flag", true, false, true, true, false));
+
+    Table t2 = t1.dropDuplicateRows();
+    assertEquals(3, t2.rowCount());
+    assertEquals(Arrays.asList("Joe", "Jay", "Ann"), t2.stringColumn("Name").asList());
+    assertTrue(t2.doubleColumn("Score").isMissing(1));
+    assertTrue(t2.dateColumn("Date").isMissing(1));
+  }
+
+  @Test
+  void dropDuplicateRowsOnColumns() {
+    Table t1 =
+        Table.create(
+            "T1",
+            IntColumn.create("Id", 0, 1, 2, 3, 4),
+            StringColumn.create("Name", "Joe", "Jay", "Joe", "Ann", "Jay"),
+            TextColumn.create("City", new String[] {"Oslo", "Rome", "Oslo", "Oslo", "Lima"}));
+
+    Table byName = t1.dropDuplicateRows("Name");
+    assertEquals(3, byName.columnCount());
+    assertEquals(Arrays.asList(0, 1, 3), byName.intColumn("Id").asList());
+
+    Table byNameAndCity = t1.dropDuplicateRows("Name", "City");
+    assertEquals(Arrays.asList(0, 1, 3, 4), byNameAndCity.intColumn("Id").asList());
+  }
+
+  @Test
+  void topNMatchesSortThenFirst() throws Exception {
+    Table bush = Table.read().csv("../data/bush.csv");
+    for (int n : new int[] {0, 1, 10, 100, bush.rowCount() + 1}) {
+      assertTableEquals(bush.sortOn("-approval", "who").first(n), bush.topN(n, "-approval", "who"));
+      assertTableEquals(bush.sortOn("date").first(n), bush.topN(n, "date"));
+    }
+    Table text = bush.copy();
+    text.replaceColumn("who", bush.stringColumn("who").asTextColumn());
+    assertTableEquals(
+        text.sortOn("who", "-date").first(20),
+        text.topN(20, Sort.on("who", Sort.Order.ASCEND).next("date", Sort.Order.DESCEND)));
+  }
+
+  @Test
+  void whereGathersEveryColumnType() {
+    DoubleColumn doubles = DoubleColumn.create("doubles", 0.5, 1.5, Double.NaN, 3.5);
+    doubles.setPrintFormatter(NumberColumnFormatter.percent(1));
+    Table table =
+        Table.create(
+            "t",
+            IntColumn.create("ints", 1, 2, 3, 4),
+            doubles,
+            BooleanColumn.create("booleans", true, false, true, false),
+            StringColumn.create("strings", "a", "b", null, "a"),
+            TextColumn.create("texts", "w", "x", "y", "z"),
+            DateColumn.create(
+                "dates",
+                LocalDate.of(2020, 1, 1),
+                null,
+                LocalDate.of(2020, 1, 3),
+                LocalDate.of(2020, 1, 4)));
+    Table result = table.where(Selection.with(3, 1, 2));
+
+    assertEquals(table.columnNames(), result.columnNames());
+    for (int c = 0; c < table.columnCount(); c++) {
+      assertEquals(table.column(c).type(), result.column(c).type());
+      assertEquals(
+          Arrays.asList(table.get(1, c), table.get(2, c), table.get(3, c)),
+          result.column(c).asList());
+    }
+    assertEquals("150.0%", result.doubleColumn("doubles").getString(0));
+    assertEquals(1, result.stringColumn("strings").countMissing());
+    assertEquals(3, result.stringColumn("strings").countUnique());
+  }
+
   @Test
   void testMissingValueCounts() {
     StringColumn c1 = StringColumn.create("SC");
@@ -263,6 +354,19 @@ public class TableTest {
     assertEquals(.75, (double) stratifiedFoxCount / totalFoxCount, 0.0);
   }
 
+  @Test
+  void testKFoldSplit() throws Exception {
+    Table t = Table.read().csv("../data/bush.csv");
+    List<Table[]> splits = t.kFoldSplit(5);
+    assertEquals(5, splits.size());
+    int testRows = 0;
+    for (Table[] split : splits) {
+      assertEquals(t.rowCount(), split[0].rowCount() + split[1].rowCount());
+      testRows += split[1].rowCount();
+    }
+    assertEquals(t.rowCount(), testRows);
+  }
+
   @Test
   void testDoWithEachRow() throws Exception {
     Table t =
@@ -34,6 +34,7 @@ import static tech.tablesaw.columns.datetimes.PackedLocalDateTime.time;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.columns.dates.PackedLocalDate;
@@ -125,4 +126,12 @@ public class PackedLocalDateTimeTest {
     LocalDateTime now = LocalDateTime.now();
     assertEquals(now.get(ChronoField.DAY_OF_WEEK), getDayOfWeek(pack(now)).getValue());
   }
+
+  @Test
+  public void testEpochMilli() {
+    LocalDateTime dateTime = LocalDateTime.of(1969, 12, 31, 23, 59, 58, 123_000_000);
+    long epochMilli = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    assertEquals(epochMilli, PackedLocalDateTime.toEpochMilli(pack(dateTime)));
+    assertEquals(dateTime, asLocalDateTime(PackedLocalDateTime.ofEpochMilli(epochMilli)));
+  }
 }
@@ -0,0 +1,118 @@
+package tech.tablesaw.columns.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.stat.descriptive.moment.Kurtosis;
+import org.apache.commons.math3.stat.descriptive.moment.Skewness;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+
+class MomentsTest {
+
+  private static final double TOLERANCE = 1e-9;
+
+  private static double[] randomValues(int size) {
+    Random random = new Random(42);
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = 100 + Math.exp(random.nextGaussian());
+    }
+    return values;
+  }
+
+  private static void assertRelativelyEquals(double expected, double actual) {
+    assertEquals(expected, actual, Math.abs(expected) * TOLERANCE);
+  }
+
+  @Test
+  void matchesCommonsMath() {
+    double[] values = randomValues(10_000);
+    Moments moments = Moments.of(DoubleColumn.create("d", values));
+    DescriptiveStatistics expected = new DescriptiveStatistics(values);
+
+    assertEquals(values.length, moments.count());
+    assertEquals(0, moments.missing());
+    assertEquals(expected.getMin(), moments.min());
+    assertEquals(expected.getMax(), moments.max());
+    assertRelativelyEquals(expected.getSum(), moments.sum());
+    assertRelativelyEquals(expected.getMean(), moments.mean());
+    assertRelativelyEquals(expected.getVariance(), moments.variance());
+    assertRelativelyEquals(expected.getPopulationVariance(), moments.populationVariance());
+    assertRelativelyEquals(expected.getStandardDeviation(), moments.standardDeviation());
+    assertRelativelyEquals(new Skewness().evaluate(values), moments.skewness());
+    assertRelativelyEquals(new Kurtosis().evaluate(values), moments.kurtosis());
+    assertRelativelyEquals(expected.getSumsq(), moments.sumOfSquares());
+    assertRelativelyEquals(expected.getGeometricMean(), moments.geometricMean());
+    assertRelativelyEquals(expected.getQuadraticMean(), moments.quadraticMean());
+  }
+
+  @Test
+  void combinedMomentsMatchASinglePass() {
+    double[] values = randomValues(1000);
+    Moments whole = new Moments();
+    Moments first = new Moments();
+    Moments second = new Moments();
+    for (int i = 0; i < values.length; i++) {
+      whole.add(values[i]);
+      (i < 300 ? first : second).add(values[i]);
+    }
+    Moments combined = first.combine(second);
+
+    assertEquals(whole.count(), combined.count());
+    assertEquals(whole.min(), combined.min());
+    assertEquals(whole.max(), combined.max());
+    assertRelativelyEquals(whole.mean(), combined.mean());
+    assertRelativelyEquals(whole.variance(), combined.variance());
+    assertRelativelyEquals(whole.skewness(), combined.skewness());
+    assertRelativelyEquals(whole.kurtosis(), combined.kurtosis());
+  }
+
+  @Test
+  void largeColumnsMatchASequentialPass() {
+    double[] values = randomValues(1_500_000);
+    Moments parallel = Moments.of(DoubleColumn.create("d", values));
+    Moments sequential = new Moments();
+    for (double value : values) {
+      sequential.add(value);
+    }
+
+    assertEquals(sequential.count(), parallel.count());
+    assertRelativelyEquals(sequential.mean(), parallel.mean());
+    assertRelativelyEquals(sequential.variance(), parallel.variance());
+    assertRelativelyEquals(sequential.skewness(), parallel.skewness());
+    assertRelativelyEquals(sequential.kurtosis(), parallel.kurtosis());
+  }
+
+  @Test
+  void missingValuesAreCountedAndSkipped() {
+    IntColumn column = IntColumn.create("i", new int[] {1, 2, 3, 4});
+    column.appendMissing();
+    Moments moments = Moments.of(column);
+
+    assertEquals(4, moments.count());
+    assertEquals(1, moments.missing());
+    assertEquals(10, moments.sum());
+    assertEquals(2.5, moments.mean());
+    assertEquals(1, moments.min());
+    assertEquals(4, moments.max());
+  }
+
+  @Test
+  void emptyAndSmallInputs() {
+    Moments empty = new Moments();
+    assertEquals(0, empty.sum());
+    assertTrue(Double.isNaN(empty.mean()));
+    assertTrue(Double.isNaN(empty.min()));
+    assertTrue(Double.isNaN(empty.variance()));
+
+    Moments single = new Moments().add(5);
+    assertEquals(5, single.mean());
+    assertEquals(0, single.variance());
+    assertTrue(Double.isNaN(single.skewness()));
+    assertTrue(Double.isNaN(single.kurtosis()));
+  }
+}
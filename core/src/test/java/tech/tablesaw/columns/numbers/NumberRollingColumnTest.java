@@ -3,8 +3,13 @@ package tech.tablesaw.columns.numbers;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.table.RollingColumn;
 
 public class NumberRollingColumnTest {
 
@@ -17,4 +22,66 @@ public class NumberRollingColumnTest {
     assertArrayEquals(sma5, result.asDoubleArray(), 0.000001);
     assertEquals("data 5-period Mean", result.name());
   }
+
+  @Test
+  public void testRollingMinMaxWithMissing() {
+    double missing = DoubleColumnType.missingValueIndicator();
+    IntColumn column = IntColumn.create("data", new int[] {3, 1, 4, 1, 5, 9, 2});
+    column.setMissing(4);
+    column.setMissing(5);
+
+    assertArrayEquals(
+        new double[] {missing, missing, 1, 1, 1, 1, 2}, column.rolling(3).min().asDoubleArray());
+    assertArrayEquals(
+        new double[] {missing, missing, 4, 4, 4, 1, 2}, column.rolling(3).max().asDoubleArray());
+    assertArrayEquals(
+        new double[] {missing, missing, 0, 0, 1, 2, 2},
+        column.rolling(3).countMissing().asDoubleArray());
+  }
+
+  @Test
+  public void testRollingPercentile() {
+    DoubleColumn result =
+        DoubleColumn.create("data", new double[] {5, 1, 4, 2, 3}).rolling(3).percentile(50);
+    double missing = DoubleColumnType.missingValueIndicator();
+    assertArrayEquals(new double[] {missing, missing, 4, 2, 3}, result.asDoubleArray());
+    assertEquals("data 3-period 50th Percentile", result.name());
+  }
+
+  @Test
+  public void testIncrementalMatchesWindowByWindow() {
+    Random random = new Random(0);
+    double[] data = new double[500];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = random.nextInt(8) == 0 ? Double.NaN : random.nextInt(50) - 25 + random.nextDouble();
+    }
+    DoubleColumn column = DoubleColumn.create("data", data);
+
+    AggregateFunction<?, ?>[] functions = {
+      AggregateFunctions.mean,
+      AggregateFunctions.sum,
+      AggregateFunctions.min,
+      AggregateFunctions.max,
+      AggregateFunctions.variance,
+      AggregateFunctions.stdDev,
+      AggregateFunctions.countMissing,
+      AggregateFunctions.countNonMissing,
+      AggregateFunctions.median,
+      AggregateFunctions.quartile1,
+      AggregateFunctions.quartile3,
+      AggregateFunctions.percentile90
+    };
+    for (int window : new int[] {1, 2, 7, 30}) {
+      for (AggregateFunction<?, ?> function : functions) {
+        DoubleColumn expected = (DoubleColumn) new RollingColumn(column, window).calc(function);
+        DoubleColumn actual = (DoubleColumn) column.rolling(window).calc(function);
+        assertEquals(expected.name(), actual.name());
+        assertArrayEquals(
+            expected.asDoubleArray(),
+            actual.asDoubleArray(),
+            0.000001,
+            function.functionName() + " over " + window + " rows");
+      }
+    }
+  }
 }
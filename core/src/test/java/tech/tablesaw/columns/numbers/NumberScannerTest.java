@@ -0,0 +1,214 @@
+package tech.tablesaw.columns.numbers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.util.StringUtils;
+
+class NumberScannerTest {
+
+  private static final String[] SAMPLES = {
+    "0",
+    "-0",
+    "+0",
+    "1",
+    "-1",
+    "+1",
+    "007",
+    "1,000",
+    "-1,234,567",
+    ",5",
+    "5,",
+    "-,5",
+    "1.0",
+    "1.00",
+    "1.5",
+    "1.",
+    ".5",
+    ".",
+    "-",
+    "+",
+    "",
+    " 1",
+    "1 ",
+    " 1.5 ",
+    "1.0.0",
+    "1e5",
+    "1E-5",
+    "1e",
+    "1e+",
+    "1.5e+3",
+    ".e5",
+    "1.5f",
+    "1.5D",
+    "1.5x",
+    "NaN",
+    "-NaN",
+    "Infinity",
+    "-Infinity",
+    "Inf",
+    "NaNd",
+    "0x1p3",
+    "0x1.8p1",
+    "0x",
+    "abc",
+    "12abc",
+    "1-2",
+    "--1",
+    "+-1",
+    "2147483647",
+    "2147483648",
+    "-2147483648",
+    "-2147483649",
+    "32767",
+    "32768",
+    "-32768",
+    "-32769",
+    "9223372036854775807",
+    "9223372036854775808",
+    "-9223372036854775808",
+    "-9223372036854775809",
+    "12345678901234567890",
+    "0.1",
+    "0.000123",
+    "123456789012345678901234567890",
+    "1.7976931348623157e308",
+    "1e309",
+    "4.9e-324",
+    "1e-400",
+    "9007199254740993",
+    "3.141592653589793238462643383279",
+    "1e22",
+    "1e23",
+    "1,5.0",
+    "5.0,",
+    "N,aN",
+    "1e1,0",
+    "-.5",
+    "1_000",
+    "$5",
+    "5%"
+  };
+
+  @Test
+  void testIntegersMatchJdk() {
+    for (String s : SAMPLES) {
+      for (boolean ignoreZeroDecimal : new boolean[] {false, true}) {
+        String jdk = ignoreZeroDecimal ? StringUtils.removeZeroDecimal(s) : s;
+        jdk = jdk.replace(",", "");
+        assertEquals(jdkLong(jdk) != null, NumberScanner.isLong(s, ignoreZeroDecimal), s);
+        assertEquals(jdkInt(jdk) != null, NumberScanner.isInt(s, ignoreZeroDecimal), s);
+        assertEquals(jdkShort(jdk) != null, NumberScanner.isShort(s, ignoreZeroDecimal), s);
+        if (jdkLong(jdk) != null) {
+          assertEquals((long) jdkLong(jdk), NumberScanner.parseLong(s, ignoreZeroDecimal), s);
+        }
+        if (jdkInt(jdk) != null) {
+          assertEquals((int) jdkInt(jdk), NumberScanner.parseInt(s, ignoreZeroDecimal), s);
+        }
+        if (jdkShort(jdk) != null) {
+          assertEquals((short) jdkShort(jdk), NumberScanner.parseShort(s, ignoreZeroDecimal), s);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testFloatingPointMatchesJdk() {
+    for (String s : SAMPLES) {
+      String jdk = s.replace(",", "");
+      Double expected = jdkDouble(jdk);
+      assertEquals(expected != null, NumberScanner.isDouble(s), s);
+      if (expected != null) {
+        assertEquals(expected, NumberScanner.parseDouble(s), 0.0, s);
+        assertEquals(Float.parseFloat(jdk), NumberScanner.parseFloat(s), 0.0f, s);
+      }
+    }
+  }
+
+  @Test
+  void testRandomDecimalsRoundLikeJdk() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      String s;
+      switch (i % 4) {
+        case 0:
+          s = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+          break;
+        case 1:
+          s = Long.toString(random.nextLong() % 10_000_000) + "." + random.nextInt(10_000);
+          break;
+        case 2:
+          s = String.format("%.6f", random.nextGaussian() * 1000);
+          break;
+        default:
+          s = Float.toString(random.nextFloat() * random.nextInt(100_000));
+      }
+      assertTrue(NumberScanner.isDouble(s), s);
+      assertEquals(
+          Double.doubleToLongBits(Double.parseDouble(s)),
+          Double.doubleToLongBits(NumberScanner.parseDouble(s)),
+          s);
+      assertEquals(
+          Float.floatToIntBits(Float.parseFloat(s)),
+          Float.floatToIntBits(NumberScanner.parseFloat(s)),
+          s);
+    }
+  }
+
+  @Test
+  void testSlices() {
+    String line = "abc,12.5,-42,xyz";
+    assertTrue(NumberScanner.isDouble(line, 4, 8));
+    assertEquals(12.5, NumberScanner.parseDouble(line, 4, 8));
+    assertTrue(NumberScanner.isInteger(line, 9, 12, false, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertEquals(
+        -42, NumberScanner.parseInteger(line, 9, 12, false, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertFalse(NumberScanner.isDouble(line, 13, 16));
+    assertThrows(NumberFormatException.class, () -> NumberScanner.parseDouble(line, 13, 16));
+    assertThrows(NumberFormatException.class, () -> NumberScanner.parseLong("12abc", false));
+  }
+
+  @Test
+  void testNegativeZero() {
+    assertEquals(
+        Double.doubleToLongBits(-0.0), Double.doubleToLongBits(NumberScanner.parseDouble("-0")));
+    assertEquals(
+        Float.floatToIntBits(-0.0f), Float.floatToIntBits(NumberScanner.parseFloat("-0.0")));
+  }
+
+  private static Long jdkLong(String s) {
+    try {
+      return Long.parseLong(s);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Integer jdkInt(String s) {
+    try {
+      return Integer.parseInt(s);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Short jdkShort(String s) {
+    try {
+      return Short.parseShort(s);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static Double jdkDouble(String s) {
+    try {
+      return Double.parseDouble(s);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
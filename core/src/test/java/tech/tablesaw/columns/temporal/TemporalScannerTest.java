@@ -0,0 +1,145 @@
+package tech.tablesaw.columns.temporal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.columns.dates.DateColumnType;
+import tech.tablesaw.columns.dates.DateParser;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.DateTimeColumnType;
+import tech.tablesaw.columns.datetimes.DateTimeParser;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.InstantColumnType;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.columns.times.TimeColumnType;
+import tech.tablesaw.columns.times.TimeParser;
+
+class TemporalScannerTest {
+
+  @Test
+  void datesMatchTheDefaultFormatter() {
+    List<String> layouts =
+        Arrays.asList(
+            "yyyy-MM-dd", "yyyy/MM/dd", "yyyyMMdd", "MM-dd-yyyy", "MM.dd.yyyy", "M/d/yyyy");
+    for (LocalDate date = LocalDate.of(1999, 12, 25);
+        date.isBefore(LocalDate.of(2001, 3, 5));
+        date = date.plusDays(1)) {
+      for (String layout : layouts) {
+        String text = date.format(DateTimeFormatter.ofPattern(layout));
+        assertEquals(PackedLocalDate.pack(date), TemporalScanner.parseDate(text), text);
+      }
+      String twoDigitYear = date.format(DateTimeFormatter.ofPattern("M/d/yy"));
+      assertEquals(
+          PackedLocalDate.pack(LocalDate.parse(twoDigitYear, DateParser.DEFAULT_FORMATTER)),
+          TemporalScanner.parseDate(twoDigitYear));
+    }
+  }
+
+  @Test
+  void datesTheFormatterHandlesDifferentlyAreLeftToIt() {
+    // Invalid, adjusted by the formatter, or in layouts the scanner doesn't read
+    for (String text :
+        new String[] {
+          "2019-02-30",
+          "2019-13-01",
+          "0000-01-01",
+          "2014-7-9",
+          "1/2/014",
+          "12/31/20145",
+          "Jan 3, 2014",
+          "03-Jan-2014",
+          "2014-01-0a",
+          "",
+          "1/2"
+        }) {
+      assertEquals(DateColumnType.missingValueIndicator(), TemporalScanner.parseDate(text), text);
+    }
+    DateParser parser = new DateParser(ColumnType.LOCAL_DATE);
+    assertEquals(LocalDate.of(2019, 2, 28), parser.parse("2019-02-30"));
+    assertEquals(LocalDate.of(2014, 1, 3), parser.parse("Jan 3, 2014"));
+    assertTrue(parser.canParse("Jan 3, 2014"));
+    assertFalse(parser.canParse("2014-7-9"));
+    assertFalse(parser.canParse("hello"));
+  }
+
+  @Test
+  void dateTimesMatchTheDefaultFormatter() {
+    String[] texts = {
+      "2014-07-09 13:03:44",
+      "2014-07-09 13:03:44.7",
+      "2014-07-09T13:03",
+      "2014-07-09T13:03:44",
+      "2014-07-09T13:03:44.1",
+      "2014-07-09T13:03:44.123",
+      "2014-07-09T13:03:44.123456789",
+      "7/9/14 9:04",
+      "12/31/14 23:59",
+      "2/29/16 00:00"
+    };
+    for (String text : texts) {
+      LocalDateTime expected = LocalDateTime.parse(text, DateTimeParser.DEFAULT_FORMATTER);
+      assertEquals(PackedLocalDateTime.pack(expected), TemporalScanner.parseDateTime(text), text);
+    }
+    for (String text :
+        new String[] {
+          "2014-07-09 13:03:44.75",
+          "2014-07-09 13:03",
+          "2014-07-09T24:00",
+          "7/9/2014 9:04",
+          "7/9/2014 9:04:55 PM",
+          "09-Jul-2014 13:03",
+          "2014-07-09T13:60"
+        }) {
+      assertEquals(
+          DateTimeColumnType.missingValueIndicator(), TemporalScanner.parseDateTime(text), text);
+    }
+    DateTimeParser parser = new DateTimeParser(ColumnType.LOCAL_DATE_TIME);
+    assertTrue(parser.canParse("7/9/2014 9:04:55 PM"));
+    assertFalse(parser.canParse("2014-07-09 13:03:44.75"));
+    assertEquals(
+        PackedLocalDateTime.pack(LocalDateTime.of(2014, 7, 9, 21, 4, 55)),
+        parser.parsePacked("7/9/2014 9:04:55 PM"));
+  }
+
+  @Test
+  void timesMatchTheDefaultFormatter() {
+    for (String text :
+        new String[] {"00:00", "13:03", "13:03:44", "23:59:59.9", "13:03:44.12", "13:03:44.123"}) {
+      assertEquals(
+          PackedLocalTime.pack(LocalTime.parse(text)), TemporalScanner.parseTime(text), text);
+    }
+    for (String text : new String[] {"24:00", "9:04", "13:03:44.1234", "13:03:44.", "1:04 PM"}) {
+      assertEquals(TimeColumnType.missingValueIndicator(), TemporalScanner.parseTime(text), text);
+    }
+    TimeParser parser = new TimeParser(ColumnType.LOCAL_TIME);
+    assertTrue(parser.canParse("1:04 PM"));
+    assertFalse(parser.canParse("13:03:44.1234"));
+    assertEquals(PackedLocalTime.of(9, 30), parser.parsePacked("930"));
+  }
+
+  @Test
+  void instantsMatchInstantParse() {
+    for (String text :
+        new String[] {
+          "2019-01-01T10:15:30Z", "2019-01-01T10:15:30.5Z", "1969-12-31T23:59:59.999999999Z"
+        }) {
+      assertEquals(
+          PackedInstant.pack(Instant.parse(text)), TemporalScanner.parseInstant(text), text);
+    }
+    for (String text : new String[] {"2019-01-01T10:15Z", "2019-01-01T10:15:30", "2019-01-01"}) {
+      assertEquals(
+          InstantColumnType.missingValueIndicator(), TemporalScanner.parseInstant(text), text);
+    }
+  }
+}
@@ -14,12 +14,21 @@
 
 package tech.tablesaw.conversion;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.conversion.MatrixOptions.Layout;
+import tech.tablesaw.conversion.MatrixOptions.MissingValuePolicy;
 
 public class TableConverterTest {
 
@@ -112,4 +121,116 @@ public class TableConverterTest {
     float[][] results = table.as().floatMatrix("1", "3");
     assertTrue(Arrays.deepEquals(expected, results));
   }
+
+  private static Table features() {
+    return Table.create(
+        "test",
+        DoubleColumn.create("x", new double[] {1, Double.NaN, 3, 4}),
+        IntColumn.create("n", new int[] {10, 20, 30, 40}),
+        StringColumn.create("color", new String[] {"red", "blue", "", "red"}));
+  }
+
+  @Test
+  public void featureMatrixLayouts() {
+    Table table = features();
+    MatrixOptions.Builder builder = MatrixOptions.builder().columns("n", "x");
+
+    FeatureMatrix rowMajor = table.as().featureMatrix(builder.build());
+    assertArrayEquals(
+        new double[] {10, 1, 20, Double.NaN, 30, 3, 40, 4}, rowMajor.toDoubleArray(), 0.0);
+
+    FeatureMatrix columnMajor =
+        table.as().featureMatrix(builder.layout(Layout.COLUMN_MAJOR).parallel(true).build());
+    assertArrayEquals(
+        new double[] {10, 20, 30, 40, 1, Double.NaN, 3, 4}, columnMajor.toDoubleArray(), 0.0);
+    double[][] matrix = columnMajor.toDoubleMatrix();
+    assertArrayEquals(new double[] {10, 20, 30, 40}, matrix[0], 0.0);
+
+    double[] buffer = new double[10];
+    Arrays.fill(buffer, -1);
+    columnMajor.fill(buffer);
+    assertEquals(4, buffer[7], 0.0);
+    assertEquals(-1, buffer[8], 0.0);
+    assertThrows(IllegalArgumentException.class, () -> columnMajor.fill(new double[7]));
+  }
+
+  @Test
+  public void featureMatrixByteBuffer() {
+    FeatureMatrix matrix =
+        features().as().featureMatrix(MatrixOptions.builder().columns("n", "x").build());
+    ByteBuffer buffer = ByteBuffer.allocateDirect(9 * Double.BYTES).order(ByteOrder.nativeOrder());
+    buffer.putDouble(-1);
+    matrix.fill(buffer);
+
+    assertEquals(9 * Double.BYTES, buffer.position());
+    assertEquals(-1, buffer.getDouble(0), 0.0);
+    assertEquals(10, buffer.getDouble(Double.BYTES), 0.0);
+    assertEquals(4, buffer.getDouble(8 * Double.BYTES), 0.0);
+  }
+
+  @Test
+  public void featureMatrixOneHot() {
+    FeatureMatrix matrix =
+        features()
+            .as()
+            .featureMatrix(
+                MatrixOptions.builder().columns("color").replaceMissingValuesWith(0).build());
+
+    assertEquals(Arrays.asList("color=blue", "color=red"), matrix.columnNames());
+    double[][] expected = {{0, 1}, {1, 0}, {0, 0}, {0, 1}};
+    assertTrue(Arrays.deepEquals(expected, matrix.toDoubleMatrix()));
+  }
+
+  @Test
+  public void featureMatrixMissingValues() {
+    Table table = features();
+
+    FeatureMatrix mean =
+        table
+            .as()
+            .featureMatrix(
+                MatrixOptions.builder()
+                    .columns("x", "color")
+                    .missingValues(MissingValuePolicy.MEAN)
+                    .build());
+    double[][] expected = {
+      {1, 0, 1}, {8.0 / 3, 1, 0}, {3, 1.0 / 3, 2.0 / 3}, {4, 0, 1},
+    };
+    assertTrue(Arrays.deepEquals(expected, mean.toDoubleMatrix()));
+
+    FeatureMatrix dropped =
+        table
+            .as()
+            .featureMatrix(
+                MatrixOptions.builder()
+                    .columns("x", "n", "color")
+                    .missingValues(MissingValuePolicy.DROP_ROWS)
+                    .build());
+    assertEquals(2, dropped.rowCount());
+    assertArrayEquals(new double[] {1, 10, 0, 1, 4, 40, 0, 1}, dropped.toDoubleArray(), 0.0);
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            table
+                .as()
+                .featureMatrix(
+                    MatrixOptions.builder().missingValues(MissingValuePolicy.FAIL).build()));
+  }
+
+  @Test
+  public void featureMatrixParallelRowMajor() {
+    double[] values = new double[5000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+    Table table =
+        Table.create("test", DoubleColumn.create("a", values), DoubleColumn.create("b", values));
+    double[] result =
+        table.as().featureMatrix(MatrixOptions.builder().parallel(true).build()).toDoubleArray();
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(i, result[2 * i], 0.0);
+      assertEquals(i, result[2 * i + 1], 0.0);
+    }
+  }
 }
@@ -14,8 +14,11 @@
 
 package tech.tablesaw.conversion.smile;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -26,6 +29,10 @@ import java.time.ZoneOffset;
 import org.junit.jupiter.api.Test;
 import smile.data.DataFrame;
 import smile.data.formula.Formula;
+import smile.data.measure.NominalScale;
+import smile.data.type.DataTypes;
+import smile.data.type.StructField;
+import smile.data.type.StructType;
 import smile.regression.LinearModel;
 import smile.regression.OLS;
 import tech.tablesaw.api.BooleanColumn;
@@ -88,4 +95,53 @@ public class SmileConverterTest {
     DataFrame dataframe = table.smile().toDataFrame();
     assertEquals(2, dataframe.nrows());
   }
+
+  @Test
+  public void primitiveAndBoxedVectors() {
+    Table table =
+        Table.create(
+            DoubleColumn.create("double", new double[] {1.5, 2.5}),
+            DoubleColumn.create("withMissing", new double[] {1.5, Double.NaN}),
+            IntColumn.create("int", new int[] {3, 4}),
+            StringColumn.create("string", new String[] {"a", ""}));
+    DataFrame dataframe = table.smile().toDataFrame();
+
+    assertEquals(DataTypes.DoubleType, dataframe.schema().field(0).type);
+    assertEquals(2.5, dataframe.getDouble(1, 0));
+    assertEquals(DataTypes.DoubleObjectType, dataframe.schema().field(1).type);
+    assertNull(dataframe.get(1, 1));
+    assertEquals(DataTypes.IntegerType, dataframe.schema().field(2).type);
+    assertEquals(4, dataframe.getInt(1, 2));
+    assertEquals("a", dataframe.getString(0, 3));
+    assertNull(dataframe.get(1, 3));
+  }
+
+  @Test
+  public void nominalStrings() {
+    Table table =
+        Table.create(
+            StringColumn.create("color", new String[] {"red", "blue", "red", "green"}),
+            IntColumn.create("count", new int[] {1, 2, 3, 4}));
+    DataFrame dataframe = table.smile().toNominalDataFrame();
+
+    StructField field = dataframe.schema().field(0);
+    assertEquals(DataTypes.IntegerType, field.type);
+    NominalScale scale = (NominalScale) field.measure.get();
+    assertArrayEquals(new String[] {"blue", "green", "red"}, scale.levels());
+    assertArrayEquals(new int[] {2, 0, 2, 1}, dataframe.intVector(0).array());
+    assertEquals("green", field.toString(dataframe.getInt(3, 0)));
+  }
+
+  @Test
+  public void nominalStringsWithGivenLevels() {
+    Table table = Table.create(StringColumn.create("size", new String[] {"small", "large"}));
+    NominalScale scale = new NominalScale("small", "medium", "large");
+    StructType schema = DataTypes.struct(new StructField("size", DataTypes.IntegerType, scale));
+
+    DataFrame dataframe = table.smile().toDataFrame(schema);
+    assertArrayEquals(new int[] {0, 2}, dataframe.intVector(0).array());
+
+    Table unknown = Table.create(StringColumn.create("size", new String[] {"huge"}));
+    assertThrows(IllegalArgumentException.class, () -> unknown.smile().toDataFrame(schema));
+  }
 }
@@ -0,0 +1,121 @@
+package tech.tablesaw.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.tablesaw.api.ColumnType.DOUBLE;
+import static tech.tablesaw.api.ColumnType.FLOAT;
+import static tech.tablesaw.api.ColumnType.INTEGER;
+import static tech.tablesaw.api.ColumnType.LOCAL_DATE;
+import static tech.tablesaw.api.ColumnType.LONG;
+import static tech.tablesaw.api.ColumnType.SHORT;
+import static tech.tablesaw.api.ColumnType.STRING;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.io.csv.CsvReadOptions;
+
+class MultiFileReaderTest {
+
+  @TempDir Path dir;
+
+  private void write(String path, String... lines) throws IOException {
+    Path file = dir.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void testReconcile() {
+    assertEquals(INTEGER, MultiFileReader.reconcile(INTEGER, INTEGER));
+    assertEquals(INTEGER, MultiFileReader.reconcile(SHORT, INTEGER));
+    assertEquals(LONG, MultiFileReader.reconcile(LONG, INTEGER));
+    assertEquals(DOUBLE, MultiFileReader.reconcile(INTEGER, DOUBLE));
+    assertEquals(DOUBLE, MultiFileReader.reconcile(FLOAT, SHORT));
+    assertEquals(DOUBLE, MultiFileReader.reconcile(FLOAT, DOUBLE));
+    assertEquals(STRING, MultiFileReader.reconcile(INTEGER, LOCAL_DATE));
+    assertEquals(STRING, MultiFileReader.reconcile(DOUBLE, STRING));
+  }
+
+  @Test
+  void testReadDirectory() throws IOException {
+    write("b.csv", "id,value,label", "3,2.5,x", "4,,y");
+    write("a.csv", "id,value,label", "1,7,2020-01-01", "2,8,2020-01-02");
+    write("c.csv", "id,extra", "5000000000,z");
+    write("notes.txt", "not a shard");
+
+    Table table = Table.read().files(dir.toString());
+
+    assertEquals(5, table.rowCount());
+    assertEquals(Arrays.asList("id", "value", "label", "extra"), table.columnNames());
+    assertEquals(LONG, table.column("id").type());
+    assertEquals(DOUBLE, table.column("value").type());
+    assertEquals(STRING, table.column("label").type());
+    assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5000000000L), table.longColumn("id").asList());
+    assertEquals(7.0, table.doubleColumn("value").getDouble(0));
+    assertEquals(2.5, table.doubleColumn("value").getDouble(2));
+    assertTrue(table.doubleColumn("value").isMissing(3));
+    assertTrue(table.doubleColumn("value").isMissing(4));
+    assertEquals("2020-01-01", table.stringColumn("label").get(0));
+    assertEquals("y", table.stringColumn("label").get(3));
+    assertTrue(table.stringColumn("label").isMissing(4));
+    assertTrue(table.stringColumn("extra").isMissing(0));
+    assertEquals("z", table.stringColumn("extra").get(4));
+  }
+
+  @Test
+  void testColumnsWithOnlyMissingValuesKeepTheOtherType() throws IOException {
+    write("a.csv", "id,value", "1,", "2,");
+    write("b.csv", "id,value", "3,10", "4,20");
+
+    Table table = Table.read().files(dir.toString());
+
+    assertEquals(INTEGER, table.column("value").type());
+    assertEquals(2, table.intColumn("value").countMissing());
+    assertEquals(20, (int) table.intColumn("value").get(3));
+  }
+
+  @Test
+  void testReadGlob() throws IOException {
+    write("2020-01/part-1.csv", "n", "1");
+    write("2020-01/part-2.csv", "n", "2");
+    write("2020-02/part-1.csv", "n", "3");
+    write("2020-02/other.csv", "n", "100");
+    write("archive/part-1.csv", "n", "200");
+
+    Table table =
+        Table.read()
+            .files(
+                MultiFileReadOptions.builder(dir + File.separator + "2020-*/part-*.csv")
+                    .tableName("parts")
+                    .threadPoolSize(2));
+
+    assertEquals("parts", table.name());
+    assertEquals(Arrays.asList(1, 2, 3), table.intColumn("n").asList());
+  }
+
+  @Test
+  void testReadOptionsPerFile() throws IOException {
+    write("a.csv", "x;y", "1;a");
+    write("b.csv", "x;y", "2;b");
+
+    Table table =
+        Table.read()
+            .files(
+                MultiFileReadOptions.builder(dir.toString())
+                    .readOptions(file -> CsvReadOptions.builder(file).separator(';').build()));
+
+    assertEquals(Arrays.asList("x", "y"), table.columnNames());
+    List<String> values =
+        table.stringColumn("y").asList().stream().sorted().collect(Collectors.toList());
+    assertEquals(Arrays.asList("a", "b"), values);
+  }
+}
@@ -0,0 +1,111 @@
+package tech.tablesaw.selection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.StringColumn;
+
+class SamplerTest {
+
+  private final Sampler sampler = new Sampler(42);
+
+  @Test
+  void sampleHasTheRequestedSize() {
+    // Small samples use method D and large ones method A
+    for (int n : new int[] {0, 1, 2, 10, 1_000, 50_000, 99_999, 100_000}) {
+      assertEquals(n, sampler.sample(n, 100_000).size());
+    }
+    assertThrows(IllegalArgumentException.class, () -> sampler.sample(11, 10));
+  }
+
+  @Test
+  void sampleIsUniform() {
+    int[] counts = new int[20];
+    int samples = 20_000;
+    for (int i = 0; i < samples; i++) {
+      Selection selection = sampler.sample(5, 20);
+      int previous = -1;
+      for (int row : selection) {
+        assertTrue(row > previous && row < 20);
+        counts[row]++;
+        previous = row;
+      }
+    }
+    for (int count : counts) {
+      assertEquals(samples / 4, count, samples / 4 * 0.05);
+    }
+  }
+
+  @Test
+  void sparseSampleIsUniform() {
+    int[] counts = new int[10];
+    int samples = 20_000;
+    for (int i = 0; i < samples; i++) {
+      for (int row : sampler.sample(3, 1000)) {
+        counts[row / 100]++;
+      }
+    }
+    for (int count : counts) {
+      assertEquals(samples * 3 / 10, count, samples * 3 / 10 * 0.05);
+    }
+  }
+
+  @Test
+  void bernoulliKeepsEachRowWithTheProbability() {
+    for (double probability : new double[] {0.01, 0.3, 0.7, 0.99}) {
+      Selection selection = sampler.bernoulli(probability, 100_000);
+      assertEquals(100_000 * probability, selection.size(), 100_000 * 0.01);
+      for (int row : selection) {
+        assertTrue(row >= 0 && row < 100_000);
+      }
+    }
+    assertEquals(0, sampler.bernoulli(0, 100).size());
+    assertEquals(100, sampler.bernoulli(1, 100).size());
+  }
+
+  @Test
+  void stratifiedTakesTheProportionOfEachStratum() {
+    StringColumn column = StringColumn.create("s");
+    for (int i = 0; i < 1000; i++) {
+      column.append(i % 10 == 0 ? "rare" : "common");
+    }
+    column.appendMissing();
+    column.appendMissing();
+
+    Selection selection = sampler.stratified(column, 0.25);
+    int rare = 0;
+    int common = 0;
+    int missing = 0;
+    for (int row : selection) {
+      if (column.isMissing(row)) {
+        missing++;
+      } else if (column.get(row).equals("rare")) {
+        rare++;
+      } else {
+        common++;
+      }
+    }
+    assertEquals(25, rare);
+    assertEquals(225, common);
+    assertEquals(1, missing);
+  }
+
+  @Test
+  void foldsPartitionTheRows() {
+    Selection[] folds = sampler.folds(3, 10);
+    assertEquals(3, folds.length);
+    Selection all = new BitmapBackedSelection();
+    for (Selection fold : folds) {
+      assertTrue(fold.size() == 3 || fold.size() == 4);
+      all.or(fold);
+    }
+    assertEquals(Selection.withRange(0, 10), all);
+  }
+
+  @Test
+  void seededSamplersRepeat() {
+    assertEquals(new Sampler(7).sample(10, 1000), new Sampler(7).sample(10, 1000));
+  }
+}
@@ -0,0 +1,125 @@
+package tech.tablesaw.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+
+public class SortKeysTest {
+
+  private static Table randomTable(int rowCount) {
+    Random random = new Random(42);
+    Table table =
+        Table.create(
+            "random",
+            StringColumn.create("string"),
+            IntColumn.create("int"),
+            LongColumn.create("long"),
+            DoubleColumn.create("double"),
+            BooleanColumn.create("boolean"),
+            DateColumn.create("date"),
+            InstantColumn.create("instant"));
+    for (int i = 0; i < rowCount; i++) {
+      boolean missing = random.nextInt(10) == 0;
+      table.stringColumn("string").append(missing ? "" : "s" + random.nextInt(30));
+      if (missing) {
+        table.intColumn("int").appendMissing();
+        table.longColumn("long").appendMissing();
+        table.doubleColumn("double").appendMissing();
+        table.dateColumn("date").appendMissing();
+        table.instantColumn("instant").appendMissing();
+      } else {
+        table.intColumn("int").append(random.nextInt(20) - 10);
+        table.longColumn("long").append(random.nextLong() % 5);
+        table.doubleColumn("double").append(random.nextInt(7) - 3.5);
+        table.dateColumn("date").append(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(40)));
+        table
+            .instantColumn("instant")
+            .append(Instant.ofEpochSecond(random.nextInt(1_000_000) - 500_000));
+      }
+      table.booleanColumn("boolean").append(random.nextBoolean());
+    }
+    return table;
+  }
+
+  /** Checks that the rows are ordered as the comparator chain for the key orders them. */
+  private static void assertSorted(Table table, Sort key, int[] rows) {
+    IntComparator comparator = SortUtils.getChain(table, key);
+    for (int i = 1; i < rows.length; i++) {
+      int comparison = comparator.compare(rows[i - 1], rows[i]);
+      assertTrue(comparison <= 0, "rows " + rows[i - 1] + " and " + rows[i] + " out of order");
+      if (comparison == 0) {
+        assertTrue(rows[i - 1] < rows[i], "equal rows should keep their order");
+      }
+    }
+  }
+
+  @Test
+  public void singleColumnSortsMatchRowComparators() {
+    Table table = randomTable(2_000);
+    for (String name : table.columnNames()) {
+      for (Sort.Order order : Sort.Order.values()) {
+        Sort key = Sort.on(name, order);
+        assertSorted(table, key, SortKeys.sortedRows(table, key));
+      }
+    }
+  }
+
+  @Test
+  public void multiColumnSortsMatchComparatorChain() {
+    Table table = randomTable(2_000);
+    Sort key =
+        Sort.on("boolean", Sort.Order.DESCEND)
+            .next("string", Sort.Order.ASCEND)
+            .next("int", Sort.Order.DESCEND)
+            .next("double", Sort.Order.ASCEND);
+    assertSorted(table, key, SortKeys.sortedRows(table, key));
+
+    // Too many distinct values to pack into a single key.
+    Sort wide =
+        Sort.on("instant", Sort.Order.ASCEND)
+            .next("long", Sort.Order.DESCEND)
+            .next("date", Sort.Order.DESCEND)
+            .next("string", Sort.Order.ASCEND)
+            .next("double", Sort.Order.DESCEND)
+            .next("int", Sort.Order.ASCEND)
+            .next("boolean", Sort.Order.ASCEND);
+    assertSorted(table, wide, SortKeys.sortedRows(table, wide));
+  }
+
+  @Test
+  public void sortOnUsesKeys() {
+    Table table =
+        Table.create(
+            "t",
+            StringColumn.create("name", "b", "a", "c", "a"),
+            DoubleColumn.create("value", 1, Double.NaN, -0.5, 2));
+    Table sorted = table.sortOn("name", "-value");
+    assertArrayEquals(
+        new String[] {"a", "a", "b", "c"}, sorted.stringColumn("name").asObjectArray());
+    assertArrayEquals(
+        new double[] {Double.NaN, 2, 1, -0.5}, sorted.doubleColumn("value").asDoubleArray());
+  }
+
+  @Test
+  public void textColumnsHaveNoKey() {
+    Table table = Table.create("t", TextColumn.create("text", new String[] {"b", "a"}));
+    assertFalse(SortKeys.canSort(table, Sort.on("text", Sort.Order.ASCEND)));
+    assertEquals("a", table.sortOn("text").textColumn("text").get(0));
+  }
+}
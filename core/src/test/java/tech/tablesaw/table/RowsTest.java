@@ -0,0 +1,95 @@
+package tech.tablesaw.table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
+
+class RowsTest {
+
+  private final Table source =
+      Table.create(
+          "source",
+          DoubleColumn.create("x", 1, 2, 3, 4),
+          StringColumn.create("s", "a", "b", "c", "d"));
+
+  @Test
+  void testCopyRowsToTableWritesIntoTheExistingColumns() {
+    Table destination = source.emptyCopy(2);
+    DoubleColumn x = destination.doubleColumn("x");
+    StringColumn s = destination.stringColumn("s");
+
+    Rows.copyRowsToTable(new int[] {3, 1}, source, destination);
+
+    assertSame(x, destination.doubleColumn("x"));
+    assertSame(s, destination.stringColumn("s"));
+    assertEquals(Arrays.asList(4.0, 2.0), x.asList());
+    assertEquals(Arrays.asList("d", "b"), s.asList());
+
+    Rows.copyRowsToTable(Selection.with(0, 2), source, destination);
+
+    assertSame(x, destination.doubleColumn("x"));
+    assertEquals(Arrays.asList(1.0, 3.0), x.asList());
+    assertEquals(Arrays.asList("a", "c"), s.asList());
+  }
+
+  @Test
+  void testWhereReturnsNewColumns() {
+    Table result = source.where(Selection.with(1, 3));
+
+    assertNotSame(source.column("x"), result.column("x"));
+    assertEquals(Arrays.asList(2.0, 4.0), result.doubleColumn("x").asList());
+    assertEquals(Arrays.asList("b", "d"), result.stringColumn("s").asList());
+
+    result.doubleColumn("x").set(0, 10.0);
+    assertEquals(2.0, source.doubleColumn("x").getDouble(1));
+  }
+
+  @Test
+  void testHeadAndTailWriteIntoTheExistingColumns() {
+    Table destination = source.emptyCopy(2);
+    DoubleColumn x = destination.doubleColumn("x");
+
+    Rows.head(2, source, destination);
+    assertSame(x, destination.doubleColumn("x"));
+    assertEquals(Arrays.asList(1.0, 2.0), x.asList());
+
+    Rows.tail(2, source, destination);
+    assertSame(x, destination.doubleColumn("x"));
+    assertEquals(Arrays.asList(3.0, 4.0), x.asList());
+    assertEquals(Arrays.asList("c", "d"), destination.stringColumn("s").asList());
+  }
+
+  @Test
+  void testFirstLastAndRanges() {
+    assertEquals(Arrays.asList(1.0, 2.0, 3.0), source.first(3).doubleColumn("x").asList());
+    assertEquals(Arrays.asList("c", "d"), source.last(2).stringColumn("s").asList());
+    assertEquals(Arrays.asList(2.0, 3.0), source.inRange(1, 3).doubleColumn("x").asList());
+    assertEquals(Arrays.asList(3.0, 4.0), source.inRange(-2).doubleColumn("x").asList());
+    assertEquals(4, source.first(10).rowCount());
+  }
+
+  @Test
+  void testWhereWithFunctionAppliesItOnce() {
+    AtomicInteger calls = new AtomicInteger();
+    Table result =
+        source.where(
+            t -> {
+              calls.incrementAndGet();
+              return t.doubleColumn("x").isGreaterThan(2);
+            });
+
+    assertEquals(1, calls.get());
+    assertEquals(Arrays.asList("c", "d"), result.stringColumn("s").asList());
+    assertEquals(
+        Arrays.asList("a", "b"),
+        source.dropWhere(t -> t.doubleColumn("x").isGreaterThan(2)).stringColumn("s").asList());
+  }
+}
@@ -15,9 +15,13 @@ public class XlsxReadOptions extends ReadOptions {
   /** The sheet to read. Null means no specific index was set. First sheet has index 0. */
   protected Integer sheetIndex;
 
+  /** Whether to read the sheets as streams of events instead of loading the whole workbook */
+  protected boolean streaming;
+
   protected XlsxReadOptions(Builder builder) {
     super(builder);
     sheetIndex = builder.sheetIndex;
+    streaming = builder.streaming;
   }
 
   public static Builder builder(Source source) {
@@ -48,9 +52,14 @@ public class XlsxReadOptions extends ReadOptions {
     return sheetIndex;
   }
 
+  public boolean streaming() {
+    return streaming;
+  }
+
   public static class Builder extends ReadOptions.Builder {
 
     protected Integer sheetIndex;
+    protected boolean streaming;
 
     protected Builder(Source source) {
       super(source);
@@ -158,5 +167,16 @@ public class XlsxReadOptions extends ReadOptions {
       this.sheetIndex = sheetIndex;
       return this;
     }
+
+    /**
+     * Reads each sheet with a SAX parser, appending its cells to the columns as they are parsed,
+     * instead of loading the whole workbook into memory first. This reads large workbooks faster
+     * and in much less memory. Column types are chosen from the cells in the first rows of the
+     * table, and widened or changed to strings if later cells don't fit them.
+     */
+    public Builder streaming(boolean streaming) {
+      this.streaming = streaming;
+      return this;
+    }
   }
 }
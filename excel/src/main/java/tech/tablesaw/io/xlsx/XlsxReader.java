@@ -60,6 +60,9 @@ public class XlsxReader implements DataReader<XlsxReadOptions> {
 
   @Override
   public Table read(XlsxReadOptions options) throws IOException {
+    if (options.streaming()) {
+      return XlsxStreamingReader.readOne(options);
+    }
     List<Table> tables = readMultiple(options, true);
     if (options.sheetIndex() != null) {
       int index = options.sheetIndex();
@@ -94,6 +97,9 @@ public class XlsxReader implements DataReader<XlsxReadOptions> {
    */
   protected List<Table> readMultiple(XlsxReadOptions options, boolean includeNulls)
       throws IOException {
+    if (options.streaming()) {
+      return XlsxStreamingReader.read(options, includeNulls);
+    }
     byte[] bytes = null;
     InputStream input = getInputStream(options, bytes);
     List<Table> tables = new ArrayList<>();
@@ -0,0 +1,659 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.xlsx;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.ooxml.util.SAXHelper;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.xmlbeans.XmlException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbookPr;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Reads the sheets of a workbook with POI's event API, parsing the XML of each sheet with SAX and
+ * appending the cells straight to Tablesaw columns, so the workbook's cells are never held in
+ * memory. Only the shared strings and styles of the workbook are loaded.
+ *
+ * <p>The table in a sheet starts at its first row with a value, which also sets the table's
+ * columns, and ends at the next blank row. The first row holds the column names if it has a string
+ * in every column. Column types are chosen from the kinds of cells in a sample of the first rows.
+ * Numeric columns are widened if later rows hold larger or fractional numbers, and columns that
+ * turn out to hold cells of different kinds are read as strings.
+ */
+final class XlsxStreamingReader {
+
+  /** The number of rows whose cells are buffered to choose the type of each column */
+  private static final int SAMPLE_ROWS = 1000;
+
+  private static final byte MISSING = 0;
+  private static final byte STRING = 1;
+  private static final byte NUMBER = 2;
+  private static final byte DATE = 3;
+  private static final byte BOOLEAN = 4;
+
+  private XlsxStreamingReader() {}
+
+  /**
+   * Returns a table for each sheet, or null for sheets without a table if {@code includeNulls} is
+   * true
+   */
+  static List<Table> read(XlsxReadOptions options, boolean includeNulls) throws IOException {
+    OPCPackage workbook = open(options);
+    try {
+      SheetParser parser = new SheetParser(workbook, options);
+      List<Table> tables = new ArrayList<>();
+      while (parser.sheets.hasNext()) {
+        Table table = parser.parseNext();
+        if (table != null || includeNulls) {
+          tables.add(table);
+        }
+      }
+      return tables;
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException | XmlException e) {
+      throw new IOException(e);
+    } finally {
+      workbook.revert();
+    }
+  }
+
+  /**
+   * Returns the table of the sheet at the options' sheet index, or of the first sheet with a table
+   * if there is no index. Only that sheet, and with no index the sheets before it, are parsed.
+   */
+  static Table readOne(XlsxReadOptions options) throws IOException {
+    Integer index = options.sheetIndex();
+    OPCPackage workbook = open(options);
+    try {
+      SheetParser parser = new SheetParser(workbook, options);
+      int sheetCount = 0;
+      while (parser.sheets.hasNext()) {
+        if (index == null || sheetCount == index) {
+          Table table = parser.parseNext();
+          if (index != null && table == null) {
+            throw new IllegalArgumentException(
+                String.format("No table found at sheet index %d.", index));
+          }
+          if (table != null) {
+            return table;
+          }
+        } else {
+          parser.skipNext();
+        }
+        sheetCount++;
+      }
+      if (index != null) {
+        throw new IndexOutOfBoundsException(
+            String.format("Sheet index %d outside bounds. %d sheets found.", index, sheetCount));
+      }
+      throw new IllegalArgumentException("No tables found.");
+    } catch (OpenXML4JException | SAXException | ParserConfigurationException | XmlException e) {
+      throw new IOException(e);
+    } finally {
+      workbook.revert();
+    }
+  }
+
+  /** Parses the sheets of a workbook one at a time, in order */
+  private static final class SheetParser {
+
+    private final XlsxReadOptions options;
+    private final ReadOnlySharedStringsTable strings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final XSSFReader.SheetIterator sheets;
+
+    private SheetParser(OPCPackage workbook, XlsxReadOptions options)
+        throws IOException, OpenXML4JException, SAXException, XmlException {
+      XSSFReader reader = new XSSFReader(workbook);
+      this.options = options;
+      this.strings = new ReadOnlySharedStringsTable(workbook, false);
+      this.styles = reader.getStylesTable();
+      this.date1904 = isDate1904(reader);
+      this.sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+    }
+
+    /** Returns the table of the next sheet, or null if it doesn't have one */
+    private Table parseNext() throws IOException, SAXException, ParserConfigurationException {
+      try (InputStream sheet = sheets.next()) {
+        SheetHandler handler =
+            new SheetHandler(
+                strings, styles, date1904, options.tableName() + "#" + sheets.getSheetName());
+        parse(sheet, handler);
+        return handler.table();
+      }
+    }
+
+    /** Moves past the next sheet without reading it */
+    private void skipNext() throws IOException {
+      sheets.next().close();
+    }
+  }
+
+  /** Opens the workbook, reading a file in place and reading a stream into memory */
+  private static OPCPackage open(XlsxReadOptions options) throws IOException {
+    try {
+      if (options.source().file() != null) {
+        return OPCPackage.open(options.source().file(), PackageAccess.READ);
+      }
+      try (InputStream input = options.source().inputStream()) {
+        return OPCPackage.open(input);
+      }
+    } catch (OpenXML4JException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static boolean isDate1904(XSSFReader reader)
+      throws IOException, OpenXML4JException, XmlException {
+    try (InputStream input = reader.getWorkbookData()) {
+      CTWorkbookPr properties = WorkbookDocument.Factory.parse(input).getWorkbook().getWorkbookPr();
+      return properties != null && properties.getDate1904();
+    }
+  }
+
+  private static void parse(InputStream sheet, SheetHandler handler)
+      throws IOException, SAXException, ParserConfigurationException {
+    XMLReader parser = SAXHelper.newXMLReader();
+    parser.setContentHandler(handler);
+    try {
+      parser.parse(new InputSource(sheet));
+    } catch (EndOfTable e) {
+      // The rest of the sheet is after the table
+    }
+  }
+
+  /** Thrown to stop parsing a sheet once the end of its table has been read */
+  private static final class EndOfTable extends SAXException {
+    private static final long serialVersionUID = 1L;
+  }
+
+  /** Builds a table from the events for the cells in a sheet */
+  private static final class SheetHandler extends DefaultHandler {
+
+    private final ReadOnlySharedStringsTable strings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final String tableName;
+    // Whether each cell style is a date format, or null if not yet known
+    private Boolean[] dateStyles = new Boolean[0];
+
+    // The cells of the current row
+    private int rowNumber = -1;
+    private int cellCount;
+    private int[] cellColumns = new int[16];
+    private byte[] cellKinds = new byte[16];
+    private double[] cellNumbers = new double[16];
+    private String[] cellStrings = new String[16];
+
+    // The current cell
+    private int nextColumn;
+    private int column;
+    private String cellType;
+    private int cellStyle;
+    private boolean inValue;
+    private boolean inInlineString;
+    private boolean hasValue;
+    private final StringBuilder value = new StringBuilder();
+
+    // The table, once its first row has been read
+    private int firstColumn;
+    private SheetColumn[] columns;
+    private int lastRowNumber;
+    private int rowCount;
+
+    private SheetHandler(
+        ReadOnlySharedStringsTable strings,
+        StylesTable styles,
+        boolean date1904,
+        String tableName) {
+      this.strings = strings;
+      this.styles = styles;
+      this.date1904 = date1904;
+      this.tableName = tableName;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+      switch (localName) {
+        case "row":
+          String row = attributes.getValue("r");
+          rowNumber = row != null ? Integer.parseInt(row) - 1 : rowNumber + 1;
+          cellCount = 0;
+          nextColumn = 0;
+          break;
+        case "c":
+          String reference = attributes.getValue("r");
+          column = reference != null ? columnIndex(reference) : nextColumn;
+          nextColumn = column + 1;
+          cellType = attributes.getValue("t");
+          String style = attributes.getValue("s");
+          cellStyle = style != null ? Integer.parseInt(style) : 0;
+          hasValue = false;
+          value.setLength(0);
+          break;
+        case "v":
+          inValue = true;
+          value.setLength(0);
+          break;
+        case "is":
+          inInlineString = true;
+          value.setLength(0);
+          break;
+        case "t":
+          inValue = inInlineString;
+          break;
+        default:
+          break;
+      }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+      if (inValue) {
+        value.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+      switch (localName) {
+        case "v":
+          inValue = false;
+          hasValue = true;
+          break;
+        case "t":
+          inValue = false;
+          break;
+        case "is":
+          inInlineString = false;
+          hasValue = true;
+          break;
+        case "c":
+          if (hasValue) {
+            addCell();
+          }
+          break;
+        case "row":
+          endRow();
+          break;
+        default:
+          break;
+      }
+    }
+
+    /** Returns the index of the column in a cell reference like "AB12" */
+    private static int columnIndex(String reference) {
+      int index = 0;
+      for (int i = 0; i < reference.length(); i++) {
+        char c = reference.charAt(i);
+        if (c < 'A' || c > 'Z') {
+          break;
+        }
+        index = index * 26 + (c - 'A' + 1);
+      }
+      return index - 1;
+    }
+
+    private void addCell() {
+      byte kind;
+      double number = 0;
+      String string = null;
+      if (cellType == null || cellType.equals("n")) {
+        number = Double.parseDouble(value.toString());
+        kind = isDateStyle(cellStyle) && DateUtil.isValidExcelDate(number) ? DATE : NUMBER;
+      } else if (cellType.equals("s")) {
+        string = strings.getItemAt(Integer.parseInt(value.toString())).getString();
+        kind = STRING;
+      } else if (cellType.equals("inlineStr") || cellType.equals("str")) {
+        string = value.toString();
+        kind = STRING;
+      } else if (cellType.equals("b")) {
+        number = value.length() == 1 && value.charAt(0) == '1' ? 1 : 0;
+        kind = BOOLEAN;
+      } else {
+        // Errors are read as missing values
+        return;
+      }
+      if (cellCount == cellColumns.length) {
+        int capacity = cellCount * 2;
+        cellColumns = Arrays.copyOf(cellColumns, capacity);
+        cellKinds = Arrays.copyOf(cellKinds, capacity);
+        cellNumbers = Arrays.copyOf(cellNumbers, capacity);
+        cellStrings = Arrays.copyOf(cellStrings, capacity);
+      }
+      cellColumns[cellCount] = column;
+      cellKinds[cellCount] = kind;
+      cellNumbers[cellCount] = number;
+      cellStrings[cellCount] = string;
+      cellCount++;
+    }
+
+    private boolean isDateStyle(int style) {
+      if (styles == null) {
+        return false;
+      }
+      if (style >= dateStyles.length) {
+        dateStyles = Arrays.copyOf(dateStyles, Math.max(style + 1, dateStyles.length * 2));
+      }
+      if (dateStyles[style] == null) {
+        XSSFCellStyle cellStyle = styles.getStyleAt(style);
+        dateStyles[style] =
+            cellStyle != null
+                && DateUtil.isADateFormat(
+                    cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+      }
+      return dateStyles[style];
+    }
+
+    private void endRow() throws SAXException {
+      if (columns == null) {
+        if (cellCount > 0) {
+          startTable();
+        }
+        return;
+      }
+      if (rowNumber != lastRowNumber + 1 || !appendRow()) {
+        throw new EndOfTable();
+      }
+      lastRowNumber = rowNumber;
+    }
+
+    /** Creates the columns from the first row with a value, which may hold their names */
+    private void startTable() {
+      firstColumn = Integer.MAX_VALUE;
+      int lastColumn = -1;
+      for (int i = 0; i < cellCount; i++) {
+        firstColumn = Math.min(firstColumn, cellColumns[i]);
+        lastColumn = Math.max(lastColumn, cellColumns[i]);
+      }
+      String[] names = new String[lastColumn - firstColumn + 1];
+      int stringCount = 0;
+      for (int i = 0; i < cellCount; i++) {
+        if (cellKinds[i] == STRING && names[cellColumns[i] - firstColumn] == null) {
+          names[cellColumns[i] - firstColumn] = cellStrings[i];
+          stringCount++;
+        }
+      }
+      boolean header = stringCount == names.length;
+      columns = new SheetColumn[names.length];
+      for (int i = 0; i < names.length; i++) {
+        columns[i] = new SheetColumn(header ? names[i] : "col" + (firstColumn + i));
+      }
+      lastRowNumber = rowNumber;
+      if (!header) {
+        appendRow();
+      }
+    }
+
+    /** Appends the cells of the current row, and returns false if it has none in the table */
+    private boolean appendRow() {
+      boolean any = false;
+      for (int i = 0; i < cellCount; i++) {
+        int index = cellColumns[i] - firstColumn;
+        if (index >= 0 && index < columns.length) {
+          SheetColumn sheetColumn = columns[index];
+          byte kind = cellKinds[i];
+          Object value =
+              kind == DATE ? DateUtil.getLocalDateTime(cellNumbers[i], date1904) : cellStrings[i];
+          sheetColumn.append(rowCount, kind, cellNumbers[i], value);
+          any = true;
+        }
+      }
+      if (!any) {
+        return false;
+      }
+      rowCount++;
+      if (rowCount == SAMPLE_ROWS) {
+        for (SheetColumn sheetColumn : columns) {
+          sheetColumn.endSample();
+        }
+      }
+      return true;
+    }
+
+    /** Returns the table in the sheet, or null if there is none */
+    private Table table() {
+      if (columns == null) {
+        return null;
+      }
+      Table table = Table.create(tableName);
+      for (SheetColumn sheetColumn : columns) {
+        Column<?> column = sheetColumn.finish(rowCount);
+        if (column != null) {
+          table.addColumns(column);
+        }
+      }
+      return table.columnCount() == 0 ? null : table;
+    }
+  }
+
+  /**
+   * A column being read. Its cells are buffered until the end of the sample, when the column's type
+   * is chosen from the kinds of the cells, and after that they are appended to the column.
+   */
+  private static final class SheetColumn {
+
+    private final String name;
+
+    // The cells in the sample, until the column is created
+    private byte[] sampleKinds = new byte[16];
+    private double[] sampleNumbers = new double[16];
+    private Object[] sampleValues = new Object[16];
+    private boolean sampling = true;
+
+    private Column<?> column;
+    private int size;
+
+    private SheetColumn(String name) {
+      this.name = name;
+    }
+
+    private void append(int row, byte kind, double number, Object value) {
+      if (size > row) {
+        return;
+      }
+      if (sampling) {
+        if (row >= sampleKinds.length) {
+          int capacity = Math.max(row + 1, sampleKinds.length * 2);
+          sampleKinds = Arrays.copyOf(sampleKinds, capacity);
+          sampleNumbers = Arrays.copyOf(sampleNumbers, capacity);
+          sampleValues = Arrays.copyOf(sampleValues, capacity);
+        }
+        sampleKinds[row] = kind;
+        sampleNumbers[row] = number;
+        sampleValues[row] = value;
+        size = row + 1;
+        return;
+      }
+      padTo(row);
+      appendValue(kind, number, value);
+      size++;
+    }
+
+    /** Creates the column with the type that fits the sampled cells, and appends them */
+    private void endSample() {
+      sampling = false;
+      byte kind = MISSING;
+      boolean ints = true;
+      boolean longs = true;
+      for (int i = 0; i < size; i++) {
+        byte cellKind = sampleKinds[i];
+        if (cellKind == MISSING) {
+          continue;
+        }
+        kind = kind == MISSING || kind == cellKind ? cellKind : STRING;
+        double number = sampleNumbers[i];
+        ints &= (int) number == number;
+        longs &= (long) number == number;
+      }
+      if (kind != MISSING) {
+        column = create(kind, ints, longs);
+      }
+      int sampled = size;
+      size = 0;
+      for (int row = 0; row < sampled; row++) {
+        if (sampleKinds[row] != MISSING) {
+          append(row, sampleKinds[row], sampleNumbers[row], sampleValues[row]);
+        }
+      }
+      sampleKinds = null;
+      sampleNumbers = null;
+      sampleValues = null;
+    }
+
+    private Column<?> create(byte kind, boolean ints, boolean longs) {
+      switch (kind) {
+        case NUMBER:
+          return ints
+              ? IntColumn.create(name)
+              : longs ? LongColumn.create(name) : DoubleColumn.create(name);
+        case DATE:
+          return DateTimeColumn.create(name);
+        case BOOLEAN:
+          return BooleanColumn.create(name);
+        default:
+          return StringColumn.create(name);
+      }
+    }
+
+    private void padTo(int row) {
+      if (column != null) {
+        while (column.size() < row) {
+          column.appendMissing();
+        }
+      }
+      size = row;
+    }
+
+    private void appendValue(byte kind, double number, Object value) {
+      if (column == null) {
+        column = create(kind, (int) number == number, (long) number == number);
+        for (int i = 0; i < size; i++) {
+          column.appendMissing();
+        }
+      }
+      if (kind == NUMBER) {
+        appendNumber(number);
+      } else if (kind == DATE && column instanceof DateTimeColumn) {
+        ((DateTimeColumn) column).append((LocalDateTime) value);
+      } else if (kind == BOOLEAN && column instanceof BooleanColumn) {
+        ((BooleanColumn) column).append(number == 1);
+      } else if (kind == STRING && column instanceof StringColumn) {
+        ((StringColumn) column).append((String) value);
+      } else {
+        toStrings().append(toString(kind, number, value));
+      }
+    }
+
+    private void appendNumber(double number) {
+      if (column instanceof IntColumn) {
+        if ((int) number == number) {
+          ((IntColumn) column).append((int) number);
+          return;
+        }
+        column =
+            (long) number == number
+                ? ((IntColumn) column).asLongColumn().setName(name)
+                : toDoubles((IntColumn) column);
+      }
+      if (column instanceof LongColumn) {
+        if ((long) number == number) {
+          ((LongColumn) column).append((long) number);
+          return;
+        }
+        column = toDoubles((LongColumn) column);
+      }
+      if (column instanceof DoubleColumn) {
+        ((DoubleColumn) column).append(number);
+      } else {
+        toStrings().append(toString(NUMBER, number, null));
+      }
+    }
+
+    private DoubleColumn toDoubles(NumericColumn<?> numbers) {
+      DoubleColumn doubles = DoubleColumn.create(name, numbers.size());
+      for (int i = 0; i < numbers.size(); i++) {
+        doubles.set(i, numbers.getDouble(i));
+      }
+      return doubles;
+    }
+
+    /** Converts the column to strings, if it isn't already, and returns it */
+    private StringColumn toStrings() {
+      if (!(column instanceof StringColumn)) {
+        StringColumn strings = StringColumn.create(name);
+        for (int i = 0; i < column.size(); i++) {
+          if (column.isMissing(i)) {
+            strings.appendMissing();
+          } else {
+            strings.append(column.getUnformattedString(i));
+          }
+        }
+        column = strings;
+      }
+      return (StringColumn) column;
+    }
+
+    private static String toString(byte kind, double number, Object value) {
+      switch (kind) {
+        case NUMBER:
+          return (long) number == number ? Long.toString((long) number) : Double.toString(number);
+        case BOOLEAN:
+          return Boolean.toString(number == 1);
+        default:
+          return value.toString();
+      }
+    }
+
+    /** Returns the column padded to the row count, or null if it has no values */
+    private Column<?> finish(int rowCount) {
+      if (sampling) {
+        endSample();
+      }
+      if (column == null) {
+        return null;
+      }
+      padTo(rowCount);
+      return column;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package tech.tablesaw.io.xlsx;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import tech.tablesaw.io.Destination;
+import tech.tablesaw.io.WriteOptions;
+
+public class XlsxWriteOptions extends WriteOptions {
+
+  private final String sheetName;
+  private final boolean header;
+  private final int rowWindow;
+  private final String dateFormat;
+  private final String dateTimeFormat;
+  private final String timeFormat;
+
+  protected XlsxWriteOptions(Builder builder) {
+    super(builder);
+    this.sheetName = builder.sheetName;
+    this.header = builder.header;
+    this.rowWindow = builder.rowWindow;
+    this.dateFormat = builder.dateFormat;
+    this.dateTimeFormat = builder.dateTimeFormat;
+    this.timeFormat = builder.timeFormat;
+  }
+
+  /** The name of the sheet, or null to name it after the table */
+  public String sheetName() {
+    return sheetName;
+  }
+
+  public boolean header() {
+    return header;
+  }
+
+  public int rowWindow() {
+    return rowWindow;
+  }
+
+  public String dateFormat() {
+    return dateFormat;
+  }
+
+  public String dateTimeFormat() {
+    return dateTimeFormat;
+  }
+
+  public String timeFormat() {
+    return timeFormat;
+  }
+
+  public static Builder builder(Destination dest) {
+    return new Builder(dest);
+  }
+
+  public static Builder builder(OutputStream dest) {
+    return new Builder(dest);
+  }
+
+  public static Builder builder(File dest) throws IOException {
+    return new Builder(dest);
+  }
+
+  public static Builder builder(String fileName) throws IOException {
+    return builder(new File(fileName));
+  }
+
+  public static class Builder extends WriteOptions.Builder {
+
+    private String sheetName;
+    private boolean header = true;
+    private int rowWindow = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+    private String dateFormat = "yyyy-mm-dd";
+    private String dateTimeFormat = "yyyy-mm-dd hh:mm:ss";
+    private String timeFormat = "hh:mm:ss";
+
+    protected Builder(Destination dest) {
+      super(dest);
+    }
+
+    protected Builder(OutputStream dest) {
+      super(dest);
+    }
+
+    protected Builder(File dest) throws IOException {
+      super(dest);
+    }
+
+    /** The name of the sheet. By default the sheet is named after the table. */
+    public Builder sheetName(String sheetName) {
+      this.sheetName = sheetName;
+      return this;
+    }
+
+    /** Whether to write the column names in the first row */
+    public Builder header(boolean header) {
+      this.header = header;
+      return this;
+    }
+
+    /**
+     * The number of rows kept in memory while writing. Older rows are flushed to a temporary file,
+     * so the memory used doesn't grow with the size of the table.
+     */
+    public Builder rowWindow(int rowWindow) {
+      this.rowWindow = rowWindow;
+      return this;
+    }
+
+    /** The Excel number format of the cells of date columns */
+    public Builder dateFormat(String dateFormat) {
+      this.dateFormat = dateFormat;
+      return this;
+    }
+
+    /** The Excel number format of the cells of date-time and instant columns */
+    public Builder dateTimeFormat(String dateTimeFormat) {
+      this.dateTimeFormat = dateTimeFormat;
+      return this;
+    }
+
+    /** The Excel number format of the cells of time columns */
+    public Builder timeFormat(String timeFormat) {
+      this.timeFormat = timeFormat;
+      return this;
+    }
+
+    public XlsxWriteOptions build() {
+      return new XlsxWriteOptions(this);
+    }
+  }
+}
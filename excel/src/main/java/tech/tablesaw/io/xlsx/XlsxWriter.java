@@ -0,0 +1,248 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.xlsx;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.NumericColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.strings.DictionaryMap;
+import tech.tablesaw.columns.strings.StringColumnType;
+import tech.tablesaw.columns.times.PackedLocalTime;
+import tech.tablesaw.io.DataWriter;
+import tech.tablesaw.io.Destination;
+import tech.tablesaw.io.WriterRegistry;
+
+/**
+ * Writes a table to a sheet of an XLSX workbook with POI's streaming SXSSF workbook, which keeps
+ * only a window of rows in memory and flushes the older ones to a temporary file.
+ *
+ * <p>Numbers, booleans, dates, date-times, times and instants are written as typed cells, straight
+ * from the column's primitive values. Dates are written as Excel serial numbers with a date format,
+ * and instants as date-times in UTC. The cells of string columns refer to the workbook's shared
+ * strings table. Their values are looked up from the column's dictionary, each distinct value once.
+ *
+ * <p>Cells are only written through POI's public API, so that the shared strings table stays
+ * consistent with the cells whatever the POI version.
+ */
+public class XlsxWriter implements DataWriter<XlsxWriteOptions> {
+
+  private static final XlsxWriter INSTANCE = new XlsxWriter();
+
+  // Excel numbers days from 1900-01-01, which is day 1, and counts a 29th of February in 1900
+  private static final long EPOCH_DAY_1900_01_01 = LocalDate.of(1900, 1, 1).toEpochDay();
+  private static final long EPOCH_DAY_1900_03_01 = LocalDate.of(1900, 3, 1).toEpochDay();
+  private static final double NANOS_PER_DAY = 86_400_000_000_000d;
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  static {
+    register(Table.defaultWriterRegistry);
+  }
+
+  public static void register(WriterRegistry registry) {
+    registry.registerExtension("xlsx", INSTANCE);
+    registry.registerOptions(XlsxWriteOptions.class, INSTANCE);
+  }
+
+  @Override
+  public void write(Table table, XlsxWriteOptions options) throws IOException {
+    if (options.destination().stream() == null) {
+      throw new IllegalArgumentException(
+          "XLSX is a binary format, so it must be written to a file or an OutputStream");
+    }
+    int firstRow = options.header() ? 1 : 0;
+    SXSSFWorkbook workbook =
+        new SXSSFWorkbook(new XSSFWorkbook(), options.rowWindow(), false, true);
+    try (OutputStream output = options.destination().stream()) {
+      Sheet sheet = workbook.createSheet(sheetName(table, options));
+      if (options.header()) {
+        Row header = sheet.createRow(0);
+        for (int c = 0; c < table.columnCount(); c++) {
+          header.createCell(c).setCellValue(table.column(c).name());
+        }
+      }
+      CellWriter[] cells = new CellWriter[table.columnCount()];
+      for (int c = 0; c < cells.length; c++) {
+        cells[c] = cellWriter(table.column(c), workbook, options);
+      }
+      for (int row = 0; row < table.rowCount(); row++) {
+        Row cellRow = sheet.createRow(firstRow + row);
+        for (int c = 0; c < cells.length; c++) {
+          cells[c].write(cellRow, c, row);
+        }
+      }
+      workbook.write(output);
+    } finally {
+      workbook.dispose();
+      workbook.close();
+    }
+  }
+
+  private static String sheetName(Table table, XlsxWriteOptions options) {
+    if (options.sheetName() != null) {
+      return options.sheetName();
+    }
+    if (table.name() == null || table.name().isEmpty()) {
+      return "Sheet1";
+    }
+    return WorkbookUtil.createSafeSheetName(table.name());
+  }
+
+  @Override
+  public void write(Table table, Destination dest) throws IOException {
+    write(table, XlsxWriteOptions.builder(dest).build());
+  }
+
+  /** Adds the cell for one value of a column to a row, unless the value is missing */
+  @FunctionalInterface
+  private interface CellWriter {
+    void write(Row cellRow, int column, int row);
+  }
+
+  private static CellWriter cellWriter(
+      Column<?> column, Workbook workbook, XlsxWriteOptions options) {
+    if (column instanceof StringColumn) {
+      DictionaryMap dictionary = ((StringColumn) column).getDictionary();
+      // The value of each dictionary key, or null if it's the missing value indicator
+      Int2ObjectOpenHashMap<String> values = new Int2ObjectOpenHashMap<>();
+      return (cellRow, c, row) -> {
+        int key = dictionary.getKeyForIndex(row);
+        String value = values.get(key);
+        if (value == null && !values.containsKey(key)) {
+          value = dictionary.getValueForKey(key);
+          if (StringColumnType.missingValueIndicator().equals(value)) {
+            value = null;
+          }
+          values.put(key, value);
+        }
+        if (value != null) {
+          cellRow.createCell(c).setCellValue(value);
+        }
+      };
+    }
+    if (column instanceof NumericColumn) {
+      NumericColumn<?> numbers = (NumericColumn<?>) column;
+      return (cellRow, c, row) -> {
+        if (!numbers.isMissing(row)) {
+          cellRow.createCell(c).setCellValue(numbers.getDouble(row));
+        }
+      };
+    }
+    if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return (cellRow, c, row) -> {
+        byte value = booleans.getByte(row);
+        if (value != BooleanColumnType.MISSING_VALUE) {
+          cellRow.createCell(c).setCellValue(value == BooleanColumnType.BYTE_TRUE);
+        }
+      };
+    }
+    if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      CellStyle style = style(workbook, options.dateFormat());
+      return (cellRow, c, row) -> {
+        if (!dates.isMissing(row)) {
+          long epochDay = PackedLocalDate.toEpochDay(dates.getIntInternal(row));
+          setDate(cellRow.createCell(c), epochDay, 0, style, dates, row);
+        }
+      };
+    }
+    if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      CellStyle style = style(workbook, options.dateTimeFormat());
+      return (cellRow, c, row) -> {
+        if (!dateTimes.isMissing(row)) {
+          long packed = dateTimes.getLongInternal(row);
+          long epochDay = PackedLocalDate.toEpochDay(PackedLocalDateTime.date(packed));
+          double fraction =
+              PackedLocalTime.toNanoOfDay(PackedLocalDateTime.time(packed)) / NANOS_PER_DAY;
+          setDate(cellRow.createCell(c), epochDay, fraction, style, dateTimes, row);
+        }
+      };
+    }
+    if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      CellStyle style = style(workbook, options.dateTimeFormat());
+      return (cellRow, c, row) -> {
+        if (!instants.isMissing(row)) {
+          long millis = PackedInstant.toEpochMilli(instants.getLongInternal(row));
+          long epochDay = Math.floorDiv(millis, MILLIS_PER_DAY);
+          double fraction = Math.floorMod(millis, MILLIS_PER_DAY) / (double) MILLIS_PER_DAY;
+          setDate(cellRow.createCell(c), epochDay, fraction, style, instants, row);
+        }
+      };
+    }
+    if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      CellStyle style = style(workbook, options.timeFormat());
+      return (cellRow, c, row) -> {
+        if (!times.isMissing(row)) {
+          Cell cell = cellRow.createCell(c);
+          cell.setCellValue(PackedLocalTime.toNanoOfDay(times.getIntInternal(row)) / NANOS_PER_DAY);
+          cell.setCellStyle(style);
+        }
+      };
+    }
+    return (cellRow, c, row) -> {
+      if (!column.isMissing(row)) {
+        cellRow.createCell(c).setCellValue(column.getString(row));
+      }
+    };
+  }
+
+  private static CellStyle style(Workbook workbook, String format) {
+    CellStyle style = workbook.createCellStyle();
+    style.setDataFormat(workbook.createDataFormat().getFormat(format));
+    return style;
+  }
+
+  /**
+   * Sets the cell to the Excel serial number of the day plus the fraction of a day, or to the
+   * column's string for the row if the day is before 1900, which Excel can't represent
+   */
+  private static void setDate(
+      Cell cell, long epochDay, double fraction, CellStyle style, Column<?> column, int row) {
+    if (epochDay >= EPOCH_DAY_1900_03_01) {
+      cell.setCellValue(epochDay - EPOCH_DAY_1900_03_01 + 61 + fraction);
+    } else if (epochDay >= EPOCH_DAY_1900_01_01) {
+      cell.setCellValue(epochDay - EPOCH_DAY_1900_01_01 + 1 + fraction);
+    } else {
+      cell.setCellValue(column.getString(row));
+      return;
+    }
+    cell.setCellStyle(style);
+  }
+}
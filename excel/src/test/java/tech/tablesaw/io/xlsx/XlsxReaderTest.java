@@ -16,13 +16,22 @@ package tech.tablesaw.io.xlsx;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 
@@ -158,4 +167,108 @@ public class XlsxReaderTest {
       // expected
     }
   }
+
+  @Test
+  public void testStreamingMatchesWorkbook() throws IOException {
+    for (String name : new String[] {"columns", "columns-with-missing-values"}) {
+      XlsxReadOptions.Builder builder = XlsxReadOptions.builder("../data/" + name + ".xlsx");
+      List<Table> expected = new XlsxReader().readMultiple(builder.build(), true);
+      List<Table> actual = new XlsxReader().readMultiple(builder.streaming(true).build(), true);
+      assertEquals(expected.size(), actual.size(), "Wrong number of tables in " + name);
+      for (int i = 0; i < expected.size(); i++) {
+        if (expected.get(i) == null) {
+          assertEquals(null, actual.get(i));
+          continue;
+        }
+        assertEquals(expected.get(i).name(), actual.get(i).name());
+        assertEquals(expected.get(i).columnNames(), actual.get(i).columnNames());
+        for (int j = 0; j < expected.get(i).columnCount(); j++) {
+          Column<?> expectedColumn = expected.get(i).column(j);
+          Column<?> actualColumn = actual.get(i).column(j);
+          assertEquals(expectedColumn.type(), actualColumn.type(), actualColumn.name());
+          assertEquals(expectedColumn.asList(), actualColumn.asList(), actualColumn.name());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testStreamingSheets() throws IOException {
+    List<Table> tables =
+        new XlsxReader()
+            .readMultiple(
+                XlsxReadOptions.builder("../data/multiplesheets.xlsx").streaming(true).build(),
+                true);
+    assertEquals(2, tables.size());
+    assertEquals(null, tables.get(0));
+    Table table = tables.get(1);
+    assertEquals("multiplesheets.xlsx#Sheet2", table.name());
+    assertColumnValues(table.stringColumn("stringcol"), "John", "Doe");
+    assertColumnValues(table.longColumn("longcol"), 12345678900L, 12345678901L);
+    // The cached values of formula cells are read
+    assertColumnValues(table.intColumn("booleancol"), 1, 0);
+  }
+
+  @Test
+  public void testStreamingSheetIndex() throws IOException {
+    Table table = new XlsxReader().read(streamingOptions().sheetIndex(1).build());
+    assertEquals("multiplesheets.xlsx#Sheet2", table.name());
+
+    Table tableImplicit = new XlsxReader().read(streamingOptions().build());
+    assertEquals("multiplesheets.xlsx#Sheet2", tableImplicit.name());
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new XlsxReader().read(streamingOptions().sheetIndex(0).build()));
+    IndexOutOfBoundsException e =
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> new XlsxReader().read(streamingOptions().sheetIndex(5).build()));
+    assertEquals("Sheet index 5 outside bounds. 2 sheets found.", e.getMessage());
+  }
+
+  private static XlsxReadOptions.Builder streamingOptions() {
+    return XlsxReadOptions.builder("../data/multiplesheets.xlsx").streaming(true);
+  }
+
+  @Test
+  public void testStreamingWidensColumnsAfterTheSample(@TempDir File folder) throws IOException {
+    File file = new File(folder, "large.xlsx");
+    try (XSSFWorkbook workbook = new XSSFWorkbook();
+        OutputStream output = new FileOutputStream(file)) {
+      Sheet sheet = workbook.createSheet("data");
+      Row header = sheet.createRow(0);
+      header.createCell(0).setCellValue("numbers");
+      header.createCell(1).setCellValue("mixed");
+      header.createCell(2).setCellValue("late");
+      for (int i = 1; i <= 2000; i++) {
+        Row row = sheet.createRow(i);
+        row.createCell(0).setCellValue(i == 1500 ? 1e12 : i == 1800 ? 0.5 : i);
+        if (i == 1200) {
+          row.createCell(1).setCellValue("text");
+        } else {
+          row.createCell(1).setCellValue(i);
+        }
+        if (i == 1900) {
+          row.createCell(2).setCellValue(true);
+        }
+      }
+      // A blank row ends the table
+      sheet.createRow(2002).createCell(0).setCellValue(1);
+      workbook.write(output);
+    }
+
+    Table table = new XlsxReader().read(XlsxReadOptions.builder(file).streaming(true).build());
+    assertEquals(2000, table.rowCount());
+    assertEquals(ColumnType.DOUBLE, table.column("numbers").type());
+    assertEquals(1e12, table.doubleColumn("numbers").getDouble(1499));
+    assertEquals(0.5, table.doubleColumn("numbers").getDouble(1799));
+    assertEquals(2000, table.doubleColumn("numbers").getDouble(1999));
+    assertEquals(ColumnType.STRING, table.column("mixed").type());
+    assertEquals("1", table.stringColumn("mixed").get(0));
+    assertEquals("text", table.stringColumn("mixed").get(1199));
+    assertEquals(ColumnType.BOOLEAN, table.column("late").type());
+    assertEquals(1, table.booleanColumn("late").countTrue());
+    assertTrue(table.booleanColumn("late").isMissing(0));
+  }
 }
@@ -0,0 +1,200 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.xlsx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.io.Destination;
+
+public class XlsxWriterTest {
+
+  private static Table table() {
+    StringColumn names = StringColumn.create("name", "Hallvard", "Marit", "Hallvard", "Marit");
+    names.appendMissing();
+    return Table.create(
+        "people",
+        names,
+        IntColumn.create("count", new int[] {1, 2, 3, 4}).appendMissing(),
+        DoubleColumn.create("weight", 1.5, Double.NaN, -3, 1e12, 7),
+        BooleanColumn.create("flag", true, false, true, false).appendMissing(),
+        DateColumn.create(
+                "date",
+                LocalDate.of(2019, 2, 22),
+                LocalDate.of(1900, 1, 1),
+                LocalDate.of(1900, 3, 1),
+                LocalDate.of(2020, 3, 23))
+            .appendMissing(),
+        DateTimeColumn.create(
+                "datetime",
+                LocalDateTime.of(2019, 2, 22, 20, 54, 9),
+                LocalDateTime.of(2020, 3, 23, 21, 55, 10),
+                LocalDateTime.of(1970, 1, 1, 0, 0),
+                LocalDateTime.of(2000, 12, 31, 23, 59, 59))
+            .appendMissing());
+  }
+
+  @Test
+  public void roundTrip(@TempDir File folder) throws IOException {
+    File file = new File(folder, "people.xlsx");
+    Table table = table();
+    table.write().toFile(file);
+
+    for (boolean streaming : new boolean[] {false, true}) {
+      Table read =
+          new XlsxReader().read(XlsxReadOptions.builder(file).streaming(streaming).build());
+      assertEquals("people.xlsx#people", read.name());
+      assertEquals(table.columnNames(), read.columnNames());
+      assertEquals(5, read.rowCount());
+      assertEquals(table.stringColumn("name").asList(), read.stringColumn("name").asList());
+      assertEquals(table.intColumn("count").asList(), read.intColumn("count").asList());
+      assertEquals(table.doubleColumn("weight").asList(), read.doubleColumn("weight").asList());
+      assertEquals(table.booleanColumn("flag").asList(), read.booleanColumn("flag").asList());
+      assertEquals(
+          Arrays.asList(
+              LocalDateTime.of(2019, 2, 22, 0, 0),
+              LocalDateTime.of(1900, 1, 1, 0, 0),
+              LocalDateTime.of(1900, 3, 1, 0, 0),
+              LocalDateTime.of(2020, 3, 23, 0, 0),
+              null),
+          read.dateTimeColumn("date").asList());
+      assertEquals(
+          table.dateTimeColumn("datetime").asList(), read.dateTimeColumn("datetime").asList());
+    }
+  }
+
+  @Test
+  public void typedAndSharedStringCells(@TempDir File folder) throws Exception {
+    File file = new File(folder, "people.xlsx");
+    Table table = table();
+    table.addColumns(
+        TimeColumn.create("time", LocalTime.of(6, 0), LocalTime.NOON, null, null, null));
+    table.write().usingOptions(XlsxWriteOptions.builder(file).sheetName("data").build());
+
+    try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+      Sheet sheet = workbook.getSheet("data");
+      Row row = sheet.getRow(1);
+      assertEquals(CellType.STRING, row.getCell(0).getCellType());
+      assertEquals(CellType.NUMERIC, row.getCell(1).getCellType());
+      assertEquals(CellType.BOOLEAN, row.getCell(3).getCellType());
+      assertEquals(43518, row.getCell(4).getNumericCellValue());
+      assertEquals("yyyy-mm-dd", row.getCell(4).getCellStyle().getDataFormatString());
+      assertEquals(0.25, row.getCell(6).getNumericCellValue());
+      assertEquals(sheet.getRow(3).getCell(0).getStringCellValue(), "Hallvard");
+      assertTrue(sheet.getRow(5).getCell(0) == null);
+      // 7 names in the header, 2 distinct values in the string column, and 4 references to them
+      assertEquals(9, workbook.getSharedStringSource().getUniqueCount());
+      assertEquals(11, workbook.getSharedStringSource().getCount());
+    }
+  }
+
+  @Test
+  public void sharedStringsCountsMatchTheCells(@TempDir File folder) throws Exception {
+    File file = new File(folder, "people.xlsx");
+    Table table = table();
+    for (int i = 0; i < 5; i++) {
+      table.append(table());
+    }
+    table.write().usingOptions(XlsxWriteOptions.builder(file).rowWindow(3).build());
+
+    String sharedStrings;
+    try (ZipFile zip = new ZipFile(file)) {
+      ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+      try (InputStream in = zip.getInputStream(entry)) {
+        sharedStrings = new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8);
+      }
+    }
+    int stringCells = 0;
+    Set<String> distinct = new HashSet<>();
+    try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+      for (Row row : workbook.getSheetAt(0)) {
+        for (Cell cell : row) {
+          if (cell.getCellType() == CellType.STRING) {
+            stringCells++;
+            distinct.add(cell.getStringCellValue());
+          }
+        }
+      }
+    }
+    // 6 names in the header, and 2 distinct values in 24 rows of the string column
+    assertEquals(30, stringCells);
+    assertEquals(8, distinct.size());
+    assertEquals(stringCells, attribute(sharedStrings, "count"));
+    assertEquals(distinct.size(), attribute(sharedStrings, "uniqueCount"));
+  }
+
+  private static int attribute(String xml, String name) {
+    Matcher matcher = Pattern.compile("<sst [^>]*\\b" + name + "=\"(\\d+)\"").matcher(xml);
+    assertTrue(matcher.find(), name);
+    return Integer.parseInt(matcher.group(1));
+  }
+
+  @Test
+  public void rowWindowDoesNotChangeTheOutput(@TempDir File folder) throws IOException {
+    Table table = table();
+    for (int i = 0; i < 10; i++) {
+      table.append(table());
+    }
+    File file = new File(folder, "people.xlsx");
+    table.write().usingOptions(XlsxWriteOptions.builder(file).rowWindow(2).header(false).build());
+    Table read = new XlsxReader().read(XlsxReadOptions.builder(file).streaming(true).build());
+    assertEquals("col0", read.column(0).name());
+    assertEquals(table.rowCount(), read.rowCount());
+    assertEquals(table.stringColumn("name").asList(), read.stringColumn("col0").asList());
+  }
+
+  @Test
+  public void writersAreRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new XlsxWriter()
+                .write(
+                    table(),
+                    XlsxWriteOptions.builder(new Destination(new StringWriter())).build()));
+  }
+}
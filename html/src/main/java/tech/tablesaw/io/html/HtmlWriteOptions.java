@@ -11,6 +11,10 @@ import tech.tablesaw.io.WriteOptions;
 
 public class HtmlWriteOptions extends WriteOptions {
 
+  /** Creates plain elements, which the writer writes without creating them */
+  static final ElementCreator DEFAULT_ELEMENT_CREATOR =
+      (elementName, column, row) -> new Element(elementName);
+
   private final ElementCreator elementCreator;
   private final boolean escapeText;
 
@@ -49,7 +53,7 @@ public class HtmlWriteOptions extends WriteOptions {
   }
 
   public static class Builder extends WriteOptions.Builder {
-    private ElementCreator elementCreator = (elementName, column, row) -> new Element(elementName);
+    private ElementCreator elementCreator = DEFAULT_ELEMENT_CREATOR;
 
     private boolean escapeText = true;
 
@@ -14,6 +14,7 @@
 
 package tech.tablesaw.io.html;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.List;
@@ -30,6 +31,11 @@ public class HtmlWriter implements DataWriter<HtmlWriteOptions> {
 
   private static final HtmlWriter INSTANCE = new HtmlWriter();
 
+  /** The line separator jsoup uses when it pretty-prints */
+  private static final String NEW_LINE = "\n";
+
+  private static final char NON_BREAKING_SPACE = '\u00a0';
+
   static {
     register(Table.defaultWriterRegistry);
   }
@@ -39,48 +45,163 @@ public class HtmlWriter implements DataWriter<HtmlWriteOptions> {
     registry.registerOptions(HtmlWriteOptions.class, INSTANCE);
   }
 
+  /**
+   * Writes the table as it's read, one row at a time, so the memory used doesn't grow with the
+   * number of rows. The output is laid out as jsoup pretty-prints the element tree of the table.
+   *
+   * <p>The element creator is still called for every element. The tag name and attributes of the
+   * elements it returns are written; if a th or td element already has children, the cell's text is
+   * appended to them and the element is written by jsoup. With the default element creator no
+   * elements are created at all.
+   */
   public void write(Table table, HtmlWriteOptions options) throws IOException {
     ElementCreator elements = options.elementCreator();
-    Element html = elements.create("table");
-    html.appendChild(header(table.columns(), elements));
+    boolean defaultElements = elements == HtmlWriteOptions.DEFAULT_ELEMENT_CREATOR;
+    List<Column<?>> columns = table.columns();
+    try (Writer writer = new BufferedWriter(options.destination().createWriter())) {
+      String tableTag = startTag(writer, 0, elements, "table", null, null, defaultElements);
+      writer.write(NEW_LINE);
+      String theadTag = startTag(writer, 1, elements, "thead", null, null, defaultElements);
+      writer.write(NEW_LINE);
+      String headerTrTag = startTag(writer, 2, elements, "tr", null, null, defaultElements);
+      for (Column<?> col : columns) {
+        writer.write(NEW_LINE);
+        cell(writer, elements, "th", col, null, col.name(), true, defaultElements);
+      }
+      endTag(writer, 2, headerTrTag, !columns.isEmpty());
+      endTag(writer, 1, theadTag, true);
+      writer.write(NEW_LINE);
 
-    Element tbody = elements.create("tbody");
-    html.appendChild(tbody);
-    for (int row = 0; row < table.rowCount(); row++) {
-      tbody.appendChild(row(row, table, elements, options));
+      String tbodyTag = startTag(writer, 1, elements, "tbody", null, null, defaultElements);
+      for (int row = 0; row < table.rowCount(); row++) {
+        writer.write(NEW_LINE);
+        String trTag = startTag(writer, 2, elements, "tr", null, row, defaultElements);
+        for (Column<?> col : columns) {
+          writer.write(NEW_LINE);
+          String text = String.valueOf(col.getString(row));
+          cell(writer, elements, "td", col, row, text, options.escapeText(), defaultElements);
+        }
+        endTag(writer, 2, trTag, !columns.isEmpty());
+      }
+      endTag(writer, 1, tbodyTag, table.rowCount() > 0);
+      endTag(writer, 0, tableTag, true);
     }
+  }
 
-    try (Writer writer = options.destination().createWriter()) {
-      writer.write(html.toString());
+  /**
+   * Writes the indented start tag of the element created for the given name, column and row, and
+   * returns its tag name
+   */
+  private static String startTag(
+      Writer writer,
+      int depth,
+      ElementCreator elements,
+      String elementName,
+      Column<?> column,
+      Integer row,
+      boolean defaultElements)
+      throws IOException {
+    indent(writer, depth);
+    if (defaultElements) {
+      writer.write('<');
+      writer.write(elementName);
+      writer.write('>');
+      return elementName;
+    }
+    Element element = elements.create(elementName, column, row);
+    writer.write('<');
+    writer.write(element.tagName());
+    writer.write(element.attributes().html());
+    writer.write('>');
+    return element.tagName();
+  }
+
+  /** Writes the end tag, on a line of its own if the element has children */
+  private static void endTag(Writer writer, int depth, String tagName, boolean hasChildren)
+      throws IOException {
+    if (hasChildren) {
+      writer.write(NEW_LINE);
+      indent(writer, depth);
+    }
+    writer.write("</");
+    writer.write(tagName);
+    writer.write('>');
+  }
+
+  /** Writes a th or td element holding the given text, escaped or as is */
+  private static void cell(
+      Writer writer,
+      ElementCreator elements,
+      String elementName,
+      Column<?> column,
+      Integer row,
+      String text,
+      boolean escape,
+      boolean defaultElements)
+      throws IOException {
+    indent(writer, 3);
+    String tagName = elementName;
+    if (!defaultElements) {
+      Element element = elements.create(elementName, column, row);
+      if (element.childNodeSize() > 0) {
+        if (escape) {
+          element.appendText(text);
+        } else {
+          element.appendChild(new DataNode(text));
+        }
+        writer.write(element.outerHtml());
+        return;
+      }
+      tagName = element.tagName();
+      writer.write('<');
+      writer.write(tagName);
+      writer.write(element.attributes().html());
+      writer.write('>');
+    } else {
+      writer.write('<');
+      writer.write(tagName);
+      writer.write('>');
+    }
+    if (!escape) {
+      writer.write(text);
+    } else if (isPlain(text)) {
+      writer.write(text);
+    } else {
+      // jsoup escapes the text and collapses its whitespace when it's in an element
+      String td = new Element("td").appendText(text).outerHtml();
+      writer.write(td, "<td>".length(), td.length() - "<td></td>".length());
     }
+    writer.write("</");
+    writer.write(tagName);
+    writer.write('>');
   }
 
-  /** Returns a string containing the html output of one table row */
-  private static Element row(
-      int row, Table table, ElementCreator elements, HtmlWriteOptions options) {
-    Element tr = elements.create("tr", null, row);
-    for (Column<?> col : table.columns()) {
-      if (options.escapeText()) {
-        tr.appendChild(
-            elements.create("td", col, row).appendText(String.valueOf(col.getString(row))));
-      } else {
-        tr.appendChild(
-            elements
-                .create("td", col, row)
-                .appendChild(new DataNode(String.valueOf(col.getString(row)))));
+  /**
+   * Returns true if jsoup writes the text of a cell as it is: it has no characters that are
+   * escaped, no control characters or surrogates, and no runs of whitespace to collapse
+   */
+  private static boolean isPlain(String text) {
+    char previous = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c < ' '
+          || c == '&'
+          || c == '<'
+          || c == '>'
+          || c == NON_BREAKING_SPACE
+          || Character.isSurrogate(c)
+          || c == ' ' && previous == ' ') {
+        return false;
       }
+      previous = c;
     }
-    return tr;
+    return true;
   }
 
-  private static Element header(List<Column<?>> cols, ElementCreator elements) {
-    Element thead = elements.create("thead");
-    Element tr = elements.create("tr");
-    thead.appendChild(tr);
-    for (Column<?> col : cols) {
-      tr.appendChild(elements.create("th", col, null).appendText(col.name()));
+  private static void indent(Writer writer, int depth) throws IOException {
+    for (int i = 0; i < depth; i++) {
+      writer.write(' ');
     }
-    return thead;
   }
 
   @Override
@@ -20,11 +20,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringWriter;
+import org.jsoup.nodes.DataNode;
 import org.jsoup.nodes.Element;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
 import tech.tablesaw.io.html.HtmlWriteOptions.ElementCreator;
 
 public class HtmlWriterTest {
@@ -219,4 +222,73 @@ public class HtmlWriterTest {
             + "</table>",
         output);
   }
+
+  @Test
+  public void matchesTheElementTree() throws IOException {
+    String[] text = {
+      "a  b",
+      " lead",
+      "trail ",
+      "tab\there",
+      "line\nbreak",
+      "&amp; <b>",
+      "\u00a0nbsp",
+      "\u0001",
+      "\uD83D\uDE00",
+      "\"quoted\"",
+      "caf\u00e9"
+    };
+    Table table =
+        Table.create("t", StringColumn.create("text", text), DoubleColumn.create("n", text.length));
+    ElementCreator withAttributes =
+        (elementName, column, row) -> {
+          Element element = new Element(elementName);
+          if (column != null) {
+            element.attr("data-col", column.name() + "\"&");
+          }
+          if (row != null && row == 1 && elementName.equals("td")) {
+            element.appendElement("span").text("icon");
+          }
+          return element;
+        };
+    for (ElementCreator elements :
+        new ElementCreator[] {HtmlWriteOptions.DEFAULT_ELEMENT_CREATOR, withAttributes}) {
+      for (boolean escape : new boolean[] {true, false}) {
+        for (Table t : new Table[] {table, table.emptyCopy(), Table.create("empty")}) {
+          StringWriter writer = new StringWriter();
+          t.write()
+              .usingOptions(
+                  HtmlWriteOptions.builder(writer)
+                      .elementCreator(elements)
+                      .escapeText(escape)
+                      .build());
+          assertEquals(elementTree(t, elements, escape), writer.toString());
+        }
+      }
+    }
+  }
+
+  /** Builds the whole jsoup element tree of the table and returns its pretty-printed html */
+  private static String elementTree(Table table, ElementCreator elements, boolean escape) {
+    Element html = elements.create("table");
+    Element thead = elements.create("thead");
+    Element headerRow = elements.create("tr");
+    thead.appendChild(headerRow);
+    for (Column<?> col : table.columns()) {
+      headerRow.appendChild(elements.create("th", col, null).appendText(col.name()));
+    }
+    html.appendChild(thead);
+    Element tbody = elements.create("tbody");
+    html.appendChild(tbody);
+    for (int row = 0; row < table.rowCount(); row++) {
+      Element tr = elements.create("tr", null, row);
+      for (Column<?> col : table.columns()) {
+        Element td = elements.create("td", col, row);
+        String text = String.valueOf(col.getString(row));
+        tr.appendChild(escape ? td.appendText(text) : td.appendChild(new DataNode(text)));
+      }
+      tbody.appendChild(tr);
+    }
+    return html.toString();
+  }
 }
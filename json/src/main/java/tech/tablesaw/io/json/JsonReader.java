@@ -1,25 +1,48 @@
 package tech.tablesaw.io.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.wnameless.json.flattener.JsonFlattener;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.AbstractColumnParser;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.ColumnTypeDetector;
 import tech.tablesaw.io.DataReader;
-import tech.tablesaw.io.ReadOptions;
 import tech.tablesaw.io.ReaderRegistry;
 import tech.tablesaw.io.Source;
-import tech.tablesaw.io.TableBuildingUtils;
 
+/**
+ * Reads a table from JSON holding an array with an array or object for each row, or from a sequence
+ * of objects, one per row, as in newline-delimited JSON.
+ *
+ * <p>The input is read in a single pass with a streaming parser. Nested objects and arrays inside a
+ * row object are flattened into columns named by their path, such as {@code a.b} or {@code a[0]}.
+ * Numbers and booleans are appended to numeric and boolean columns as they are read. The types of
+ * columns holding strings, or a mix of kinds of values, are detected once the input has been read.
+ */
 public class JsonReader implements DataReader<JsonReadOptions> {
 
   private static final JsonReader INSTANCE = new JsonReader();
-  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final JsonFactory factory = new JsonFactory();
+
+  private static final String UNSUPPORTED_STRUCTURE =
+      "Only reading a JSON array, or a sequence of JSON objects, is currently supported. The array"
+          + " must hold an array or object for each row.";
 
   static {
     register(Table.defaultReaderRegistry);
@@ -27,97 +50,404 @@ public class JsonReader implements DataReader<JsonReadOptions> {
 
   public static void register(ReaderRegistry registry) {
     registry.registerExtension("json", INSTANCE);
+    registry.registerExtension("ndjson", INSTANCE);
+    registry.registerExtension("jsonl", INSTANCE);
     registry.registerMimeType("application/json", INSTANCE);
+    registry.registerMimeType("application/x-ndjson", INSTANCE);
     registry.registerOptions(JsonReadOptions.class, INSTANCE);
   }
 
   @Override
   public Table read(JsonReadOptions options) throws IOException {
-    JsonNode jsonObj = mapper.readTree(options.source().createReader(null));
-    if (options.path() != null) {
-      jsonObj = jsonObj.at(options.path());
+    try (JsonParser parser = createParser(options)) {
+      JsonToken token = parser.nextToken();
+      if (token == null) {
+        if (options.path() != null) {
+          throw new IllegalStateException("No JSON value found at path " + options.path());
+        }
+        return Table.create(options.tableName());
+      }
+      if (token == JsonToken.START_OBJECT) {
+        return readObjects(parser, options, false);
+      }
+      if (token != JsonToken.START_ARRAY) {
+        throw new IllegalStateException(UNSUPPORTED_STRUCTURE);
+      }
+      token = parser.nextToken();
+      if (token == JsonToken.END_ARRAY) {
+        return Table.create(options.tableName());
+      }
+      if (token == JsonToken.START_ARRAY) {
+        return readArrays(parser, options);
+      }
+      if (token == JsonToken.START_OBJECT) {
+        return readObjects(parser, options, true);
+      }
+      throw new IllegalStateException(UNSUPPORTED_STRUCTURE);
     }
-    if (!jsonObj.isArray()) {
-      throw new IllegalStateException(
-          "Only reading a JSON array is currently supported. The array must hold an array or object for each row.");
+  }
+
+  private JsonParser createParser(JsonReadOptions options) throws IOException {
+    JsonParser parser = factory.createParser(options.source().createReader(null));
+    if (options.path() == null) {
+      return parser;
     }
-    if (jsonObj.size() == 0) {
-      return Table.create(options.tableName());
+    return new FilteringParserDelegate(
+        parser, new JsonPointerBasedFilter(options.path()), false, false);
+  }
+
+  /**
+   * Reads rows from the array holding arrays that the parser is positioned in. If every value in
+   * the first array is a string, the first array holds the column names.
+   */
+  private Table readArrays(JsonParser parser, JsonReadOptions options) throws IOException {
+    TokenBuffer firstRow = new TokenBuffer(parser);
+    firstRow.copyCurrentStructure(parser);
+    boolean hasHeader = options.header() && allStrings(firstRow.asParser());
+
+    List<JsonColumn> columns = new ArrayList<>();
+    int rowCount = 0;
+    if (hasHeader) {
+      JsonParser header = firstRow.asParser();
+      header.nextToken();
+      while (header.nextToken() == JsonToken.VALUE_STRING) {
+        columns.add(new JsonColumn(header.getText()));
+      }
+    } else {
+      JsonParser first = firstRow.asParser();
+      first.nextToken();
+      readArrayRow(first, columns, rowCount++, true);
     }
 
-    JsonNode firstNode = jsonObj.get(0);
-    if (firstNode.isArray()) {
-      return convertArrayOfArrays(jsonObj, options);
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.START_ARRAY) {
+      readArrayRow(parser, columns, rowCount++, !hasHeader);
+    }
+    if (token != JsonToken.END_ARRAY) {
+      throw new IllegalStateException(UNSUPPORTED_STRUCTURE);
     }
-    return convertArrayOfObjects(jsonObj, options);
+    return toTable(columns, rowCount, options);
   }
 
-  private Table convertArrayOfArrays(JsonNode jsonObj, ReadOptions options) {
-    JsonNode firstNode = jsonObj.get(0);
-    boolean firstRowAllStrings = true;
-    List<String> columnNames = new ArrayList<>();
-    for (JsonNode n : firstNode) {
-      if (!n.isTextual()) {
-        firstRowAllStrings = false;
+  private static boolean allStrings(JsonParser row) throws IOException {
+    row.nextToken();
+    JsonToken token;
+    while ((token = row.nextToken()) != JsonToken.END_ARRAY) {
+      if (token != JsonToken.VALUE_STRING) {
+        return false;
       }
     }
-    boolean hasHeader = firstRowAllStrings;
-    for (int i = 0; i < firstNode.size(); i++) {
-      columnNames.add(hasHeader ? firstNode.get(i).textValue() : "Column " + i);
+    return true;
+  }
+
+  /**
+   * Appends the values in the array the parser is positioned at to the columns in order. Nested
+   * arrays and objects are read as missing values.
+   */
+  private static void readArrayRow(
+      JsonParser parser, List<JsonColumn> columns, int row, boolean addColumns) throws IOException {
+    JsonToken token;
+    int i = 0;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (i == columns.size() && addColumns) {
+        columns.add(new JsonColumn("Column " + i));
+      }
+      if (token.isStructStart()) {
+        parser.skipChildren();
+      } else if (i < columns.size()) {
+        columns.get(i).append(token, parser, row);
+      }
+      i++;
+    }
+  }
+
+  /**
+   * Reads rows from objects, starting with the object the parser is positioned at. If {@code
+   * inArray} is true the objects are the elements of an array, otherwise they are a sequence of
+   * top-level values.
+   */
+  private Table readObjects(JsonParser parser, JsonReadOptions options, boolean inArray)
+      throws IOException {
+    Map<String, JsonColumn> columns = new LinkedHashMap<>();
+    int rowCount = 0;
+    JsonToken token = parser.currentToken();
+    while (token == JsonToken.START_OBJECT) {
+      readObject(parser, "", columns, rowCount++);
+      token = parser.nextToken();
+    }
+    if (token != (inArray ? JsonToken.END_ARRAY : null)) {
+      throw new IllegalStateException(UNSUPPORTED_STRUCTURE);
     }
-    List<String[]> dataRows = new ArrayList<>();
-    for (int i = hasHeader ? 1 : 0; i < jsonObj.size(); i++) {
-      JsonNode arr = jsonObj.get(i);
-      String[] row = new String[arr.size()];
-      for (int j = 0; j < arr.size(); j++) {
-        row[j] = arr.get(j).asText();
+    return toTable(new ArrayList<>(columns.values()), rowCount, options);
+  }
+
+  /**
+   * Appends the values in the object the parser is positioned at to the columns named by their
+   * paths, and returns false if the object is empty
+   */
+  private static boolean readObject(
+      JsonParser parser, String prefix, Map<String, JsonColumn> columns, int row)
+      throws IOException {
+    boolean empty = true;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      empty = false;
+      String path = fieldPath(prefix, parser.getCurrentName());
+      parser.nextToken();
+      readValue(parser, path, columns, row);
+    }
+    return !empty;
+  }
+
+  /** Reads the value whose first token the parser is positioned at */
+  private static void readValue(
+      JsonParser parser, String path, Map<String, JsonColumn> columns, int row) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      if (!readObject(parser, path, columns, row)) {
+        column(columns, path);
+      }
+    } else if (token == JsonToken.START_ARRAY) {
+      int i = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        readValue(parser, path + "[" + i++ + "]", columns, row);
       }
-      dataRows.add(row);
+      if (i == 0) {
+        column(columns, path);
+      }
+    } else {
+      column(columns, path).append(token, parser, row);
+    }
+  }
+
+  /**
+   * Returns the path of a field in the object with the given path. Field names that contain a
+   * period or bracket are quoted in brackets, so the path can't be mistaken for a nested one.
+   */
+  private static String fieldPath(String prefix, String name) {
+    if (name.indexOf('.') >= 0 || name.indexOf('[') >= 0 || name.indexOf(']') >= 0) {
+      return prefix + "[\"" + name + "\"]";
+    }
+    return prefix.isEmpty() ? name : prefix + "." + name;
+  }
+
+  private static JsonColumn column(Map<String, JsonColumn> columns, String path) {
+    JsonColumn column = columns.get(path);
+    if (column == null) {
+      column = new JsonColumn(path);
+      columns.put(path, column);
+    }
+    return column;
+  }
+
+  private static Table toTable(List<JsonColumn> columns, int rowCount, JsonReadOptions options) {
+    Table table = Table.create(options.tableName());
+    if (rowCount == 0) {
+      return table;
+    }
+    for (JsonColumn column : columns) {
+      table.addColumns(column.finish(rowCount, options));
     }
-    return TableBuildingUtils.build(columnNames, dataRows, options);
+    return table;
+  }
+
+  @Override
+  public Table read(Source source) throws IOException {
+    return read(JsonReadOptions.builder(source).build());
   }
 
-  private Table convertArrayOfObjects(JsonNode jsonObj, ReadOptions options) throws IOException {
-    // flatten each object inside the array
-    StringBuilder result = new StringBuilder("[");
-    for (int i = 0; i < jsonObj.size(); i++) {
-      JsonNode rowObj = jsonObj.get(i);
-      String flattenedRow = JsonFlattener.flatten(mapper.writeValueAsString(rowObj));
-      if (i != 0) {
-        result.append(",");
+  /**
+   * A column being read. Numbers and booleans are appended to a column of their type, which is
+   * widened from int to long to double as needed. Strings, and any values that don't fit the
+   * column's current type, are kept as strings and the column's type is detected at the end.
+   */
+  private static final class JsonColumn {
+
+    private final String name;
+    private Column<?> column;
+    private int size;
+
+    private JsonColumn(String name) {
+      this.name = name;
+    }
+
+    /** Appends the value at the current token to the given row, unless it already has a value */
+    private void append(JsonToken token, JsonParser parser, int row) throws IOException {
+      if (size > row) {
+        return;
+      }
+      padTo(row);
+      switch (token) {
+        case VALUE_NULL:
+          appendMissing();
+          break;
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+          appendBoolean(token == JsonToken.VALUE_TRUE);
+          break;
+        case VALUE_NUMBER_INT:
+          JsonParser.NumberType numberType = parser.getNumberType();
+          if (numberType == JsonParser.NumberType.INT) {
+            appendInt(parser.getIntValue());
+          } else if (numberType == JsonParser.NumberType.LONG) {
+            appendLong(parser.getLongValue());
+          } else {
+            appendString(parser.getText());
+          }
+          break;
+        case VALUE_NUMBER_FLOAT:
+          appendDouble(parser.getDoubleValue());
+          break;
+        default:
+          appendString(parser.getText());
+      }
+      size++;
+    }
+
+    private void padTo(int row) {
+      if (column != null) {
+        while (column.size() < row) {
+          column.appendMissing();
+        }
+      }
+      size = row;
+    }
+
+    private void appendMissing() {
+      if (column != null) {
+        column.appendMissing();
+      }
+    }
+
+    private void appendBoolean(boolean value) {
+      if (column == null) {
+        start(BooleanColumn.create(name));
+      }
+      if (column instanceof BooleanColumn) {
+        ((BooleanColumn) column).append(value);
+      } else {
+        appendString(String.valueOf(value));
+      }
+    }
+
+    private void appendInt(int value) {
+      if (column == null) {
+        start(IntColumn.create(name));
+      }
+      if (column instanceof IntColumn) {
+        ((IntColumn) column).append(value);
+      } else if (column instanceof LongColumn) {
+        ((LongColumn) column).append(value);
+      } else if (column instanceof DoubleColumn) {
+        ((DoubleColumn) column).append(value);
+      } else {
+        appendString(String.valueOf(value));
+      }
+    }
+
+    private void appendLong(long value) {
+      if (column == null) {
+        start(LongColumn.create(name));
+      } else if (column instanceof IntColumn) {
+        column = ((IntColumn) column).asLongColumn().setName(name);
+      }
+      if (column instanceof LongColumn) {
+        ((LongColumn) column).append(value);
+      } else if (column instanceof DoubleColumn) {
+        ((DoubleColumn) column).append(value);
+      } else {
+        appendString(String.valueOf(value));
+      }
+    }
+
+    private void appendDouble(double value) {
+      if (column == null) {
+        start(DoubleColumn.create(name));
+      } else if (column instanceof IntColumn) {
+        column = ((IntColumn) column).asDoubleColumn().setName(name);
+      } else if (column instanceof LongColumn) {
+        column = ((LongColumn) column).asDoubleColumn().setName(name);
+      }
+      if (column instanceof DoubleColumn) {
+        ((DoubleColumn) column).append(value);
+      } else {
+        appendString(String.valueOf(value));
       }
-      result.append(flattenedRow);
     }
-    String flattenedJsonString = result.append("]").toString();
-    JsonNode flattenedJsonObj = mapper.readTree(flattenedJsonString);
 
-    Set<String> colNames = new HashSet<>();
-    for (JsonNode row : flattenedJsonObj) {
-      Iterator<String> fieldNames = row.fieldNames();
-      while (fieldNames.hasNext()) {
-        colNames.add(fieldNames.next());
+    private void appendString(String value) {
+      if (column == null) {
+        start(StringColumn.create(name));
+      } else if (!(column instanceof StringColumn)) {
+        column = toStrings(column);
       }
+      ((StringColumn) column).append(value);
     }
 
-    List<String> columnNames = new ArrayList<>(colNames);
-    List<String[]> dataRows = new ArrayList<>();
-    for (JsonNode node : flattenedJsonObj) {
-      String[] arr = new String[columnNames.size()];
-      for (int i = 0; i < columnNames.size(); i++) {
-        if (node.has(columnNames.get(i))) {
-          arr[i] = node.get(columnNames.get(i)).asText();
+    /** Starts appending to the empty column, after a missing value for each earlier row */
+    private void start(Column<?> empty) {
+      column = empty;
+      for (int i = 0; i < size; i++) {
+        column.appendMissing();
+      }
+    }
+
+    private StringColumn toStrings(Column<?> values) {
+      StringColumn strings = StringColumn.create(name);
+      for (int i = 0; i < values.size(); i++) {
+        if (values.isMissing(i)) {
+          strings.appendMissing();
         } else {
-          arr[i] = null;
+          strings.append(values.getUnformattedString(i));
         }
       }
-      dataRows.add(arr);
+      return strings;
     }
 
-    return TableBuildingUtils.build(columnNames, dataRows, options);
-  }
+    /**
+     * Returns the column with missing values appended up to the row count. Columns of strings are
+     * converted to the type detected from their values, as are typed columns when their type isn't
+     * one of the types to detect, or the column sizes are to be minimized.
+     */
+    private Column<?> finish(int rowCount, JsonReadOptions options) {
+      if (column == null) {
+        column = StringColumn.create(name);
+      }
+      padTo(rowCount);
+      if (column instanceof StringColumn) {
+        return detectType((StringColumn) column, options);
+      }
+      if (options.minimizeColumnSizes() || !options.columnTypesToDetect().contains(column.type())) {
+        return detectType(toStrings(column), options);
+      }
+      return column;
+    }
 
-  @Override
-  public Table read(Source source) throws IOException {
-    return read(JsonReadOptions.builder(source).build());
+    private Column<?> detectType(StringColumn strings, JsonReadOptions options) {
+      Iterator<String[]> rows =
+          new Iterator<String[]>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+              return row < strings.size();
+            }
+
+            @Override
+            public String[] next() {
+              return new String[] {strings.get(row++)};
+            }
+          };
+      ColumnType type =
+          new ColumnTypeDetector(options.columnTypesToDetect()).detectColumnTypes(rows, options)[0];
+      if (type == ColumnType.STRING && options.missingValueIndicator() == null) {
+        return strings;
+      }
+      Column<?> typed = type.create(name);
+      AbstractColumnParser<?> parser = type.customParser(options);
+      for (int i = 0; i < strings.size(); i++) {
+        typed.appendCell(strings.get(i), parser);
+      }
+      return typed;
+    }
   }
 }
@@ -8,11 +8,15 @@ public class JsonWriteOptions extends WriteOptions {
 
   private final boolean asObjects;
   private final boolean header;
+  private final boolean lineDelimited;
+  private final boolean parallel;
 
   private JsonWriteOptions(Builder builder) {
     super(builder);
     this.asObjects = builder.asObjects;
     this.header = builder.header;
+    this.lineDelimited = builder.lineDelimited;
+    this.parallel = builder.parallel;
   }
 
   public boolean asObjects() {
@@ -23,6 +27,14 @@ public class JsonWriteOptions extends WriteOptions {
     return header;
   }
 
+  public boolean lineDelimited() {
+    return lineDelimited;
+  }
+
+  public boolean parallel() {
+    return parallel;
+  }
+
   public static Builder builder(Writer writer) {
     return new Builder(new Destination(writer));
   }
@@ -35,6 +47,8 @@ public class JsonWriteOptions extends WriteOptions {
 
     private boolean asObjects = true;
     private boolean header = false;
+    private boolean lineDelimited = false;
+    private boolean parallel = false;
 
     protected Builder(Destination destination) {
       super(destination);
@@ -52,6 +66,23 @@ public class JsonWriteOptions extends WriteOptions {
       return this;
     }
 
+    /**
+     * If true writes each row on its own line, as newline-delimited JSON, instead of writing an
+     * array holding the rows
+     */
+    public JsonWriteOptions.Builder lineDelimited(boolean lineDelimited) {
+      this.lineDelimited = lineDelimited;
+      return this;
+    }
+
+    /**
+     * If true encodes large tables in chunks of rows in parallel. The rows are written in order.
+     */
+    public JsonWriteOptions.Builder parallel(boolean parallel) {
+      this.parallel = parallel;
+      return this;
+    }
+
     public JsonWriteOptions build() {
       return new JsonWriteOptions(this);
     }
@@ -14,23 +14,67 @@
 
 package tech.tablesaw.io.json;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.booleans.BooleanColumnType;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.instant.PackedInstant;
+import tech.tablesaw.columns.times.PackedLocalTime;
 import tech.tablesaw.io.DataWriter;
 import tech.tablesaw.io.Destination;
 import tech.tablesaw.io.WriterRegistry;
 
+/**
+ * Writes a table as JSON, either as an array holding an object or array for each row, or as
+ * newline-delimited JSON with a row on each line.
+ *
+ * <p>Rows are streamed to the destination with a {@link JsonGenerator}, and each column's values
+ * are written by a writer specialized for its type, so values aren't boxed or copied into a tree.
+ * Dates, times, date-times and instants are written as Jackson's Java time module writes them.
+ */
 public class JsonWriter implements DataWriter<JsonWriteOptions> {
 
   private static final JsonWriter INSTANCE = new JsonWriter();
+  private static final JsonWriter LINE_DELIMITED_INSTANCE = new JsonWriter(true);
+
+  private static final JsonFactory factory = new JsonFactory();
   private static final ObjectMapper mapper =
       new ObjectMapper().registerModule(new JavaTimeModule());
+  private static final ObjectWriter treeWriter =
+      mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  private static final String ZEROS = "000000000";
+
+  /** The number of rows in each chunk that is encoded separately when writing in parallel */
+  private static final int ROWS_PER_CHUNK = 1 << 14;
 
   static {
     register(Table.defaultWriterRegistry);
@@ -38,44 +82,312 @@ public class JsonWriter implements DataWriter<JsonWriteOptions> {
 
   public static void register(WriterRegistry registry) {
     registry.registerExtension("json", INSTANCE);
+    registry.registerExtension("ndjson", LINE_DELIMITED_INSTANCE);
+    registry.registerExtension("jsonl", LINE_DELIMITED_INSTANCE);
     registry.registerOptions(JsonWriteOptions.class, INSTANCE);
   }
 
+  private final boolean lineDelimitedByDefault;
+
+  public JsonWriter() {
+    this(false);
+  }
+
+  private JsonWriter(boolean lineDelimitedByDefault) {
+    this.lineDelimitedByDefault = lineDelimitedByDefault;
+  }
+
   public void write(Table table, JsonWriteOptions options) throws IOException {
-    ArrayNode output = mapper.createArrayNode();
-    if (options.asObjects()) {
-      for (int r = 0; r < table.rowCount(); r++) {
-        ObjectNode row = mapper.createObjectNode();
-        for (int c = 0; c < table.columnCount(); c++) {
-          row.set(table.column(c).name(), mapper.convertValue(table.get(r, c), JsonNode.class));
-        }
-        output.add(row);
+    RowWriter rowWriter = new RowWriter(table, options.asObjects());
+    String separator = options.lineDelimited() ? "\n" : ",";
+    boolean header = !options.asObjects() && options.header();
+    try (Writer writer = options.destination().createWriter()) {
+      if (!options.lineDelimited()) {
+        writer.write('[');
       }
-    } else {
-      if (options.header()) {
-        ArrayNode row = mapper.createArrayNode();
-        for (int c = 0; c < table.columnCount(); c++) {
-          row.add(mapper.convertValue(table.column(c).name(), JsonNode.class));
+      JsonGenerator generator = createGenerator(writer, separator);
+      if (header) {
+        rowWriter.writeHeader(generator);
+      }
+      if (options.parallel() && table.rowCount() > ROWS_PER_CHUNK) {
+        generator.flush();
+        writeInParallel(writer, rowWriter, table.rowCount(), separator, header);
+      } else {
+        for (int row = 0; row < table.rowCount(); row++) {
+          rowWriter.writeRow(generator, row);
         }
-        output.add(row);
+        generator.flush();
+      }
+      if (!options.lineDelimited()) {
+        writer.write(']');
+      } else if (header || table.rowCount() > 0) {
+        writer.write('\n');
       }
-      for (int r = 0; r < table.rowCount(); r++) {
-        ArrayNode row = mapper.createArrayNode();
-        for (int c = 0; c < table.columnCount(); c++) {
-          row.add(mapper.convertValue(table.get(r, c), JsonNode.class));
+    }
+  }
+
+  private static JsonGenerator createGenerator(Writer writer, String separator) throws IOException {
+    JsonGenerator generator = factory.createGenerator(writer);
+    generator.setRootValueSeparator(new SerializedString(separator));
+    return generator;
+  }
+
+  /**
+   * Encodes the rows in chunks in parallel and writes the chunks in order. Only a few chunks per
+   * thread are held in memory at a time.
+   */
+  private static void writeInParallel(
+      Writer writer, RowWriter rowWriter, int rowCount, String separator, boolean separateFirst)
+      throws IOException {
+    int chunks = (rowCount + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK;
+    int window = 4 * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+    String[] encoded = new String[window];
+    for (int first = 0; first < chunks; first += window) {
+      int start = first;
+      int end = Math.min(chunks, first + window);
+      IntStream.range(start, end)
+          .parallel()
+          .forEach(
+              chunk ->
+                  encoded[chunk - start] =
+                      encode(
+                          rowWriter,
+                          chunk * ROWS_PER_CHUNK,
+                          Math.min(rowCount, (chunk + 1) * ROWS_PER_CHUNK),
+                          separator));
+      for (int chunk = start; chunk < end; chunk++) {
+        if (chunk > 0 || separateFirst) {
+          writer.write(separator);
         }
-        output.add(row);
+        writer.write(encoded[chunk - start]);
+        encoded[chunk - start] = null;
       }
     }
+  }
 
-    String str = mapper.writeValueAsString(output);
-    try (Writer writer = options.destination().createWriter()) {
-      writer.write(str);
+  private static String encode(RowWriter rowWriter, int from, int to, String separator) {
+    StringWriter chunk = new StringWriter();
+    try {
+      JsonGenerator generator = createGenerator(chunk, separator);
+      for (int row = from; row < to; row++) {
+        rowWriter.writeRow(generator, row);
+      }
+      generator.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
+    return chunk.toString();
   }
 
   @Override
   public void write(Table table, Destination dest) throws IOException {
-    write(table, JsonWriteOptions.builder(dest).build());
+    write(table, JsonWriteOptions.builder(dest).lineDelimited(lineDelimitedByDefault).build());
+  }
+
+  /** Writes one value of a column */
+  @FunctionalInterface
+  private interface ValueWriter {
+    void write(JsonGenerator generator, int row) throws IOException;
+  }
+
+  /** Writes the rows of a table as objects or arrays */
+  private static final class RowWriter {
+
+    private final Table table;
+    private final boolean asObjects;
+    private final SerializableString[] names;
+    private final ValueWriter[] values;
+
+    private RowWriter(Table table, boolean asObjects) {
+      this.table = table;
+      this.asObjects = asObjects;
+      names = new SerializableString[table.columnCount()];
+      values = new ValueWriter[table.columnCount()];
+      for (int c = 0; c < table.columnCount(); c++) {
+        names[c] = new SerializedString(table.column(c).name());
+        values[c] = valueWriter(table.column(c));
+      }
+    }
+
+    private void writeHeader(JsonGenerator generator) throws IOException {
+      generator.writeStartArray();
+      for (String name : table.columnNames()) {
+        generator.writeString(name);
+      }
+      generator.writeEndArray();
+    }
+
+    private void writeRow(JsonGenerator generator, int row) throws IOException {
+      if (asObjects) {
+        generator.writeStartObject();
+        for (int c = 0; c < values.length; c++) {
+          generator.writeFieldName(names[c]);
+          values[c].write(generator, row);
+        }
+        generator.writeEndObject();
+      } else {
+        generator.writeStartArray();
+        for (ValueWriter value : values) {
+          value.write(generator, row);
+        }
+        generator.writeEndArray();
+      }
+    }
+  }
+
+  private static ValueWriter valueWriter(Column<?> column) {
+    if (column instanceof StringColumn) {
+      StringColumn strings = (StringColumn) column;
+      return (generator, row) -> generator.writeString(strings.get(row));
+    }
+    if (column instanceof TextColumn) {
+      TextColumn strings = (TextColumn) column;
+      return (generator, row) -> generator.writeString(strings.get(row));
+    }
+    if (column instanceof DoubleColumn) {
+      DoubleColumn numbers = (DoubleColumn) column;
+      return (generator, row) -> {
+        if (numbers.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(numbers.getDouble(row));
+        }
+      };
+    }
+    if (column instanceof FloatColumn) {
+      FloatColumn numbers = (FloatColumn) column;
+      return (generator, row) -> {
+        if (numbers.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(numbers.getFloat(row));
+        }
+      };
+    }
+    if (column instanceof IntColumn) {
+      IntColumn numbers = (IntColumn) column;
+      return (generator, row) -> {
+        if (numbers.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(numbers.getInt(row));
+        }
+      };
+    }
+    if (column instanceof LongColumn) {
+      LongColumn numbers = (LongColumn) column;
+      return (generator, row) -> {
+        if (numbers.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(numbers.getLong(row));
+        }
+      };
+    }
+    if (column instanceof ShortColumn) {
+      ShortColumn numbers = (ShortColumn) column;
+      return (generator, row) -> {
+        if (numbers.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeNumber(numbers.getShort(row));
+        }
+      };
+    }
+    if (column instanceof BooleanColumn) {
+      BooleanColumn booleans = (BooleanColumn) column;
+      return (generator, row) -> {
+        byte value = booleans.getByte(row);
+        if (value == BooleanColumnType.MISSING_VALUE) {
+          generator.writeNull();
+        } else {
+          generator.writeBoolean(value == BooleanColumnType.BYTE_TRUE);
+        }
+      };
+    }
+    if (column instanceof DateColumn) {
+      DateColumn dates = (DateColumn) column;
+      return (generator, row) -> {
+        if (dates.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeStartArray();
+          writeDate(generator, dates.getIntInternal(row));
+          generator.writeEndArray();
+        }
+      };
+    }
+    if (column instanceof TimeColumn) {
+      TimeColumn times = (TimeColumn) column;
+      return (generator, row) -> {
+        if (times.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          generator.writeStartArray();
+          writeTime(generator, times.getIntInternal(row));
+          generator.writeEndArray();
+        }
+      };
+    }
+    if (column instanceof DateTimeColumn) {
+      DateTimeColumn dateTimes = (DateTimeColumn) column;
+      return (generator, row) -> {
+        if (dateTimes.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          long dateTime = dateTimes.getLongInternal(row);
+          generator.writeStartArray();
+          writeDate(generator, PackedLocalDateTime.date(dateTime));
+          writeTime(generator, PackedLocalDateTime.time(dateTime));
+          generator.writeEndArray();
+        }
+      };
+    }
+    if (column instanceof InstantColumn) {
+      InstantColumn instants = (InstantColumn) column;
+      return (generator, row) -> {
+        if (instants.isMissing(row)) {
+          generator.writeNull();
+        } else {
+          writeInstant(generator, instants.getLongInternal(row));
+        }
+      };
+    }
+    return (generator, row) ->
+        treeWriter.writeValue(generator, mapper.valueToTree(column.get(row)));
+  }
+
+  /**
+   * Writes an instant as a decimal number of seconds since the epoch, with the digits and trailing
+   * zeros that a tree of Jackson's Java time module values has
+   */
+  private static void writeInstant(JsonGenerator generator, long instant) throws IOException {
+    long epochMilli = PackedInstant.toEpochMilli(instant);
+    long seconds = Math.floorDiv(epochMilli, 1000);
+    int nanos = Math.floorMod(epochMilli, 1000) * 1_000_000;
+    String nanoDigits = Integer.toString(nanos);
+    BigDecimal value =
+        new BigDecimal(seconds + "." + ZEROS.substring(nanoDigits.length()) + nanoDigits);
+    generator.writeNumber(value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros());
+  }
+
+  private static void writeDate(JsonGenerator generator, int date) throws IOException {
+    generator.writeNumber(PackedLocalDate.getYear(date));
+    generator.writeNumber(PackedLocalDate.getMonthValue(date));
+    generator.writeNumber(PackedLocalDate.getDayOfMonth(date));
+  }
+
+  /** Writes the fields of a time, leaving out the seconds and nanoseconds when they are zero */
+  private static void writeTime(JsonGenerator generator, int time) throws IOException {
+    generator.writeNumber(PackedLocalTime.getHour(time));
+    generator.writeNumber(PackedLocalTime.getMinute(time));
+    int second = PackedLocalTime.getSecond(time);
+    int nano = PackedLocalTime.getNano(time);
+    if (second > 0 || nano > 0) {
+      generator.writeNumber(second);
+      if (nano > 0) {
+        generator.writeNumber(nano);
+      }
+    }
   }
 }
@@ -16,6 +16,7 @@ package tech.tablesaw.io.json;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.IntColumn;
@@ -75,4 +76,46 @@ public class JsonReaderTest {
     assertEquals(expected.column("B").asList(), actual.column("B").asList());
     assertEquals(expected.column("C").asList(), actual.column("C").asList());
   }
+
+  @Test
+  public void nestedArraysAndObjectsAreFlattenedByPath() {
+    String json =
+        "[{\"a\":{\"b\":[1,{\"c\":2}]},\"d.e\":true,\"f\":null},{\"a\":{\"b\":[3]},\"f\":\"x\"}]";
+    Table table = Table.read().string(json, "json");
+    assertEquals(Arrays.asList("a.b[0]", "a.b[1].c", "[\"d.e\"]", "f"), table.columnNames());
+    assertEquals(Arrays.asList(1, 3), table.column("a.b[0]").asList());
+    assertEquals(Arrays.asList(2, null), table.column("a.b[1].c").asList());
+    assertEquals(ColumnType.BOOLEAN, table.column("[\"d.e\"]").type());
+    assertEquals(Arrays.asList("", "x"), table.column("f").asList());
+  }
+
+  @Test
+  public void numbersAreWidenedAsNeeded() {
+    String json = "[{\"a\":1,\"b\":1,\"c\":1},{\"a\":3000000000,\"b\":1.5,\"c\":\"x\"}]";
+    Table table = Table.read().string(json, "json");
+    assertEquals(ColumnType.LONG, table.column("a").type());
+    assertEquals(Arrays.asList(1L, 3000000000L), table.column("a").asList());
+    assertEquals(ColumnType.DOUBLE, table.column("b").type());
+    assertEquals(Arrays.asList(1.0, 1.5), table.column("b").asList());
+    assertEquals(ColumnType.STRING, table.column("c").type());
+    assertEquals(Arrays.asList("1", "x"), table.column("c").asList());
+  }
+
+  @Test
+  public void newlineDelimitedObjects() {
+    String json = "{\"a\":1,\"b\":\"2020-01-01\"}\n{\"a\":2}\n{\"b\":\"2020-01-03\"}\n";
+    Table table = Table.read().string(json, "ndjson");
+    assertEquals(3, table.rowCount());
+    assertEquals(ColumnType.INTEGER, table.column("a").type());
+    assertEquals(ColumnType.LOCAL_DATE, table.column("b").type());
+    assertEquals(Arrays.asList(1, 2, null), table.column("a").asList());
+  }
+
+  @Test
+  public void arrayAtPath() throws Exception {
+    String json = "{\"meta\":{\"n\":2},\"data\":[{\"a\":1},{\"a\":2}]}";
+    Table table = Table.read().usingOptions(JsonReadOptions.builderFromString(json).path("/data"));
+    assertEquals(2, table.rowCount());
+    assertEquals(Arrays.asList(1, 2), table.column("a").asList());
+  }
 }
@@ -16,10 +16,32 @@ package tech.tablesaw.io.json;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.FloatColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.ShortColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
 
 public class JsonWriterTest {
 
@@ -54,4 +76,87 @@ public class JsonWriterTest {
     String output = table.write().toString("json");
     assertEquals(json, output);
   }
+
+  @Test
+  public void valuesMatchJacksonSerialization() throws IOException {
+    Table table =
+        Table.create(
+            "t",
+            StringColumn.create("string", "a", "", "c\"d"),
+            TextColumn.create("text", "x", "y", ""),
+            IntColumn.create("int", 1, Integer.MIN_VALUE, 3),
+            LongColumn.create("long", 1L, Long.MIN_VALUE, 3000000000L),
+            ShortColumn.create("short", (short) 1, Short.MIN_VALUE, (short) 3),
+            DoubleColumn.create("double", 1.5, Double.NaN, 1e20),
+            FloatColumn.create("float", 1.5f, Float.NaN, 3f),
+            BooleanColumn.create("boolean", new boolean[] {true, false, true}),
+            DateColumn.create("date", LocalDate.of(2020, 1, 31), null, LocalDate.of(1969, 12, 1)),
+            TimeColumn.create(
+                "time", LocalTime.of(1, 2), LocalTime.of(1, 2, 3), LocalTime.of(1, 2, 3, 4000000)),
+            DateTimeColumn.create(
+                "dateTime",
+                LocalDateTime.of(2020, 1, 31, 1, 2),
+                null,
+                LocalDateTime.of(2020, 1, 31, 1, 2, 0, 5000000)),
+            InstantColumn.create(
+                "instant",
+                Instant.ofEpochMilli(1453438800123L),
+                Instant.ofEpochSecond(1453438800L),
+                Instant.ofEpochMilli(-1500L)));
+    table.booleanColumn("boolean").setMissing(1);
+
+    ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    ArrayNode expected = mapper.createArrayNode();
+    for (int r = 0; r < table.rowCount(); r++) {
+      ObjectNode row = mapper.createObjectNode();
+      for (int c = 0; c < table.columnCount(); c++) {
+        row.set(table.column(c).name(), mapper.convertValue(table.get(r, c), JsonNode.class));
+      }
+      expected.add(row);
+    }
+
+    assertEquals(mapper.writeValueAsString(expected), table.write().toString("json"));
+  }
+
+  @Test
+  public void lineDelimited() throws IOException {
+    Table table =
+        Table.create("t", IntColumn.create("a", 1, 2), StringColumn.create("b", "x", "y"));
+    StringWriter writer = new StringWriter();
+    table.write().usingOptions(JsonWriteOptions.builder(writer).lineDelimited(true).build());
+    assertEquals("{\"a\":1,\"b\":\"x\"}\n{\"a\":2,\"b\":\"y\"}\n", writer.toString());
+    assertEquals(writer.toString(), table.write().toString("ndjson"));
+  }
+
+  @Test
+  public void parallelMatchesSequential() throws IOException {
+    int rows = 100_000;
+    Table table =
+        Table.create(
+            "t",
+            IntColumn.indexColumn("a", rows, 0),
+            DoubleColumn.create("b", IntStream.range(0, rows).mapToDouble(i -> i / 3.0)));
+    for (boolean lineDelimited : new boolean[] {false, true}) {
+      StringWriter sequential = new StringWriter();
+      table
+          .write()
+          .usingOptions(
+              JsonWriteOptions.builder(sequential)
+                  .asObjects(false)
+                  .header(true)
+                  .lineDelimited(lineDelimited)
+                  .build());
+      StringWriter parallel = new StringWriter();
+      table
+          .write()
+          .usingOptions(
+              JsonWriteOptions.builder(parallel)
+                  .asObjects(false)
+                  .header(true)
+                  .lineDelimited(lineDelimited)
+                  .parallel(true)
+                  .build());
+      assertEquals(sequential.toString(), parallel.toString());
+    }
+  }
 }